@@ -0,0 +1,209 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the connections that are not in use, grouped by a key, so the next operation with the same key skips the
+ * connect and the login. A connection is checked with isAlive before it is handed out and it is closed when it was
+ * not used for longer than the idle timeout, since most servers drop idle connections after a few minutes.
+ * The pool is thread safe, connections are checked and closed outside of its lock.
+ *
+ * @param <T> the type of the pooled connections
+ */
+public abstract class KeyedIdlePool<T> {
+    public static final long DEFAULT_IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(2);
+    public static final int DEFAULT_MAX_IDLE_PER_KEY = 4;
+
+    private final Map<String, Deque<IdleEntry<T>>> idleEntries = new HashMap<>();
+    private final long idleTimeout;
+    private final int maxIdlePerKey;
+    private boolean closed = false;
+
+    /**
+     * @param idleTimeout   milliseconds after which a connection that was not used is closed
+     * @param maxIdlePerKey the maximum number of connections kept for the same key
+     */
+    protected KeyedIdlePool(long idleTimeout, int maxIdlePerKey) {
+        this.idleTimeout = idleTimeout;
+        this.maxIdlePerKey = maxIdlePerKey;
+    }
+
+    /**
+     * @return true if the connection can still be used
+     */
+    protected abstract boolean isAlive(@NotNull T connection);
+
+    /**
+     * Closes the connection, the errors are ignored.
+     */
+    protected abstract void destroy(@NotNull T connection);
+
+    /**
+     * @return a connection that is still alive or null if there is no idle connection with this key
+     */
+    @Nullable
+    public T borrow(@NotNull String key) {
+        while (true) {
+            final IdleEntry<T> entry;
+            final List<IdleEntry<T>> expired;
+            synchronized (this) {
+                expired = removeExpired(System.currentTimeMillis());
+                final Deque<IdleEntry<T>> entries = idleEntries.get(key);
+                entry = entries == null ? null : entries.pollFirst();
+            }
+            destroy(expired);
+            if (entry == null) {
+                return null;
+            }
+            if (isConnectionAlive(entry.connection)) {
+                return entry.connection;
+            }
+            destroy(entry.connection);
+        }
+    }
+
+    /**
+     * Gives back a connection that can be used again, it is closed if the pool is full or closed.
+     */
+    public void release(@NotNull String key, @NotNull T connection) {
+        final List<IdleEntry<T>> expired;
+        boolean kept = false;
+        synchronized (this) {
+            final long now = System.currentTimeMillis();
+            expired = removeExpired(now);
+            if (!closed) {
+                Deque<IdleEntry<T>> entries = idleEntries.get(key);
+                if (entries == null) {
+                    entries = new ArrayDeque<>();
+                    idleEntries.put(key, entries);
+                }
+                if (entries.size() < maxIdlePerKey) {
+                    entries.addFirst(new IdleEntry<>(connection, now));
+                    kept = true;
+                }
+            }
+        }
+        destroy(expired);
+        if (!kept) {
+            destroy(connection);
+        }
+    }
+
+    /**
+     * @return the number of idle connections with this key
+     */
+    public synchronized int getIdleCount(@NotNull String key) {
+        final Deque<IdleEntry<T>> entries = idleEntries.get(key);
+        return entries == null ? 0 : entries.size();
+    }
+
+    /**
+     * Closes all the idle connections, the connections given back later are closed too.
+     */
+    public void close() {
+        final List<IdleEntry<T>> entries = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            for (Deque<IdleEntry<T>> keyEntries : idleEntries.values()) {
+                entries.addAll(keyEntries);
+            }
+            idleEntries.clear();
+        }
+        destroy(entries);
+    }
+
+    /**
+     * Secrets are made part of a key through their digest, so a connection logged in with other credentials is
+     * never reused and the secrets themselves are not kept.
+     *
+     * @return the hex SHA-256 digest of the values
+     */
+    @NotNull
+    public static String digest(String... values) {
+        try {
+            final MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            for (String value : values) {
+                messageDigest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+                messageDigest.update((byte) 0);
+            }
+            final byte[] hash = messageDigest.digest();
+            final StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @NotNull
+    private List<IdleEntry<T>> removeExpired(long now) {
+        final List<IdleEntry<T>> expired = new ArrayList<>();
+        final Iterator<Deque<IdleEntry<T>>> keyIterator = idleEntries.values().iterator();
+        while (keyIterator.hasNext()) {
+            final Deque<IdleEntry<T>> entries = keyIterator.next();
+            //the most recently used connections are at the head
+            while (!entries.isEmpty() && now - entries.peekLast().lastUsed > idleTimeout) {
+                expired.add(entries.pollLast());
+            }
+            if (entries.isEmpty()) {
+                keyIterator.remove();
+            }
+        }
+        return expired;
+    }
+
+    private boolean isConnectionAlive(T connection) {
+        try {
+            return isAlive(connection);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void destroy(List<IdleEntry<T>> entries) {
+        for (IdleEntry<T> entry : entries) {
+            destroy(entry.connection);
+        }
+    }
+
+    private static class IdleEntry<T> {
+        private final T connection;
+        private final long lastUsed;
+
+        private IdleEntry(T connection, long lastUsed) {
+            this.connection = connection;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class KeyedIdlePoolTest {
+    private static final String KEY = "key";
+
+    @Test
+    public void borrowReturnsReleasedConnection() throws Exception {
+        final ConnectionPool pool = new ConnectionPool(KeyedIdlePool.DEFAULT_IDLE_TIMEOUT, KeyedIdlePool.DEFAULT_MAX_IDLE_PER_KEY);
+        assertNull(pool.borrow(KEY));
+
+        final Connection connection = new Connection();
+        pool.release(KEY, connection);
+        assertEquals(1, pool.getIdleCount(KEY));
+
+        assertSame(connection, pool.borrow(KEY));
+        assertEquals(0, pool.getIdleCount(KEY));
+        assertNull(pool.borrow("otherKey"));
+        assertFalse(connection.closed);
+    }
+
+    @Test
+    public void borrowReturnsMostRecentlyUsedConnection() throws Exception {
+        final ConnectionPool pool = new ConnectionPool(KeyedIdlePool.DEFAULT_IDLE_TIMEOUT, KeyedIdlePool.DEFAULT_MAX_IDLE_PER_KEY);
+        final Connection first = new Connection();
+        final Connection second = new Connection();
+        pool.release(KEY, first);
+        pool.release(KEY, second);
+
+        assertSame(second, pool.borrow(KEY));
+        assertSame(first, pool.borrow(KEY));
+    }
+
+    @Test
+    public void borrowClosesIdleConnection() throws Exception {
+        final ConnectionPool pool = new ConnectionPool(-1, KeyedIdlePool.DEFAULT_MAX_IDLE_PER_KEY);
+        final Connection connection = new Connection();
+        pool.release(KEY, connection);
+
+        assertNull(pool.borrow(KEY));
+        assertTrue(connection.closed);
+    }
+
+    @Test
+    public void borrowSkipsDeadConnection() throws Exception {
+        final ConnectionPool pool = new ConnectionPool(KeyedIdlePool.DEFAULT_IDLE_TIMEOUT, KeyedIdlePool.DEFAULT_MAX_IDLE_PER_KEY);
+        final Connection alive = new Connection();
+        final Connection dead = new Connection();
+        pool.release(KEY, alive);
+        pool.release(KEY, dead);
+        dead.alive = false;
+
+        assertSame(alive, pool.borrow(KEY));
+        assertTrue(dead.closed);
+        assertEquals(0, pool.getIdleCount(KEY));
+    }
+
+    @Test
+    public void borrowSkipsConnectionFailingTheCheck() throws Exception {
+        final ConnectionPool pool = new ConnectionPool(KeyedIdlePool.DEFAULT_IDLE_TIMEOUT, KeyedIdlePool.DEFAULT_MAX_IDLE_PER_KEY);
+        final Connection connection = new Connection();
+        pool.release(KEY, connection);
+        connection.failure = new IllegalStateException("broken pipe");
+
+        assertNull(pool.borrow(KEY));
+        assertTrue(connection.closed);
+    }
+
+    @Test
+    public void releaseClosesConnectionsOverLimit() throws Exception {
+        final ConnectionPool pool = new ConnectionPool(KeyedIdlePool.DEFAULT_IDLE_TIMEOUT, 1);
+        final Connection first = new Connection();
+        final Connection second = new Connection();
+        pool.release(KEY, first);
+        pool.release(KEY, second);
+
+        assertEquals(1, pool.getIdleCount(KEY));
+        assertFalse(first.closed);
+        assertTrue(second.closed);
+        pool.close();
+        assertTrue(first.closed);
+    }
+
+    @Test
+    public void releaseAfterCloseClosesConnection() throws Exception {
+        final ConnectionPool pool = new ConnectionPool(KeyedIdlePool.DEFAULT_IDLE_TIMEOUT, KeyedIdlePool.DEFAULT_MAX_IDLE_PER_KEY);
+        pool.close();
+        final Connection connection = new Connection();
+        pool.release(KEY, connection);
+
+        assertEquals(0, pool.getIdleCount(KEY));
+        assertTrue(connection.closed);
+    }
+
+    @Test
+    public void digestDependsOnEveryValue() throws Exception {
+        final String digest = KeyedIdlePool.digest("password", "token");
+
+        assertEquals(64, digest.length());
+        assertEquals(digest, KeyedIdlePool.digest("password", "token"));
+        assertNotEquals(digest, KeyedIdlePool.digest("password", "other"));
+        assertNotEquals(digest, KeyedIdlePool.digest("passwordtoken", ""));
+        assertNotEquals(digest, KeyedIdlePool.digest("password", null));
+    }
+
+    private static class Connection {
+        private boolean alive = true;
+        private boolean closed = false;
+        private RuntimeException failure;
+    }
+
+    private static class ConnectionPool extends KeyedIdlePool<Connection> {
+        private ConnectionPool(long idleTimeout, int maxIdlePerKey) {
+            super(idleTimeout, maxIdlePerKey);
+        }
+
+        @Override
+        protected boolean isAlive(@NotNull Connection connection) {
+            if (connection.failure != null) {
+                throw connection.failure;
+            }
+            return connection.alive;
+        }
+
+        @Override
+        protected void destroy(@NotNull Connection connection) {
+            connection.closed = true;
+        }
+    }
+}
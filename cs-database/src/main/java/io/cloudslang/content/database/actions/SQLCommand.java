@@ -25,6 +25,7 @@ import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
 import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
 import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.database.services.SQLCommandService;
+import io.cloudslang.content.database.utils.BindParameter;
 import io.cloudslang.content.database.utils.SQLInputs;
 import io.cloudslang.content.utils.StringUtilities;
 import org.apache.commons.lang3.StringUtils;
@@ -33,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 
 import static io.cloudslang.content.constants.BooleanValues.FALSE;
+import static io.cloudslang.content.constants.OtherValues.COMMA_DELIMITER;
 import static io.cloudslang.content.constants.OutputNames.*;
 import static io.cloudslang.content.constants.ReturnCodes.FAILURE;
 import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
@@ -95,6 +97,15 @@ public class SQLCommand {
      * @param resultSetConcurrency      The result set concurrency. See JDBC folder description for more details.
      *                                  Valid values: CONCUR_READ_ONLY, CONCUR_UPDATABLE
      *                                  Default value: CONCUR_READ_ONLY
+     * @param bindParameters            The values of the positional parameters (?) of the command, separated by bindParametersDelimiter.
+     *                                  Every value is given as type:value, where type is one of string, int, long, double, decimal, boolean,
+     *                                  date (yyyy-mm-dd), timestamp (yyyy-mm-dd hh:mm:ss) or null. A value without a type is a string,
+     *                                  a string that contains : must be given as string:value.
+     *                                  When provided, the command is executed as a prepared statement. The prepared statements of pooled
+     *                                  connections are cached, see the connection.statement_cache_size pooling property.
+     *                                  Example: int:42,string:John,null
+     * @param bindParametersDelimiter   The delimiter between the bindParameters values.
+     *                                  Default value: ,
      * @return The return result of SQL command.
      */
     @Action(name = "SQL Command",
@@ -126,7 +137,9 @@ public class SQLCommand {
                                        @Param(value = AUTH_LIBRARY_PATH) String authLibraryPath,
                                        @Param(value = DATABASE_POOLING_PROPERTIES) String databasePoolingProperties,
                                        @Param(value = RESULT_SET_TYPE) String resultSetType,
-                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency) {
+                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency,
+                                       @Param(value = BIND_PARAMETERS) String bindParameters,
+                                       @Param(value = BIND_PARAMETERS_DELIMITER) String bindParametersDelimiter) {
 
         dbType = defaultIfEmpty(dbType, ORACLE_DB_TYPE);
         username = defaultIfEmpty(username, EMPTY);
@@ -139,10 +152,11 @@ public class SQLCommand {
         trustStorePassword = defaultIfEmpty(trustStorePassword, EMPTY);
         authLibraryPath = defaultIfEmpty(authLibraryPath, EMPTY);
         instance = defaultIfEmpty(instance, EMPTY);
+        bindParametersDelimiter = defaultIfEmpty(bindParametersDelimiter, COMMA_DELIMITER);
 
         final List<String> preInputsValidation = validateSqlCommandInputs(dbServerName, dbType, username, password, instance, dbPort,
                 databaseName, authenticationType, command, trustAllRoots, resultSetType, resultSetConcurrency, trustStore,
-                trustStorePassword, authLibraryPath);
+                trustStorePassword, authLibraryPath, bindParameters, bindParametersDelimiter);
 
         if (!preInputsValidation.isEmpty()) {
             return getFailureResultsMap(StringUtils.join(preInputsValidation, NEW_LINE));
@@ -170,6 +184,7 @@ public class SQLCommand {
                     .resultSetType(getResultSetType(resultSetType))
                     .resultSetConcurrency(getResultSetConcurrency(resultSetConcurrency))
                     .isNetcool(checkIsNetcool(dbType))
+                    .bindParameters(BindParameter.parseAll(bindParameters, bindParametersDelimiter))
                     .build();
 
             String res = SQLCommandService.executeSqlCommand(sqlInputs);
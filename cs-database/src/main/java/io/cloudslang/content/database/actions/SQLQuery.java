@@ -28,6 +28,8 @@ import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.database.constants.DBReturnCodes;
 import io.cloudslang.content.database.services.SQLQueryService;
+import io.cloudslang.content.database.utils.BindParameter;
+import io.cloudslang.content.database.utils.SQLCursor;
 import io.cloudslang.content.database.utils.SQLInputs;
 import io.cloudslang.content.database.utils.SQLSessionResource;
 import io.cloudslang.content.utils.BooleanUtilities;
@@ -39,6 +41,7 @@ import java.util.Map;
 
 import static io.cloudslang.content.constants.BooleanValues.FALSE;
 import static io.cloudslang.content.constants.BooleanValues.TRUE;
+import static io.cloudslang.content.constants.OtherValues.COMMA_DELIMITER;
 import static io.cloudslang.content.constants.ReturnCodes.FAILURE;
 import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
 import static io.cloudslang.content.database.constants.DBDefaultValues.*;
@@ -112,6 +115,23 @@ public class SQLQuery {
      * @param ignoreCase                If set to true the inputs' letters case will be ignored and converted to lowercase.
      *                                  Valid values: true, false
      *                                  Default value: true
+     * @param fetchSize                 The number of rows fetched from the database in one round trip. When set to a value greater
+     *                                  than 0 the query is read through a forward only cursor that stays open between iterations,
+     *                                  instead of loading all the rows in memory. In this mode the resultSetType input is ignored and
+     *                                  rowsLeft is 1 while there are more rows to read and 0 for the last row.
+     *                                  Default value: 0
+     * @param cursorIdleTimeout         Seconds after which a cursor opened with a fetchSize greater than 0 is closed if no iteration
+     *                                  reads from it. A closed cursor releases its database connection.
+     *                                  Default value: 600
+     * @param bindParameters            The values of the positional parameters (?) of the query, separated by bindParametersDelimiter.
+     *                                  Every value is given as type:value, where type is one of string, int, long, double, decimal, boolean,
+     *                                  date (yyyy-mm-dd), timestamp (yyyy-mm-dd hh:mm:ss) or null. A value without a type is a string,
+     *                                  a string that contains : must be given as string:value.
+     *                                  When provided, the query is executed as a prepared statement. The prepared statements of pooled
+     *                                  connections are cached, see the connection.statement_cache_size pooling property.
+     *                                  Example: int:42,string:John,null
+     * @param bindParametersDelimiter   The delimiter between the bindParameters values.
+     *                                  Default value: ,
      * @return It contains the data of one row, separated by the "delimiter".
      */
     @Action(name = "SQL Query",
@@ -150,6 +170,10 @@ public class SQLQuery {
                                        @Param(value = RESULT_SET_TYPE) String resultSetType,
                                        @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency,
                                        @Param(value = IGNORE_CASE) String ignoreCase,
+                                       @Param(value = FETCH_SIZE) String fetchSize,
+                                       @Param(value = CURSOR_IDLE_TIMEOUT) String cursorIdleTimeout,
+                                       @Param(value = BIND_PARAMETERS) String bindParameters,
+                                       @Param(value = BIND_PARAMETERS_DELIMITER) String bindParametersDelimiter,
                                        @Param(value = GLOBAL_SESSION_OBJECT) GlobalSessionObject<Map<String, Object>> globalSessionObject) {
 
         dbType = defaultIfEmpty(dbType, ORACLE_DB_TYPE);
@@ -164,10 +188,14 @@ public class SQLQuery {
         resultSetType = defaultIfEmpty(resultSetType, TYPE_SCROLL_INSENSITIVE);
         resultSetConcurrency = defaultIfEmpty(resultSetConcurrency, CONCUR_READ_ONLY);
         ignoreCase = defaultIfEmpty(ignoreCase, TRUE);
+        fetchSize = defaultIfEmpty(fetchSize, DEFAULT_FETCH_SIZE);
+        cursorIdleTimeout = defaultIfEmpty(cursorIdleTimeout, DEFAULT_CURSOR_IDLE_TIMEOUT);
+        bindParametersDelimiter = defaultIfEmpty(bindParametersDelimiter, COMMA_DELIMITER);
 
         final List<String> preInputsValidation = validateSqlQueryInputs(dbServerName, dbType, username, password, instance, dbPort,
                 databaseName, authenticationType, command, trustAllRoots, trustStore, trustStorePassword,
-                timeout, resultSetType, resultSetConcurrency, ignoreCase, authLibraryPath);
+                timeout, resultSetType, resultSetConcurrency, ignoreCase, authLibraryPath, fetchSize, cursorIdleTimeout,
+                bindParameters, bindParametersDelimiter);
 
         if (!preInputsValidation.isEmpty()) {
             return getFailureResultsMap(StringUtils.join(preInputsValidation, NEW_LINE));
@@ -200,6 +228,9 @@ public class SQLQuery {
                 .resultSetConcurrency(getResultSetConcurrency(resultSetConcurrency))
                 .ignoreCase(ignoreCaseBool)
                 .isNetcool(checkIsNetcool(dbType))
+                .fetchSize(toInteger(fetchSize))
+                .cursorIdleTimeout(toInteger(cursorIdleTimeout))
+                .bindParameters(BindParameter.parseAll(bindParameters, bindParametersDelimiter))
                 .build();
 
 
@@ -210,6 +241,10 @@ public class SQLQuery {
 
             final Map<String, Object> globalMap = globalSessionObject.get();
 
+            if (sqlInputs.getFetchSize() > 0) {
+                return getNextRowFromCursor(sqlInputs, aKey, globalSessionObject);
+            }
+
             if (globalMap.containsKey(aKey)) {
                 sqlInputs.setLRows(getRowsFromGlobalSessionMap(globalSessionObject, aKey));
             } else {
@@ -244,4 +279,41 @@ public class SQLQuery {
             return failureMap;
         }
     }
+
+    private Map<String, String> getNextRowFromCursor(final SQLInputs sqlInputs, final String aKey,
+                                                     final GlobalSessionObject<Map<String, Object>> globalSessionObject) throws Exception {
+        final Map<String, Object> globalMap = globalSessionObject.get();
+
+        SQLCursor cursor;
+        if (globalMap.get(aKey) instanceof SQLCursor) {
+            cursor = (SQLCursor) globalMap.get(aKey);
+        } else {
+            cursor = SQLQueryService.openSqlCursor(sqlInputs);
+            globalMap.put(aKey, cursor);
+            globalSessionObject.setResource(new SQLSessionResource(globalMap));
+        }
+
+        final String row;
+        try {
+            row = cursor.next();
+        } catch (Exception e) {
+            globalMap.put(aKey, null);
+            throw e;
+        }
+
+        Map<String, String> result = new HashMap<>();
+        if (row != null) {
+            result = getSuccessResultsMap(row);
+            result.put(COLUMN_NAMES, cursor.getStrColumns());
+            result.put(ROWS_LEFT, cursor.hasNext() ? "1" : ZERO);
+        } else {
+            result.put(SQL_QUERY, sqlInputs.getSqlCommand());
+            result.put(RETURN_RESULT, NO_MORE);
+            result.put(ROWS_LEFT, ZERO);
+            result.put(RETURN_CODE, DBReturnCodes.NO_MORE);
+
+            globalMap.put(aKey, null);
+        }
+        return result;
+    }
 }
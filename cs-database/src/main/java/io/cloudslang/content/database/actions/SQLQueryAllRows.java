@@ -41,6 +41,7 @@ import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
 import static io.cloudslang.content.database.constants.DBDefaultValues.*;
 import static io.cloudslang.content.database.constants.DBInputNames.*;
 import static io.cloudslang.content.database.constants.DBOtherValues.*;
+import static io.cloudslang.content.database.constants.DBOutputNames.NEXT_PAGE_TOKEN;
 import static io.cloudslang.content.database.utils.SQLInputsUtils.*;
 import static io.cloudslang.content.database.utils.SQLInputsValidator.validateSqlQueryAllRowsInputs;
 import static io.cloudslang.content.utils.BooleanUtilities.toBoolean;
@@ -103,12 +104,20 @@ public class SQLQueryAllRows {
      * @param resultSetConcurrency      the result set concurrency. See JDBC folder description for more details.
      *                                  Valid values: CONCUR_READ_ONLY, CONCUR_UPDATABLE
      *                                  Default value: CONCUR_READ_ONLY
+     * @param pageSize                  The maximum number of rows to return in one page. The remaining rows can be read by calling the operation again
+     *                                  with the nextPageToken output as pageToken. Zero returns all the rows.
+     *                                  Default value: 0
+     * @param pageToken                 The nextPageToken output of the previous page. Leave it empty to get the first page.
+     *                                  Note: The query is executed again for every page, use an ORDER BY clause to get a stable order of the rows.
+     * @param outputFile                The path of a file the result is written to instead of returnResult. The file is overwritten if it exists.
+     *                                  When outputFile is provided, returnResult contains the path of the file.
      * @return Return the list of all the data returned by the query. It is delimited by colDelimiter and rowDelimiter.
      */
     @Action(name = "SQL Query All Rows",
             outputs = {
                     @Output(RETURN_CODE),
                     @Output(RETURN_RESULT),
+                    @Output(NEXT_PAGE_TOKEN),
                     @Output(EXCEPTION)
             },
             responses = {
@@ -137,7 +146,10 @@ public class SQLQueryAllRows {
                                        @Param(value = TIMEOUT) String timeout,
                                        @Param(value = DATABASE_POOLING_PROPERTIES) String databasePoolingProperties,
                                        @Param(value = RESULT_SET_TYPE) String resultSetType,
-                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency) {
+                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency,
+                                       @Param(value = PAGE_SIZE) String pageSize,
+                                       @Param(value = PAGE_TOKEN) String pageToken,
+                                       @Param(value = OUTPUT_FILE) String outputFile) {
 
         dbType = defaultIfEmpty(dbType, ORACLE_DB_TYPE);
         username = defaultIfEmpty(username, EMPTY);
@@ -151,10 +163,14 @@ public class SQLQueryAllRows {
 
         resultSetType = defaultIfEmpty(resultSetType, TYPE_SCROLL_INSENSITIVE);
         resultSetConcurrency = defaultIfEmpty(resultSetConcurrency, CONCUR_READ_ONLY);
+        pageSize = defaultIfEmpty(pageSize, DEFAULT_PAGE_SIZE);
+        pageToken = defaultIfEmpty(pageToken, EMPTY);
+        outputFile = defaultIfEmpty(outputFile, EMPTY);
 
         final List<String> preInputsValidation = validateSqlQueryAllRowsInputs(dbServerName, dbType, username, password, instance,
                 dbPort, databaseName, authenticationType, command, trustAllRoots, trustStore, trustStorePassword,
-                timeout, resultSetType, resultSetConcurrency, authLibraryPath);
+                timeout, resultSetType, resultSetConcurrency, authLibraryPath,
+                pageSize, pageToken, outputFile);
 
         if (!preInputsValidation.isEmpty()) {
             return getFailureResultsMap(StringUtils.join(preInputsValidation, NEW_LINE));
@@ -184,11 +200,16 @@ public class SQLQueryAllRows {
                 .resultSetType(getResultSetTypeForDbType(resultSetType, dbType))
                 .resultSetConcurrency(getResultSetConcurrency(resultSetConcurrency))
                 .isNetcool(checkIsNetcool(dbType))
+                .pageSize(toInteger(pageSize))
+                .pageOffset(toInteger(defaultIfEmpty(pageToken, ZERO)))
+                .outputFile(outputFile)
                 .build();
 
         try {
             final String queryResult = SQLQueryAllRowsService.execQueryAllRows(sqlInputs);
-            return OutputUtilities.getSuccessResultsMap(queryResult);
+            final Map<String, String> result = OutputUtilities.getSuccessResultsMap(queryResult);
+            result.put(NEXT_PAGE_TOKEN, sqlInputs.getNextPageToken());
+            return result;
         } catch (Exception e) {
             return OutputUtilities.getFailureResultsMap(e);
         }
@@ -38,6 +38,7 @@ import static io.cloudslang.content.constants.OutputNames.*;
 import static io.cloudslang.content.constants.ReturnCodes.FAILURE;
 import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
 import static io.cloudslang.content.database.constants.DBDefaultValues.AUTH_SQL;
+import static io.cloudslang.content.database.constants.DBDefaultValues.DEFAULT_BATCH_SIZE;
 import static io.cloudslang.content.database.constants.DBDefaultValues.NEW_LINE;
 import static io.cloudslang.content.database.constants.DBExceptionValues.NO_SQL_COMMAND;
 import static io.cloudslang.content.database.constants.DBInputNames.*;
@@ -46,6 +47,7 @@ import static io.cloudslang.content.database.constants.DBOutputNames.UPDATE_COUN
 import static io.cloudslang.content.database.utils.SQLInputsUtils.*;
 import static io.cloudslang.content.database.utils.SQLInputsValidator.validateSqlScriptInputs;
 import static io.cloudslang.content.utils.BooleanUtilities.toBoolean;
+import static io.cloudslang.content.utils.NumberUtilities.toInteger;
 import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
 import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
@@ -98,6 +100,11 @@ public class SQLScript {
      * @param resultSetConcurrency      The result set concurrency. See JDBC folder description for more details.
      *                                  Valid values: CONCUR_READ_ONLY, CONCUR_UPDATABLE
      *                                  Default value: CONCUR_READ_ONLY
+     * @param batchSize                 The maximum number of consecutive INSERT, UPDATE, DELETE or MERGE statements sent to the database in one batch.
+     *                                  Every batch and every other statement is committed on its own, so a failure only rolls back the statement
+     *                                  or the batch that failed and the error reports the index of the failed statement.
+     *                                  When 0 all the statements are sent in a single batch and committed together.
+     *                                  Default value: 0
      * @return Returns a success or failure message.
      */
     @Action(name = "SQL Script",
@@ -132,7 +139,8 @@ public class SQLScript {
                                        @Param(value = AUTH_LIBRARY_PATH) String authLibraryPath,
                                        @Param(value = DATABASE_POOLING_PROPERTIES) String databasePoolingProperties,
                                        @Param(value = RESULT_SET_TYPE) String resultSetType,
-                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency) {
+                                       @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency,
+                                       @Param(value = BATCH_SIZE) String batchSize) {
 
         dbType = defaultIfEmpty(dbType, ORACLE_DB_TYPE);
         username = defaultIfEmpty(username, EMPTY);
@@ -145,10 +153,11 @@ public class SQLScript {
 
         resultSetType = defaultIfEmpty(resultSetType, TYPE_SCROLL_INSENSITIVE);
         resultSetConcurrency = defaultIfEmpty(resultSetConcurrency, CONCUR_READ_ONLY);
+        batchSize = defaultIfEmpty(batchSize, DEFAULT_BATCH_SIZE);
 
         final List<String> preInputsValidation = validateSqlScriptInputs(dbServerName, dbType, username, password, instance, dbPort,
                 databaseName, authenticationType, sqlCommands, scriptFileName, trustAllRoots, trustStore, trustStorePassword,
-                resultSetType, resultSetConcurrency, authLibraryPath);
+                resultSetType, resultSetConcurrency, authLibraryPath, batchSize);
         if (!preInputsValidation.isEmpty()) {
             return getFailureResultsMap(StringUtils.join(preInputsValidation, NEW_LINE));
         }
@@ -176,6 +185,7 @@ public class SQLScript {
                 .resultSetType(getResultSetType(resultSetType))
                 .resultSetConcurrency(getResultSetConcurrency(resultSetConcurrency))
                 .isNetcool(checkIsNetcool(dbType))
+                .batchSize(toInteger(batchSize))
                 .build();
 
         try {
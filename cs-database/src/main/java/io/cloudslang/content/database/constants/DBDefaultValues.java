@@ -23,5 +23,9 @@ package io.cloudslang.content.database.constants;
 public class DBDefaultValues {
     public static final String AUTH_SQL = "Sql";
     public static final String DEFAULT_TIMEOUT = "120";
+    public static final String DEFAULT_FETCH_SIZE = "0";
+    public static final String DEFAULT_CURSOR_IDLE_TIMEOUT = "600";
+    public static final String DEFAULT_PAGE_SIZE = "0";
+    public static final String DEFAULT_BATCH_SIZE = "0";
     public static final String NEW_LINE = "\n";
 }
@@ -31,6 +31,15 @@ public class DBExceptionValues extends ExceptionValues {
     public static final String INVALID_INSTANCE = "The instance input can only be used with MSSQL.";
     public static final String INVALID_NEGATIVE_TIMEOUT = "Timeout must be greater than zero!";
     public static final String INVALID_TIMEOUT = "Timeout has to be a positive integer!";
+    public static final String INVALID_FETCH_SIZE = "fetchSize has to be zero or a positive integer!";
+    public static final String INVALID_CURSOR_IDLE_TIMEOUT = "cursorIdleTimeout has to be a positive integer!";
+    public static final String INVALID_PAGE_SIZE = "pageSize has to be zero or a positive integer!";
+    public static final String INVALID_PAGE_TOKEN = "pageToken has to be empty or the nextPageToken returned by the previous page!";
+    public static final String INVALID_OUTPUT_FILE = "The parent directory of outputFile doesn't exist: ";
+    public static final String INVALID_BATCH_SIZE = "batchSize has to be zero or a positive integer!";
+    public static final String INVALID_BIND_PARAMETER = "Invalid bind parameter '%s', the type must be known and the value must be valid for it.";
+    public static final String SCRIPT_STATEMENT_FAILED = "Statement %d of the script failed, the first %d statements were committed: %s";
+    public static final String SCRIPT_BATCH_FAILED = "The batch of statements %d to %d of the script failed, the first %d statements were committed: %s";
     public static final String INVALID_TRUST_ALL_ROOTS_REQUIRE = "trustStore or trustStorePassword is mandatory if trustAllRoots is false";
     public static final String INVALID_DB_TYPE = "The dbType input is invalid";
     public static final String INVALID_USERNAME = "username input is empty.";
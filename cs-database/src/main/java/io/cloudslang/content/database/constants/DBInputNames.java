@@ -51,6 +51,14 @@ public class DBInputNames extends InputNames {
     public static final String GLOBAL_SESSION_OBJECT = "globalSessionObject";
     public static final String SQL_COMMANDS = "sqlCommands";
     public static final String JDBC_AUTH_PATH = "jdbcAuthPath";
+    public static final String FETCH_SIZE = "fetchSize";
+    public static final String CURSOR_IDLE_TIMEOUT = "cursorIdleTimeout";
+    public static final String PAGE_SIZE = "pageSize";
+    public static final String PAGE_TOKEN = "pageToken";
+    public static final String OUTPUT_FILE = "outputFile";
+    public static final String BATCH_SIZE = "batchSize";
+    public static final String BIND_PARAMETERS = "bindParameters";
+    public static final String BIND_PARAMETERS_DELIMITER = "bindParametersDelimiter";
 
 
     public static final String MS_DELIMITER = "Delimiter";
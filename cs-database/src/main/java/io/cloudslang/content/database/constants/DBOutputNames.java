@@ -28,4 +28,5 @@ public class DBOutputNames extends OutputNames {
     public static final String OUTPUT_TEXT = "outputText";
     public static final String COLUMN_NAMES = "columnNames";
     public static final String SQL_QUERY = "sqlQuery";
+    public static final String NEXT_PAGE_TOKEN = "nextPageToken";
 }
@@ -21,11 +21,13 @@ import io.cloudslang.content.database.services.databases.SqlDatabase;
 import io.cloudslang.content.database.services.dbconnection.DBConnectionManager;
 import io.cloudslang.content.database.services.dbconnection.DBConnectionManager.DBType;
 import io.cloudslang.content.database.services.dbconnection.TotalMaxPoolSizeExceedException;
+import io.cloudslang.content.database.utils.BindParameter;
 import io.cloudslang.content.database.utils.Constants;
 import io.cloudslang.content.database.utils.SQLInputs;
 import org.jetbrains.annotations.NotNull;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
@@ -48,6 +50,18 @@ public class ConnectionService {
         return obtainConnection(connectionUrls, sqlInputs);
     }
 
+    /**
+     * Prepares the sqlCommand of the inputs on the connection and binds the bind parameters to it.
+     * The statements of pooled connections are cached, see {@link DBConnectionManager#prepareStatement}.
+     */
+    public PreparedStatement prepareStatement(@NotNull final Connection connection, @NotNull final SQLInputs sqlInputs,
+                                              final int resultSetType, final int resultSetConcurrency) throws SQLException {
+        final PreparedStatement preparedStatement = DBConnectionManager.getInstance()
+                .prepareStatement(connection, sqlInputs.getSqlCommand(), resultSetType, resultSetConcurrency);
+        BindParameter.bindAll(preparedStatement, sqlInputs.getBindParameters());
+        return preparedStatement;
+    }
+
     public List<String> getConnectionUrls(@NotNull final SQLInputs sqlInputs) {
         final SqlDatabase currentDatabase = getDbClassForType(sqlInputs.getDbType());
         return currentDatabase.setUp(sqlInputs);
@@ -52,10 +52,17 @@ public class SQLCommandService {
                 oracleDbmsOutput.close();
                 return output;
             } else {
-                final Statement statement = connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
+                final boolean isPrepared = !sqlInputs.getBindParameters().isEmpty();
+                final Statement statement = isPrepared ?
+                        connectionService.prepareStatement(connection, sqlInputs, sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency()) :
+                        connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
                 statement.setQueryTimeout(sqlInputs.getTimeout());
                 try {
-                    statement.execute(sqlInputs.getSqlCommand());
+                    if (isPrepared) {
+                        ((PreparedStatement) statement).execute();
+                    } else {
+                        statement.execute(sqlInputs.getSqlCommand());
+                    }
                 } catch (SQLException e) {
                     if (SYBASE_DB_TYPE.equalsIgnoreCase(dbType)) {
                         //during a dump sybase sends back status as exceptions.
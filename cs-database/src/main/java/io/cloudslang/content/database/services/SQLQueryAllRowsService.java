@@ -22,18 +22,25 @@ import io.cloudslang.content.database.utils.Format;
 import io.cloudslang.content.database.utils.SQLInputs;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
+import static io.cloudslang.content.database.utils.SQLUtils.*;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
 /**
  * Created by victor on 13.01.2017.
  */
 public class SQLQueryAllRowsService {
-    /** todo
-     * Run a SQL query with given configuration
+    /**
+     * Run a SQL query with given configuration.
+     * When a page size is set only the rows of the page starting at the page offset are returned
+     * and the token of the next page is set on the inputs.
      *
-     * @return the formatted result set by colDelimiter and rowDelimiter
+     * @return the formatted result set by colDelimiter and rowDelimiter or the path of the output file
      * @throws ClassNotFoundException
      * @throws java.sql.SQLException
      */
@@ -45,13 +52,29 @@ public class SQLQueryAllRowsService {
             Statement statement = connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
 
             statement.setQueryTimeout(sqlInputs.getTimeout());
+            final int pageSize = sqlInputs.getPageSize();
+            final int pageOffset = sqlInputs.getPageOffset();
+            if (pageSize > 0) {
+                statement.setFetchSize(pageSize);
+                statement.setMaxRows(getPageMaxRows(pageOffset, pageSize));
+            }
             final ResultSet resultSet = statement.executeQuery(sqlInputs.getSqlCommand());
 
-            final String resultSetToDelimitedColsAndRows = Format.resultSetToDelimitedColsAndRows(resultSet, sqlInputs.isNetcool(), sqlInputs.getColDelimiter(), sqlInputs.getRowDelimiter());
-            if (resultSet != null) {
-                resultSet.close();
+            final String outputFile = sqlInputs.getOutputFile();
+            try (final Writer resultWriter = getResultWriter(outputFile)) {
+                sqlInputs.setNextPageToken(EMPTY);
+                if (resultSet != null) {
+                    skipRows(resultSet, pageOffset);
+                    final int rowCount = Format.resultSetToDelimitedColsAndRows(resultSet, sqlInputs.isNetcool(),
+                            sqlInputs.getColDelimiter(), sqlInputs.getRowDelimiter(), resultWriter, pageSize);
+                    sqlInputs.setNextPageToken(getNextPageToken(resultSet, pageOffset, pageSize, rowCount));
+                }
+                return isEmpty(outputFile) ? resultWriter.toString() : outputFile;
+            } finally {
+                if (resultSet != null) {
+                    resultSet.close();
+                }
             }
-            return resultSetToDelimitedColsAndRows;
         }
     }
 }
@@ -17,16 +17,20 @@
 
 package io.cloudslang.content.database.services;
 
+import io.cloudslang.content.database.utils.SQLCursor;
 import io.cloudslang.content.database.utils.SQLInputs;
-import io.cloudslang.content.database.utils.SQLUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.sql.Statement;
 
+import static io.cloudslang.content.database.utils.SQLUtils.getRowFromResultSet;
+
 /**
  * Created by victor on 13.01.2017.
  */
@@ -40,38 +44,81 @@ public class SQLQueryService {
         try (final Connection connection = connectionService.setUpConnection(sqlInputs)) {
 
             connection.setReadOnly(true);
-            Statement statement = connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
-            statement.setQueryTimeout(sqlInputs.getTimeout());
-            final ResultSet results = statement.executeQuery(sqlInputs.getSqlCommand());
-
-            final ResultSetMetaData mtd = results.getMetaData();
+            final ResultSet results;
+            if (sqlInputs.getBindParameters().isEmpty()) {
+                Statement statement = connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
+                statement.setQueryTimeout(sqlInputs.getTimeout());
+                results = statement.executeQuery(sqlInputs.getSqlCommand());
+            } else {
+                final PreparedStatement preparedStatement = connectionService.prepareStatement(connection, sqlInputs,
+                        sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
+                preparedStatement.setQueryTimeout(sqlInputs.getTimeout());
+                results = preparedStatement.executeQuery();
+            }
 
-            int iNumCols = mtd.getColumnCount();
+            final int iNumCols = results.getMetaData().getColumnCount();
+            sqlInputs.setStrColumns(getColumnNames(results.getMetaData(), sqlInputs));
 
-            final StringBuilder strColumns = new StringBuilder(sqlInputs.getStrColumns());
+            while (results.next()) {
+                sqlInputs.getLRows().add(getRowFromResultSet(results, iNumCols, sqlInputs.getStrDelim(), sqlInputs.isNetcool()));
+            }
+        }
+    }
 
-            for (int i = 1; i <= iNumCols; i++) {
-                if (i > 1) {
-                    strColumns.append(sqlInputs.getStrDelim());
-                }
-                strColumns.append(mtd.getColumnLabel(i));
+    /**
+     * Executes the query on a forward only cursor that is left open, so the rows can be read one at a time
+     * without loading the whole result set in memory.
+     *
+     * @param sqlInputs the inputs of the query, the fetchSize and cursorIdleTimeout are used to configure the cursor
+     * @return the open cursor, it owns the connection and must be closed by the caller
+     * @throws Exception
+     */
+    @NotNull
+    public static SQLCursor openSqlCursor(@NotNull final SQLInputs sqlInputs) throws Exception {
+        if (StringUtils.isEmpty(sqlInputs.getSqlCommand())) {
+            throw new Exception("command input is empty.");
+        }
+        ConnectionService connectionService = new ConnectionService();
+        final Connection connection = connectionService.setUpConnection(sqlInputs);
+        try {
+            connection.setReadOnly(true);
+            //some drivers (PostgreSQL) only honour the fetch size inside a transaction
+            connection.setAutoCommit(false);
+            final Statement statement;
+            final ResultSet results;
+            if (sqlInputs.getBindParameters().isEmpty()) {
+                statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(sqlInputs.getFetchSize());
+                statement.setQueryTimeout(sqlInputs.getTimeout());
+                results = statement.executeQuery(sqlInputs.getSqlCommand());
+            } else {
+                final PreparedStatement preparedStatement = connectionService.prepareStatement(connection, sqlInputs,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                preparedStatement.setFetchSize(sqlInputs.getFetchSize());
+                preparedStatement.setQueryTimeout(sqlInputs.getTimeout());
+                results = preparedStatement.executeQuery();
+                statement = preparedStatement;
             }
-            sqlInputs.setStrColumns(strColumns.toString());
 
-            while (results.next()) {
-                final StringBuilder strRowHolder = new StringBuilder();
-                for (int i = 1; i <= iNumCols; i++) {
-                    if (i > 1) strRowHolder.append(sqlInputs.getStrDelim());
-                    if (results.getString(i) != null) {
-                        String value = results.getString(i).trim();
-                        if (sqlInputs.isNetcool())
-                            value = SQLUtils.processNullTerminatedString(value);
+            sqlInputs.setStrColumns(getColumnNames(results.getMetaData(), sqlInputs));
+            return new SQLCursor(connection, statement, results, sqlInputs.getStrColumns(), sqlInputs.getStrDelim(),
+                    sqlInputs.isNetcool(), sqlInputs.getCursorIdleTimeout());
+        } catch (Exception e) {
+            connection.close();
+            throw e;
+        }
+    }
+
+    @NotNull
+    private static String getColumnNames(@NotNull final ResultSetMetaData mtd, @NotNull final SQLInputs sqlInputs) throws SQLException {
+        final StringBuilder strColumns = new StringBuilder(sqlInputs.getStrColumns());
 
-                        strRowHolder.append(value);
-                    }
-                }
-                sqlInputs.getLRows().add(strRowHolder.toString());
+        for (int i = 1; i <= mtd.getColumnCount(); i++) {
+            if (i > 1) {
+                strColumns.append(sqlInputs.getStrDelim());
             }
+            strColumns.append(mtd.getColumnLabel(i));
         }
+        return strColumns.toString();
     }
 }
@@ -21,19 +21,26 @@ import io.cloudslang.content.database.utils.Format;
 import io.cloudslang.content.database.utils.SQLInputs;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.Writer;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
+import static io.cloudslang.content.database.utils.SQLUtils.*;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+import static org.apache.commons.lang3.StringUtils.isNoneEmpty;
+
 /**
  * Created by victor on 13.01.2017.
  */
 public class SQLQueryTabularService {
 
     /**
-     * Run a SQL query with given configuration
+     * Run a SQL query with given configuration.
+     * When a page size is set only the rows of the page starting at the page offset are returned
+     * and the token of the next page is set on the inputs.
      *
-     * @return the formatted result set by colDelimiter and rowDelimiter
+     * @return the result set formatted as a table or the path of the output file
      * @throws ClassNotFoundException
      * @throws java.sql.SQLException
      */
@@ -44,12 +51,26 @@ public class SQLQueryTabularService {
 
             final Statement statement = connection.createStatement(sqlInputs.getResultSetType(), sqlInputs.getResultSetConcurrency());
             statement.setQueryTimeout(sqlInputs.getTimeout());
+            final int pageSize = sqlInputs.getPageSize();
+            final int pageOffset = sqlInputs.getPageOffset();
+            if (pageSize > 0) {
+                statement.setFetchSize(pageSize);
+                statement.setMaxRows(getPageMaxRows(pageOffset, pageSize));
+            }
 
             final ResultSet resultSet = statement.executeQuery(sqlInputs.getSqlCommand());
 
-            final String resultSetToTable = Format.resultSetToTable(resultSet, sqlInputs.isNetcool());
-            resultSet.close();
-            return resultSetToTable;
+            final String outputFile = sqlInputs.getOutputFile();
+            try (final Writer resultWriter = getResultWriter(outputFile)) {
+                skipRows(resultSet, pageOffset);
+                //a page is small enough to be kept in memory, all the rows of a big result are not
+                final boolean spoolToDisk = isNoneEmpty(outputFile) && pageSize == 0;
+                final int rowCount = Format.resultSetToTable(resultSet, sqlInputs.isNetcool(), resultWriter, pageSize, spoolToDisk);
+                sqlInputs.setNextPageToken(getNextPageToken(resultSet, pageOffset, pageSize, rowCount));
+                return isEmpty(outputFile) ? resultWriter.toString() : outputFile;
+            } finally {
+                resultSet.close();
+            }
         }
     }
 }
@@ -21,11 +21,14 @@ package io.cloudslang.content.database.services;
 import io.cloudslang.content.database.utils.SQLInputs;
 import io.cloudslang.content.database.utils.SQLUtils;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
 
+import static io.cloudslang.content.database.constants.DBExceptionValues.SCRIPT_BATCH_FAILED;
+import static io.cloudslang.content.database.constants.DBExceptionValues.SCRIPT_STATEMENT_FAILED;
 import static io.cloudslang.content.database.constants.DBOtherValues.SYBASE_DB_TYPE;
 
 /**
@@ -33,6 +36,8 @@ import static io.cloudslang.content.database.constants.DBOtherValues.SYBASE_DB_T
  */
 public class SQLScriptService {
 
+    private static final String[] DML_KEYWORDS = {"insert", "update", "delete", "merge"};
+
     public static String executeSqlScript(List<String> lines, SQLInputs sqlInputs)
             throws Exception {
         if (lines == null || lines.isEmpty()) {
@@ -51,16 +56,13 @@ public class SQLScriptService {
                 boolean autoCommit = connection.getAutoCommit();
                 connection.setAutoCommit(false);
                 int updateCount = 0;
-                if (lines.size() > 1) {
+                if (sqlInputs.getBatchSize() > 0) {
+                    updateCount = executeInBatches(connection, statement, lines, sqlInputs.getBatchSize());
+                } else if (lines.size() > 1) {
                     for (String line : lines) {
                         statement.addBatch(line);
                     }
-                    int[] updateCounts = statement.executeBatch();
-                    for (int i : updateCounts) {
-                        if (i > 0) {
-                            updateCount += i;
-                        }
-                    }
+                    updateCount = sumUpdateCounts(statement.executeBatch());
                 } else {
                     statement.execute(lines.get(0));
                     updateCount = statement.getUpdateCount();
@@ -83,4 +85,106 @@ public class SQLScriptService {
         }
         return "Command completed successfully";
     }
+
+    /**
+     * Sends the consecutive DML statements of the script in batches of at most batchSize statements and the other
+     * statements one by one. Every batch and every other statement is committed on its own.
+     *
+     * @return the sum of the update counts
+     * @throws SQLException with the index of the failed statement, after the failed batch or statement was rolled back
+     */
+    private static int executeInBatches(final Connection connection, final Statement statement, final List<String> lines,
+                                        final int batchSize) throws SQLException {
+        int updateCount = 0;
+        int batchStart = 0;
+        int batchLength = 0;
+        for (int index = 0; index < lines.size(); index++) {
+            final String line = lines.get(index);
+            if (isDmlStatement(line)) {
+                if (batchLength == 0) {
+                    batchStart = index;
+                }
+                statement.addBatch(line);
+                batchLength++;
+                if (batchLength == batchSize) {
+                    updateCount += executeBatch(connection, statement, batchStart, batchLength);
+                    batchLength = 0;
+                }
+            } else {
+                if (batchLength > 0) {
+                    updateCount += executeBatch(connection, statement, batchStart, batchLength);
+                    batchLength = 0;
+                }
+                try {
+                    statement.execute(line);
+                    updateCount += Math.max(statement.getUpdateCount(), 0);
+                    connection.commit();
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw new SQLException(String.format(SCRIPT_STATEMENT_FAILED, index + 1, index, e.getMessage()),
+                            e.getSQLState(), e.getErrorCode(), e);
+                }
+            }
+        }
+        if (batchLength > 0) {
+            updateCount += executeBatch(connection, statement, batchStart, batchLength);
+        }
+        return updateCount;
+    }
+
+    private static int executeBatch(final Connection connection, final Statement statement, final int batchStart,
+                                    final int batchLength) throws SQLException {
+        try {
+            final int updateCount = sumUpdateCounts(statement.executeBatch());
+            connection.commit();
+            return updateCount;
+        } catch (BatchUpdateException e) {
+            connection.rollback();
+            statement.clearBatch();
+            final int failedIndex = batchStart + getFailedBatchIndex(e.getUpdateCounts(), batchLength);
+            throw new SQLException(String.format(SCRIPT_STATEMENT_FAILED, failedIndex + 1, batchStart, e.getMessage()),
+                    e.getSQLState(), e.getErrorCode(), e);
+        } catch (SQLException e) {
+            connection.rollback();
+            statement.clearBatch();
+            throw new SQLException(String.format(SCRIPT_BATCH_FAILED, batchStart + 1, batchStart + batchLength, batchStart,
+                    e.getMessage()), e.getSQLState(), e.getErrorCode(), e);
+        }
+    }
+
+    /**
+     * Drivers either stop at the first failed statement of a batch and return the update counts of the statements
+     * before it, or run the whole batch and mark the failed statements with EXECUTE_FAILED.
+     */
+    private static int getFailedBatchIndex(final int[] updateCounts, final int batchLength) {
+        if (updateCounts == null) {
+            return 0;
+        }
+        for (int index = 0; index < updateCounts.length; index++) {
+            if (updateCounts[index] == Statement.EXECUTE_FAILED) {
+                return index;
+            }
+        }
+        return Math.min(updateCounts.length, batchLength - 1);
+    }
+
+    private static int sumUpdateCounts(final int[] updateCounts) {
+        int updateCount = 0;
+        for (int i : updateCounts) {
+            if (i > 0) {
+                updateCount += i;
+            }
+        }
+        return updateCount;
+    }
+
+    private static boolean isDmlStatement(final String line) {
+        final String statement = line.trim().toLowerCase();
+        for (final String dmlKeyword : DML_KEYWORDS) {
+            if (statement.startsWith(dmlKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
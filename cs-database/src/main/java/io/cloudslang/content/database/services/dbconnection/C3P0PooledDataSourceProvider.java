@@ -68,6 +68,9 @@ public class C3P0PooledDataSourceProvider extends PooledDataSourceProvider {
     //trying to getConneciton on its own if the connection fails. set this to
     //be true to clean the pool, so it won't keep trying
     private final static String C3P0_BREAK_AFTERACQUIREFAILURE_NAME = "breakAfterAcquireFailure";
+    //deal with the prepared statement cache of each connection
+    //set default 50
+    private final static String C3P0_MAX_STATEMENTS_PER_CONNECTION_NAME = "maxStatementsPerConnection";
 
     /**
      * constructor
@@ -109,11 +112,27 @@ public class C3P0PooledDataSourceProvider extends PooledDataSourceProvider {
      * @throws SQLException
      */
     public DataSource openPooledDataSource(DBType aDbType, String aDbUrl, String aUsername, String aPassword) throws SQLException {
+        return this.openPooledDataSource(aDbType, aDbUrl, aUsername, aPassword, dbPoolingProperties);
+    }
+
+    /**
+     * get the pooled datasource from c3p0 pool, configured by the given pooling properties
+     *
+     * @param aDbType              a supported database type.
+     * @param aDbUrl               a connection url
+     * @param aUsername            a username for the database
+     * @param aPassword            a password for the database connection
+     * @param aDBPoolingProperties the pooling properties of the datasource
+     * @return a DataSource  a pooled data source
+     * @throws SQLException
+     */
+    public DataSource openPooledDataSource(DBType aDbType, String aDbUrl, String aUsername, String aPassword,
+                                           Properties aDBPoolingProperties) throws SQLException {
         
         final DataSource unPooledDS = DataSources.unpooledDataSource(aDbUrl, aUsername, aPassword);
 
         //override the default properties with ours
-        final Map<String, String> props = this.getPoolingProperties(aDbType);
+        final Map<String, String> props = this.getPoolingProperties(aDbType, aDBPoolingProperties);
 
         return DataSources.pooledDataSource(unPooledDS, props);
 
@@ -123,76 +142,82 @@ public class C3P0PooledDataSourceProvider extends PooledDataSourceProvider {
      * set up the properties for c3p0 based on the properties values in
      * databasePooling.properties.
      *
-     * @param aDbType a supported db type.
+     * @param aDbType              a supported db type.
+     * @param aDBPoolingProperties the pooling properties of the datasource
      * @return a HashMap of c3p0 db pooling properties.
      */
-    private Map<String, String> getPoolingProperties(DBType aDbType) {
+    private Map<String, String> getPoolingProperties(DBType aDbType, Properties aDBPoolingProperties) {
         Map<String, String> retMap = new HashMap<>();
 
         //general properties
         //acquire increment size
-        String acqIncSize = this.getPropStringValue(CONNECTION_ACQUIREINCREMENT_SIZE_NAME,
+        String acqIncSize = this.getPropStringValue(aDBPoolingProperties, CONNECTION_ACQUIREINCREMENT_SIZE_NAME,
                 CONNECTION_ACQUIREINCREMENT_SIZE_DEFAULT_VALUE);
         retMap.put(C3P0_ACQUIRE_INCREMENT_NAME, acqIncSize);
 
         //retry counts
-        String retryCount = this.getPropStringValue(CONNECTION_RETRY_COUNT_NAME,
+        String retryCount = this.getPropStringValue(aDBPoolingProperties, CONNECTION_RETRY_COUNT_NAME,
                 CONNECTION_RETRY_COUNT_DEFAULT_VALUE);
         retMap.put(C3P0_ACQUIRE_RETRY_ATTEMPTS_NAME, retryCount);
 
         //retry deplay this will be value of milseconds
-        String retryDelay = this.getPropStringValue(CONNECTION_RETRY_DELAY_NAME,
+        String retryDelay = this.getPropStringValue(aDBPoolingProperties, CONNECTION_RETRY_DELAY_NAME,
                 CONNECTION_RETRY_DELAY_DEFAULT_VALUE);
         retMap.put(C3P0_ACQUIRE_RETRY_DELAY_NAME, retryDelay);
 
         //test period
-        String testPeriod = this.getPropStringValue(CONNECTION_TEST_PERIOD_NAME,
+        String testPeriod = this.getPropStringValue(aDBPoolingProperties, CONNECTION_TEST_PERIOD_NAME,
                 CONNECTION_TEST_PERIOD_DEFAULT_VALUE);
         retMap.put(C3P0_IDLE_CONNECTION_TEST_PERIOD_NAME, testPeriod);
 
         //test on check in
-        String bTestOnCheckIn = this.getPropStringValue(CONNECTION_TEST_ONCHECKIN_NAME,
+        String bTestOnCheckIn = this.getPropStringValue(aDBPoolingProperties, CONNECTION_TEST_ONCHECKIN_NAME,
                 CONNECTION_TEST_ONCHECKIN_DEFAULT_VALUE);
         retMap.put(C3P0_TEST_CONNECTION_ON_CHECKIN_NAME, bTestOnCheckIn);
 
         //test on check out
-        String bTestOnCheckOut = this.getPropStringValue(CONNECTION_TEST_ONCHECKOUT_NAME,
+        String bTestOnCheckOut = this.getPropStringValue(aDBPoolingProperties, CONNECTION_TEST_ONCHECKOUT_NAME,
                 CONNECTION_TEST_ONCHECKOUT_DEFAULT_VALUE);
         retMap.put(C3P0_TEST_CONNECTION_ON_CHECKOUT_NAME, bTestOnCheckOut);
 
         //max idle time
-        String maxIdleTime = this.getPropStringValue(CONNECTION_MAX_IDLETIME_NAME,
+        String maxIdleTime = this.getPropStringValue(aDBPoolingProperties, CONNECTION_MAX_IDLETIME_NAME,
                 CONNECTION_MAX_IDLETIME_DEFAULT_VALUE);
         retMap.put(C3P0_MAX_IDLE_TIME_NAME, maxIdleTime);
 
         //max pool size
-        String maxPoolSize = this.getPropStringValue(MAX_POOL_SIZE_NAME,
+        String maxPoolSize = this.getPropStringValue(aDBPoolingProperties, MAX_POOL_SIZE_NAME,
                 MAX_POOL_SIZE_DEFAULT_VALUE);
 
         retMap.put(C3P0_MAX_POOL_SIZE_NAME, maxPoolSize);
 
         //min pool size
-        String minPoolSize = this.getPropStringValue(MIN_POOL_SIZE_NAME,
+        String minPoolSize = this.getPropStringValue(aDBPoolingProperties, MIN_POOL_SIZE_NAME,
                 MIN_POOL_SIZE_DEFAULT_VALUE);
 
         retMap.put(C3P0_MIN_POOL_SIZE_NAME, minPoolSize);
 
         //init pool size
-        String initPoolSize = this.getPropStringValue(INIT_POOL_SIZE_NAME,
+        String initPoolSize = this.getPropStringValue(aDBPoolingProperties, INIT_POOL_SIZE_NAME,
                 INIT_POOL_SIZE_DEFAULT_VALUE);
 
         retMap.put(C3P0_INIT_POOL_SIZE_NAME, initPoolSize);
 
         //connection timeout
-        String conTimeout = this.getPropStringValue(CONNECTION_CHECKOUT_TIMEOUT_NAME,
+        String conTimeout = this.getPropStringValue(aDBPoolingProperties, CONNECTION_CHECKOUT_TIMEOUT_NAME,
                 CONNECTION_CHECKOUT_TIMEOUT_DEFAULT_VALUE);
         retMap.put(C3P0_CHECKOUT_TIMEOUT_NAME, conTimeout);
 
         //connection break after acquire failure
-        String breakAfterFailure = this.getPropStringValue(CONNECTION_BREAKAFTERACQUIREFAILURE_NAME,
+        String breakAfterFailure = this.getPropStringValue(aDBPoolingProperties, CONNECTION_BREAKAFTERACQUIREFAILURE_NAME,
                 CONNECTION_BREAKAFTERACQUIREFAILURE_DEFAULT_VALUE);
         retMap.put(C3P0_BREAK_AFTERACQUIREFAILURE_NAME, breakAfterFailure);
 
+        //prepared statement cache size
+        String statementCacheSize = this.getPropStringValue(aDBPoolingProperties, CONNECTION_STATEMENT_CACHE_SIZE_NAME,
+                CONNECTION_STATEMENT_CACHE_SIZE_DEFAULT_VALUE);
+        retMap.put(C3P0_MAX_STATEMENTS_PER_CONNECTION_NAME, statementCacheSize);
+
         //db specific properties
         //connection life time
         String conLifeTimeName;
@@ -222,7 +247,7 @@ public class C3P0PooledDataSourceProvider extends PooledDataSourceProvider {
         }
 
         String connectionLifetime =
-                this.getPropStringValue(conLifeTimeName, CONNECTION_LIFETIME_DEFAULT_VALUE);
+                this.getPropStringValue(aDBPoolingProperties, conLifeTimeName, CONNECTION_LIFETIME_DEFAULT_VALUE);
 
         retMap.put(C3P0_MAX_CONNECTION_AGE_NAME, connectionLifetime);
 
@@ -24,8 +24,10 @@ import io.cloudslang.content.database.utils.TripleDES;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.cloudslang.content.database.constants.DBOtherValues.MSSQL_DB_TYPE;
 import static io.cloudslang.content.database.utils.Constants.AUTH_WINDOWS;
@@ -83,20 +85,22 @@ public class DBConnectionManager {
     //datasource provider later if we have different kinds of datasource provider
     //right now we only have one provider c3p0. Other provider might be implemented
     //if it is necessary.
-    //the dbms pool table will have Hashtable dsTable which contians DataSources
+    //the dbms pool table will have a map dsTable which contians DataSources
     //the key for the dsTable is dbUrl + "." + username + "." + encryptedpassword
-    //hashtable is synchronized already
-    protected Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable = null;
-    //properties that contain configurable connection pooling params
-    protected Properties dbPoolingProperties = null;
+    //both levels are concurrent maps so checkouts never lock the manager, the
+    //dsTable itself is used as the creation guard for its own datasources
+    protected final ConcurrentHashMap<String, ConcurrentHashMap<String, DataSource>> dbmsPoolTable = new ConcurrentHashMap<>();
     /**
-     * if the pooling is enabled or not, default is false
+     * if a call enabled the pooling, so there are pools to shut down, default is false.
+     * the pooling properties themselves are per call, they are never kept in the manager
      */
-    protected boolean isPoolingEnabled = false;
+    protected volatile boolean isPoolingEnabled = false;
     //datasource cleaner to clean the datasource with 0 connections.
     private PooledDataSourceCleaner datasourceCleaner = null;
     //the thread that will run the cleaner runnable
     private Thread cleanerThread = null;
+    //hits and misses of the prepared statement caches of the pooled connections
+    private final StatementCacheStatistics statementCacheStatistics = new StatementCacheStatistics();
 
 
     /**
@@ -128,25 +132,25 @@ public class DBConnectionManager {
         return instance;
     }
 
-    private void customizeDBConnectionManager(Properties dbPoolingProperties) {
-        customizeDbPoolingProperties(dbPoolingProperties);
-        if (isPoolingEnabled) {
-            createPoolTable();
-            createCleaner();
-        }
-    }
-
-    private void customizeDbPoolingProperties(Properties dbPoolingProperties) {
-        if (dbPoolingProperties != null && dbPoolingProperties.size() > 0) {
-            this.dbPoolingProperties = dbPoolingProperties;
-            this.isPoolingEnabled = this.getPropBooleanValue(DB_POOL_ENABLE_NAME, DB_POOL_ENABLE_DEFAULT_VALUE);
-        }
+    /**
+     * @param dbPoolingProperties the pooling properties of the call
+     * @return if the call wants a pooled connection
+     */
+    private boolean isPoolingEnabled(Properties dbPoolingProperties) {
+        return dbPoolingProperties != null && dbPoolingProperties.size() > 0 &&
+                this.getPropBooleanValue(dbPoolingProperties, DB_POOL_ENABLE_NAME, DB_POOL_ENABLE_DEFAULT_VALUE);
     }
 
-    private void createPoolTable() {
-        if (dbmsPoolTable == null) {
-            dbmsPoolTable = new Hashtable<>();
-        }
+    /**
+     * create the cleaner on the first pooled call, or start it again if it stopped
+     * because there were no pools left
+     *
+     * @param dbPoolingProperties the pooling properties of the call
+     */
+    private synchronized void startPooling(Properties dbPoolingProperties) {
+        isPoolingEnabled = true;
+        createCleaner(dbPoolingProperties);
+        restartCleaner();
     }
 
     /**
@@ -168,7 +172,7 @@ public class DBConnectionManager {
      * @return a Connection to db
      * @throws SQLException
      */
-    public synchronized Connection getConnection(DBType aDbType, String aAuthType, String aDbUrl, String aUsername, String aPassword, Properties properties)
+    public Connection getConnection(DBType aDbType, String aAuthType, String aDbUrl, String aUsername, String aPassword, Properties properties)
             throws SQLException {
         if (isEmpty(aDbUrl)) {
             throw new SQLException("Failed to check out connection dbUrl is empty");
@@ -184,9 +188,7 @@ public class DBConnectionManager {
             }
         }
 
-        customizeDBConnectionManager(properties);
-
-        if (!this.isPoolingEnabled) {
+        if (!this.isPoolingEnabled(properties)) {
             //just call driver manager to create connection
             return this.getPlainConnection(aDbUrl, aUsername, aPassword);
         } else {
@@ -195,20 +197,26 @@ public class DBConnectionManager {
                 throw new SQLException("Failed to check out connection db type is null");
             }
 
-            //if the runnable has been shutdown when dbmspoolsize is 0
-            //then need to resumbit to the thread and start it again
-            if (datasourceCleaner.getState() == STATE_CLEANER.SHUTDOWN) {
-                //submit it to the thread to run
-                cleanerThread = new Thread(datasourceCleaner);
-                cleanerThread.setPriority(Thread.MIN_PRIORITY);
-                cleanerThread.start();
-            }
+            startPooling(properties);
             //will use pooled datasource provider
-            return getPooledConnection(aDbType, aDbUrl, aUsername, aPassword);
+            return getPooledConnection(aDbType, aDbUrl, aUsername, aPassword, properties);
         }
 
     }
 
+    /**
+     * if the runnable has been shutdown when dbmspoolsize is 0
+     * then need to resumbit to the thread and start it again
+     */
+    private void restartCleaner() {
+        if (datasourceCleaner.getState() == STATE_CLEANER.SHUTDOWN) {
+            //submit it to the thread to run
+            cleanerThread = new Thread(datasourceCleaner);
+            cleanerThread.setPriority(Thread.MIN_PRIORITY);
+            cleanerThread.start();
+        }
+    }
+
     /**
      * clean any empty datasource and pool in the dbmsPool table.
      */
@@ -220,10 +228,10 @@ public class DBConnectionManager {
         Enumeration<String> allPoolKeys = dbmsPoolTable.keys();
         while (allPoolKeys.hasMoreElements()) {
             String dbPoolKey = allPoolKeys.nextElement();
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbPoolKey);
-            Enumeration<String> allDsKeys = dsTable.keys();
-            while (allDsKeys.hasMoreElements()) {
-                String dsKey = allDsKeys.nextElement();
+            Map<String, DataSource> dsTable = dbmsPoolTable.get(dbPoolKey);
+            Iterator<String> allDsKeys = dsTable.keySet().iterator();
+            while (allDsKeys.hasNext()) {
+                String dsKey = allDsKeys.next();
                 DataSource ds = dsTable.get(dsKey);
 
                 //c3p0 impl
@@ -266,36 +274,101 @@ public class DBConnectionManager {
                 String removedPoolKey = removedPoolKeys.nextElement();
                 PooledDataSourceProvider provider = this.getProvider(removedPoolKey);
                 List<String> removedDsList = removedDsKeyTable.get(removedPoolKey);
-                Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(removedPoolKey);
-                for (String dsKey : removedDsList) {
-                    DataSource removedDs = dsTable.remove(dsKey);
-                    try {
-                        provider.closePooledDataSource(removedDs);
-                    } catch (SQLException e) {
-                        //can't show the dsKey since it has encrypted password there
-//                  todo      logger.error("Failed to close datadsource in dmbs poolKey = "
-//                                + removedPoolKey, e);
-                        continue;
-                    }
-
-                    //tracing
-//                todo    if (logger.isDebugEnabled()) {
-//                        logger.debug("Removed one datasource in dbms poolKey = "
-//                                + removedPoolKey);
-//                    }
+                ConcurrentHashMap<String, DataSource> dsTable = dbmsPoolTable.get(removedPoolKey);
+                //the pools were shut down meanwhile
+                if (dsTable == null) {
+                    continue;
                 }
-                //don't have any ds for the pool key
-                if (dsTable.isEmpty()) {
-                    dbmsPoolTable.remove(removedPoolKey);
-                    //tracing
-//              todo      if (logger.isDebugEnabled()) {
-//                        logger.debug("Removed dbms poolKey = " + removedPoolKey);
-//                    }
+                //same guard as getPooledConnection, so a datasource is never
+                //created in a pool that is being retired
+                synchronized (dsTable) {
+                    for (String dsKey : removedDsList) {
+                        //a checkout may have used the datasource since it was counted,
+                        //checkouts confirm their datasource under this lock
+                        if (!isEmptyDataSource(dsTable.get(dsKey))) {
+                            continue;
+                        }
+                        DataSource removedDs = dsTable.remove(dsKey);
+                        try {
+                            provider.closePooledDataSource(removedDs);
+                        } catch (SQLException e) {
+                            //can't show the dsKey since it has encrypted password there
+//                      todo      logger.error("Failed to close datadsource in dmbs poolKey = "
+//                                    + removedPoolKey, e);
+                            continue;
+                        }
+
+                        //tracing
+//                    todo    if (logger.isDebugEnabled()) {
+//                            logger.debug("Removed one datasource in dbms poolKey = "
+//                                    + removedPoolKey);
+//                        }
+                    }
+                    //don't have any ds for the pool key
+                    if (dsTable.isEmpty()) {
+                        dbmsPoolTable.remove(removedPoolKey, dsTable);
+                        //tracing
+//                  todo      if (logger.isDebugEnabled()) {
+//                            logger.debug("Removed dbms poolKey = " + removedPoolKey);
+//                        }
+                    }
                 }
             }
         }
     }
 
+    /**
+     * Prepares a statement on a connection of this manager. The statements of pooled connections are cached by
+     * the pool, preparing the same SQL again on the same connection is counted as a cache hit.
+     *
+     * @param aConnection           a connection returned by getConnection
+     * @param aSql                  the SQL text of the statement
+     * @param aResultSetType        a result set type
+     * @param aResultSetConcurrency a result set concurrency
+     * @return the prepared statement
+     * @throws SQLException
+     */
+    public PreparedStatement prepareStatement(Connection aConnection, String aSql, int aResultSetType, int aResultSetConcurrency)
+            throws SQLException {
+        final PreparedStatement preparedStatement = aConnection.prepareStatement(aSql, aResultSetType, aResultSetConcurrency);
+        try {
+            statementCacheStatistics.recordPrepare(preparedStatement);
+        } catch (SQLException e) {
+            preparedStatement.close();
+            throw e;
+        }
+        return preparedStatement;
+    }
+
+    /**
+     * @return how many prepared statements were reused from the cache of a pooled connection
+     */
+    public long getStatementCacheHits() {
+        return statementCacheStatistics.getHits();
+    }
+
+    /**
+     * @return how many prepared statements had to be prepared by the database on a pooled connection
+     */
+    public long getStatementCacheMisses() {
+        return statementCacheStatistics.getMisses();
+    }
+
+    /**
+     * @param aDs a datasource of a dsTable
+     * @return if the datasource is a pooled datasource without any connection
+     */
+    private boolean isEmptyDataSource(DataSource aDs) {
+        if (!(aDs instanceof PooledDataSource)) {
+            return false;
+        }
+        try {
+            return ((PooledDataSource) aDs).getNumConnectionsAllUsers() == 0;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
     /**
      * force shutdown everything
      */
@@ -308,37 +381,41 @@ public class DBConnectionManager {
         cleanerThread.interrupt();//stop the thread
         cleanerThread = null;
 
-        if (dbmsPoolTable == null) {
-            return;
-        }
         Enumeration<String> allDbmsKeys = dbmsPoolTable.keys();
         while (allDbmsKeys.hasMoreElements()) {
             String dbmsKey = allDbmsKeys.nextElement();
             PooledDataSourceProvider provider = this.getProvider(dbmsKey);
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsKey);
-            for (DataSource ds : dsTable.values()) {
-                try {
-                    provider.closePooledDataSource(ds);
-                } catch (SQLException e) {
+            ConcurrentHashMap<String, DataSource> dsTable = dbmsPoolTable.remove(dbmsKey);
+            if (dsTable == null) {
+                continue;
+            }
+            //checkouts of this pool retry in a new pool from now on
+            synchronized (dsTable) {
+                for (DataSource ds : dsTable.values()) {
+                    try {
+                        provider.closePooledDataSource(ds);
+                    } catch (SQLException e) {
 //          todo          logger.error("Failed to close datasource in dbms poolKey = "
 //                            + dbmsKey);
+                    }
                 }
+                dsTable.clear();
             }
-            dsTable.clear();
         }
-        dbmsPoolTable.clear();
-        dbmsPoolTable = null;
+        isPoolingEnabled = false;
+        statementCacheStatistics.clear();
     }
 
     /**
      * get boolean value based on the property name from property file
      * the property file is databasePooling.properties
      *
-     * @param aPropName     a property name
-     * @param aDefaultValue a default value for that property, if the property is not there.
+     * @param dbPoolingProperties the pooling properties of the call
+     * @param aPropName           a property name
+     * @param aDefaultValue       a default value for that property, if the property is not there.
      * @return boolean value of that property
      */
-    protected boolean getPropBooleanValue(String aPropName, String aDefaultValue) {
+    protected boolean getPropBooleanValue(Properties dbPoolingProperties, String aPropName, String aDefaultValue) {
         boolean retValue;
 
         String temp = dbPoolingProperties.getProperty(aPropName, aDefaultValue);
@@ -351,11 +428,12 @@ public class DBConnectionManager {
      * get int value based on the property name from property file
      * the property file is databasePooling.properties
      *
-     * @param aPropName     a property name
-     * @param aDefaultValue a default value for that property, if the property is not there.
+     * @param dbPoolingProperties the pooling properties of the call
+     * @param aPropName           a property name
+     * @param aDefaultValue       a default value for that property, if the property is not there.
      * @return int value of that property
      */
-    protected int getPropIntValue(String aPropName, String aDefaultValue) {
+    protected int getPropIntValue(Properties dbPoolingProperties, String aPropName, String aDefaultValue) {
         int retValue;
 
         String temp = dbPoolingProperties.getProperty(aPropName, aDefaultValue);
@@ -366,11 +444,13 @@ public class DBConnectionManager {
 
     /**
      * create and start a pool cleaner if pooling is enabled.
+     *
+     * @param dbPoolingProperties the pooling properties of the call that creates the cleaner
      */
-    private void createCleaner() {
+    private void createCleaner(Properties dbPoolingProperties) {
         if (cleanerThread == null) {
             int interval = getPropIntValue
-                    (DB_DATASOURCE_CLEAN_INTERNAL_NAME,
+                    (dbPoolingProperties, DB_DATASOURCE_CLEAN_INTERNAL_NAME,
                             DB_DATASOURCE_CLEAN_INTERNAL_DEFAULT_VALUE);
 
 
@@ -411,68 +491,130 @@ public class DBConnectionManager {
     }
 
     /**
-     * @param aDbType   one of the supported db type, for example ORACLE, NETCOOL
-     * @param aDbUrl    connection url
-     * @param aUsername username to connect to db
-     * @param aPassword password to connect to db
+     * @param aDbType             one of the supported db type, for example ORACLE, NETCOOL
+     * @param aDbUrl              connection url
+     * @param aUsername           username to connect to db
+     * @param aPassword           password to connect to db
+     * @param dbPoolingProperties the pooling properties of the call, used if a datasource is created
      * @return a db Connection which is pooled
      * @throws SQLException
      */
-    protected Connection getPooledConnection(DBType aDbType, String aDbUrl, String aUsername, String aPassword) throws SQLException {
-        Connection retCon;
-
-        //key to hashtable of datasources for that dbms
+    protected Connection getPooledConnection(DBType aDbType, String aDbUrl, String aUsername, String aPassword,
+                                             Properties dbPoolingProperties) throws SQLException {
+        //key to the map of datasources for that dbms
         String dbmsKey = aDbType + "." + aDbUrl;
 
+        String encryptedPass;
+        try {
+            encryptedPass = TripleDES.encryptPassword(aPassword);
+        } catch (Exception e) {
+            throw new SQLException
+                    ("Failed to encrypt password for key = " + dbmsKey, e);
+        }
 
-        if (dbmsPoolTable.containsKey(dbmsKey)) {
+        String dsTableKey = aDbUrl + "." + aUsername + "." + encryptedPass;
 
+        while (true) {
             //each pool has pooled datasources, pool is based on dbUrl
             //so we can control the total size of connection to dbms
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsKey);
+            ConcurrentHashMap<String, DataSource> dsTable = getOrCreateDsTable(dbmsKey);
+
+            DataSource ds = dsTable.get(dsTableKey);
+            if (ds == null) {
+                //only checkouts that need a new datasource in the same pool wait
+                //on each other, everything else goes straight to the datasource
+                synchronized (dsTable) {
+                    //the cleaner retired this pool meanwhile, start over
+                    if (dbmsPoolTable.get(dbmsKey) != dsTable) {
+                        continue;
+                    }
+                    ds = dsTable.get(dsTableKey);
+                    if (ds == null) {
+                        //need to check if it is ok to create another ds
+                        ds = this.createDataSource(aDbType, aDbUrl, aUsername, aPassword, dsTable, dbPoolingProperties);
+                        //the first checkout is done before the datasource is published, so the
+                        //cleaner never sees it without connections
+                        Connection retCon = checkOutFirstConnection(ds, aUsername, aPassword, dbmsKey);
+                        dsTable.put(dsTableKey, ds);
+                        return retCon;
+                    }
+                }
+            }
 
-            String encryptedPass;
+            Connection retCon;
             try {
-                encryptedPass = TripleDES.encryptPassword(aPassword);
-            } catch (Exception e) {
-                throw new SQLException
-                        ("Failed to encrypt password for key = " + dbmsKey, e);
+                retCon = checkOutConnection(ds, aUsername, aPassword);
+            } catch (SQLException e) {
+                //the cleaner closed the datasource after it was read, start over
+                if (!isPublished(dbmsKey, dsTable, dsTableKey, ds)) {
+                    continue;
+                }
+                throw e;
             }
+            //the cleaner counts the connections and retires a datasource under the dsTable
+            //lock, so a datasource still published here keeps the connection checked out
+            if (isPublished(dbmsKey, dsTable, dsTableKey, ds)) {
+                return retCon;
+            }
+            closeQuietly(retCon);
+        }
+    }
 
-            String dsTableKey = aDbUrl + "." + aUsername + "." + encryptedPass;
-
-            DataSource ds;
-            if (dsTable.containsKey(dsTableKey)) {
-
-                ds = dsTable.get(dsTableKey);
-                retCon = ds.getConnection();
-            } else {
-
-                //need to check if it is ok to create another ds
-                ds = this.createDataSource(aDbType, aDbUrl, aUsername, aPassword, dsTable);
-                retCon = ds.getConnection();
+    /**
+     * @return if the datasource is still the one of its key, in a pool that was not retired
+     */
+    private boolean isPublished(String aDbmsKey, ConcurrentHashMap<String, DataSource> aDsTable, String aDsTableKey,
+                                DataSource aDs) {
+        synchronized (aDsTable) {
+            return dbmsPoolTable.get(aDbmsKey) == aDsTable && aDsTable.get(aDsTableKey) == aDs;
+        }
+    }
 
-                dsTable.put(dsTableKey, ds);
+    /**
+     * check out the first connection of a new datasource, the datasource is closed if it fails
+     */
+    private Connection checkOutFirstConnection(DataSource aDs, String aUsername, String aPassword, String aDbmsKey) throws SQLException {
+        try {
+            return checkOutConnection(aDs, aUsername, aPassword);
+        } catch (SQLException e) {
+            if (providerTable != null) {
+                try {
+                    this.getProvider(aDbmsKey).closePooledDataSource(aDs);
+                } catch (SQLException ignore) {
+                }
             }
-        } else//don't have dbmsKey, will create one for that dbtype.dburl
-        {
+            throw e;
+        }
+    }
 
-            //just create, don't need to check, since we don't have this dbmsKey
-            PooledDataSource ds = (PooledDataSource) this.createDataSource(aDbType, aDbUrl, aUsername, aPassword);
-            retCon = getPooledConnection(ds, aUsername, aPassword);
+    private Connection checkOutConnection(DataSource aDs, String aUsername, String aPassword) throws SQLException {
+        if (aDs instanceof PooledDataSource) {
+            return getPooledConnection((PooledDataSource) aDs, aUsername, aPassword);
+        }
+        return aDs.getConnection();
+    }
 
-            Hashtable<String, DataSource> dsTable = new Hashtable<>();
-            String encryptedPass;
-            try {
-                encryptedPass = TripleDES.encryptPassword(aPassword);
-            } catch (Exception e) {
-                throw new SQLException("Failed to encrypt password for key = " + dbmsKey, e);
+    private static void closeQuietly(Connection aConnection) {
+        try {
+            aConnection.close();
+        } catch (SQLException ignore) {
+        }
+    }
+
+    /**
+     * @param aDbmsKey a key of the form dbType + "." + dbUrl
+     * @return the datasource map of the dbms pool, registered if it was missing
+     */
+    private ConcurrentHashMap<String, DataSource> getOrCreateDsTable(String aDbmsKey) {
+        ConcurrentHashMap<String, DataSource> dsTable = dbmsPoolTable.get(aDbmsKey);
+        if (dsTable == null) {
+            ConcurrentHashMap<String, DataSource> newDsTable = new ConcurrentHashMap<>();
+            dsTable = dbmsPoolTable.putIfAbsent(aDbmsKey, newDsTable);
+            if (dsTable == null) {
+                dsTable = newDsTable;
             }
-            String dsTableKey = aDbUrl + "." + aUsername + "." + encryptedPass;
-            dsTable.put(dsTableKey, ds);
-            dbmsPoolTable.put(dbmsKey, dsTable);
         }
-        return retCon;
+        return dsTable;
     }
 
     private Connection getPooledConnection(PooledDataSource ds, String aUsername, String aPassword) throws SQLException {
@@ -509,6 +651,7 @@ public class DBConnectionManager {
      * @param aUsername username to connect to db
      * @param aPassword password to connect to db
      * @param aDsTable  is used to check if total max pool size for that dbms exceed
+     * @param dbPoolingProperties the pooling properties of the call
      * @return a pooled datasource
      * @throws SQLException
      */
@@ -516,7 +659,8 @@ public class DBConnectionManager {
                                           String aDbUrl,
                                           String aUsername,
                                           String aPassword,
-                                          Hashtable<String, DataSource> aDsTable)
+                                          Map<String, DataSource> aDsTable,
+                                          Properties dbPoolingProperties)
             throws SQLException {
         DataSource retDatasource;
 
@@ -546,10 +690,10 @@ public class DBConnectionManager {
                 break;
         }
 
-        int totalMaxPoolSize = this.getPropIntValue(totalMaxPoolSizeName,
+        int totalMaxPoolSize = this.getPropIntValue(dbPoolingProperties, totalMaxPoolSizeName,
                 MAX_TOTAL_POOL_SIZE_DEFAULT_VALUE);
         int perUserMaxPoolSize =
-                this.getPropIntValue(PooledDataSourceProvider.MAX_POOL_SIZE_NAME,
+                this.getPropIntValue(dbPoolingProperties, PooledDataSourceProvider.MAX_POOL_SIZE_NAME,
                         PooledDataSourceProvider.MAX_POOL_SIZE_DEFAULT_VALUE);
 
         int numDs = aDsTable.size();
@@ -563,7 +707,7 @@ public class DBConnectionManager {
                             " Actual total max pool size = " + actualTotal);
         }
 
-        retDatasource = this.createDataSource(aDbType, aDbUrl, aUsername, aPassword);
+        retDatasource = this.createDataSource(aDbType, aDbUrl, aUsername, aPassword, dbPoolingProperties);
 
         return retDatasource;
     }
@@ -573,25 +717,30 @@ public class DBConnectionManager {
      * @param aDbUrl    connection url
      * @param aUsername username to connect to db
      * @param aPassword password to connect to db
+     * @param dbPoolingProperties the pooling properties of the call
      * @return a pooled datasource
      * @throws SQLException
      */
-    private DataSource createDataSource(DBType aDbType, String aDbUrl, String aUsername, String aPassword) throws SQLException {
+    private DataSource createDataSource(DBType aDbType, String aDbUrl, String aUsername, String aPassword,
+                                        Properties dbPoolingProperties) throws SQLException {
         DataSource retDatasource;
         PooledDataSourceProvider provider;
 
-        if (providerTable == null) {
+        //datasources of different pools can be created concurrently
+        synchronized (this) {
+            if (providerTable == null) {
 
-            switch (aDbType) {
-                //only has one at the moment
-                default:
-                    provider = new C3P0PooledDataSourceProvider(dbPoolingProperties);
-            }
-            String name = provider.getProviderName();
-            providerTable = new Hashtable<>();
-            providerTable.put(name, provider);
+                switch (aDbType) {
+                    //only has one at the moment
+                    default:
+                        provider = new C3P0PooledDataSourceProvider(dbPoolingProperties);
+                }
+                String name = provider.getProviderName();
+                providerTable = new Hashtable<>();
+                providerTable.put(name, provider);
 
 
+            }
         }
 
         String providerName;
@@ -603,10 +752,12 @@ public class DBConnectionManager {
         provider = providerTable.get(providerName);
 
 
+        //the pooling properties of the current call, not the ones the provider was created with
         retDatasource = provider.openPooledDataSource(aDbType,
                 aDbUrl,
                 aUsername,
-                aPassword);
+                aPassword,
+                dbPoolingProperties);
 
 
         return retDatasource;
@@ -631,7 +782,7 @@ public class DBConnectionManager {
         int retTotal = 0;
 
         String dbmsPoolKey = aDbType + "." + aDbUrl;
-        Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+        Map<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
         PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
 
         if (dsTable != null) {
@@ -654,7 +805,7 @@ public class DBConnectionManager {
         int retTotal = 0;
 
         String dbmsPoolKey = aDbType + "." + aDbUrl;
-        Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+        Map<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
         PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
 
         if (dsTable != null) {
@@ -676,7 +827,7 @@ public class DBConnectionManager {
         int retTotal = 0;
 
         String dbmsPoolKey = aDbType + "." + aDbUrl;
-        Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+        Map<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
         PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
 
         if (dsTable != null) {
@@ -698,7 +849,7 @@ public class DBConnectionManager {
         Enumeration<String> allDbmsKeys = dbmsPoolTable.keys();
         while (allDbmsKeys.hasMoreElements()) {
             String dbmsPoolKey = allDbmsKeys.nextElement();
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+            Map<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
             PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
 
             if (dsTable != null) {
@@ -720,7 +871,7 @@ public class DBConnectionManager {
         Enumeration<String> allDbmsKeys = dbmsPoolTable.keys();
         while (allDbmsKeys.hasMoreElements()) {
             String dbmsPoolKey = allDbmsKeys.nextElement();
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+            Map<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
             PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
 
             if (dsTable != null) {
@@ -742,7 +893,7 @@ public class DBConnectionManager {
         Enumeration<String> allDbmsKeys = dbmsPoolTable.keys();
         while (allDbmsKeys.hasMoreElements()) {
             String dbmsPoolKey = allDbmsKeys.nextElement();
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+            Map<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
             PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
             if (dsTable != null) {
                 for (DataSource ds : dsTable.values()) {
@@ -92,6 +92,11 @@ public abstract class PooledDataSourceProvider {
     public static String CONNECTION_BREAKAFTERACQUIREFAILURE_NAME =
             "connection.break_afteracquirefailure";
     public static String CONNECTION_BREAKAFTERACQUIREFAILURE_DEFAULT_VALUE = "true";
+    //The number of prepared statements kept open by each pooled connection, the least
+    //recently used statement is closed when the cache is full. Zero disables the cache.
+    public static String CONNECTION_STATEMENT_CACHE_SIZE_NAME =
+            "connection.statement_cache_size";
+    public static String CONNECTION_STATEMENT_CACHE_SIZE_DEFAULT_VALUE = "50";
     //properties in databasePooling.properties which are specific for
     //dbtype
     //oracle
@@ -160,6 +165,24 @@ public abstract class PooledDataSourceProvider {
                                                     String aPassword)
             throws SQLException;
 
+    /**
+     * open a pooled datasource configured by the given pooling properties
+     *
+     * @param aDbType              a supported database type.
+     * @param aDbUrl               a connection url
+     * @param aUsername            a username for the database
+     * @param aPassword            a password for the database connection
+     * @param aDBPoolingProperties the pooling properties of the datasource
+     * @return a DataSource is a pooled datasource
+     * @throws SQLException
+     */
+    public abstract DataSource openPooledDataSource(DBType aDbType,
+                                                    String aDbUrl,
+                                                    String aUsername,
+                                                    String aPassword,
+                                                    Properties aDBPoolingProperties)
+            throws SQLException;
+
     /**
      * get string value based on the property name from property file
      * the property file is databasePooling.properties
@@ -169,7 +192,19 @@ public abstract class PooledDataSourceProvider {
      * @return string value of that property
      */
     protected String getPropStringValue(String aPropName, String aDefaultValue) {
-        return dbPoolingProperties.getProperty(aPropName,
+        return getPropStringValue(dbPoolingProperties, aPropName, aDefaultValue);
+    }
+
+    /**
+     * get string value based on the property name from the given pooling properties
+     *
+     * @param aDBPoolingProperties the pooling properties
+     * @param aPropName            a property name
+     * @param aDefaultValue        a default value for that property, if the property is not there.
+     * @return string value of that property
+     */
+    protected String getPropStringValue(Properties aDBPoolingProperties, String aPropName, String aDefaultValue) {
+        return aDBPoolingProperties.getProperty(aPropName,
                 aDefaultValue);
     }
 
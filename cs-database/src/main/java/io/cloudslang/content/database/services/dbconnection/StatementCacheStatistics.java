@@ -0,0 +1,93 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package io.cloudslang.content.database.services.dbconnection;
+
+import com.mchange.v2.c3p0.C3P0ProxyStatement;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the hits and misses of the prepared statement cache of the pooled connections.
+ * On a hit the pool hands out, behind a new proxy, the physical statement it prepared before. So a prepare is a hit
+ * when its physical statement was already seen and a miss otherwise. The physical statements are only weakly
+ * referenced, the ones the pool closed are forgotten.
+ */
+public class StatementCacheStatistics {
+    //adds the physical statement behind a proxy to the seen statements
+    private static final Method SET_ADD = getSetAddMethod();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final Set<Object> statements = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<Object, Boolean>()));
+
+    /**
+     * @param statement a statement prepared on a connection of the pool, other statements are not counted
+     * @return true if the statement was served from the cache
+     * @throws SQLException
+     */
+    public boolean recordPrepare(final PreparedStatement statement) throws SQLException {
+        if (!(statement instanceof C3P0ProxyStatement)) {
+            return false;
+        }
+        final boolean hit;
+        try {
+            hit = !(Boolean) ((C3P0ProxyStatement) statement).rawStatementOperation(SET_ADD, statements,
+                    new Object[]{C3P0ProxyStatement.RAW_STATEMENT});
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new SQLException(e);
+        }
+        if (hit) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return hit;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Forgets the seen statements, to be called when the pools are closed.
+     */
+    public void clear() {
+        statements.clear();
+    }
+
+    private static Method getSetAddMethod() {
+        try {
+            return Set.class.getMethod("add", Object.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
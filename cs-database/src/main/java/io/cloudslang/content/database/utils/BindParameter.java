@@ -0,0 +1,152 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+/**
+ * A typed value bound to a positional parameter (?) of a prepared statement.
+ * The value is given as type:value, where type is one of string, int, long, double, decimal, boolean,
+ * date (yyyy-mm-dd), timestamp (yyyy-mm-dd hh:mm:ss[.f...]) or null. A value without a type is a string, a string
+ * value that contains the separator must be given with the string type.
+ */
+public class BindParameter {
+    private static final String TYPE_SEPARATOR = ":";
+    private static final String STRING = "string";
+    private static final String INT = "int";
+    private static final String LONG = "long";
+    private static final String DOUBLE = "double";
+    private static final String DECIMAL = "decimal";
+    private static final String BOOLEAN = "boolean";
+    private static final String DATE = "date";
+    private static final String TIMESTAMP = "timestamp";
+    private static final String NULL = "null";
+
+    private final String type;
+    private final int sqlType;
+    private final Object value;
+
+    private BindParameter(final String type, final int sqlType, @Nullable final Object value) {
+        this.type = type;
+        this.sqlType = sqlType;
+        this.value = value;
+    }
+
+    /**
+     * @param parameter a value in the type:value format
+     * @return the typed parameter
+     * @throws IllegalArgumentException if the type is unknown or the value can't be converted to its type
+     */
+    @NotNull
+    public static BindParameter parse(@NotNull final String parameter) {
+        final int separatorIndex = parameter.indexOf(TYPE_SEPARATOR);
+        final String type = separatorIndex < 0 ? parameter.trim().toLowerCase() : parameter.substring(0, separatorIndex).trim().toLowerCase();
+        final String value = separatorIndex < 0 ? null : parameter.substring(separatorIndex + 1);
+        if (NULL.equals(type) && isEmpty(value)) {
+            return new BindParameter(NULL, Types.NULL, null);
+        }
+        if (value == null) {
+            return new BindParameter(STRING, Types.VARCHAR, parameter);
+        }
+        switch (type) {
+            case STRING:
+                return new BindParameter(STRING, Types.VARCHAR, value);
+            case INT:
+                return new BindParameter(INT, Types.INTEGER, Integer.valueOf(value.trim()));
+            case LONG:
+                return new BindParameter(LONG, Types.BIGINT, Long.valueOf(value.trim()));
+            case DOUBLE:
+                return new BindParameter(DOUBLE, Types.DOUBLE, Double.valueOf(value.trim()));
+            case DECIMAL:
+                return new BindParameter(DECIMAL, Types.DECIMAL, new BigDecimal(value.trim()));
+            case BOOLEAN:
+                if (!Boolean.TRUE.toString().equalsIgnoreCase(value.trim()) && !Boolean.FALSE.toString().equalsIgnoreCase(value.trim())) {
+                    throw new IllegalArgumentException(value);
+                }
+                return new BindParameter(BOOLEAN, Types.BOOLEAN, Boolean.valueOf(value.trim()));
+            case DATE:
+                return new BindParameter(DATE, Types.DATE, Date.valueOf(value.trim()));
+            case TIMESTAMP:
+                return new BindParameter(TIMESTAMP, Types.TIMESTAMP, Timestamp.valueOf(value.trim()));
+            default:
+                throw new IllegalArgumentException("Unknown bind parameter type: " + type);
+        }
+    }
+
+    /**
+     * @param parameters the values separated by delimiter
+     * @param delimiter  the delimiter between the values
+     * @return the typed parameters, empty if parameters is empty
+     * @throws IllegalArgumentException if a type is unknown or a value can't be converted to its type
+     */
+    @NotNull
+    public static List<BindParameter> parseAll(@Nullable final String parameters, @NotNull final String delimiter) {
+        if (isEmpty(parameters)) {
+            return Collections.emptyList();
+        }
+        final List<BindParameter> bindParameters = new ArrayList<>();
+        for (final String parameter : parameters.split(java.util.regex.Pattern.quote(delimiter), -1)) {
+            bindParameters.add(parse(parameter));
+        }
+        return bindParameters;
+    }
+
+    /**
+     * Sets the parameters on the statement, in order, starting with the first parameter.
+     */
+    public static void bindAll(@NotNull final PreparedStatement preparedStatement, @NotNull final List<BindParameter> parameters) throws SQLException {
+        for (int index = 0; index < parameters.size(); index++) {
+            parameters.get(index).bind(preparedStatement, index + 1);
+        }
+    }
+
+    public void bind(@NotNull final PreparedStatement preparedStatement, final int parameterIndex) throws SQLException {
+        if (value == null) {
+            preparedStatement.setNull(parameterIndex, sqlType);
+        } else {
+            preparedStatement.setObject(parameterIndex, value, sqlType);
+        }
+    }
+
+    public int getSqlType() {
+        return sqlType;
+    }
+
+    @Nullable
+    public Object getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return type + TYPE_SEPARATOR + (value == null ? "" : value);
+    }
+}
@@ -17,6 +17,8 @@
 
 package io.cloudslang.content.database.utils;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -25,13 +27,15 @@ import java.util.Calendar;
 import java.util.List;
 
 import static io.cloudslang.content.database.constants.DBDefaultValues.NEW_LINE;
-import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 /**
  * Created by victor on 13.01.2017.
  */
 public class Format {
     public static int colPadding = 2;
+    //maxRows value that reads the result set to the end
+    public static final int ALL_ROWS = 0;
+    private static final String SPOOL_FILE_PREFIX = "sqlQueryTabular";
 
     /**
      * Formats a result set into a table like such:
@@ -105,60 +109,121 @@ public class Format {
     private static String resultSetToTable(ResultSet result, Calendar cal, boolean checkNullTermination) throws SQLException {
         assert (result != null);
 
+        final StringWriter resultWriter = new StringWriter();
+        try {
+            resultSetToTable(result, checkNullTermination, resultWriter, ALL_ROWS, false);
+        } catch (IOException e) {
+            //a StringWriter doesn't throw
+            throw new SQLException(e);
+        }
+        return resultWriter.toString();
+    }
+
+    /**
+     * Writes the tabular form of resultSet, reading at most maxRows rows. The result set is left on the last row read.
+     * The column widths are only known after all the rows were read, so the rows are either kept in memory
+     * or, when spoolToDisk is true, in a temporary file that is deleted once the table was written.
+     *
+     * @param result               populated result set
+     * @param checkNullTermination perform the null termination check on a string (eg. netcool)
+     * @param writer               where the table is written
+     * @param maxRows              the maximum number of rows to read, ALL_ROWS to read the result set to the end
+     * @param spoolToDisk          true to keep the rows in a temporary file instead of memory
+     * @return the number of rows written
+     * @throws SQLException
+     * @throws IOException
+     */
+    public static int resultSetToTable(ResultSet result, boolean checkNullTermination, Writer writer, int maxRows,
+                                       boolean spoolToDisk) throws SQLException, IOException {
         ResultSetMetaData md = result.getMetaData();
         int nCols = md.getColumnCount();
         String[] headers = new String[nCols];
         int[] headerSz = new int[nCols]; // Note: Eclipse has a friendly getDisplaySizes() function
-        int maxWidth = 1; // maximum column width - initially set at 1 to prevent an edge case
-
-        List<String[]> rows = new ArrayList<>(); // columns
-        // This is fairly space intensive because we don't want to turn this into an O^2(n) problem
-        // instead of a O(n) problem. It's O(n) space but with a k of 2, and same with space.
-        // Ugh, stupid time-memory tradeoffs
-        // We're storing it ALL in Java data structures to figure out width of columns first, then padding later
-        // for serialization
+
         for (int colheader = 0; colheader < nCols; colheader++) {
             headers[colheader] = md.getColumnLabel(colheader + 1);
             headerSz[colheader] = headers[colheader].length();
         }
 
-        // setup columns to be width of column labels
-        while (result.next()) {
-            String[] row = new String[headers.length];
-            for (int colN = 0; colN < nCols; colN++) {
-                String colVal = getColumn(result, colN + 1, checkNullTermination);
-                headerSz[colN] = colVal.length() > headerSz[colN] ? colVal.length() : headerSz[colN];
-                row[colN] = colVal;
+        if (!spoolToDisk) {
+            // We're storing it ALL in Java data structures to figure out width of columns first, then padding later
+            // for serialization
+            final List<String[]> rows = new ArrayList<>();
+            while ((maxRows == ALL_ROWS || rows.size() < maxRows) && result.next()) {
+                rows.add(readRow(result, nCols, checkNullTermination, headerSz));
+            }
+            writeTableHeader(writer, headers, headerSz);
+            for (String[] row : rows) {
+                writeTableRow(writer, row, headerSz);
             }
-            rows.add(row);
+            return rows.size();
         }
-        // column widths set, now start populating the string builder
-        StringBuilder resultSb = new StringBuilder(headers.length * maxWidth / 2);
-        // construct the headers
-        for (int colheader = 0; colheader < nCols; colheader++) {
-            resultSb.append(headers[colheader]);
-            for (int count = 0; count < headerSz[colheader] - headers[colheader].length() + colPadding; count++)
-                resultSb.append(" ");
+
+        final File spoolFile = File.createTempFile(SPOOL_FILE_PREFIX, null);
+        try {
+            int rowCount = 0;
+            try (DataOutputStream spool = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(spoolFile)))) {
+                while ((maxRows == ALL_ROWS || rowCount < maxRows) && result.next()) {
+                    for (String value : readRow(result, nCols, checkNullTermination, headerSz)) {
+                        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                        spool.writeInt(bytes.length);
+                        spool.write(bytes);
+                    }
+                    rowCount++;
+                }
+            }
+            writeTableHeader(writer, headers, headerSz);
+            try (DataInputStream spool = new DataInputStream(new BufferedInputStream(new FileInputStream(spoolFile)))) {
+                final String[] row = new String[nCols];
+                for (int rowIdx = 0; rowIdx < rowCount; rowIdx++) {
+                    for (int col = 0; col < nCols; col++) {
+                        final byte[] bytes = new byte[spool.readInt()];
+                        spool.readFully(bytes);
+                        row[col] = new String(bytes, StandardCharsets.UTF_8);
+                    }
+                    writeTableRow(writer, row, headerSz);
+                }
+            }
+            return rowCount;
+        } finally {
+            spoolFile.delete();
         }
-        resultSb.append(NEW_LINE);
-        for (int colheader = 0; colheader < nCols; colheader++) {
-            for (int count = 0; count < headerSz[colheader]; count++)
-                resultSb.append("-");
-            for (int count = 0; count < colPadding; count++)
-                resultSb.append(" ");
+    }
+
+    private static String[] readRow(ResultSet result, int nCols, boolean checkNullTermination, int[] headerSz) throws SQLException {
+        String[] row = new String[nCols];
+        for (int colN = 0; colN < nCols; colN++) {
+            String colVal = getColumn(result, colN + 1, checkNullTermination);
+            headerSz[colN] = colVal.length() > headerSz[colN] ? colVal.length() : headerSz[colN];
+            row[colN] = colVal;
         }
-        resultSb.append(NEW_LINE);
-        // now append the data itself
-        for (String[] row : rows) {
-            for (int col = 0; col < nCols; col++) {
-                resultSb.append(row[col]);
-                for (int padIdx = 0; padIdx < headerSz[col] - row[col].length() + colPadding; padIdx++)
-                    resultSb.append(" ");
-            }
-            resultSb.append(NEW_LINE);
+        return row;
+    }
+
+    private static void writeTableHeader(Writer writer, String[] headers, int[] headerSz) throws IOException {
+        for (int colheader = 0; colheader < headers.length; colheader++) {
+            writer.append(headers[colheader]);
+            writePadding(writer, ' ', headerSz[colheader] - headers[colheader].length() + colPadding);
+        }
+        writer.append(NEW_LINE);
+        for (int colheader = 0; colheader < headers.length; colheader++) {
+            writePadding(writer, '-', headerSz[colheader]);
+            writePadding(writer, ' ', colPadding);
         }
+        writer.append(NEW_LINE);
+    }
 
-        return resultSb.toString();
+    private static void writeTableRow(Writer writer, String[] row, int[] headerSz) throws IOException {
+        for (int col = 0; col < row.length; col++) {
+            writer.append(row[col]);
+            writePadding(writer, ' ', headerSz[col] - row[col].length() + colPadding);
+        }
+        writer.append(NEW_LINE);
+    }
+
+    private static void writePadding(Writer writer, char padChar, int count) throws IOException {
+        for (int padIdx = 0; padIdx < count; padIdx++)
+            writer.append(padChar);
     }
 
     /**
@@ -172,28 +237,51 @@ public class Format {
     public static String resultSetToDelimitedColsAndRows(ResultSet resultSet, boolean checkNullTermination, String colDelimiter, String rowDelimiter) throws SQLException {
 //        assert (resultSet != null);
 
-        final StringBuilder delimitedResult = new StringBuilder();
+        final StringWriter delimitedResult = new StringWriter();
+        try {
+            resultSetToDelimitedColsAndRows(resultSet, checkNullTermination, colDelimiter, rowDelimiter, delimitedResult, ALL_ROWS);
+        } catch (IOException e) {
+            //a StringWriter doesn't throw
+            throw new SQLException(e);
+        }
+        return delimitedResult.toString();
+    }
+
+    /**
+     * Writes the rows of resultSet delimited by colDelimiter and rowDelimiter, without a trailing rowDelimiter.
+     * Only the current row is held in memory. The result set is left on the last row read.
+     *
+     * @param resultSet            populated result set
+     * @param checkNullTermination perform the null termination check on a string (eg. netcool)
+     * @param colDelimiter         the delimiter to use between columns
+     * @param rowDelimiter         the delimiter to use between rows
+     * @param writer               where the rows are written
+     * @param maxRows              the maximum number of rows to read, ALL_ROWS to read the result set to the end
+     * @return the number of rows written
+     * @throws SQLException
+     * @throws IOException
+     */
+    public static int resultSetToDelimitedColsAndRows(ResultSet resultSet, boolean checkNullTermination, String colDelimiter,
+                                                      String rowDelimiter, Writer writer, int maxRows) throws SQLException, IOException {
+        int rowCount = 0;
         if (resultSet != null) {
             final int nCols = resultSet.getMetaData()
                     .getColumnCount();
             // populate rows and cols
-            while (resultSet.next()) {
+            while ((maxRows == ALL_ROWS || rowCount < maxRows) && resultSet.next()) {
+                if (rowCount != 0) {
+                    writer.append(rowDelimiter);
+                }
                 for (int colN = 0; colN < nCols; colN++) {
                     if (colN != 0) {
-                        delimitedResult.append(colDelimiter);
+                        writer.append(colDelimiter);
                     }
-                    delimitedResult.append(getColumn(resultSet, colN + 1, checkNullTermination));
+                    writer.append(getColumn(resultSet, colN + 1, checkNullTermination));
                 }
-                delimitedResult.append(rowDelimiter);
+                rowCount++;
             }
         }
-
-        //If a multi-char delimiter is used, removing the last character is not enough
-        int length = rowDelimiter.length();
-        if ((delimitedResult.length() - length) >= 0) {
-            return delimitedResult.substring(0, delimitedResult.length() - length);
-        }
-        return EMPTY;
+        return rowCount;
     }
 
 }
@@ -0,0 +1,196 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import static io.cloudslang.content.database.utils.SQLUtils.getRowFromResultSet;
+
+/**
+ * An open forward only result set that is read one row per SQL Query iteration.
+ * The cursor owns its connection and statement, it closes them when the last row was read,
+ * when the session is released or when it was not used for longer than the idle timeout.
+ */
+public class SQLCursor implements Closeable {
+    //interval in seconds at which the idle cursors are looked up
+    private static final long IDLE_CHECK_INTERVAL = 30;
+    private static final Set<SQLCursor> OPEN_CURSORS = Collections.newSetFromMap(new ConcurrentHashMap<SQLCursor, Boolean>());
+    private static final ScheduledExecutorService IDLE_CURSOR_CLEANER = createIdleCursorCleaner();
+
+    private final Connection connection;
+    private final Statement statement;
+    private final ResultSet results;
+    private final String strColumns;
+    private final String strDelim;
+    private final boolean isNetcool;
+    private final int numCols;
+    private final long idleTimeoutMillis;
+    private volatile long lastAccess;
+    private volatile boolean expired = false;
+    //the cursor reads one row ahead, so it knows if the current row is the last one
+    private String nextRow;
+    private boolean closed = false;
+
+    /**
+     * @param connection  the connection the query was executed on
+     * @param statement   the statement of the query
+     * @param results     the result set of the query, positioned before the first row
+     * @param strColumns  the column names, separated by the delimiter
+     * @param strDelim    the delimiter to use between the values of a row
+     * @param isNetcool   true if the null terminated strings returned by Netcool must be processed
+     * @param idleTimeout seconds after which an unused cursor is closed
+     * @throws SQLException
+     */
+    public SQLCursor(@NotNull final Connection connection, @NotNull final Statement statement, @NotNull final ResultSet results,
+                     final String strColumns, final String strDelim, final boolean isNetcool, final int idleTimeout) throws SQLException {
+        this.connection = connection;
+        this.statement = statement;
+        this.results = results;
+        this.strColumns = strColumns;
+        this.strDelim = strDelim;
+        this.isNetcool = isNetcool;
+        this.numCols = results.getMetaData().getColumnCount();
+        this.idleTimeoutMillis = TimeUnit.SECONDS.toMillis(idleTimeout);
+        this.lastAccess = System.currentTimeMillis();
+        this.nextRow = readRow();
+        if (nextRow == null) {
+            close();
+        } else {
+            OPEN_CURSORS.add(this);
+        }
+    }
+
+    /**
+     * @return the next row of the result set or null if there are no more rows
+     * @throws SQLException if reading fails or the cursor was closed for being idle
+     */
+    @Nullable
+    public synchronized String next() throws SQLException {
+        if (expired) {
+            throw new SQLException("The query cursor was closed after being idle for more than " +
+                    TimeUnit.MILLISECONDS.toSeconds(idleTimeoutMillis) + " seconds.");
+        }
+        lastAccess = System.currentTimeMillis();
+        final String currentRow = nextRow;
+        if (!closed) {
+            try {
+                nextRow = readRow();
+            } catch (SQLException e) {
+                close();
+                throw e;
+            }
+            if (nextRow == null) {
+                close();
+            }
+        }
+        return currentRow;
+    }
+
+    /**
+     * @return true if another row can be read from the cursor
+     */
+    public synchronized boolean hasNext() {
+        return nextRow != null;
+    }
+
+    public String getStrColumns() {
+        return strColumns;
+    }
+
+    /**
+     * Closes the result set, the statement and gives the connection back.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        nextRow = null;
+        OPEN_CURSORS.remove(this);
+        try {
+            results.close();
+        } catch (SQLException ignored) {
+        }
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+        }
+        try {
+            //the cursor was read only, nothing to keep from the transaction
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } catch (SQLException ignored) {
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    synchronized void closeIfIdle(final long now) {
+        if (!closed && now - lastAccess > idleTimeoutMillis) {
+            expired = true;
+            close();
+        }
+    }
+
+    @Nullable
+    private String readRow() throws SQLException {
+        if (results.next()) {
+            return getRowFromResultSet(results, numCols, strDelim, isNetcool);
+        }
+        return null;
+    }
+
+    private static ScheduledExecutorService createIdleCursorCleaner() {
+        final ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(@NotNull final Runnable runnable) {
+                final Thread thread = new Thread(runnable, "sql-cursor-cleaner");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            }
+        });
+        cleaner.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                final long now = System.currentTimeMillis();
+                for (final SQLCursor cursor : OPEN_CURSORS) {
+                    cursor.closeIfIdle(now);
+                }
+            }
+        }, IDLE_CHECK_INTERVAL, IDLE_CHECK_INTERVAL, TimeUnit.SECONDS);
+        return cleaner;
+    }
+}
@@ -62,9 +62,17 @@ public class SQLInputs {
     private Integer resultSetConcurrency;
     private List<String> sqlCommands = new ArrayList<>();
     private String windowsDomain;
+    private int fetchSize;
+    private int cursorIdleTimeout;
+    private int pageSize;
+    private int pageOffset;
+    private String outputFile;
+    private String nextPageToken;
+    private int batchSize;
+    private List<BindParameter> bindParameters = new ArrayList<>();
 
     @java.beans.ConstructorProperties({"sqlCommand", "dbServer", "dbName", "dbPort", "dbType", "key", "username", "password", "authenticationType", "instance", "ignoreCase", "timeout", "dbUrl", "dbClass", "isNetcool", "lRowsFiles", "lRowsNames", "skip", "strDelim", "strColumns", "lRows", "iUpdateCount", "databasePoolingProperties", "trustStore", "trustStorePassword", "trustAllRoots", "authLibraryPath", "colDelimiter", "rowDelimiter", "resultSetType", "resultSetConcurrency", "sqlCommands"})
-    SQLInputs(String sqlCommand, String dbServer, String dbName, int dbPort, String dbType, String key, String username, String password, String authenticationType, String instance, boolean ignoreCase, int timeout, String dbUrl, String dbClass, boolean isNetcool, List<List<String>> lRowsFiles, List<List<String>> lRowsNames, long skip, String strDelim, String strColumns, List<String> lRows, int iUpdateCount, Properties databasePoolingProperties, String trustStore, String trustStorePassword, boolean trustAllRoots, String authLibraryPath, String colDelimiter, String rowDelimiter, Integer resultSetType, Integer resultSetConcurrency, List<String> sqlCommands, String windowsDomain) {
+    SQLInputs(String sqlCommand, String dbServer, String dbName, int dbPort, String dbType, String key, String username, String password, String authenticationType, String instance, boolean ignoreCase, int timeout, String dbUrl, String dbClass, boolean isNetcool, List<List<String>> lRowsFiles, List<List<String>> lRowsNames, long skip, String strDelim, String strColumns, List<String> lRows, int iUpdateCount, Properties databasePoolingProperties, String trustStore, String trustStorePassword, boolean trustAllRoots, String authLibraryPath, String colDelimiter, String rowDelimiter, Integer resultSetType, Integer resultSetConcurrency, List<String> sqlCommands, String windowsDomain, int fetchSize, int cursorIdleTimeout, int pageSize, int pageOffset, String outputFile, String nextPageToken, int batchSize, List<BindParameter> bindParameters) {
         this.sqlCommand = sqlCommand;
         this.dbServer = dbServer;
         this.dbName = dbName;
@@ -98,6 +106,14 @@ public class SQLInputs {
         this.resultSetConcurrency = resultSetConcurrency;
         this.sqlCommands = sqlCommands == null ? new ArrayList<String>() : sqlCommands;
         this.windowsDomain = windowsDomain;
+        this.fetchSize = fetchSize;
+        this.cursorIdleTimeout = cursorIdleTimeout;
+        this.pageSize = pageSize;
+        this.pageOffset = pageOffset;
+        this.outputFile = outputFile;
+        this.nextPageToken = nextPageToken;
+        this.batchSize = batchSize;
+        this.bindParameters = bindParameters == null ? new ArrayList<BindParameter>() : bindParameters;
     }
 
     public static SQLInputsBuilder builder() {
@@ -364,6 +380,70 @@ public class SQLInputs {
         return this.sqlCommands;
     }
 
+    public int getFetchSize() {
+        return this.fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public int getCursorIdleTimeout() {
+        return this.cursorIdleTimeout;
+    }
+
+    public void setCursorIdleTimeout(int cursorIdleTimeout) {
+        this.cursorIdleTimeout = cursorIdleTimeout;
+    }
+
+    public int getPageSize() {
+        return this.pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public int getPageOffset() {
+        return this.pageOffset;
+    }
+
+    public void setPageOffset(int pageOffset) {
+        this.pageOffset = pageOffset;
+    }
+
+    public String getOutputFile() {
+        return this.outputFile;
+    }
+
+    public void setOutputFile(String outputFile) {
+        this.outputFile = outputFile;
+    }
+
+    public String getNextPageToken() {
+        return this.nextPageToken;
+    }
+
+    public void setNextPageToken(String nextPageToken) {
+        this.nextPageToken = nextPageToken;
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public List<BindParameter> getBindParameters() {
+        return this.bindParameters;
+    }
+
+    public void setBindParameters(List<BindParameter> bindParameters) {
+        this.bindParameters = bindParameters;
+    }
+
     public boolean equals(Object o) {
         if (o == this) return true;
         if (!(o instanceof SQLInputs)) return false;
@@ -573,6 +653,14 @@ public class SQLInputs {
         private Integer resultSetConcurrency;
         private List<String> sqlCommands;
         private String windowsDomain;
+        private int fetchSize;
+        private int cursorIdleTimeout;
+        private int pageSize;
+        private int pageOffset;
+        private String outputFile;
+        private String nextPageToken;
+        private int batchSize;
+        private List<BindParameter> bindParameters;
 
         SQLInputsBuilder() {
         }
@@ -713,8 +801,48 @@ public class SQLInputs {
             return this;
         }
 
+        public SQLInputs.SQLInputsBuilder fetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder cursorIdleTimeout(int cursorIdleTimeout) {
+            this.cursorIdleTimeout = cursorIdleTimeout;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder pageSize(int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder pageOffset(int pageOffset) {
+            this.pageOffset = pageOffset;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder outputFile(String outputFile) {
+            this.outputFile = outputFile;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder nextPageToken(String nextPageToken) {
+            this.nextPageToken = nextPageToken;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public SQLInputs.SQLInputsBuilder bindParameters(List<BindParameter> bindParameters) {
+            this.bindParameters = bindParameters;
+            return this;
+        }
+
         public SQLInputs build() {
-            return new SQLInputs(sqlCommand, dbServer, dbName, dbPort, dbType, key, username, password, authenticationType, instance, ignoreCase, timeout, dbUrl, dbClass, isNetcool, lRowsFiles, lRowsNames, skip, strDelim, strColumns, lRows, iUpdateCount, databasePoolingProperties, trustStore, trustStorePassword, trustAllRoots, authLibraryPath, colDelimiter, rowDelimiter, resultSetType, resultSetConcurrency, sqlCommands, windowsDomain);
+            return new SQLInputs(sqlCommand, dbServer, dbName, dbPort, dbType, key, username, password, authenticationType, instance, ignoreCase, timeout, dbUrl, dbClass, isNetcool, lRowsFiles, lRowsNames, skip, strDelim, strColumns, lRows, iUpdateCount, databasePoolingProperties, trustStore, trustStorePassword, trustAllRoots, authLibraryPath, colDelimiter, rowDelimiter, resultSetType, resultSetConcurrency, sqlCommands, windowsDomain, fetchSize, cursorIdleTimeout, pageSize, pageOffset, outputFile, nextPageToken, batchSize, bindParameters);
         }
 
         public String toString() {
@@ -220,14 +220,21 @@ public class SQLInputsUtils {
         if (sqlInputs.isIgnoreCase()) {
             return SQLUtils.computeSessionId(sqlInputs.getDbServer().toLowerCase() + sqlInputs.getDbType().toLowerCase() +
                     sqlInputs.getUsername() + sqlInputs.getPassword() + sqlInputs.getInstance() + sqlInputs.getDbPort() + sqlInputs.getDbName() +
-                    sqlInputs.getAuthenticationType().toLowerCase() + sqlInputs.getSqlCommand().toLowerCase() + sqlInputs.getKey());
+                    sqlInputs.getAuthenticationType().toLowerCase() + sqlInputs.getSqlCommand().toLowerCase() + sqlInputs.getKey() +
+                    getBindParametersKey(sqlInputs));
         }
         return SQLUtils.computeSessionId(sqlInputs.getDbServer() + sqlInputs.getDbType() +
                 sqlInputs.getUsername() + sqlInputs.getPassword() + sqlInputs.getInstance() + sqlInputs.getDbPort() + sqlInputs.getDbName() +
-                sqlInputs.getAuthenticationType() + sqlInputs.getSqlCommand() + sqlInputs.getKey());
+                sqlInputs.getAuthenticationType() + sqlInputs.getSqlCommand() + sqlInputs.getKey() + getBindParametersKey(sqlInputs));
     }
 
 
+    //the same query with other bind parameters has other rows
+    @NotNull
+    private static String getBindParametersKey(@NotNull final SQLInputs sqlInputs) {
+        return sqlInputs.getBindParameters().isEmpty() ? EMPTY : sqlInputs.getBindParameters().toString();
+    }
+
     @NotNull
     public static SqlDatabase getDbClassForType(@NotNull final String dbType) {
         try {
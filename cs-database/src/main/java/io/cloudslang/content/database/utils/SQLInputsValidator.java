@@ -26,6 +26,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import static io.cloudslang.content.database.constants.DBDefaultValues.AUTH_SQL;
 import static io.cloudslang.content.database.constants.DBExceptionValues.*;
@@ -48,21 +49,28 @@ public class SQLInputsValidator {
     public static List<String> validateSqlCommandInputs(String dbServerName, String dbType, String username, String password, String instance, String dbPort,
                                                         String database, String authenticationType, String command, String trustAllRoots,
                                                         String resultSetType, String resultSetConcurrency, String trustStore,
-                                                        String trustStorePassword, String authLibraryPath) {
+                                                        String trustStorePassword, String authLibraryPath, String bindParameters,
+                                                        String bindParametersDelimiter) {
         final List<String> validationList = validateCommonSqlInputs(dbServerName, dbType, username, password, instance, dbPort, database, authenticationType, trustAllRoots, trustStore, trustStorePassword, resultSetType, resultSetConcurrency, authLibraryPath);
         validateNoneEmpty(command, INVALID_COMMAND, validationList);
+        validateBindParameters(bindParameters, bindParametersDelimiter, validationList);
         return validationList;
     }
 
     public static List<String> validateSqlQueryInputs(String dbServerName, String dbType, String username, String password,
                                                       String instance, String dbPort, String database, String authenticationType, String command,
                                                       String trustAllRoots, String trustStore, String trustStorePassword,
-                                                      String timeout, String resultSetType, String resultSetConcurrency, String ignoreCase, String authLibraryPath) {
+                                                      String timeout, String resultSetType, String resultSetConcurrency, String ignoreCase, String authLibraryPath,
+                                                      String fetchSize, String cursorIdleTimeout, String bindParameters,
+                                                      String bindParametersDelimiter) {
         final List<String> validationList = validateCommonSqlInputs(dbServerName, dbType, username, password, instance, dbPort,
                 database, authenticationType, trustAllRoots, trustStore, trustStorePassword, resultSetType, resultSetConcurrency, authLibraryPath);
         validateIgnoreCase(ignoreCase, validationList);
         validateNoneEmpty(command, INVALID_COMMAND, validationList);
         validateTimeout(timeout, validationList);
+        validateFetchSize(fetchSize, validationList);
+        validateCursorIdleTimeout(cursorIdleTimeout, validationList);
+        validateBindParameters(bindParameters, bindParametersDelimiter, validationList);
         return validationList;
     }
 
@@ -82,10 +90,13 @@ public class SQLInputsValidator {
     public static List<String> validateSqlQueryAllRowsInputs(String dbServerName, String dbType, String username, String password,
                                                              String instance, String dbPort, String database, String authenticationType, String command,
                                                              String trustAllRoots, String trustStore, String trustStorePassword,
-                                                             String timeout, String resultSetType, String resultSetConcurrency, String authLibraryPath) {
+                                                             String timeout, String resultSetType, String resultSetConcurrency, String authLibraryPath,
+                                                             String pageSize, String pageToken, String outputFile) {
         final List<String> validationList = validateCommonSqlInputs(dbServerName, dbType, username, password, instance, dbPort, database, authenticationType, trustAllRoots, trustStore, trustStorePassword, resultSetType, resultSetConcurrency, authLibraryPath);
         validateNoneEmpty(command, INVALID_COMMAND, validationList);
         validateTimeout(timeout, validationList);
+        validatePaging(pageSize, pageToken, validationList);
+        validateOutputFile(outputFile, validationList);
         return validationList;
     }
 
@@ -103,19 +114,24 @@ public class SQLInputsValidator {
     public static List<String> validateSqlQueryTabularInputs(String dbServerName, String dbType, String username, String password,
                                                              String instance, String dbPort, String database, String authenticationType, String command,
                                                              String trustAllRoots, String trustStore, String trustStorePassword,
-                                                             String timeout, String resultSetType, String resultSetConcurrency, String authLibraryPath) {
+                                                             String timeout, String resultSetType, String resultSetConcurrency, String authLibraryPath,
+                                                             String pageSize, String pageToken, String outputFile) {
         final List<String> validationList = validateCommonSqlInputs(dbServerName, dbType, username, password, instance, dbPort, database, authenticationType, trustAllRoots, trustStore, trustStorePassword, resultSetType, resultSetConcurrency, authLibraryPath);
         validateNoneEmpty(command, INVALID_COMMAND, validationList);
         validateTimeout(timeout, validationList);
+        validatePaging(pageSize, pageToken, validationList);
+        validateOutputFile(outputFile, validationList);
         return validationList;
     }
 
     public static List<String> validateSqlScriptInputs(String dbServerName, String dbType, String username, String password,
                                                        String instance, String dbPort, String database, String authenticationType, String sqlCommands, String scriptFileName,
                                                        String trustAllRoots, String trustStore, String trustStorePassword,
-                                                       String resultSetType, String resultSetConcurrency, String authLibraryPath) {
+                                                       String resultSetType, String resultSetConcurrency, String authLibraryPath,
+                                                       String batchSize) {
         final List<String> validationList = validateCommonSqlInputs(dbServerName, dbType, username, password, instance, dbPort, database, authenticationType, trustAllRoots, trustStore, trustStorePassword, resultSetType, resultSetConcurrency, authLibraryPath);
         validateMExclusivityCommands(sqlCommands, scriptFileName, validationList);
+        validateBatchSize(batchSize, validationList);
         return validationList;
     }
 
@@ -208,6 +224,55 @@ public class SQLInputsValidator {
         }
     }
 
+    private static void validateFetchSize(final String fetchSize, final List<String> validationList) {
+        if (!NumberUtilities.isValidInt(fetchSize) || NumberUtilities.toInteger(fetchSize) < 0) {
+            validationList.add(INVALID_FETCH_SIZE);
+        }
+    }
+
+    private static void validateCursorIdleTimeout(final String cursorIdleTimeout, final List<String> validationList) {
+        if (!NumberUtilities.isValidInt(cursorIdleTimeout) || NumberUtilities.toInteger(cursorIdleTimeout) <= 0) {
+            validationList.add(INVALID_CURSOR_IDLE_TIMEOUT);
+        }
+    }
+
+    private static void validatePaging(final String pageSize, final String pageToken, final List<String> validationList) {
+        if (!NumberUtilities.isValidInt(pageSize) || NumberUtilities.toInteger(pageSize) < 0) {
+            validationList.add(INVALID_PAGE_SIZE);
+        }
+        if (isNoneEmpty(pageToken) && (!NumberUtilities.isValidInt(pageToken) || NumberUtilities.toInteger(pageToken) < 0)) {
+            validationList.add(INVALID_PAGE_TOKEN);
+        }
+    }
+
+    private static void validateOutputFile(final String outputFile, final List<String> validationList) {
+        if (isNoneEmpty(outputFile)) {
+            final File parent = new File(outputFile).getAbsoluteFile().getParentFile();
+            if (parent == null || !parent.isDirectory()) {
+                validationList.add(INVALID_OUTPUT_FILE + outputFile);
+            }
+        }
+    }
+
+    private static void validateBatchSize(final String batchSize, final List<String> validationList) {
+        if (!NumberUtilities.isValidInt(batchSize) || NumberUtilities.toInteger(batchSize) < 0) {
+            validationList.add(INVALID_BATCH_SIZE);
+        }
+    }
+
+    private static void validateBindParameters(final String bindParameters, final String bindParametersDelimiter, final List<String> validationList) {
+        if (isEmpty(bindParameters)) {
+            return;
+        }
+        for (final String bindParameter : bindParameters.split(Pattern.quote(bindParametersDelimiter), -1)) {
+            try {
+                BindParameter.parse(bindParameter);
+            } catch (IllegalArgumentException e) {
+                validationList.add(String.format(INVALID_BIND_PARAMETER, bindParameter));
+            }
+        }
+    }
+
     private static void validateInstance(final String instance, final String dbType, final List<String> validationList) {
         if (isNoneEmpty(instance) && !MSSQL_DB_TYPE.equalsIgnoreCase(dbType)) {
             validationList.add(INVALID_INSTANCE);
@@ -39,6 +39,14 @@ public class SQLSessionResource extends SessionResource<Map<String, Object>> {
 
     @Override
     public void release() {
+        if (sqlConnectionMap != null) {
+            //cursors of unfinished SQL Query iterations still hold a connection
+            for (final Object value : sqlConnectionMap.values()) {
+                if (value instanceof SQLCursor) {
+                    ((SQLCursor) value).close();
+                }
+            }
+        }
         sqlConnectionMap = null;
     }
 }
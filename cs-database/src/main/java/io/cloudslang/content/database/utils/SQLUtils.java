@@ -24,6 +24,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -62,6 +66,33 @@ public class SQLUtils {
         return value;
     }
 
+    /**
+     * Formats the current row of the result set, with the values trimmed and separated by the delimiter.
+     *
+     * @param results   the result set, positioned on the row to format
+     * @param numCols   the number of columns of the result set
+     * @param delimiter the delimiter to use between the values
+     * @param isNetcool true if the null terminated strings returned by Netcool must be processed
+     * @return the row as a delimited string
+     * @throws SQLException
+     */
+    @NotNull
+    public static String getRowFromResultSet(@NotNull final ResultSet results, final int numCols, final String delimiter,
+                                             final boolean isNetcool) throws SQLException {
+        final StringBuilder strRowHolder = new StringBuilder();
+        for (int i = 1; i <= numCols; i++) {
+            if (i > 1) strRowHolder.append(delimiter);
+            if (results.getString(i) != null) {
+                String value = results.getString(i).trim();
+                if (isNetcool)
+                    value = processNullTerminatedString(value);
+
+                strRowHolder.append(value);
+            }
+        }
+        return strRowHolder.toString();
+    }
+
     /**
      * Method returning the host surrounded by square brackets if 'dbServer' is IPv6 format.
      * Otherwise the returned string will be the same.
@@ -73,6 +104,51 @@ public class SQLUtils {
         return address.getURIIPV6Literal();
     }
 
+    /**
+     * @param pageOffset the number of rows before the page
+     * @param pageSize   the number of rows of the page
+     * @return the maxRows of a statement that reads the page and one more row, to know if there is a next page.
+     * Zero, meaning no limit, if it doesn't fit in an int.
+     */
+    public static int getPageMaxRows(final int pageOffset, final int pageSize) {
+        final long maxRows = (long) pageOffset + pageSize + 1;
+        return maxRows > Integer.MAX_VALUE ? 0 : (int) maxRows;
+    }
+
+    /**
+     * Moves a result set positioned before the first row over the rows of the previous pages.
+     */
+    public static void skipRows(@NotNull final ResultSet resultSet, final int rows) throws SQLException {
+        for (int row = 0; row < rows && resultSet.next(); row++) {
+            //skip it
+        }
+    }
+
+    /**
+     * @param resultSet  the result set positioned on the last row of the page
+     * @param pageOffset the number of rows before the page
+     * @param pageSize   the number of rows of a page, zero if all the rows were read
+     * @param rowCount   the number of rows read in the page
+     * @return the token of the next page or empty if the page is the last one
+     */
+    public static String getNextPageToken(@NotNull final ResultSet resultSet, final int pageOffset, final int pageSize,
+                                          final int rowCount) throws SQLException {
+        if (pageSize > 0 && rowCount == pageSize && resultSet.next()) {
+            return String.valueOf((long) pageOffset + rowCount);
+        }
+        return EMPTY;
+    }
+
+    /**
+     * @return a writer for outputFile, encoded as UTF-8, or an in memory writer if outputFile is empty
+     */
+    public static Writer getResultWriter(final String outputFile) throws IOException {
+        if (isEmpty(outputFile)) {
+            return new StringWriter();
+        }
+        return Files.newBufferedWriter(Paths.get(outputFile), StandardCharsets.UTF_8);
+    }
+
     public static String exceptionToString(Throwable e) {
         // Print the stack trace into an in memory string
         StringWriter writer = new StringWriter();
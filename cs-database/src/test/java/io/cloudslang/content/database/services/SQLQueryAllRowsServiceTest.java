@@ -140,4 +140,51 @@ public class SQLQueryAllRowsServiceTest {
         verify(resultSetMock, Mockito.times(1)).close();
     }
 
+    @Test
+    public void testExecuteQueryAllRowsPage() throws Exception {
+        sqlInputs.setDbType(ORACLE_DB_TYPE);
+        sqlInputs.setDbPort(30);
+        sqlInputs.setDbServer("localhost");
+        sqlInputs.setDbName("/dbName");
+        sqlInputs.setRowDelimiter(",");
+        sqlInputs.setColDelimiter("|");
+        sqlInputs.setTimeout(QUYERY_TIMEOUT);
+        sqlInputs.setSqlCommand(SQL_QUERY);
+        sqlInputs.setPageSize(2);
+        sqlInputs.setPageOffset(1);
+        when(resultSetMetadataMock.getColumnCount()).thenReturn(1);
+        when(resultSetMock.next()).thenReturn(true, true, true, true, false);
+        when(resultSetMock.getString(1)).thenReturn("row2", "row3");
+        final String execQueryAllRows = SQLQueryAllRowsService.execQueryAllRows(sqlInputs);
+
+        assertEquals("row2,row3", execQueryAllRows);
+        assertEquals("3", sqlInputs.getNextPageToken());
+        verify(statementMock, Mockito.times(1)).setFetchSize(2);
+        verify(statementMock, Mockito.times(1)).setMaxRows(4);
+        verify(resultSetMock, Mockito.times(4)).next();
+        verify(resultSetMock, Mockito.times(1)).close();
+    }
+
+    @Test
+    public void testExecuteQueryAllRowsLastPage() throws Exception {
+        sqlInputs.setDbType(ORACLE_DB_TYPE);
+        sqlInputs.setDbPort(30);
+        sqlInputs.setDbServer("localhost");
+        sqlInputs.setDbName("/dbName");
+        sqlInputs.setRowDelimiter(",");
+        sqlInputs.setColDelimiter("|");
+        sqlInputs.setTimeout(QUYERY_TIMEOUT);
+        sqlInputs.setSqlCommand(SQL_QUERY);
+        sqlInputs.setPageSize(2);
+        sqlInputs.setPageOffset(2);
+        when(resultSetMetadataMock.getColumnCount()).thenReturn(1);
+        when(resultSetMock.next()).thenReturn(true, true, true, false);
+        when(resultSetMock.getString(1)).thenReturn("row3");
+        final String execQueryAllRows = SQLQueryAllRowsService.execQueryAllRows(sqlInputs);
+
+        assertEquals("row3", execQueryAllRows);
+        assertEquals("", sqlInputs.getNextPageToken());
+        verify(resultSetMock, Mockito.times(1)).close();
+    }
+
 }
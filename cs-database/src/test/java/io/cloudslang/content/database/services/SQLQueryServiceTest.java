@@ -17,6 +17,7 @@
 
 package io.cloudslang.content.database.services;
 
+import io.cloudslang.content.database.utils.SQLCursor;
 import io.cloudslang.content.database.utils.SQLInputs;
 import io.cloudslang.content.database.utils.Constants;
 import io.cloudslang.content.database.utils.InputsProcessor;
@@ -43,6 +44,9 @@ import static io.cloudslang.content.database.constants.DBOtherValues.*;
 import static io.cloudslang.content.database.utils.SQLInputsUtils.getResultSetConcurrency;
 import static io.cloudslang.content.database.utils.SQLInputsUtils.getResultSetType;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.when;
 
@@ -123,6 +127,30 @@ public class SQLQueryServiceTest {
         verify(statementMock, Mockito.times(1)).executeQuery(SQL_QUERY);
     }
 
+    @Test
+    public void testOpenSqlCursor() throws Exception {
+        sqlInputs.setDbType(POSTGRES_DB_TYPE);
+        sqlInputs.setSqlCommand(SQL_QUERY);
+        sqlInputs.setTimeout(SQL_QUERY_TIMEOUT);
+        sqlInputs.setFetchSize(100);
+        sqlInputs.setCursorIdleTimeout(600);
+        when(resultSetMock.next()).thenReturn(true, true, false);
+        when(resultSetMock.getString(Matchers.anyInt())).thenReturn("value");
+
+        final SQLCursor cursor = SQLQueryService.openSqlCursor(sqlInputs);
+
+        assertEquals("defaulLabel,defaulLabel,defaulLabel", cursor.getStrColumns());
+        assertEquals("value,value,value", cursor.next());
+        assertTrue(cursor.hasNext());
+        verify(connectionMock, Mockito.never()).close();
+        assertEquals("value,value,value", cursor.next());
+        assertFalse(cursor.hasNext());
+        assertNull(cursor.next());
+        verify(statementMock, Mockito.times(1)).setFetchSize(100);
+        verify(connectionMock, Mockito.times(1)).setAutoCommit(false);
+        verify(connectionMock, Mockito.times(1)).close();
+    }
+
     @Test
     public void testExecuteSqlQueryNoCommand() throws Exception {
         expectedEx.expect(Exception.class);
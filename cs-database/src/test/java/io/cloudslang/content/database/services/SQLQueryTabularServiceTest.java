@@ -24,6 +24,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.Matchers;
 import org.mockito.Mock;
@@ -32,6 +33,9 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -68,6 +72,8 @@ public class SQLQueryTabularServiceTest {
     private ResultSet resultSetMock;
     @Mock
     private ResultSetMetaData resultSetMetadataMock;
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     @Before
     public void setUp() throws Exception {
@@ -115,4 +121,51 @@ public class SQLQueryTabularServiceTest {
         verify(resultSetMock, Mockito.times(1)).close();
     }
 
+    @Test
+    public void testExecuteSqlQueryTabularPage() throws Exception {
+        sqlInputs.setDbType(ORACLE_DB_TYPE);
+        sqlInputs.setDbPort(30);
+        sqlInputs.setDbServer("localhost");
+        sqlInputs.setDbName("/dbName");
+        sqlInputs.setTimeout(QUYERY_TIMEOUT);
+        sqlInputs.setSqlCommand(SQL_COMMAND);
+        sqlInputs.setPageSize(1);
+        when(resultSetMetadataMock.getColumnCount()).thenReturn(1);
+        when(resultSetMetadataMock.getColumnLabel(1)).thenReturn("COL");
+        when(resultSetMock.next()).thenReturn(true, true, false);
+        when(resultSetMock.getString(1)).thenReturn("value");
+        final String execSqlQueryTabular = SQLQueryTabularService.execSqlQueryTabular(sqlInputs);
+
+        assertEquals("COL    \n-----  \nvalue  \n", execSqlQueryTabular);
+        assertEquals("1", sqlInputs.getNextPageToken());
+        verify(statementMock, Mockito.times(1)).setMaxRows(2);
+        verify(resultSetMock, Mockito.times(1)).close();
+    }
+
+    @Test
+    public void testExecuteSqlQueryTabularOutputFile() throws Exception {
+        final File outputFile = temporaryFolder.newFile("result.txt");
+        sqlInputs.setDbType(ORACLE_DB_TYPE);
+        sqlInputs.setDbPort(30);
+        sqlInputs.setDbServer("localhost");
+        sqlInputs.setDbName("/dbName");
+        sqlInputs.setTimeout(QUYERY_TIMEOUT);
+        sqlInputs.setSqlCommand(SQL_COMMAND);
+        sqlInputs.setOutputFile(outputFile.getAbsolutePath());
+        when(resultSetMetadataMock.getColumnCount()).thenReturn(2);
+        when(resultSetMetadataMock.getColumnLabel(1)).thenReturn("ID");
+        when(resultSetMetadataMock.getColumnLabel(2)).thenReturn("NAME");
+        when(resultSetMock.next()).thenReturn(true, true, false);
+        when(resultSetMock.getString(1)).thenReturn("1", "22");
+        when(resultSetMock.getString(2)).thenReturn("a", (String) null);
+        final String execSqlQueryTabular = SQLQueryTabularService.execSqlQueryTabular(sqlInputs);
+
+        assertEquals(outputFile.getAbsolutePath(), execSqlQueryTabular);
+        assertEquals("ID  NAME  \n--  ----  \n1   a     \n22  null  \n",
+                new String(Files.readAllBytes(outputFile.toPath()), StandardCharsets.UTF_8));
+        assertEquals("", sqlInputs.getNextPageToken());
+        verify(statementMock, Mockito.never()).setMaxRows(Matchers.anyInt());
+        verify(resultSetMock, Mockito.times(1)).close();
+    }
+
 }
@@ -32,14 +32,25 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 
 
 import static io.cloudslang.content.database.constants.DBOtherValues.ORACLE_DB_TYPE;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.when;
 
@@ -52,6 +63,7 @@ public class SQLScriptServiceTest {
 
     private static final int QUYERY_TIMEOUT = 10;
     public static final String SQL_COMMAND = "select * from dbTable";
+    private static final String INSERT_COMMAND = "insert into dbTable values (1)";
     private SQLInputs sqlInputs;
 
     @Mock
@@ -136,4 +148,130 @@ public class SQLScriptServiceTest {
         expectedEx.expectMessage("No SQL command to be executed.");
         SQLScriptService.executeSqlScript(new ArrayList<String>(), sqlInputs);
     }
+
+    @Test
+    public void testExecuteSqlScriptBatches() throws Exception {
+        sqlInputs.setTimeout(QUYERY_TIMEOUT);
+        sqlInputs.setBatchSize(2);
+        lines.clear();
+        lines.add(INSERT_COMMAND);
+        lines.add(INSERT_COMMAND);
+        lines.add(INSERT_COMMAND);
+        lines.add(SQL_COMMAND);
+        lines.add(INSERT_COMMAND);
+        when(statementMock.executeBatch()).thenReturn(new int[]{1, 1}, new int[]{1}, new int[]{1});
+        when(statementMock.getUpdateCount()).thenReturn(-1);
+
+        SQLScriptService.executeSqlScript(lines, sqlInputs);
+
+        assertEquals(4, sqlInputs.getIUpdateCount());
+        verify(statementMock, Mockito.times(4)).addBatch(INSERT_COMMAND);
+        verify(statementMock, Mockito.times(3)).executeBatch();
+        verify(statementMock, Mockito.times(1)).execute(SQL_COMMAND);
+        verify(connectionMock, Mockito.times(5)).commit();
+    }
+
+    @Test
+    public void testExecuteSqlScriptBatchFailure() throws Exception {
+        sqlInputs.setTimeout(QUYERY_TIMEOUT);
+        sqlInputs.setBatchSize(2);
+        lines.clear();
+        lines.add(INSERT_COMMAND);
+        lines.add(INSERT_COMMAND);
+        lines.add(INSERT_COMMAND);
+        lines.add(INSERT_COMMAND);
+        when(statementMock.executeBatch()).thenReturn(new int[]{1, 1})
+                .thenThrow(new BatchUpdateException("duplicate key", new int[]{1}));
+
+        expectedEx.expect(SQLException.class);
+        expectedEx.expectMessage("Statement 4 of the script failed, the first 2 statements were committed: duplicate key");
+        try {
+            SQLScriptService.executeSqlScript(lines, sqlInputs);
+        } finally {
+            verify(connectionMock, Mockito.times(1)).commit();
+            verify(connectionMock, Mockito.times(1)).rollback();
+        }
+    }
+
+    /**
+     * Inserts the same rows with batches of 1, 100 and 1000 statements and checks the batches sent to the database.
+     */
+    @Test
+    public void testExecuteSqlScriptBatchSizes() throws Exception {
+        final int rows = 250;
+        final List<String> inserts = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            inserts.add("INSERT INTO batch_test VALUES (" + row + ", 'row " + row + "')");
+        }
+        final int[][] expectedBatches = {null, {100, 100, 50}, {250}};
+        final int[] batchSizes = {1, 100, 1000};
+        for (int i = 0; i < batchSizes.length; i++) {
+            final int batchSize = batchSizes[i];
+            final Connection connection = DriverManager.getConnection("jdbc:h2:mem:batch" + batchSize + ";DB_CLOSE_DELAY=-1");
+            try (final Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE batch_test (id INT PRIMARY KEY, name VARCHAR(20))");
+            }
+            final List<Integer> batches = new ArrayList<>();
+            when(connectionServiceMock.setUpConnection(sqlInputs)).thenReturn(recordBatches(connection, batches));
+            sqlInputs.setResultSetType(ResultSet.TYPE_FORWARD_ONLY);
+            sqlInputs.setResultSetConcurrency(ResultSet.CONCUR_READ_ONLY);
+            sqlInputs.setBatchSize(batchSize);
+
+            SQLScriptService.executeSqlScript(inserts, sqlInputs);
+
+            assertEquals(rows, sqlInputs.getIUpdateCount());
+            if (expectedBatches[i] == null) {
+                assertEquals(rows, batches.size());
+                assertEquals(Collections.singleton(1), new HashSet<>(batches));
+            } else {
+                assertEquals(expectedBatches[i].length, batches.size());
+                for (int batch = 0; batch < expectedBatches[i].length; batch++) {
+                    assertEquals(expectedBatches[i][batch], batches.get(batch).intValue());
+                }
+            }
+            try (final Connection check = DriverManager.getConnection("jdbc:h2:mem:batch" + batchSize);
+                 final Statement statement = check.createStatement();
+                 final ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM batch_test")) {
+                resultSet.next();
+                assertEquals(rows, resultSet.getInt(1));
+                statement.execute("DROP ALL OBJECTS");
+            }
+        }
+    }
+
+    /**
+     * @return the connection, whose statements add the number of statements of every batch they run to batches
+     */
+    private static Connection recordBatches(final Connection connection, final List<Integer> batches) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class[]{Connection.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        final Object result = invokeTarget(connection, method, args);
+                        if (!(result instanceof Statement)) {
+                            return result;
+                        }
+                        final Statement statement = (Statement) result;
+                        return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class[]{Statement.class},
+                                new InvocationHandler() {
+                                    @Override
+                                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                                        final Object result = invokeTarget(statement, method, args);
+                                        if ("executeBatch".equals(method.getName())) {
+                                            batches.add(((int[]) result).length);
+                                        }
+                                        return result;
+                                    }
+                                });
+                    }
+                });
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
 }
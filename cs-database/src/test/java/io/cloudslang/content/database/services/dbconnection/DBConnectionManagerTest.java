@@ -27,6 +27,8 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
@@ -34,9 +36,21 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
 import static org.mockito.Matchers.any;
@@ -95,7 +109,7 @@ public class DBConnectionManagerTest {
         dbcManager = DBConnectionManager.getInstance();
         assertNotNull(dbcManager);
         assertEquals(false, dbcManager.isPoolingEnabled);
-        assertNull(dbcManager.dbmsPoolTable);
+        assertTrue(dbcManager.dbmsPoolTable.isEmpty());
     }
 
     /**
@@ -111,7 +125,7 @@ public class DBConnectionManagerTest {
         DBConnectionManager dbcManager = DBConnectionManager.getInstance();
         assertNotNull(dbcManager);
         assertFalse(dbcManager.isPoolingEnabled);
-        assertNull(dbcManager.dbmsPoolTable);
+        assertTrue(dbcManager.dbmsPoolTable.isEmpty());
     }
 
     /**
@@ -125,7 +139,7 @@ public class DBConnectionManagerTest {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         Connection connMock = mock(Connection.class);
         doReturn(connMock).when(dbcManagerSpy).getPooledConnection(any(DBType.class)
-                , any(String.class), any(String.class), any(String.class));
+                , any(String.class), any(String.class), any(String.class), any(Properties.class));
         dbcManagerSpy.getConnection(DBType.DB2, EMPTY_STRING, DB_URL, DHARMA_USER, DHARMA_PASSWORD, getPoolingProperties());
 
         doNothing().when(dbcManagerSpy).shutdownDbmsPools();
@@ -203,11 +217,11 @@ public class DBConnectionManagerTest {
         aDbType = DBType.MYSQL;
         Connection connMock = mock(Connection.class);
         doReturn(connMock).when(dbcManagerSpy).getPooledConnection(any(DBType.class)
-                , any(String.class), any(String.class), any(String.class));
+                , any(String.class), any(String.class), any(String.class), any(Properties.class));
 
         Connection connection = dbcManagerSpy.getConnection(aDbType, EMPTY_STRING, DB_URL, DHARMA_USER, DHARMA_PASSWORD, getPoolingProperties());
         verify(dbcManagerSpy, times(1)).getPooledConnection(any(DBType.class)
-                , any(String.class), any(String.class), any(String.class));
+                , any(String.class), any(String.class), any(String.class), any(Properties.class));
         assertEquals(connMock, connection);
     }
 
@@ -240,7 +254,7 @@ public class DBConnectionManagerTest {
     public void testCleanDataSources() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable = getHashTableObject1(dataSourceMock);
+        ConcurrentHashMap<String, ConcurrentHashMap<String, DataSource>> dbmsPoolTable = getHashTableObject1(dataSourceMock);
 
         Hashtable<String, PooledDataSourceProvider> providerTable = new Hashtable<>();
         PooledDataSourceProvider dataSourceProviderMock = mock(PooledDataSourceProvider.class);
@@ -248,14 +262,36 @@ public class DBConnectionManagerTest {
         doNothing().when(dataSourceProviderMock).closePooledDataSource(any(DataSource.class));
         providerTable.put(C3P0PooledDataSourceProvider.C3P0_DATASOURCE_PROVIDER_NAME, dataSourceProviderMock);
         dbcManagerSpy.providerTable = providerTable;
-        dbcManagerSpy.dbmsPoolTable = dbmsPoolTable;
+        dbcManagerSpy.dbmsPoolTable.putAll(dbmsPoolTable);
 
         dbcManagerSpy.cleanDataSources();
-        verify(dataSourceMock, times(1)).getNumConnectionsAllUsers();
+        //counted once to find it, once more under the pool lock before it is removed
+        verify(dataSourceMock, times(2)).getNumConnectionsAllUsers();
         verify(dataSourceProviderMock, times(1)).closePooledDataSource(any(DataSource.class));
         assertTrue(dbcManagerSpy.dbmsPoolTable.isEmpty());
     }
 
+    /**
+     * Test cleanDataSources() keeps a datasource that got a connection after it was counted.
+     *
+     * @throws java.sql.SQLException
+     */
+    @Test
+    public void testCleanDataSourcesKeepsDataSourceInUse() throws SQLException {
+        DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
+        PooledDataSource dataSourceMock = mock(PooledDataSource.class);
+        dbcManagerSpy.dbmsPoolTable.putAll(getHashTableObject1(dataSourceMock));
+        doReturn(0).doReturn(1).when(dataSourceMock).getNumConnectionsAllUsers();
+        Hashtable<String, PooledDataSourceProvider> providerTable = new Hashtable<>();
+        PooledDataSourceProvider dataSourceProviderMock = mock(PooledDataSourceProvider.class);
+        providerTable.put(C3P0PooledDataSourceProvider.C3P0_DATASOURCE_PROVIDER_NAME, dataSourceProviderMock);
+        dbcManagerSpy.providerTable = providerTable;
+
+        dbcManagerSpy.cleanDataSources();
+        verify(dataSourceProviderMock, never()).closePooledDataSource(any(DataSource.class));
+        assertEquals(1, dbcManagerSpy.dbmsPoolTable.size());
+    }
+
     /**
      * Test shutdownDbmsPools().
      *
@@ -265,7 +301,7 @@ public class DBConnectionManagerTest {
     public void testShutDownDbmsPools() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject1(dataSourceMock);
+        dbcManagerSpy.dbmsPoolTable.putAll(getHashTableObject1(dataSourceMock));
         Hashtable<String, PooledDataSourceProvider> providerTable = new Hashtable<>();
         PooledDataSourceProvider dataSourceProviderMock = mock(PooledDataSourceProvider.class);
         doNothing().when(dataSourceProviderMock).closePooledDataSource(any(DataSource.class));
@@ -273,12 +309,12 @@ public class DBConnectionManagerTest {
         dbcManagerSpy.providerTable = providerTable;
         Connection connMock = mock(Connection.class);
         doReturn(connMock).when(dbcManagerSpy).getPooledConnection(any(DBType.class)
-                , any(String.class), any(String.class), any(String.class));
+                , any(String.class), any(String.class), any(String.class), any(Properties.class));
         dbcManagerSpy.getConnection(DBType.DB2, EMPTY_STRING, DB_URL, DHARMA_USER, DHARMA_PASSWORD, getPoolingProperties());
 
         dbcManagerSpy.shutdownDbmsPools();
         verify(dataSourceProviderMock, times(1)).closePooledDataSource(any(DataSource.class));
-        assertNull(dbcManagerSpy.dbmsPoolTable);
+        assertTrue(dbcManagerSpy.dbmsPoolTable.isEmpty());
     }
 
     /**
@@ -289,9 +325,8 @@ public class DBConnectionManagerTest {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         Properties propsMock = mock(Properties.class);
         doReturn(TRUE).when(propsMock).getProperty(anyString(), anyString());
-        dbcManagerSpy.dbPoolingProperties = propsMock;
 
-        assertTrue(dbcManagerSpy.getPropBooleanValue("db.pooling.enable", FALSE));
+        assertTrue(dbcManagerSpy.getPropBooleanValue(propsMock, "db.pooling.enable", FALSE));
     }
 
     /**
@@ -302,9 +337,8 @@ public class DBConnectionManagerTest {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         Properties propsMock = mock(Properties.class);
         doReturn("invalidBooleanValue").when(propsMock).getProperty(any(String.class), any(String.class));
-        dbcManagerSpy.dbPoolingProperties = propsMock;
 
-        assertFalse(dbcManagerSpy.getPropBooleanValue("db.pooling.enable", FALSE));
+        assertFalse(dbcManagerSpy.getPropBooleanValue(propsMock, "db.pooling.enable", FALSE));
     }
 
     /**
@@ -315,9 +349,8 @@ public class DBConnectionManagerTest {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         Properties propsMock = mock(Properties.class);
         doReturn("8000").when(propsMock).getProperty(anyString(), anyString());
-        dbcManagerSpy.dbPoolingProperties = propsMock;
 
-        assertEquals(8000, dbcManagerSpy.getPropIntValue("db.datasource.clean.interval", "7200"));
+        assertEquals(8000, dbcManagerSpy.getPropIntValue(propsMock, "db.datasource.clean.interval", "7200"));
     }
 
     /**
@@ -331,12 +364,12 @@ public class DBConnectionManagerTest {
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
         Connection connMock = mock(Connection.class);
         doReturn(connMock).when(dataSourceMock).getConnection();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject2(dataSourceMock, connMock);
+        dbcManagerSpy.dbmsPoolTable.putAll(getHashTableObject2(dataSourceMock, connMock));
 
         PowerMockito.mockStatic(TripleDES.class);
         Mockito.when(TripleDES.encryptPassword(any(String.class))).thenReturn(ENCRYPTED_PASS);
 
-        assertEquals(connMock, dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD));
+        assertEquals(connMock, dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD, getPoolingProperties()));
         verify(dataSourceMock, times(1)).getConnection();
     }
 
@@ -350,14 +383,14 @@ public class DBConnectionManagerTest {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
         Connection connMock = mock(Connection.class);
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable = getHashTableObject2(dataSourceMock, connMock);
-        dbcManagerSpy.dbmsPoolTable = dbmsPoolTable;
+        ConcurrentHashMap<String, ConcurrentHashMap<String, DataSource>> dbmsPoolTable = getHashTableObject2(dataSourceMock, connMock);
+        dbcManagerSpy.dbmsPoolTable.putAll(dbmsPoolTable);
         PowerMockito.mockStatic(TripleDES.class);
         Mockito.when(TripleDES.encryptPassword(any(String.class))).thenThrow(new Exception("encryption failed"));
 
         exception.expect(Exception.class);
         exception.expectMessage("Failed to encrypt password for key = ");
-        dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD);
+        dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD, getPoolingProperties());
     }
 
     /**
@@ -371,17 +404,202 @@ public class DBConnectionManagerTest {
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
         Connection connMock = mock(Connection.class);
         doReturn(connMock).when(dataSourceMock).getConnection();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject2(dataSourceMock, connMock);
+        dbcManagerSpy.dbmsPoolTable.putAll(getHashTableObject2(dataSourceMock, connMock));
         doReturn(dataSourceMock).when(dbcManagerSpy).createDataSource(any(DBType.class)
-                , anyString(), anyString(), anyString(), any(Hashtable.class));
+                , anyString(), anyString(), anyString(), any(Map.class), any(Properties.class));
 
         PowerMockito.mockStatic(TripleDES.class);
         Mockito.when(TripleDES.encryptPassword(any(String.class))).thenReturn(ENCRYPTED_PASS);
 
-        assertEquals(connMock, dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD));
+        assertEquals(connMock, dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD, getPoolingProperties()));
         verify(dataSourceMock, times(1)).getConnection();
         verify(dbcManagerSpy.createDataSource(any(DBType.class)
-                , anyString(), anyString(), anyString(), any(Hashtable.class)), times(1));
+                , anyString(), anyString(), anyString(), any(Map.class), any(Properties.class)), times(1));
+    }
+
+    /**
+     * Test method getPooledConnection(...) with a datasource that the cleaner closes after it was read.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetPooledConnectionRetriesClosedDataSource() throws Exception {
+        DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
+        final PooledDataSource closedDataSourceMock = mock(PooledDataSource.class);
+        PooledDataSource dataSourceMock = mock(PooledDataSource.class);
+        Connection connMock = mock(Connection.class);
+        dbcManagerSpy.dbmsPoolTable.putAll(getHashTableObject2(closedDataSourceMock, connMock));
+        final Map<String, DataSource> dsTable = dbcManagerSpy.dbmsPoolTable.get(DBType.MYSQL + "." + DB_URL);
+        doAnswer(new Answer<Connection>() {
+            @Override
+            public Connection answer(InvocationOnMock invocation) throws Throwable {
+                //the cleaner retires the datasource before the checkout reaches it
+                dsTable.clear();
+                throw new SQLException("The datasource is closed");
+            }
+        }).when(closedDataSourceMock).getConnection();
+        doReturn(connMock).when(dataSourceMock).getConnection();
+        doReturn(dataSourceMock).when(dbcManagerSpy).createDataSource(any(DBType.class)
+                , anyString(), anyString(), anyString(), any(Map.class), any(Properties.class));
+        PowerMockito.mockStatic(TripleDES.class);
+        Mockito.when(TripleDES.encryptPassword(any(String.class))).thenReturn(ENCRYPTED_PASS);
+
+        assertEquals(connMock, dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD, getPoolingProperties()));
+        verify(dataSourceMock, times(1)).getConnection();
+        assertSame(dataSourceMock, dsTable.get(DB_URL + "." + DHARMA_USER + "." + ENCRYPTED_PASS));
+    }
+
+    /**
+     * Test that the pooling properties of a call decide the pooling of that call only.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetConnectionUsesPoolingPropertiesOfTheCall() throws Exception {
+        DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
+        Connection pooledConnMock = mock(Connection.class);
+        Connection plainConnMock = mock(Connection.class);
+        doReturn(pooledConnMock).when(dbcManagerSpy).getPooledConnection(any(DBType.class)
+                , any(String.class), any(String.class), any(String.class), any(Properties.class));
+        doReturn(plainConnMock).when(dbcManagerSpy).getPlainConnection(anyString(), anyString(), anyString());
+        Properties noPoolingProperties = new Properties();
+        noPoolingProperties.put("db.pooling.enable", FALSE);
+        Properties poolingProperties = getPoolingProperties();
+
+        try {
+            assertEquals(pooledConnMock, dbcManagerSpy.getConnection(DBType.MYSQL, EMPTY_STRING, DB_URL, DHARMA_USER,
+                    DHARMA_PASSWORD, poolingProperties));
+            assertEquals(plainConnMock, dbcManagerSpy.getConnection(DBType.MYSQL, EMPTY_STRING, DB_URL, DHARMA_USER,
+                    DHARMA_PASSWORD, noPoolingProperties));
+            verify(dbcManagerSpy, times(1)).getPooledConnection(any(DBType.class)
+                    , any(String.class), any(String.class), any(String.class), same(poolingProperties));
+        } finally {
+            dbcManagerSpy.shutdownDbmsPools();
+        }
+    }
+
+    /**
+     * Test concurrent checkouts against two databases, each pool must get a single datasource.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetPooledConnectionConcurrently() throws Exception {
+        PowerMockito.mockStatic(TripleDES.class);
+        Mockito.when(TripleDES.encryptPassword(any(String.class))).thenReturn(ENCRYPTED_PASS);
+        final DBConnectionManager dbcManager = DBConnectionManager.getInstance();
+        final Properties poolingProperties = getPoolingProperties();
+        final String[] dbUrls = {"jdbc:h2:mem:concurrentCheckout1", "jdbc:h2:mem:concurrentCheckout2"};
+        final int threadCount = 8;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Future<Boolean>> results = new ArrayList<>();
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            for (int i = 0; i < threadCount; i++) {
+                final String dbUrl = dbUrls[i % dbUrls.length];
+                results.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() throws Exception {
+                        startLatch.await();
+                        try (Connection connection = dbcManager.getConnection(DBType.CUSTOM, EMPTY_STRING, dbUrl,
+                                DHARMA_USER, DHARMA_PASSWORD, poolingProperties)) {
+                            return connection.isValid(5);
+                        }
+                    }
+                }));
+            }
+            startLatch.countDown();
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(60, TimeUnit.SECONDS));
+            }
+
+            assertEquals(2, dbcManager.getDbmsPoolSize());
+            for (String dbUrl : dbUrls) {
+                assertEquals(1, dbcManager.dbmsPoolTable.get(DBType.CUSTOM + "." + dbUrl).size());
+            }
+        } finally {
+            executor.shutdownNow();
+            dbcManager.shutdownDbmsPools();
+        }
+    }
+
+    /**
+     * Test that the pooling properties of the call configure the statement cache of a new datasource,
+     * whatever the properties of the datasources created before it.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPrepareStatementCacheUsesCallProperties() throws Exception {
+        PowerMockito.mockStatic(TripleDES.class);
+        Mockito.when(TripleDES.encryptPassword(any(String.class))).thenReturn(ENCRYPTED_PASS);
+        final DBConnectionManager dbcManager = DBConnectionManager.getInstance();
+        final String dbUrl = "jdbc:h2:mem:statementCache" + System.nanoTime();
+        final Properties poolingProperties = getPoolingProperties();
+        poolingProperties.setProperty(PooledDataSourceProvider.MAX_POOL_SIZE_NAME, "1");
+        poolingProperties.setProperty(PooledDataSourceProvider.CONNECTION_STATEMENT_CACHE_SIZE_NAME, "5");
+        try {
+            //a datasource created before with the statement cache disabled must not disable it for the next one
+            final Properties noCacheProperties = getPoolingProperties();
+            noCacheProperties.setProperty(PooledDataSourceProvider.CONNECTION_STATEMENT_CACHE_SIZE_NAME, "0");
+            dbcManager.getConnection(DBType.CUSTOM, EMPTY_STRING, dbUrl + "NoCache", DHARMA_USER, DHARMA_PASSWORD,
+                    noCacheProperties).close();
+            final long hits = dbcManager.getStatementCacheHits();
+            final long misses = dbcManager.getStatementCacheMisses();
+            for (int i = 0; i < 3; i++) {
+                try (Connection connection = dbcManager.getConnection(DBType.CUSTOM, EMPTY_STRING, dbUrl,
+                        DHARMA_USER, DHARMA_PASSWORD, poolingProperties);
+                     PreparedStatement preparedStatement = dbcManager.prepareStatement(connection, "SELECT ? FROM DUAL",
+                             ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    preparedStatement.setInt(1, i);
+                    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                        assertTrue(resultSet.next());
+                        assertEquals(i, resultSet.getInt(1));
+                    }
+                }
+            }
+            final PooledDataSource dataSource = (PooledDataSource) dbcManager.dbmsPoolTable
+                    .get(DBType.CUSTOM + "." + dbUrl).values().iterator().next();
+            assertEquals(1, dataSource.getNumConnectionsAllUsers());
+            assertEquals(1, dataSource.getStatementCacheNumStatementsAllUsers());
+            //prepared once, then served twice from the cache
+            assertEquals(misses + 1, dbcManager.getStatementCacheMisses());
+            assertEquals(hits + 2, dbcManager.getStatementCacheHits());
+        } finally {
+            dbcManager.shutdownDbmsPools();
+        }
+    }
+
+    /**
+     * Test that every prepare on a pool without a statement cache is counted as a miss.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPrepareStatementWithoutCacheCountsMisses() throws Exception {
+        PowerMockito.mockStatic(TripleDES.class);
+        Mockito.when(TripleDES.encryptPassword(any(String.class))).thenReturn(ENCRYPTED_PASS);
+        final DBConnectionManager dbcManager = DBConnectionManager.getInstance();
+        final String dbUrl = "jdbc:h2:mem:noStatementCache" + System.nanoTime();
+        final Properties poolingProperties = getPoolingProperties();
+        poolingProperties.setProperty(PooledDataSourceProvider.MAX_POOL_SIZE_NAME, "1");
+        poolingProperties.setProperty(PooledDataSourceProvider.CONNECTION_STATEMENT_CACHE_SIZE_NAME, "0");
+        try {
+            final long hits = dbcManager.getStatementCacheHits();
+            final long misses = dbcManager.getStatementCacheMisses();
+            for (int i = 0; i < 2; i++) {
+                try (Connection connection = dbcManager.getConnection(DBType.CUSTOM, EMPTY_STRING, dbUrl,
+                        DHARMA_USER, DHARMA_PASSWORD, poolingProperties);
+                     PreparedStatement preparedStatement = dbcManager.prepareStatement(connection, "SELECT 1 FROM DUAL",
+                             ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    preparedStatement.executeQuery().close();
+                }
+            }
+            assertEquals(misses + 2, dbcManager.getStatementCacheMisses());
+            assertEquals(hits, dbcManager.getStatementCacheHits());
+        } finally {
+            dbcManager.shutdownDbmsPools();
+        }
     }
 
     /**
@@ -392,7 +610,7 @@ public class DBConnectionManagerTest {
     @Test
     public void testGetConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
+        dbcManagerSpy.dbmsPoolTable.putAll(getHashTableObject3());
         Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         doReturn(10).when(providerMock).getAllConnectionNumber(any(DataSource.class));
@@ -411,7 +629,7 @@ public class DBConnectionManagerTest {
     @Test
     public void testGetCheckedOutConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
+        dbcManagerSpy.dbmsPoolTable.putAll(getHashTableObject3());
         Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         setUpPooledDataSourceProviderMockForCheckedOutConnectionNumber(providerTableMock, providerMock);
@@ -429,7 +647,7 @@ public class DBConnectionManagerTest {
     @Test
     public void testGetCheckedInConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
+        dbcManagerSpy.dbmsPoolTable.putAll(getHashTableObject3());
         Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         setUpPooledDataSourceProviderMockForCheckedInConnectionNumber(providerTableMock, providerMock);
@@ -447,7 +665,7 @@ public class DBConnectionManagerTest {
     @Test
     public void testGetTotalConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
+        dbcManagerSpy.dbmsPoolTable.putAll(getHashTableObject3());
         Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         doReturn(10).when(providerMock).getAllConnectionNumber(any(DataSource.class));
@@ -466,7 +684,7 @@ public class DBConnectionManagerTest {
     @Test
     public void testGetTotalCheckedOutConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
+        dbcManagerSpy.dbmsPoolTable.putAll(getHashTableObject3());
         Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         setUpPooledDataSourceProviderMockForCheckedOutConnectionNumber(providerTableMock, providerMock);
@@ -484,7 +702,7 @@ public class DBConnectionManagerTest {
     @Test
     public void testGetTotalCheckedInConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
+        dbcManagerSpy.dbmsPoolTable.putAll(getHashTableObject3());
         Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         setUpPooledDataSourceProviderMockForCheckedInConnectionNumber(providerTableMock, providerMock);
@@ -569,32 +787,32 @@ public class DBConnectionManagerTest {
         return dbPoolingPropertiesMock;
     }
 
-    private Hashtable getHashTableObject1(PooledDataSource dataSourceMock) throws SQLException {
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable
-                = new Hashtable<String, Hashtable<String, DataSource>>();
+    private ConcurrentHashMap<String, ConcurrentHashMap<String, DataSource>> getHashTableObject1(PooledDataSource dataSourceMock) throws SQLException {
+        ConcurrentHashMap<String, ConcurrentHashMap<String, DataSource>> dbmsPoolTable
+                = new ConcurrentHashMap<String, ConcurrentHashMap<String, DataSource>>();
         String tableKey1 = "key1";
-        Hashtable<String, DataSource> hashTable1 = new Hashtable<String, DataSource>();
+        ConcurrentHashMap<String, DataSource> hashTable1 = new ConcurrentHashMap<String, DataSource>();
         doReturn(0).when(dataSourceMock).getNumConnectionsAllUsers();
         hashTable1.put(tableKey1, dataSourceMock);
         dbmsPoolTable.put(tableKey1, hashTable1);
         return dbmsPoolTable;
     }
 
-    private Hashtable<String, Hashtable<String, DataSource>> getHashTableObject2(PooledDataSource dataSourceMock, Connection connMock) throws SQLException {
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable = new Hashtable<>();
+    private ConcurrentHashMap<String, ConcurrentHashMap<String, DataSource>> getHashTableObject2(PooledDataSource dataSourceMock, Connection connMock) throws SQLException {
+        ConcurrentHashMap<String, ConcurrentHashMap<String, DataSource>> dbmsPoolTable = new ConcurrentHashMap<>();
         String dsTableKey = DB_URL + "." + DHARMA_USER + "." + ENCRYPTED_PASS;
         String tableKey1 = DBType.MYSQL + "." + DB_URL;
-        Hashtable<String, DataSource> hashTable1 = new Hashtable<String, DataSource>();
+        ConcurrentHashMap<String, DataSource> hashTable1 = new ConcurrentHashMap<String, DataSource>();
         doReturn(connMock).when(dataSourceMock).getConnection();
         hashTable1.put(dsTableKey, dataSourceMock);
         dbmsPoolTable.put(tableKey1, hashTable1);
         return dbmsPoolTable;
     }
 
-    private Hashtable<String, Hashtable<String, DataSource>> getHashTableObject3() {
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable
-                = new Hashtable<String, Hashtable<String, DataSource>>();
-        Hashtable<String, DataSource> hashTable = new Hashtable<String, DataSource>();
+    private ConcurrentHashMap<String, ConcurrentHashMap<String, DataSource>> getHashTableObject3() {
+        ConcurrentHashMap<String, ConcurrentHashMap<String, DataSource>> dbmsPoolTable
+                = new ConcurrentHashMap<String, ConcurrentHashMap<String, DataSource>>();
+        ConcurrentHashMap<String, DataSource> hashTable = new ConcurrentHashMap<String, DataSource>();
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
         String dbmsPoolKey = DBType.MYSQL + "." + DB_URL;
         hashTable.put("key", dataSourceMock);
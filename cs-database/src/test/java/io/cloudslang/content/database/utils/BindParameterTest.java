@@ -0,0 +1,87 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class BindParameterTest {
+
+    @Test
+    public void testParseTypes() {
+        assertEquals(42, BindParameter.parse("int:42").getValue());
+        assertEquals(42L, BindParameter.parse("long: 42").getValue());
+        assertEquals(1.5d, BindParameter.parse("double:1.5").getValue());
+        assertEquals(new BigDecimal("10.25"), BindParameter.parse("DECIMAL:10.25").getValue());
+        assertEquals(true, BindParameter.parse("boolean:true").getValue());
+        assertEquals(Date.valueOf("2019-01-31"), BindParameter.parse("date:2019-01-31").getValue());
+        assertEquals(Timestamp.valueOf("2019-01-31 10:20:30"), BindParameter.parse("timestamp:2019-01-31 10:20:30").getValue());
+        assertEquals("int:42", BindParameter.parse("string:int:42").getValue());
+        assertEquals(Types.VARCHAR, BindParameter.parse("string:int:42").getSqlType());
+    }
+
+    @Test
+    public void testParseUntypedValues() {
+        assertEquals("John", BindParameter.parse("John").getValue());
+        assertEquals("a:b", BindParameter.parse("string:a:b").getValue());
+        final BindParameter nullParameter = BindParameter.parse("null");
+        assertNull(nullParameter.getValue());
+        assertEquals(Types.NULL, nullParameter.getSqlType());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseUnknownType() {
+        BindParameter.parse("integer:42");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseInvalidInt() {
+        BindParameter.parse("int:abc");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseInvalidBoolean() {
+        BindParameter.parse("boolean:yes");
+    }
+
+    @Test
+    public void testParseAllAndBind() throws Exception {
+        assertTrue(BindParameter.parseAll("", ",").isEmpty());
+        final List<BindParameter> parameters = BindParameter.parseAll("int:1||null", "|");
+        assertEquals(3, parameters.size());
+        assertEquals("int:1|string:|null:", parameters.get(0) + "|" + parameters.get(1) + "|" + parameters.get(2));
+
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        BindParameter.bindAll(preparedStatement, parameters);
+        verify(preparedStatement).setObject(1, 1, Types.INTEGER);
+        verify(preparedStatement).setObject(2, "", Types.VARCHAR);
+        verify(preparedStatement).setNull(3, Types.NULL);
+    }
+}
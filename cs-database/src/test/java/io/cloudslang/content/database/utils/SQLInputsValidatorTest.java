@@ -41,72 +41,74 @@ public class SQLInputsValidatorTest {
     public void validateSqlCommandInputsValid() throws Exception {
         final List<String> validationList = validateSqlCommandInputs("1", MSSQL_DB_TYPE, "username",
                 "Password", "someInstance", "123", "database", AUTH_SQL, "Command",
-                "true", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY, EMPTY, EMPTY);
+                "true", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY, EMPTY, EMPTY, "int:1|string:a,b|null", "|");
         assertThat(validationList, is(Collections.<String>emptyList()));
     }
 
     @Test
     public void validateSqlCommandInputsEmpty() throws Exception {
         final List<String> validationList1 = validateSqlCommandInputs(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
         assertThat(validationList1, is(Arrays.asList(INVALID_DB_TYPE, INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
                 INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMAND)));
 
         final List<String> validationList2 = validateSqlCommandInputs(EMPTY, MYSQL_DB_TYPE, EMPTY, EMPTY, "Instance", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
         assertThat(validationList2, is(Arrays.asList(INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
                 INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_INSTANCE, INVALID_DATABASE,
                 String.format(INVALID_AUTH_TYPE, EMPTY), INVALID_COMMAND)));
 
         final List<String> validationList3 = validateSqlCommandInputs(EMPTY, MYSQL_DB_TYPE, EMPTY, EMPTY, "Instance", EMPTY, EMPTY, AUTH_WINDOWS, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, EMPTY, EMPTY, "int:1,date:2019-02-30x,boolean:yes", ",");
         assertThat(validationList3, is(Arrays.asList(INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
                 INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_INSTANCE, INVALID_DATABASE,
-                INVALID_AUTH_TYPE_WINDOWS, INVALID_COMMAND)));
+                INVALID_AUTH_TYPE_WINDOWS, INVALID_COMMAND, String.format(INVALID_BIND_PARAMETER, "date:2019-02-30x"),
+                String.format(INVALID_BIND_PARAMETER, "boolean:yes"))));
 
     }
 
     @Test
     public void validateSqlQueryInputsValid() throws Exception {
         final List<String> validationList = validateSqlQueryInputs("1", MSSQL_DB_TYPE, "username",
-                "Password", "someInstance", "123", "database", AUTH_SQL, "Command", "true", EMPTY, EMPTY, "1", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, FALSE, EMPTY);
+                "Password", "someInstance", "123", "database", AUTH_SQL, "Command", "true", EMPTY, EMPTY, "1", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, FALSE, EMPTY, "100", "600", "long:12,decimal:1.5", ",");
         assertThat(validationList, is(Collections.<String>emptyList()));
     }
 
     @Test
     public void validateSqlQueryInputsEmpty() throws Exception {
         final List<String> validationList1 = validateSqlQueryInputs(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
         assertThat(validationList1, is(Arrays.asList(INVALID_DB_TYPE, INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
                 INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, String.format(INVALID_IGNORE_CASE, EMPTY),
-                INVALID_COMMAND, INVALID_TIMEOUT)));
+                INVALID_COMMAND, INVALID_TIMEOUT, INVALID_FETCH_SIZE, INVALID_CURSOR_IDLE_TIMEOUT)));
 
         final List<String> validationList2 = validateSqlQueryInputs(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, "1a12a", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, "-1", "0", "int:x", ",");
         assertThat(validationList2, is(Arrays.asList(INVALID_DB_TYPE, INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
                 INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_DB_PORT, String.format(INVALID_IGNORE_CASE, EMPTY),
-                INVALID_COMMAND, INVALID_TIMEOUT)));
+                INVALID_COMMAND, INVALID_TIMEOUT, INVALID_FETCH_SIZE, INVALID_CURSOR_IDLE_TIMEOUT,
+                String.format(INVALID_BIND_PARAMETER, "int:x"))));
     }
 
     @Test
     public void validateSqlQueryAllRowsInputsValid() throws Exception {
         final List<String> validationList = validateSqlQueryAllRowsInputs("1", MSSQL_DB_TYPE, "username",
                 "Password", "someInstance", "123", "database", AUTH_SQL, "Command", "true", EMPTY, EMPTY,
-                "1", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY);
+                "1", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY, "0", EMPTY, EMPTY);
         assertThat(validationList, is(Collections.<String>emptyList()));
     }
 
     @Test
     public void validateSqlQueryAllRowsInputsEmpty() throws Exception {
         final List<String> validationList1 = validateSqlQueryAllRowsInputs(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
         assertThat(validationList1, is(Arrays.asList(INVALID_DB_TYPE, INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
-                INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMAND, INVALID_TIMEOUT)));
+                INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMAND, INVALID_TIMEOUT, INVALID_PAGE_SIZE)));
 
         final List<String> validationList2 = validateSqlQueryAllRowsInputs(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, "-1", EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, "-1", EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
         assertThat(validationList2, is(Arrays.asList(INVALID_DB_TYPE, INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
-                INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMAND, INVALID_NEGATIVE_TIMEOUT)));
+                INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMAND, INVALID_NEGATIVE_TIMEOUT, INVALID_PAGE_SIZE)));
     }
 
     @Test
@@ -124,35 +126,43 @@ public class SQLInputsValidatorTest {
                 INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMAND, INVALID_TIMEOUT)));
     }
 
+    @Test
+    public void validateSqlQueryTabularInputsPaging() throws Exception {
+        final List<String> validationList = validateSqlQueryTabularInputs("1", MSSQL_DB_TYPE, "username",
+                "Password", "someInstance", "123", "database", AUTH_SQL, "Command", "true", EMPTY, EMPTY,
+                "1", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY, "-1", "abc", "/missingDirectory/result.txt");
+        assertThat(validationList, is(Arrays.asList(INVALID_PAGE_SIZE, INVALID_PAGE_TOKEN, INVALID_OUTPUT_FILE + "/missingDirectory/result.txt")));
+    }
+
     @Test
     public void validateSqlQueryTabularInputsValid() throws Exception {
         final List<String> validationList = validateSqlQueryTabularInputs("1", MSSQL_DB_TYPE, "username",
                 "Password", "someInstance", "123", "database", AUTH_SQL, "Command", "true", EMPTY, EMPTY,
-                "1", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY);
+                "1", TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY, "0", EMPTY, EMPTY);
         assertThat(validationList, is(Collections.<String>emptyList()));
     }
 
     @Test
     public void validateSqlQueryTabularInputsEmpty() throws Exception {
         final List<String> validationList1 = validateSqlQueryTabularInputs(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
         assertThat(validationList1, is(Arrays.asList(INVALID_DB_TYPE, INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
-                INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMAND, INVALID_TIMEOUT)));
+                INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMAND, INVALID_TIMEOUT, INVALID_PAGE_SIZE)));
     }
 
     @Test
     public void validateSqlScriptInputsValid() throws Exception {
         final List<String> validationList = validateSqlScriptInputs("1", MSSQL_DB_TYPE, "username",
-                "Password", "someInstance", "123", "database", AUTH_SQL, "Commands", EMPTY, "true", EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY);
+                "Password", "someInstance", "123", "database", AUTH_SQL, "Commands", EMPTY, "true", EMPTY, EMPTY, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, EMPTY, "100");
         assertThat(validationList, is(Collections.<String>emptyList()));
     }
 
     @Test
     public void validateSqlScriptInputsEmpty() throws Exception {
         final List<String> validationList1 = validateSqlScriptInputs(EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY,
-                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
+                EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, "-1");
         assertThat(validationList1, is(Arrays.asList(INVALID_DB_TYPE, INVALID_DB_SERVER_NAME, INVALID_USERNAME, INVALID_PASSWORD, INVALID_TRUST_ALL_ROOTS,
-                INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMANDS_EXCLUSIVITY)));
+                INVALID_RESULT_SET_TYPE, INVALID_RESULT_SET_CONCURRENCY, INVALID_COMMANDS_EXCLUSIVITY, INVALID_BATCH_SIZE)));
 
     }
 
@@ -0,0 +1,109 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.excel.actions;
+
+import com.hp.oo.sdk.content.annotations.Action;
+import com.hp.oo.sdk.content.annotations.Output;
+import com.hp.oo.sdk.content.annotations.Param;
+import com.hp.oo.sdk.content.annotations.Response;
+import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.excel.entities.BatchUpdateInputs;
+import io.cloudslang.content.excel.entities.ExcelCommonInputs;
+import io.cloudslang.content.excel.services.BatchUpdateService;
+import io.cloudslang.content.utils.OutputUtilities;
+import io.cloudslang.content.utils.StringUtilities;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType.COMPARE_EQUAL;
+import static com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType.ERROR;
+import static com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType.RESOLVED;
+import static io.cloudslang.content.constants.OutputNames.EXCEPTION;
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
+import static io.cloudslang.content.constants.ResponseNames.FAILURE;
+import static io.cloudslang.content.constants.ResponseNames.SUCCESS;
+import static io.cloudslang.content.excel.utils.Constants.DEFAULT_COLUMN_DELIMITER;
+import static io.cloudslang.content.excel.utils.Constants.DEFAULT_ROW_DELIMITER;
+import static io.cloudslang.content.excel.utils.Constants.DEFAULT_ROW_WINDOW_SIZE;
+import static io.cloudslang.content.excel.utils.Constants.NEW_LINE;
+import static io.cloudslang.content.excel.utils.Descriptions.BatchUpdate.COLUMN_DELIMITER_DESC;
+import static io.cloudslang.content.excel.utils.Descriptions.BatchUpdate.EXCEPTION_DESC;
+import static io.cloudslang.content.excel.utils.Descriptions.BatchUpdate.FAILURE_DESC;
+import static io.cloudslang.content.excel.utils.Descriptions.BatchUpdate.OPERATIONS_DESC;
+import static io.cloudslang.content.excel.utils.Descriptions.BatchUpdate.OPERATION_DELIMITER_DESC;
+import static io.cloudslang.content.excel.utils.Descriptions.BatchUpdate.RETURN_RESULT_DESC;
+import static io.cloudslang.content.excel.utils.Descriptions.BatchUpdate.ROW_WINDOW_SIZE_DESC;
+import static io.cloudslang.content.excel.utils.Descriptions.BatchUpdate.SUCCESS_DESC;
+import static io.cloudslang.content.excel.utils.Descriptions.Common.EXCEL_FILE_NAME_DESC;
+import static io.cloudslang.content.excel.utils.Descriptions.Common.RETURN_CODE_DESC;
+import static io.cloudslang.content.excel.utils.Inputs.BatchUpdate.COLUMN_DELIMITER;
+import static io.cloudslang.content.excel.utils.Inputs.BatchUpdate.OPERATIONS;
+import static io.cloudslang.content.excel.utils.Inputs.BatchUpdate.OPERATION_DELIMITER;
+import static io.cloudslang.content.excel.utils.Inputs.BatchUpdate.ROW_WINDOW_SIZE;
+import static io.cloudslang.content.excel.utils.Inputs.CommonInputs.EXCEL_FILE_NAME;
+import static io.cloudslang.content.excel.utils.InputsValidation.verifyBatchUpdateInputs;
+import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+
+public class BatchUpdate {
+
+    @Action(name = "Batch Update",
+            outputs = {
+                    @Output(value = RETURN_RESULT, description = RETURN_RESULT_DESC),
+                    @Output(value = RETURN_CODE, description = RETURN_CODE_DESC),
+                    @Output(value = EXCEPTION, description = EXCEPTION_DESC),
+            },
+            responses = {
+                    @Response(text = SUCCESS, field = RETURN_CODE, value = ReturnCodes.SUCCESS, matchType = COMPARE_EQUAL, responseType = RESOLVED, description = SUCCESS_DESC),
+                    @Response(text = FAILURE, field = RETURN_CODE, value = ReturnCodes.FAILURE, matchType = COMPARE_EQUAL, responseType = ERROR, description = FAILURE_DESC)
+            })
+    public Map<String, String> execute(@Param(value = EXCEL_FILE_NAME, required = true, description = EXCEL_FILE_NAME_DESC) String excelFileName,
+                                       @Param(value = OPERATIONS, required = true, description = OPERATIONS_DESC) String operations,
+                                       @Param(value = OPERATION_DELIMITER, description = OPERATION_DELIMITER_DESC) String operationDelimiter,
+                                       @Param(value = COLUMN_DELIMITER, description = COLUMN_DELIMITER_DESC) String columnDelimiter,
+                                       @Param(value = ROW_WINDOW_SIZE, description = ROW_WINDOW_SIZE_DESC) String rowWindowSize) {
+
+        excelFileName = defaultIfEmpty(excelFileName, EMPTY);
+        operations = defaultIfEmpty(operations, EMPTY);
+        operationDelimiter = defaultIfEmpty(operationDelimiter, DEFAULT_ROW_DELIMITER);
+        columnDelimiter = defaultIfEmpty(columnDelimiter, DEFAULT_COLUMN_DELIMITER);
+        rowWindowSize = defaultIfEmpty(rowWindowSize, DEFAULT_ROW_WINDOW_SIZE);
+
+        final List<String> exceptionMessages = verifyBatchUpdateInputs(excelFileName, operations, rowWindowSize);
+
+        if (!exceptionMessages.isEmpty()) {
+            return getFailureResultsMap(StringUtilities.join(exceptionMessages, NEW_LINE));
+        }
+
+        try {
+            return BatchUpdateService.batchUpdate(BatchUpdateInputs.builder()
+                    .commonInputs(ExcelCommonInputs.builder()
+                            .excelFileName(excelFileName)
+                            .build())
+                    .operations(operations)
+                    .operationDelimiter(operationDelimiter)
+                    .columnDelimiter(columnDelimiter)
+                    .rowWindowSize(rowWindowSize)
+                    .build());
+
+        } catch (Exception exception) {
+            return OutputUtilities.getFailureResultsMap(exception);
+        }
+    }
+}
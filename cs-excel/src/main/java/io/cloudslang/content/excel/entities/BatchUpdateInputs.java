@@ -0,0 +1,117 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.excel.entities;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.beans.ConstructorProperties;
+
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+public class BatchUpdateInputs {
+    private final ExcelCommonInputs commonInputs;
+
+    private final String operations;
+    private final String operationDelimiter;
+    private final String columnDelimiter;
+    private final String rowWindowSize;
+
+    @ConstructorProperties({"commonInputs", "operations", "operationDelimiter", "columnDelimiter", "rowWindowSize"})
+    private BatchUpdateInputs(ExcelCommonInputs commonInputs, String operations, String operationDelimiter,
+                              String columnDelimiter, String rowWindowSize) {
+        this.commonInputs = commonInputs;
+        this.operations = operations;
+        this.operationDelimiter = operationDelimiter;
+        this.columnDelimiter = columnDelimiter;
+        this.rowWindowSize = rowWindowSize;
+    }
+
+    @NotNull
+    public static BatchUpdateInputsBuilder builder() {
+        return new BatchUpdateInputsBuilder();
+    }
+
+    @NotNull
+    public String getOperations() {
+        return operations;
+    }
+
+    @NotNull
+    public String getOperationDelimiter() {
+        return operationDelimiter;
+    }
+
+    @NotNull
+    public String getColumnDelimiter() {
+        return columnDelimiter;
+    }
+
+    @NotNull
+    public String getRowWindowSize() {
+        return rowWindowSize;
+    }
+
+    @NotNull
+    public ExcelCommonInputs getCommonInputs() {
+        return this.commonInputs;
+    }
+
+    public static class BatchUpdateInputsBuilder {
+        private ExcelCommonInputs commonInputs;
+        private String operations = EMPTY;
+        private String operationDelimiter = EMPTY;
+        private String columnDelimiter = EMPTY;
+        private String rowWindowSize = EMPTY;
+
+        private BatchUpdateInputsBuilder() {
+        }
+
+        @NotNull
+        public BatchUpdateInputsBuilder commonInputs(@NotNull final ExcelCommonInputs commonInputs) {
+            this.commonInputs = commonInputs;
+            return this;
+        }
+
+        @NotNull
+        public BatchUpdateInputsBuilder operations(@NotNull final String operations) {
+            this.operations = operations;
+            return this;
+        }
+
+        @NotNull
+        public BatchUpdateInputsBuilder operationDelimiter(@NotNull final String operationDelimiter) {
+            this.operationDelimiter = operationDelimiter;
+            return this;
+        }
+
+        @NotNull
+        public BatchUpdateInputsBuilder columnDelimiter(@NotNull final String columnDelimiter) {
+            this.columnDelimiter = columnDelimiter;
+            return this;
+        }
+
+        @NotNull
+        public BatchUpdateInputsBuilder rowWindowSize(@NotNull final String rowWindowSize) {
+            this.rowWindowSize = rowWindowSize;
+            return this;
+        }
+
+        @NotNull
+        public BatchUpdateInputs build() {
+            return new BatchUpdateInputs(commonInputs, operations, operationDelimiter, columnDelimiter, rowWindowSize);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.excel.services;
+
+import io.cloudslang.content.excel.entities.BatchUpdateInputs;
+import io.cloudslang.content.excel.entities.ExcelOperationException;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static io.cloudslang.content.excel.services.ExcelServiceImpl.getExcelDoc;
+import static io.cloudslang.content.excel.services.ExcelServiceImpl.updateWorkbook;
+import static io.cloudslang.content.excel.services.ModifyCellService.isMergedCell;
+import static io.cloudslang.content.excel.utils.Constants.EXCEPTION_FLUSHED_ROW;
+import static io.cloudslang.content.excel.utils.Constants.EXCEPTION_INVALID_OPERATION;
+import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
+import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.commons.lang3.StringUtils.isNumeric;
+import static org.apache.commons.lang3.StringUtils.splitByWholeSeparatorPreserveAllTokens;
+
+/**
+ * Applies a list of append and set operations to an Excel document that is read and written only once.
+ * The worksheets created by the operations of an xlsx or xlsm document are written through a streaming workbook
+ * that keeps only the last rowWindowSize rows of every new worksheet in memory, the existing worksheets are
+ * changed in place.
+ */
+public class BatchUpdateService {
+    private static final String APPEND = "append";
+    private static final String SET = "set";
+
+    @NotNull
+    public static Map<String, String> batchUpdate(@NotNull final BatchUpdateInputs batchUpdateInputs) {
+        SXSSFWorkbook streamingDoc = null;
+        try {
+            final String excelFileName = batchUpdateInputs.getCommonInputs().getExcelFileName();
+            final int rowWindowSize = Integer.parseInt(batchUpdateInputs.getRowWindowSize());
+            //all the operations are validated before the document is changed
+            final List<Operation> operations = getOperations(batchUpdateInputs.getOperations(),
+                    batchUpdateInputs.getOperationDelimiter(), batchUpdateInputs.getColumnDelimiter());
+
+            final Workbook excelDoc = getExcelDoc(excelFileName);
+            final Set<String> newWorksheetNames = getNewWorksheetNames(excelDoc, operations);
+            if (!newWorksheetNames.isEmpty() && excelDoc instanceof XSSFWorkbook) {
+                validateStreamedRows(operations, newWorksheetNames, rowWindowSize);
+                streamingDoc = new SXSSFWorkbook((XSSFWorkbook) excelDoc, rowWindowSize);
+            }
+            final Workbook targetDoc = streamingDoc != null ? streamingDoc : excelDoc;
+
+            //the worksheet names are case insensitive, like in Workbook.getSheet
+            final Map<String, Sheet> worksheets = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            //a streamed worksheet can't tell its last row once the rows were flushed, so the next rows are counted here
+            final Map<String, Integer> nextRowIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            final Set<Sheet> modifiedWorksheets = new LinkedHashSet<>();
+
+            for (Operation operation : operations) {
+                final String worksheetName = operation.worksheetName;
+                Sheet worksheet = worksheets.get(worksheetName);
+                if (worksheet == null) {
+                    if (newWorksheetNames.contains(worksheetName)) {
+                        worksheet = targetDoc.createSheet(worksheetName);
+                        nextRowIndexes.put(worksheetName, 0);
+                    } else {
+                        worksheet = excelDoc.getSheet(worksheetName);
+                        nextRowIndexes.put(worksheetName, worksheet.getPhysicalNumberOfRows() == 0 ? 0 : worksheet.getLastRowNum() + 1);
+                        modifiedWorksheets.add(worksheet);
+                    }
+                    worksheets.put(worksheetName, worksheet);
+                }
+
+                final int nextRowIndex = nextRowIndexes.get(worksheetName);
+                if (APPEND.equals(operation.type)) {
+                    final Row row = worksheet.createRow(nextRowIndex);
+                    for (int i = 0; i < operation.values.size(); i++) {
+                        setCellValue(row.createCell(i), operation.values.get(i));
+                    }
+                    nextRowIndexes.put(worksheetName, nextRowIndex + 1);
+                } else {
+                    setCell(worksheet, operation.rowIndex, operation.columnIndex, operation.values.get(0));
+                    nextRowIndexes.put(worksheetName, Math.max(nextRowIndex, operation.rowIndex + 1));
+                }
+            }
+
+            if (!modifiedWorksheets.isEmpty()) {
+                //update formula cells
+                final FormulaEvaluator evaluator = excelDoc.getCreationHelper().createFormulaEvaluator();
+                for (Sheet worksheet : modifiedWorksheets) {
+                    for (Row row : worksheet) {
+                        for (Cell cell : row) {
+                            if (cell.getCellType() == CellType.FORMULA) {
+                                evaluator.evaluateFormulaCell(cell);
+                            }
+                        }
+                    }
+                }
+            }
+            updateWorkbook(targetDoc, excelFileName);
+
+            return getSuccessResultsMap(String.valueOf(operations.size()));
+        } catch (Exception e) {
+            return getFailureResultsMap(e.getMessage());
+        } finally {
+            if (streamingDoc != null) {
+                //deletes the temporary files of the streamed rows
+                streamingDoc.dispose();
+            }
+        }
+    }
+
+    private static void setCell(final Sheet worksheet, final int rowIndex, final int columnIndex, final String value) throws ExcelOperationException {
+        if (isMergedCell(worksheet, rowIndex, columnIndex)) {
+            throw new ExcelOperationException("The cell at row " + rowIndex + " and column " + columnIndex +
+                    " of worksheet " + worksheet.getSheetName() + " is a merged cell.");
+        }
+        Row row = worksheet.getRow(rowIndex);
+        //if the specified row does not exist
+        if (row == null) {
+            row = worksheet.createRow(rowIndex);
+        }
+        Cell cell = row.getCell(columnIndex);
+        //if the specified cell does not exist
+        if (cell == null) {
+            cell = row.createCell(columnIndex);
+        }
+        //if the cell needs to be modified is in formula type,
+        if (cell.getCellType() == CellType.FORMULA) {
+            cell.setCellType(CellType.STRING);
+        }
+        setCellValue(cell, value);
+    }
+
+    private static void setCellValue(final Cell cell, final String value) {
+        try {
+            double valueNumeric = Double.parseDouble(value.trim());
+            cell.setCellValue(valueNumeric);
+        }
+        //for non-numeric value
+        catch (NumberFormatException e) {
+            cell.setCellValue(value.trim());
+        }
+    }
+
+    /**
+     * Replays the operations on the rows of the new worksheets like a streaming workbook keeps them, so a set
+     * operation on a row that would already be written to the file fails before the document is changed.
+     */
+    private static void validateStreamedRows(final List<Operation> operations, final Set<String> newWorksheetNames,
+                                             final int rowWindowSize) throws ExcelOperationException {
+        final Map<String, TreeSet<Integer>> rowsInMemory = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        final Map<String, Integer> lastFlushedRowIndexes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (String worksheetName : newWorksheetNames) {
+            rowsInMemory.put(worksheetName, new TreeSet<Integer>());
+            lastFlushedRowIndexes.put(worksheetName, -1);
+        }
+
+        for (Operation operation : operations) {
+            final TreeSet<Integer> rows = rowsInMemory.get(operation.worksheetName);
+            if (rows == null) {
+                continue;
+            }
+            final int lastFlushedRowIndex = lastFlushedRowIndexes.get(operation.worksheetName);
+            final int rowIndex;
+            if (APPEND.equals(operation.type)) {
+                rowIndex = Math.max(lastFlushedRowIndex, rows.isEmpty() ? -1 : rows.last()) + 1;
+            } else {
+                rowIndex = operation.rowIndex;
+                if (!rows.contains(rowIndex) && rowIndex <= lastFlushedRowIndex) {
+                    throw new ExcelOperationException(String.format(EXCEPTION_FLUSHED_ROW, operation.text, rowIndex,
+                            operation.worksheetName, rowWindowSize));
+                }
+            }
+            rows.add(rowIndex);
+            while (rows.size() > rowWindowSize) {
+                lastFlushedRowIndexes.put(operation.worksheetName, rows.pollFirst());
+            }
+        }
+    }
+
+    @NotNull
+    private static Set<String> getNewWorksheetNames(final Workbook excelDoc, final List<Operation> operations) {
+        final Set<String> newWorksheetNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (Operation operation : operations) {
+            if (excelDoc.getSheet(operation.worksheetName) == null) {
+                newWorksheetNames.add(operation.worksheetName);
+            }
+        }
+        return newWorksheetNames;
+    }
+
+    @NotNull
+    private static List<Operation> getOperations(final String operations, final String operationDelimiter,
+                                                 final String columnDelimiter) throws ExcelOperationException {
+        final List<Operation> operationList = new ArrayList<>();
+        for (String operation : splitByWholeSeparatorPreserveAllTokens(operations, operationDelimiter)) {
+            if (isBlank(operation)) {
+                continue;
+            }
+            final String[] fields = splitByWholeSeparatorPreserveAllTokens(operation, columnDelimiter);
+            final String type = fields[0].trim().toLowerCase();
+            if (fields.length < 3 || isBlank(fields[1])) {
+                throw new ExcelOperationException(String.format(EXCEPTION_INVALID_OPERATION, operation));
+            }
+            final String worksheetName = fields[1].trim();
+
+            if (APPEND.equals(type)) {
+                operationList.add(new Operation(operation, type, worksheetName, -1, -1, Arrays.asList(fields).subList(2, fields.length)));
+            } else if (SET.equals(type) && fields.length == 5 && isNumeric(fields[2].trim()) && isNumeric(fields[3].trim())) {
+                operationList.add(new Operation(operation, type, worksheetName, Integer.parseInt(fields[2].trim()),
+                        Integer.parseInt(fields[3].trim()), Arrays.asList(fields[4])));
+            } else {
+                throw new ExcelOperationException(String.format(EXCEPTION_INVALID_OPERATION, operation));
+            }
+        }
+        return operationList;
+    }
+
+    private static class Operation {
+        private final String text;
+        private final String type;
+        private final String worksheetName;
+        private final int rowIndex;
+        private final int columnIndex;
+        private final List<String> values;
+
+        private Operation(final String text, final String type, final String worksheetName, final int rowIndex,
+                          final int columnIndex, final List<String> values) {
+            this.text = text;
+            this.type = type;
+            this.worksheetName = worksheetName;
+            this.rowIndex = rowIndex;
+            this.columnIndex = columnIndex;
+            this.values = values;
+        }
+    }
+}
@@ -16,15 +16,23 @@
 package io.cloudslang.content.excel.services;
 
 import io.cloudslang.content.excel.entities.GetCellInputs;
+import io.cloudslang.content.excel.services.SheetStreamReader.SheetCell;
+import io.cloudslang.content.excel.services.SheetStreamReader.UncachedFormulaException;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellRangeAddress;
 import org.jetbrains.annotations.NotNull;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.cloudslang.content.excel.services.ExcelServiceImpl.*;
+import static io.cloudslang.content.excel.services.SheetStreamReader.isStreamable;
+import static io.cloudslang.content.excel.services.SheetStreamReader.readSheet;
 import static io.cloudslang.content.excel.utils.Constants.YES;
 import static io.cloudslang.content.excel.utils.Outputs.GetCellOutputs.COLUMNS_COUNT;
 import static io.cloudslang.content.excel.utils.Outputs.GetCellOutputs.HEADER;
@@ -33,12 +41,20 @@ import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
 import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 public class GetCellService {
 
     @NotNull
     public static Map<String, String> getCell(@NotNull final GetCellInputs getCellInputs) {
         try {
+            if (isStreamable(getCellInputs.getCommonInputs().getExcelFileName())) {
+                try {
+                    return getCellStreaming(getCellInputs);
+                } catch (UncachedFormulaException e) {
+                    //the formulas without a cached result are evaluated with the user model
+                }
+            }
             final Workbook excelDoc = getExcelDoc(getCellInputs.getCommonInputs().getExcelFileName());
             final Sheet worksheet = getWorksheet(excelDoc, getCellInputs.getCommonInputs().getWorksheetName());
 
@@ -80,6 +96,115 @@ public class GetCellService {
         }
     }
 
+    /**
+     * Reads the worksheet once with the SAX event model and keeps only the requested rows and columns.
+     */
+    private static Map<String, String> getCellStreaming(@NotNull final GetCellInputs getCellInputs) throws Exception {
+        final String rowDelimiter = getCellInputs.getRowDelimiter();
+        final String columnDelimiter = getCellInputs.getColumnDelimiter();
+        final String hasHeader = getCellInputs.getHasHeader();
+        final String enablingRoundingFunction = getCellInputs.getEnablingRoundingFunction();
+        final int sheetFirstRowIndex = Integer.parseInt(getCellInputs.getFirstRowIndex());
+        int firstRowIndex = sheetFirstRowIndex;
+        if (hasHeader.equals(YES))
+            firstRowIndex++;
+
+        final CellCollector collector = new CellCollector(sheetFirstRowIndex,
+                hasHeader.equals(YES) ? sheetFirstRowIndex : -1,
+                isEmpty(getCellInputs.getRowIndex()) ? null : new HashSet<>(processIndex(getCellInputs.getRowIndex())),
+                isEmpty(getCellInputs.getColumnIndex()) ? null : new HashSet<>(processIndex(getCellInputs.getColumnIndex())));
+        readSheet(getCellInputs.getCommonInputs().getExcelFileName(), getCellInputs.getCommonInputs().getWorksheetName(), collector);
+
+        final int lastRowIndex = collector.lastRowIndex;
+        final int firstColumnIndex = 0;
+        final int lastColumnIndex = collector.lastColumnIndex;
+
+        final String rowIndexDefault = firstRowIndex + ":" + lastRowIndex;
+        final String columnIndexDefault = firstColumnIndex + ":" + lastColumnIndex;
+        final String rowIndex = defaultIfEmpty(getCellInputs.getRowIndex(), rowIndexDefault);
+        final String columnIndex = defaultIfEmpty(getCellInputs.getColumnIndex(), columnIndexDefault);
+
+        final List<Integer> rowIndexList = validateIndex(processIndex(rowIndex), firstRowIndex, lastRowIndex, true);
+        final List<Integer> columnIndexList = validateIndex(processIndex(columnIndex), firstColumnIndex, lastColumnIndex, false);
+
+        final String resultString = getCellFromRows(collector.rows, columnIndexList, rowIndexList, rowDelimiter,
+                columnDelimiter, enablingRoundingFunction);
+        final Map<String, String> results = getSuccessResultsMap(resultString);
+
+        if (hasHeader.equals(YES)) {
+            final String headerString = getHeader(collector.rows.get(sheetFirstRowIndex), columnIndexList, columnDelimiter);
+            results.put(HEADER, headerString);
+        }
+
+        results.put(ROWS_COUNT, String.valueOf(rowIndexList.size()));
+        results.put(COLUMNS_COUNT, String.valueOf(columnIndexList.size()));
+
+        return results;
+    }
+
+    private static String getCellFromRows(final Map<Integer, Map<Integer, SheetCell>> rows,
+                                          final List<Integer> columnIndex,
+                                          final List<Integer> rowIndex,
+                                          final String rowDelimiter,
+                                          final String columnDelimiter,
+                                          final String enablingRoundingFunction) {
+        final DataFormatter formatter = new DataFormatter();
+
+        return getCells(columnIndex, rowIndex, rowDelimiter, columnDelimiter, new CellValues() {
+            @Override
+            public String getCellValue(final int rIndex, final int cIndex) {
+                final Map<Integer, SheetCell> row = rows.get(rIndex);
+                final SheetCell cell = row == null ? null : row.get(cIndex);
+                //a missing cell is blank
+                if (cell == null) {
+                    return EMPTY;
+                }
+                String formulaResult = null;
+                if (cell.getCellType() == CellType.FORMULA) {
+                    switch (cell.getCachedFormulaResultType()) {
+                        case BOOLEAN:
+                            formulaResult = String.valueOf(cell.getBooleanCellValue());
+                            break;
+                        case NUMERIC:
+                            formulaResult = String.valueOf(cell.getNumericCellValue());
+                            break;
+                        case STRING:
+                            formulaResult = cell.getStringCellValue();
+                            break;
+                        default:
+                            formulaResult = EMPTY;
+                            break;
+                    }
+                }
+                final boolean numeric = cell.getCellType() == CellType.NUMERIC;
+                return formatCellValue(cell.formatCellValue(formatter), cell.getCellType(), numeric ? cell.getNumericCellValue() : 0,
+                        numeric && cell.isDateFormatted(), formulaResult, enablingRoundingFunction);
+            }
+        });
+    }
+
+    private static String getHeader(final Map<Integer, SheetCell> headerRow,
+                                    final List<Integer> columnIndex,
+                                    final String colDelimiter) {
+        StringBuilder result = new StringBuilder();
+        if (headerRow == null)
+            return EMPTY;
+        for (int cIndex : columnIndex) {
+            final SheetCell cell = headerRow.get(cIndex);
+            if (cell != null) {
+                result.append(cell.toString());
+            }
+            result.append(colDelimiter);
+        }
+
+        //get rid of last column index
+        final int index = result.lastIndexOf(colDelimiter);
+        if (index > -1)
+            result = new StringBuilder(result.substring(0, index));
+
+        return result.toString();
+    }
+
     private static String getCellFromWorksheet(final Workbook excelDoc,
                                                final Sheet worksheet,
                                                final List<Integer> columnIndex,
@@ -87,73 +212,71 @@ public class GetCellService {
                                                final String rowDelimiter,
                                                final String columnDelimiter,
                                                final String enablingRoundingFunction) {
-        StringBuilder result = new StringBuilder();
         final DataFormatter formatter = new DataFormatter();
+        final FormulaEvaluator evaluator = excelDoc.getCreationHelper().createFormulaEvaluator();
 
-        for (int rIndex : rowIndex) {
-            Row row = worksheet.getRow(rIndex);
-            if (row == null) {
-                row = worksheet.createRow(rIndex);
-            }
-            if (row != null) {
-                for (int cIndex : columnIndex) {
-                    Cell cell = row.getCell(cIndex);
+        return getCells(columnIndex, rowIndex, rowDelimiter, columnDelimiter, new CellValues() {
+            @Override
+            public String getCellValue(final int rIndex, final int cIndex) {
+                Row row = worksheet.getRow(rIndex);
+                if (row == null) {
+                    row = worksheet.createRow(rIndex);
+                }
+                Cell cell = row.getCell(cIndex);
+                if (cell == null) {
+                    cell = row.createCell(cIndex);
+                }
 
-                    if (cell == null) {
-                        cell = row.createCell(cIndex);
+                String formulaResult = null;
+                if (cell.getCellType() == CellType.FORMULA) {
+                    final CellValue cellValue = evaluator.evaluate(cell);
+                    switch (cellValue.getCellType()) {
+                        case BOOLEAN:
+                            formulaResult = String.valueOf(cellValue.getBooleanValue());
+                            break;
+                        case NUMERIC:
+                            formulaResult = String.valueOf(cellValue.getNumberValue());
+                            break;
+                        case STRING:
+                            formulaResult = cellValue.getStringValue();
+                            break;
+                        // CellType.FORMULA will never happen
+                        default:
+                            formulaResult = EMPTY;
+                            break;
                     }
+                }
+                //Fix for QCIM1D248808 and Fix for QCIM1293510
+                final boolean numeric = !cell.toString().isEmpty() && isNumericCell(cell);
+                return formatCellValue(formatter.formatCellValue(cell), cell.getCellType(), numeric ? cell.getNumericCellValue() : 0,
+                        numeric && DateUtil.isCellDateFormatted(cell), formulaResult, enablingRoundingFunction);
+            }
+        });
+    }
+
+    /**
+     * Gives the value of a cell of the worksheet as it is returned.
+     */
+    private interface CellValues {
+        String getCellValue(int rowIndex, int columnIndex);
+    }
 
-                    String cellString = formatter.formatCellValue(cell);
-                    FormulaEvaluator evaluator = excelDoc.getCreationHelper().createFormulaEvaluator();
-                    if (cell != null) {
-                        //fraction
-                        if (cellString.indexOf("?/?") > 1 && cell.getCellType() == CellType.NUMERIC) {
-                            result.append(cell.getNumericCellValue());
-                        }
-
-                        //Formula
-                        else if (cell.getCellType() == CellType.FORMULA) {
-                            CellValue cellValue = evaluator.evaluate(cell);
-                            switch (cellValue.getCellType()) {
-                                case BOOLEAN:
-                                    result.append(cellValue.getBooleanValue());
-                                    break;
-                                case NUMERIC:
-                                    result.append(cellValue.getNumberValue());
-                                    break;
-                                case STRING:
-                                    result.append(cellValue.getStringValue());
-                                    break;
-                                case BLANK:
-                                    break;
-                                case ERROR:
-                                    break;
-
-                                // CellType.FORMULA will never happen
-                                case FORMULA:
-                                    break;
-                            }
-                        }
-                        //string
-                        else {
-                            if (enablingRoundingFunction.toLowerCase().equals("true")) {
-                                //Fix for QCIM1D248808 and Fix for QCIM1293510
-                                if (!cell.toString().isEmpty() && isNumericCell(cell) && !DateUtil.isCellDateFormatted(cell)) {
-                                    double aCellValue = cell.getNumericCellValue();
-                                    cellString = round(Double.toString(aCellValue));
-                                }
-                            }
-                            result.append(cellString);
-                        }
+    private static String getCells(final List<Integer> columnIndex,
+                                   final List<Integer> rowIndex,
+                                   final String rowDelimiter,
+                                   final String columnDelimiter,
+                                   final CellValues cellValues) {
+        StringBuilder result = new StringBuilder();
 
-                    }
-                    result.append(columnDelimiter);
-                }
-                //get rid of last column delimiter
-                int index = result.lastIndexOf(columnDelimiter);
-                if (index > -1)
-                    result = new StringBuilder(result.substring(0, index));
+        for (int rIndex : rowIndex) {
+            for (int cIndex : columnIndex) {
+                result.append(cellValues.getCellValue(rIndex, cIndex));
+                result.append(columnDelimiter);
             }
+            //get rid of last column delimiter
+            int index = result.lastIndexOf(columnDelimiter);
+            if (index > -1)
+                result = new StringBuilder(result.substring(0, index));
 
             result.append(rowDelimiter);
         }
@@ -165,6 +288,34 @@ public class GetCellService {
         return result.toString();
     }
 
+    /**
+     * @param cellString    the cell formatted by a DataFormatter
+     * @param numericValue  the value of a numeric cell
+     * @param dateFormatted true if the cell is numeric and formatted as a date
+     * @param formulaResult the result of a formula cell
+     * @return the value of the cell as it is returned
+     */
+    private static String formatCellValue(final String cellString,
+                                          final CellType cellType,
+                                          final double numericValue,
+                                          final boolean dateFormatted,
+                                          final String formulaResult,
+                                          final String enablingRoundingFunction) {
+        //fraction
+        if (cellString.indexOf("?/?") > 1 && cellType == CellType.NUMERIC) {
+            return String.valueOf(numericValue);
+        }
+        //Formula
+        if (cellType == CellType.FORMULA) {
+            return formulaResult;
+        }
+        //string
+        if (enablingRoundingFunction.toLowerCase().equals("true") && cellType == CellType.NUMERIC && !dateFormatted) {
+            return round(Double.toString(numericValue));
+        }
+        return cellString;
+    }
+
     /**
      * retrieves data from header row
      *
@@ -214,4 +365,60 @@ public class GetCellService {
         return bd.toString();
     }
 
+    /**
+     * Keeps the cells of the requested rows and columns and the bounds of the worksheet, like the user model
+     * the last column index is taken from the rows starting with the first row index.
+     */
+    private static class CellCollector implements SheetStreamReader.RowHandler {
+        private final int firstRowIndex;
+        private final int headerRowIndex;
+        private final Set<Integer> requestedRows;
+        private final Set<Integer> requestedColumns;
+        private final Map<Integer, Map<Integer, SheetCell>> rows = new HashMap<>();
+        private Map<Integer, SheetCell> currentRow;
+        private int lastRowIndex = 0;
+        private int lastColumnIndex = 0;
+
+        /**
+         * @param requestedRows    the rows to keep, null to keep all of them
+         * @param requestedColumns the columns to keep, null to keep all of them
+         */
+        CellCollector(final int firstRowIndex, final int headerRowIndex, final Set<Integer> requestedRows,
+                      final Set<Integer> requestedColumns) {
+            this.firstRowIndex = firstRowIndex;
+            this.headerRowIndex = headerRowIndex;
+            this.requestedRows = requestedRows;
+            this.requestedColumns = requestedColumns;
+        }
+
+        @Override
+        public void cell(final int rowIndex, final int columnIndex, final SheetCell cell) {
+            if (rowIndex < firstRowIndex) {
+                return;
+            }
+            if (columnIndex > lastColumnIndex) {
+                lastColumnIndex = columnIndex;
+            }
+            if (requestedColumns != null && !requestedColumns.contains(columnIndex)) {
+                return;
+            }
+            if (rowIndex == headerRowIndex || requestedRows == null || requestedRows.contains(rowIndex)) {
+                if (currentRow == null) {
+                    currentRow = new HashMap<>();
+                    rows.put(rowIndex, currentRow);
+                }
+                currentRow.put(columnIndex, cell);
+            }
+        }
+
+        @Override
+        public void endRow(final int rowIndex) {
+            currentRow = null;
+        }
+
+        @Override
+        public void endSheet(final int lastRowIndex, final List<CellRangeAddress> mergedRegions) {
+            this.lastRowIndex = lastRowIndex;
+        }
+    }
 }
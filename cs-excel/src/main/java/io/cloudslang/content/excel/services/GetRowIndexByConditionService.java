@@ -16,6 +16,8 @@
 package io.cloudslang.content.excel.services;
 
 import io.cloudslang.content.excel.entities.GetRowIndexByConditionInputs;
+import io.cloudslang.content.excel.services.SheetStreamReader.SheetCell;
+import io.cloudslang.content.excel.services.SheetStreamReader.UncachedFormulaException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellType;
@@ -29,7 +31,10 @@ import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import static io.cloudslang.content.excel.services.ExcelServiceImpl.compareNumericValue;
@@ -37,12 +42,13 @@ import static io.cloudslang.content.excel.services.ExcelServiceImpl.compareStrin
 import static io.cloudslang.content.excel.services.ExcelServiceImpl.getCellType;
 import static io.cloudslang.content.excel.services.ExcelServiceImpl.getExcelDoc;
 import static io.cloudslang.content.excel.services.ExcelServiceImpl.getWorksheet;
+import static io.cloudslang.content.excel.services.SheetStreamReader.isStreamable;
+import static io.cloudslang.content.excel.services.SheetStreamReader.readSheet;
 import static io.cloudslang.content.excel.utils.Outputs.GetRowIndexByCondition.ROWS_COUNT;
 import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
 import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
 
 public class GetRowIndexByConditionService {
-    private static String inputFormat = null;
 
     @NotNull
     public static Map<String, String> getRowIndexbyCondition(@NotNull final GetRowIndexByConditionInputs getRowIndexbyConditionInputs) {
@@ -50,6 +56,16 @@ public class GetRowIndexByConditionService {
         final Sheet worksheet;
         final Workbook excelDoc;
 
+        if (isStreamable(getRowIndexbyConditionInputs.getCommonInputs().getExcelFileName())) {
+            try {
+                return getRowIndexByConditionStreaming(getRowIndexbyConditionInputs);
+            } catch (UncachedFormulaException e) {
+                //the formulas without a cached result are evaluated with the user model
+            } catch (Exception e) {
+                return getFailureResultsMap(e.getMessage());
+            }
+        }
+
         try {
             excelDoc = getExcelDoc(getRowIndexbyConditionInputs.getCommonInputs().getExcelFileName());
             worksheet = getWorksheet(excelDoc, getRowIndexbyConditionInputs.getCommonInputs().getWorksheetName());
@@ -88,6 +104,35 @@ public class GetRowIndexByConditionService {
         return result;
     }
 
+    /**
+     * Evaluates the condition on every row while the worksheet is read with the SAX event model, only the indexes
+     * of the matching rows are kept.
+     */
+    private static Map<String, String> getRowIndexByConditionStreaming(@NotNull final GetRowIndexByConditionInputs getRowIndexbyConditionInputs)
+            throws Exception {
+        int firstRowIndex = Integer.parseInt(getRowIndexbyConditionInputs.getFirstRowIndex());
+
+        if (getRowIndexbyConditionInputs.getHasHeader().equalsIgnoreCase("yes")) {
+            firstRowIndex++;
+        }
+        final int columnIndexInt = Integer.parseInt(getRowIndexbyConditionInputs.getColumnIndexToQuery());
+
+        final ConditionMatcher matcher = new ConditionMatcher(firstRowIndex, columnIndexInt,
+                getRowIndexbyConditionInputs.getValue(), getRowIndexbyConditionInputs.getOperator());
+        readSheet(getRowIndexbyConditionInputs.getCommonInputs().getExcelFileName(),
+                getRowIndexbyConditionInputs.getCommonInputs().getWorksheetName(), matcher);
+
+        final Map<String, String> result;
+        if (!matcher.matchingRows.isEmpty()) {
+            result = getSuccessResultsMap(StringUtils.join(matcher.matchingRows, ","));
+            result.put(ROWS_COUNT, String.valueOf(matcher.matchingRows.size()));
+        } else {
+            result = getSuccessResultsMap("");
+            result.put(ROWS_COUNT, String.valueOf(0));
+        }
+        return result;
+    }
+
     public static void getMergedCell(final Sheet sheet, final int firstRowIndex, final int cIndex) {
         final int countMRegion = sheet.getNumMergedRegions();
 
@@ -124,7 +169,9 @@ public class GetRowIndexByConditionService {
         double cellValueNumeric;
         String cellFormat;
 
-        double inputNumeric = processValueInput(input);
+        final ConditionValue conditionValue = processValueInput(input);
+        final double inputNumeric = conditionValue.numeric;
+        final String inputFormat = conditionValue.format;
 
         for (int i = firstRow; i <= worksheet.getLastRowNum(); i++) {
             Row row = worksheet.getRow(i);
@@ -227,8 +274,12 @@ public class GetRowIndexByConditionService {
         }
     }
 
-    public static double processValueInput(final String input) {
+    /**
+     * @return the value of the input as a number and its format: num, date, time or string
+     */
+    private static ConditionValue processValueInput(final String input) {
         double result = 0;
+        String inputFormat = null;
 
         //check if the input is in number format
         try {
@@ -289,7 +340,7 @@ public class GetRowIndexByConditionService {
             inputFormat = "string";
         }
 
-        return result;
+        return new ConditionValue(result, inputFormat);
     }
 
     private static double percentToDouble(final String percent) throws Exception {
@@ -303,5 +354,114 @@ public class GetRowIndexByConditionService {
         return result;
     }
 
+    private static class ConditionValue {
+        private final double numeric;
+        private final String format;
+
+        private ConditionValue(final double numeric, final String format) {
+            this.numeric = numeric;
+            this.format = format;
+        }
+    }
+
+    /**
+     * Compares the cells of the queried column with the value, the same way getRowIndex compares them after
+     * the formula and the merged cells of the column were processed. The rows and cells missing from the
+     * worksheet are blank cells.
+     */
+    private static class ConditionMatcher implements SheetStreamReader.RowHandler {
+        private final int firstRowIndex;
+        private final int columnIndex;
+        private final String value;
+        private final String operator;
+        private final double valueNumeric;
+        private final String valueFormat;
+        private final DataFormatter formatter = new DataFormatter();
+        private final List<Integer> matchingRows = new ArrayList<>();
+        private SheetCell currentCell;
+        private int nextRowIndex;
+
+        ConditionMatcher(final int firstRowIndex, final int columnIndex, final String value, final String operator) {
+            this.firstRowIndex = firstRowIndex;
+            this.columnIndex = columnIndex;
+            this.value = value;
+            this.operator = operator;
+            final ConditionValue conditionValue = processValueInput(value);
+            this.valueNumeric = conditionValue.numeric;
+            this.valueFormat = conditionValue.format;
+            this.nextRowIndex = firstRowIndex;
+        }
+
+        @Override
+        public void cell(final int rowIndex, final int columnIndex, final SheetCell cell) {
+            if (columnIndex == this.columnIndex) {
+                currentCell = cell;
+            }
+        }
 
+        @Override
+        public void endRow(final int rowIndex) {
+            if (rowIndex >= firstRowIndex) {
+                for (int i = nextRowIndex; i < rowIndex; i++) {
+                    matchRow(i, SheetCell.BLANK);
+                }
+                matchRow(rowIndex, currentCell == null ? SheetCell.BLANK : currentCell.withFormulaResult());
+                nextRowIndex = rowIndex + 1;
+            }
+            currentCell = null;
+        }
+
+        @Override
+        public void endSheet(final int lastRowIndex, final List<CellRangeAddress> mergedRegions) {
+            for (int i = nextRowIndex; i <= lastRowIndex; i++) {
+                matchRow(i, SheetCell.BLANK);
+            }
+            //the cells covered by a merged region, but its first one, are skipped like the error cells
+            final Iterator<Integer> rows = matchingRows.iterator();
+            while (rows.hasNext()) {
+                final int rowIndex = rows.next();
+                for (CellRangeAddress range : mergedRegions) {
+                    if (rowIndex < lastRowIndex && range.isInRange(rowIndex, columnIndex) &&
+                            !(rowIndex == range.getFirstRow() && columnIndex == range.getFirstColumn())) {
+                        rows.remove();
+                        break;
+                    }
+                }
+            }
+        }
+
+        private void matchRow(final int rowIndex, final SheetCell cell) {
+            final CellType cellType = cell.getCellType();
+            if (cellType == CellType.ERROR) {
+                return;
+            }
+            final String cellFormat = getCellFormat(cell);
+            boolean matches = false;
+            //string comparison
+            if (cellFormat.equalsIgnoreCase("string") && valueFormat.equalsIgnoreCase("string")) {
+                matches = compareStringValue(cell.formatCellValue(formatter), value, operator);
+            }
+            //the value and the cell have different types
+            else if (!cellFormat.equalsIgnoreCase(valueFormat)) {
+                matches = operator.equals("!=");
+            }
+            //numeric comparison, both are date, time or number
+            else if (cellType == CellType.NUMERIC) {
+                matches = compareNumericValue(cell.getNumericCellValue(), valueNumeric, operator);
+            }
+            if (matches) {
+                matchingRows.add(rowIndex);
+            }
+        }
+
+        private static String getCellFormat(final SheetCell cell) {
+            if (cell.getCellType() != CellType.NUMERIC) {
+                return "string";
+            }
+            if (cell.isDateFormatted()) {
+                return cell.getNumericCellValue() < 1 ? "time" : "date";
+            }
+            return "num";
+        }
+    }
 }
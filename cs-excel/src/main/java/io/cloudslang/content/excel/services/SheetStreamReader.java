@@ -0,0 +1,417 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.excel.services;
+
+import io.cloudslang.content.excel.entities.ExcelOperationException;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.LocaleUtil;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.cloudslang.content.excel.services.ExcelServiceImpl.getFileFormat;
+import static io.cloudslang.content.excel.utils.Constants.FORMAT_XLSM;
+import static io.cloudslang.content.excel.utils.Constants.FORMAT_XLSX;
+
+/**
+ * Reads one worksheet of an xlsx or xlsm file with the SAX event model of POI, row by row, without loading the
+ * workbook. Only the shared strings table and the cell styles are kept in memory, the cells are handed to a
+ * RowHandler as they are parsed.
+ * The formulas are not evaluated, their values are the results cached in the file by the application that saved it.
+ * When a formula has no cached result the reading stops with an UncachedFormulaException, the worksheet must be read
+ * with the user model to evaluate it.
+ */
+public class SheetStreamReader {
+
+    /**
+     * Receives the cells of a worksheet in the order of the file, the rows and the cells of a row are ascending.
+     * Missing rows and cells are not reported.
+     */
+    public interface RowHandler {
+        void cell(int rowIndex, int columnIndex, SheetCell cell);
+
+        void endRow(int rowIndex);
+
+        /**
+         * @param lastRowIndex  the index of the last row of the worksheet, 0 if the worksheet has no rows
+         * @param mergedRegions the merged regions of the worksheet
+         */
+        void endSheet(int lastRowIndex, List<CellRangeAddress> mergedRegions);
+    }
+
+    /**
+     * Thrown when a formula of the worksheet has no cached result.
+     */
+    public static class UncachedFormulaException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        UncachedFormulaException(final String cellReference) {
+            super("The formula of cell " + cellReference + " has no cached result.");
+        }
+    }
+
+    /**
+     * @param fileName an Excel file name
+     * @return true if the file is an Office Open XML workbook that can be streamed
+     */
+    public static boolean isStreamable(final String fileName) {
+        final String format = fileName == null ? null : getFileFormat(fileName);
+        if (!FORMAT_XLSX.equalsIgnoreCase(format) && !FORMAT_XLSM.equalsIgnoreCase(format)) {
+            return false;
+        }
+        //an xlsx file is a zip archive, the legacy binary files are left to the user model
+        try (InputStream input = new FileInputStream(fileName)) {
+            final byte[] magic = new byte[4];
+            return input.read(magic) == magic.length && magic[0] == 'P' && magic[1] == 'K' && magic[2] == 3 && magic[3] == 4;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Streams the cells of a worksheet to the handler.
+     *
+     * @param fileName  an xlsx or xlsm file name
+     * @param sheetName the name of the worksheet to read
+     * @param handler   the handler of the cells
+     * @throws ExcelOperationException  if the worksheet does not exist or the file can't be parsed
+     * @throws UncachedFormulaException if a formula of the worksheet has no cached result
+     */
+    public static void readSheet(final String fileName, final String sheetName, final RowHandler handler)
+            throws IOException, InvalidFormatException, ExcelOperationException, UncachedFormulaException {
+        final OPCPackage excelPackage = OPCPackage.open(fileName, PackageAccess.READ);
+        try {
+            final XSSFReader reader = new XSSFReader(excelPackage);
+            final ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(excelPackage);
+            final StylesTable styles = reader.getStylesTable();
+            final XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    //the worksheet names are case insensitive, like in Workbook.getSheet
+                    if (sheets.getSheetName().equalsIgnoreCase(sheetName)) {
+                        final XMLReader parser = newXMLReader();
+                        parser.setContentHandler(new SheetHandler(sharedStrings, styles, handler));
+                        parser.parse(new InputSource(sheet));
+                        return;
+                    }
+                }
+            }
+            throw new ExcelOperationException("Worksheet " + sheetName + " does not exist.");
+        } catch (SAXException e) {
+            if (e.getException() instanceof UncachedFormulaException) {
+                throw (UncachedFormulaException) e.getException();
+            }
+            throw new ExcelOperationException(e.getMessage(), e);
+        } catch (ParserConfigurationException | OpenXML4JException e) {
+            throw new ExcelOperationException(e.getMessage(), e);
+        } finally {
+            //a package opened for reading is closed without saving it
+            excelPackage.revert();
+        }
+    }
+
+    private static XMLReader newXMLReader() throws ParserConfigurationException, SAXException {
+        final SAXParserFactory factory = SAXParserFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        return factory.newSAXParser().getXMLReader();
+    }
+
+    /**
+     * The value of a cell as it is stored in the worksheet, with the data format of its style.
+     * The methods behave like the ones of the POI cells with the same names.
+     */
+    public static class SheetCell {
+        private static final String BLANK_VALUE = "";
+        /**
+         * A cell missing from the worksheet.
+         */
+        public static final SheetCell BLANK = new SheetCell(CellType.BLANK, CellType._NONE, BLANK_VALUE, null, 0,
+                BuiltinFormats.getBuiltinFormat(0));
+
+        private final CellType cellType;
+        private final CellType cachedFormulaResultType;
+        private final String value;
+        private final String formula;
+        private final int formatIndex;
+        private final String formatString;
+
+        SheetCell(final CellType cellType, final CellType cachedFormulaResultType, final String value, final String formula,
+                  final int formatIndex, final String formatString) {
+            this.cellType = cellType;
+            this.cachedFormulaResultType = cachedFormulaResultType;
+            this.value = value;
+            this.formula = formula;
+            this.formatIndex = formatIndex;
+            this.formatString = formatString;
+        }
+
+        public CellType getCellType() {
+            return cellType;
+        }
+
+        public CellType getCachedFormulaResultType() {
+            return cachedFormulaResultType;
+        }
+
+        public double getNumericCellValue() {
+            return value.isEmpty() ? 0 : Double.parseDouble(value);
+        }
+
+        public String getStringCellValue() {
+            return value;
+        }
+
+        public boolean getBooleanCellValue() {
+            return "1".equals(value) || "true".equalsIgnoreCase(value);
+        }
+
+        public String getCellFormula() {
+            return formula;
+        }
+
+        public boolean isDateFormatted() {
+            return cellType == CellType.NUMERIC && DateUtil.isADateFormat(formatIndex, formatString) &&
+                    DateUtil.isValidExcelDate(getNumericCellValue());
+        }
+
+        /**
+         * @return the value formatted as DataFormatter.formatCellValue formats it without a formula evaluator
+         */
+        public String formatCellValue(final DataFormatter formatter) {
+            switch (cellType) {
+                case NUMERIC:
+                    return formatter.formatRawCellContents(getNumericCellValue(), formatIndex, formatString);
+                case BOOLEAN:
+                    return getBooleanCellValue() ? "TRUE" : "FALSE";
+                case FORMULA:
+                    return formula;
+                default:
+                    return value;
+            }
+        }
+
+        /**
+         * @return the cell with the cached result of its formula, as it is after changing the type of the formula
+         * cell to the type of its result
+         */
+        public SheetCell withFormulaResult() {
+            if (cellType != CellType.FORMULA) {
+                return this;
+            }
+            switch (cachedFormulaResultType) {
+                case BOOLEAN:
+                    return new SheetCell(CellType.STRING, CellType._NONE, getBooleanCellValue() ? "TRUE" : "FALSE", null, formatIndex, formatString);
+                case NUMERIC:
+                    return new SheetCell(CellType.NUMERIC, CellType._NONE, value, null, formatIndex, formatString);
+                case STRING:
+                    return new SheetCell(value.trim().isEmpty() ? CellType.BLANK : CellType.STRING, CellType._NONE,
+                            value.trim().isEmpty() ? BLANK_VALUE : value, null, formatIndex, formatString);
+                default:
+                    return this;
+            }
+        }
+
+        @Override
+        public String toString() {
+            switch (cellType) {
+                case NUMERIC:
+                    if (isDateFormatted()) {
+                        final DateFormat dateFormat = new SimpleDateFormat("dd-MMM-yyyy", LocaleUtil.getUserLocale());
+                        dateFormat.setTimeZone(LocaleUtil.getUserTimeZone());
+                        return dateFormat.format(DateUtil.getJavaDate(getNumericCellValue()));
+                    }
+                    return Double.toString(getNumericCellValue());
+                case BOOLEAN:
+                    return getBooleanCellValue() ? "TRUE" : "FALSE";
+                case FORMULA:
+                    return formula;
+                default:
+                    return value;
+            }
+        }
+    }
+
+    private static class SheetHandler extends DefaultHandler {
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final StylesTable styles;
+        private final RowHandler handler;
+        private final List<CellRangeAddress> mergedRegions = new ArrayList<>();
+        private final StringBuilder value = new StringBuilder();
+        private final StringBuilder formula = new StringBuilder();
+
+        private int rowIndex = -1;
+        private int lastRowIndex = 0;
+        private int columnIndex = -1;
+        private String cellType;
+        private String cellStyle;
+        private boolean hasValue;
+        private boolean hasFormula;
+        //the element which text is collected, null outside v, f and the text of an inline string
+        private StringBuilder text;
+        private boolean inPhoneticRun;
+
+        SheetHandler(final ReadOnlySharedStringsTable sharedStrings, final StylesTable styles, final RowHandler handler) {
+            this.sharedStrings = sharedStrings;
+            this.styles = styles;
+            this.handler = handler;
+        }
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+            switch (localName) {
+                case "row":
+                    final String rowReference = attributes.getValue("r");
+                    rowIndex = rowReference == null ? rowIndex + 1 : Integer.parseInt(rowReference) - 1;
+                    columnIndex = -1;
+                    break;
+                case "c":
+                    final String cellReference = attributes.getValue("r");
+                    columnIndex = cellReference == null ? columnIndex + 1 : new CellReference(cellReference).getCol();
+                    cellType = attributes.getValue("t");
+                    cellStyle = attributes.getValue("s");
+                    value.setLength(0);
+                    formula.setLength(0);
+                    hasValue = false;
+                    hasFormula = false;
+                    break;
+                case "v":
+                    hasValue = true;
+                    text = value;
+                    break;
+                case "f":
+                    hasFormula = true;
+                    text = formula;
+                    break;
+                case "t":
+                    //the text of an inline string, the phonetic runs are not part of the value
+                    if ("inlineStr".equals(cellType) && !inPhoneticRun) {
+                        hasValue = true;
+                        text = value;
+                    }
+                    break;
+                case "rPh":
+                    inPhoneticRun = true;
+                    break;
+                case "mergeCell":
+                    mergedRegions.add(CellRangeAddress.valueOf(attributes.getValue("ref")));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+            switch (localName) {
+                case "v":
+                case "f":
+                case "t":
+                    text = null;
+                    break;
+                case "rPh":
+                    inPhoneticRun = false;
+                    break;
+                case "c":
+                    handler.cell(rowIndex, columnIndex, newCell());
+                    break;
+                case "row":
+                    lastRowIndex = rowIndex;
+                    handler.endRow(rowIndex);
+                    break;
+                case "worksheet":
+                    handler.endSheet(lastRowIndex, mergedRegions);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) {
+            if (text != null) {
+                text.append(ch, start, length);
+            }
+        }
+
+        private SheetCell newCell() throws SAXException {
+            int formatIndex = 0;
+            String formatString = BuiltinFormats.getBuiltinFormat(0);
+            if (cellStyle != null && styles != null) {
+                final XSSFCellStyle style = styles.getStyleAt(Integer.parseInt(cellStyle));
+                if (style != null) {
+                    formatIndex = style.getDataFormat();
+                    formatString = style.getDataFormatString();
+                    if (formatString == null) {
+                        formatString = BuiltinFormats.getBuiltinFormat(formatIndex);
+                    }
+                }
+            }
+            if (hasFormula && !hasValue) {
+                throw new SAXException(new UncachedFormulaException(new CellReference(rowIndex, columnIndex).formatAsString()));
+            }
+            final CellType valueType = getValueType();
+            final String cellValue = valueType == CellType.STRING && "s".equals(cellType) ?
+                    sharedStrings.getEntryAt(Integer.parseInt(value.toString().trim())) : value.toString();
+            if (hasFormula) {
+                return new SheetCell(CellType.FORMULA, valueType, cellValue, formula.toString(), formatIndex, formatString);
+            }
+            return new SheetCell(hasValue ? valueType : CellType.BLANK, CellType._NONE, hasValue ? cellValue : SheetCell.BLANK_VALUE,
+                    null, formatIndex, formatString);
+        }
+
+        private CellType getValueType() {
+            if (cellType == null || "n".equals(cellType)) {
+                return value.length() == 0 ? CellType.BLANK : CellType.NUMERIC;
+            }
+            switch (cellType) {
+                case "b":
+                    return CellType.BOOLEAN;
+                case "e":
+                    return CellType.ERROR;
+                default:
+                    return CellType.STRING;
+            }
+        }
+    }
+}
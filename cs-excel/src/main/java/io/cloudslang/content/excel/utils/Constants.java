@@ -32,6 +32,11 @@ public class Constants {
     static final String EXCEPTION_NEGATIVE_INDEX = "The value '%s' for %s input cannot be a negative number.";
     static final String EXCEPTION_INVALID_INDEX_NOT_A_NUMBER = "The value '%s' for %s input is not a valid number.";
     static final String EXCEPTION_EMPTY = "The %s input can't be empty.";
+    static final String EXCEPTION_NOT_GREATER_THAN_ZERO = "The value '%s' for %s input must be greater than 0.";
+    public static final String EXCEPTION_INVALID_OPERATION = "The operation '%s' is not valid. Expecting append followed by " +
+            "the worksheet name and the row values, or set followed by the worksheet name, the row index, the column index and the value.";
+    public static final String EXCEPTION_FLUSHED_ROW = "The operation '%s' can't be applied. The row %d of the new worksheet %s " +
+            "is already written to the file, only the last %d rows of a new worksheet can be set. Increase the rowWindowSize or set the row earlier.";
     static final String EXCEPTION_FILE_ALREADY_EXISTS = "File already exists";
     public static final String EXCEPTION_WORKSHEET_NAME_EMPTY = "The %s can't be null or empty.";
     public static final String ROW_DATA_REQD_MSG = "Data that should be added or modified in the document is not given.";
@@ -43,6 +48,7 @@ public class Constants {
     public static final String DEFAULT_COLUMN_DELIMITER = ",";
     public static final String DEFAULT_DELIMITER_WORKSHEET_NAMES = ",";
     public static final String DEFAULT_ENABLING_ROUNDING_FUNCTION = "false";
+    public static final String DEFAULT_ROW_WINDOW_SIZE = "100";
     public static String FORMAT_XLSX = "XLSX";
     public static String FORMAT_XLS = "XLS";
     public static String FORMAT_XLSM = "XLSM";
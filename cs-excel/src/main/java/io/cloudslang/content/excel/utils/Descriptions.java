@@ -129,4 +129,25 @@ public class Descriptions {
         public static final String EXCEPTION_DESC = "An error message in case there was an error while modifying the cell.";
     }
 
+    public static class BatchUpdate {
+        public static final String OPERATIONS_DESC = "A delimited list of operations applied in order to the Excel document, " +
+                "which is written only once, after all the operations were applied. The fields of an operation are separated " +
+                "by the columnDelimiter and a worksheet that does not exist is created. The valid operations are:\n" +
+                "append,<worksheetName>,<value1>,<value2>... - adds a row after the last row of the worksheet.\n" +
+                "set,<worksheetName>,<rowIndex>,<columnIndex>,<value> - sets the value of a cell.\n" +
+                "Example: append,Sheet2,1,John,Doe|set,Sheet1,0,3,total";
+        public static final String OPERATION_DELIMITER_DESC = "The delimiter used to separate the operations.\n" +
+                "Default value: | (pipe)";
+        public static final String COLUMN_DELIMITER_DESC = "The delimiter used to separate the fields of an operation.\n" +
+                "Default value: , (comma)";
+        public static final String ROW_WINDOW_SIZE_DESC = "The number of rows kept in memory for every worksheet created by the " +
+                "operations of an xlsx or xlsm document. The older rows are flushed to a temporary file, so those rows " +
+                "can no longer be changed by a later set operation. The operations are rejected before the document is changed " +
+                "when a set operation targets such a row.\n" +
+                "Default value: 100";
+        public static final String RETURN_RESULT_DESC = "This is the primary output. Returns the number of operations that were applied.";
+        public static final String SUCCESS_DESC = "All the operations were applied successfully.";
+        public static final String FAILURE_DESC = "Failed to apply the operations, the Excel document was not changed.";
+        public static final String EXCEPTION_DESC = "An error message in case there was an error while applying the operations.";
+    }
 }
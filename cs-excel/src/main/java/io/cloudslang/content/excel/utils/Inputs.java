@@ -67,4 +67,11 @@ public class Inputs extends InputNames {
         public static final String COLUMN_DELIMITER = "columnDelimiter";
         public static final String OVERWRITE_DATA = "overwriteData";
     }
+
+    public static class BatchUpdate {
+        public static final String OPERATIONS = "operations";
+        public static final String OPERATION_DELIMITER = "operationDelimiter";
+        public static final String COLUMN_DELIMITER = "columnDelimiter";
+        public static final String ROW_WINDOW_SIZE = "rowWindowSize";
+    }
 }
@@ -33,10 +33,13 @@ import static io.cloudslang.content.excel.utils.Constants.EXCEPTION_INVALID_INDE
 import static io.cloudslang.content.excel.utils.Constants.EXCEPTION_INVALID_NUMBER;
 import static io.cloudslang.content.excel.utils.Constants.EXCEPTION_INVALID_OPERATOR;
 import static io.cloudslang.content.excel.utils.Constants.EXCEPTION_NEGATIVE_INDEX;
+import static io.cloudslang.content.excel.utils.Constants.EXCEPTION_NOT_GREATER_THAN_ZERO;
 import static io.cloudslang.content.excel.utils.Inputs.AddCell.COLUMN_INDEX;
 import static io.cloudslang.content.excel.utils.Inputs.AddCell.OVERWRITE_DATA;
 import static io.cloudslang.content.excel.utils.Inputs.AddCell.ROW_DATA;
 import static io.cloudslang.content.excel.utils.Inputs.AddCell.ROW_INDEX;
+import static io.cloudslang.content.excel.utils.Inputs.BatchUpdate.OPERATIONS;
+import static io.cloudslang.content.excel.utils.Inputs.BatchUpdate.ROW_WINDOW_SIZE;
 import static io.cloudslang.content.excel.utils.Inputs.CommonInputs.EXCEL_FILE_NAME;
 import static io.cloudslang.content.excel.utils.Inputs.GetCellInputs.*;
 import static io.cloudslang.content.excel.utils.Inputs.GetRowIndexByCondition.COLUMN_INDEX_TO_QUERY;
@@ -130,6 +133,18 @@ public final class InputsValidation {
         return exceptionMessages;
     }
 
+    @NotNull
+    public static List<String> verifyBatchUpdateInputs(@NotNull final String excelFileName,
+                                                       @NotNull final String operations,
+                                                       @NotNull final String rowWindowSize) {
+        final List<String> exceptionMessages = new ArrayList<>();
+        addVerifyFile(exceptionMessages, excelFileName, EXCEL_FILE_NAME);
+        addVerifyNonEmpty(exceptionMessages, operations, OPERATIONS);
+        addVerifyGreaterThanZero(exceptionMessages, rowWindowSize, ROW_WINDOW_SIZE);
+
+        return exceptionMessages;
+    }
+
     @NotNull
     public static List<String> verifyNewExcelDocument(final String excelFileName) {
         final List<String> exceptionMessages = new ArrayList<>();
@@ -167,6 +182,18 @@ public final class InputsValidation {
         return exceptions;
     }
 
+    @NotNull
+    private static List<String> addVerifyGreaterThanZero(@NotNull List<String> exceptions, @NotNull final String input, @NotNull final String inputName) {
+        if (isEmpty(input)) {
+            exceptions.add(String.format(EXCEPTION_EMPTY, inputName));
+        } else if (!NumberUtilities.isValidInt(input)) {
+            exceptions.add(String.format(EXCEPTION_INVALID_NUMBER, input, inputName));
+        } else if (Integer.parseInt(input) <= 0) {
+            exceptions.add(String.format(EXCEPTION_NOT_GREATER_THAN_ZERO, input, inputName));
+        }
+        return exceptions;
+    }
+
     @NotNull
     private static List<String> addVerifyFile(@NotNull List<String> exceptions, @NotNull final String filePath, @NotNull final String inputName) {
         if (isEmpty(filePath)) {
@@ -0,0 +1,162 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.excel.services;
+
+import io.cloudslang.content.excel.entities.BatchUpdateInputs;
+import io.cloudslang.content.excel.entities.ExcelCommonInputs;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Map;
+
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
+import static io.cloudslang.content.constants.ReturnCodes.FAILURE;
+import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BatchUpdateServiceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File excelFile;
+
+    @Before
+    public void setUp() throws IOException {
+        excelFile = folder.newFile("batch.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream output = new FileOutputStream(excelFile)) {
+            final Sheet sheet = workbook.createSheet("Data");
+            Row row = sheet.createRow(0);
+            row.createCell(0).setCellValue("Name");
+            row.createCell(1).setCellValue("Amount");
+            row = sheet.createRow(1);
+            row.createCell(0).setCellValue("apple");
+            row.createCell(1).setCellValue(1);
+            workbook.write(output);
+        }
+    }
+
+    @Test
+    public void batchUpdateAppendsRows() throws IOException {
+        final Map<String, String> result = batchUpdate("append,Data,pear,2|append,Data,plum,3", "100");
+
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+        assertEquals("2", result.get(RETURN_RESULT));
+        try (XSSFWorkbook workbook = readExcelFile()) {
+            final Sheet sheet = workbook.getSheet("Data");
+            assertEquals(3, sheet.getLastRowNum());
+            assertEquals("pear", sheet.getRow(2).getCell(0).getStringCellValue());
+            assertEquals(2, sheet.getRow(2).getCell(1).getNumericCellValue(), 0);
+            assertEquals("plum", sheet.getRow(3).getCell(0).getStringCellValue());
+            assertEquals(3, sheet.getRow(3).getCell(1).getNumericCellValue(), 0);
+        }
+    }
+
+    @Test
+    public void batchUpdateSetsCells() throws IOException {
+        final Map<String, String> result = batchUpdate("set,Data,1,0,fig|set,Data,4,2,5.5", "100");
+
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+        try (XSSFWorkbook workbook = readExcelFile()) {
+            final Sheet sheet = workbook.getSheet("Data");
+            assertEquals("fig", sheet.getRow(1).getCell(0).getStringCellValue());
+            assertEquals(1, sheet.getRow(1).getCell(1).getNumericCellValue(), 0);
+            assertEquals(5.5, sheet.getRow(4).getCell(2).getNumericCellValue(), 0);
+            assertNull(sheet.getRow(3));
+        }
+    }
+
+    @Test
+    public void batchUpdateMixedOperations() throws IOException {
+        final Map<String, String> result = batchUpdate("append,Data,pear,2|append,Totals,total|set,data,0,2,Checked|" +
+                "append,totals,3|set,TOTALS,0,1,sum", "100");
+
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+        assertEquals("5", result.get(RETURN_RESULT));
+        try (XSSFWorkbook workbook = readExcelFile()) {
+            //the worksheet names are case insensitive, the new worksheet is created once
+            assertEquals(2, workbook.getNumberOfSheets());
+            final Sheet data = workbook.getSheet("Data");
+            assertEquals("pear", data.getRow(2).getCell(0).getStringCellValue());
+            assertEquals("Checked", data.getRow(0).getCell(2).getStringCellValue());
+            final Sheet totals = workbook.getSheet("Totals");
+            assertEquals("Totals", totals.getSheetName());
+            assertEquals("total", totals.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("sum", totals.getRow(0).getCell(1).getStringCellValue());
+            assertEquals(3, totals.getRow(1).getCell(0).getNumericCellValue(), 0);
+        }
+    }
+
+    @Test
+    public void batchUpdateSetOfFlushedRowLeavesFileUnchanged() throws IOException {
+        final byte[] content = Files.readAllBytes(excelFile.toPath());
+
+        final Map<String, String> result = batchUpdate("append,Data,pear,2|append,New,a|append,New,b|append,New,c|" +
+                "set,New,0,1,x", "2");
+
+        assertEquals(FAILURE, result.get(RETURN_CODE));
+        assertTrue(result.get(RETURN_RESULT), result.get(RETURN_RESULT).contains("The row 0 of the new worksheet New"));
+        assertArrayEquals(content, Files.readAllBytes(excelFile.toPath()));
+    }
+
+    @Test
+    public void batchUpdateSetOfRowInWindow() throws IOException {
+        final Map<String, String> result = batchUpdate("append,New,a|append,New,b|append,New,c|set,New,1,1,x", "2");
+
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+        try (XSSFWorkbook workbook = readExcelFile()) {
+            final Sheet sheet = workbook.getSheet("New");
+            assertEquals("b", sheet.getRow(1).getCell(0).getStringCellValue());
+            assertEquals("x", sheet.getRow(1).getCell(1).getStringCellValue());
+            assertEquals("c", sheet.getRow(2).getCell(0).getStringCellValue());
+        }
+    }
+
+    private Map<String, String> batchUpdate(final String operations, final String rowWindowSize) {
+        return BatchUpdateService.batchUpdate(BatchUpdateInputs.builder()
+                .commonInputs(ExcelCommonInputs.builder()
+                        .excelFileName(excelFile.getAbsolutePath())
+                        .build())
+                .operations(operations)
+                .operationDelimiter("|")
+                .columnDelimiter(",")
+                .rowWindowSize(rowWindowSize)
+                .build());
+    }
+
+    private XSSFWorkbook readExcelFile() throws IOException {
+        try (InputStream input = new FileInputStream(excelFile)) {
+            return new XSSFWorkbook(input);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.excel.services;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFFormulaEvaluator;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+/**
+ * Writes the same small worksheet as an xlsx file, which is streamed, and as an xls file, which is read with the
+ * user model, so the results of both can be compared.
+ */
+class ExcelTestFiles {
+    static final String WORKSHEET_NAME = "Data";
+
+    private ExcelTestFiles() {
+    }
+
+    /**
+     * @param cacheFormulaResults true to save the results of the formulas in the file, like Excel does
+     */
+    static String newXlsxFile(final TemporaryFolder folder, final boolean cacheFormulaResults) throws IOException {
+        final XSSFWorkbook workbook = new XSSFWorkbook();
+        fillWorksheet(workbook);
+        if (cacheFormulaResults) {
+            XSSFFormulaEvaluator.evaluateAllFormulaCells(workbook);
+        }
+        return write(workbook, folder.newFile("data.xlsx"));
+    }
+
+    static String newXlsFile(final TemporaryFolder folder) throws IOException {
+        final HSSFWorkbook workbook = new HSSFWorkbook();
+        fillWorksheet(workbook);
+        return write(workbook, folder.newFile("data.xls"));
+    }
+
+    private static void fillWorksheet(final Workbook workbook) {
+        final CellStyle dateStyle = workbook.createCellStyle();
+        dateStyle.setDataFormat((short) 14);
+        final CellStyle fractionStyle = workbook.createCellStyle();
+        fractionStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("# ?/?"));
+
+        final Sheet sheet = workbook.createSheet(WORKSHEET_NAME);
+        final Row header = sheet.createRow(0);
+        header.createCell(0).setCellValue("Name");
+        header.createCell(1).setCellValue("Amount");
+        header.createCell(2).setCellValue("Date");
+        header.createCell(3).setCellValue("Flag");
+        header.createCell(4).setCellValue("Total");
+
+        Row row = sheet.createRow(1);
+        row.createCell(0).setCellValue("apple");
+        row.createCell(1).setCellValue(1.5);
+        row.createCell(2).setCellValue(new GregorianCalendar(2020, Calendar.JANUARY, 2).getTime());
+        row.getCell(2).setCellStyle(dateStyle);
+        row.createCell(3).setCellValue(true);
+        row.createCell(4).setCellFormula("B2*2");
+
+        row = sheet.createRow(2);
+        row.createCell(0).setCellValue("pear");
+        row.createCell(1).setCellValue(2.345);
+        row.createCell(2).setCellValue(new GregorianCalendar(2021, Calendar.JUNE, 30).getTime());
+        row.getCell(2).setCellStyle(dateStyle);
+        row.createCell(3).setCellValue(false);
+        row.createCell(4).setCellFormula("A3&\"s\"");
+
+        //the row 3 is missing
+        row = sheet.createRow(4);
+        row.createCell(0).setCellValue("plum");
+        row.createCell(1).setCellValue(1.25);
+        row.getCell(1).setCellStyle(fractionStyle);
+        row.createCell(4).setCellFormula("D2");
+
+        row = sheet.createRow(5);
+        row.createCell(0).setCellValue("fig");
+        row.createCell(1).setCellValue(3);
+        row.createCell(4).setCellFormula("B6>2");
+
+        row = sheet.createRow(6);
+        row.createCell(0).setCellValue("kiwi");
+        sheet.addMergedRegion(new CellRangeAddress(5, 6, 1, 1));
+    }
+
+    private static String write(final Workbook workbook, final File file) throws IOException {
+        try (OutputStream output = new FileOutputStream(file)) {
+            workbook.write(output);
+        }
+        workbook.close();
+        return file.getAbsolutePath();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.excel.services;
+
+import io.cloudslang.content.excel.entities.ExcelCommonInputs;
+import io.cloudslang.content.excel.entities.GetCellInputs;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Map;
+
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
+import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
+import static io.cloudslang.content.excel.services.ExcelTestFiles.WORKSHEET_NAME;
+import static io.cloudslang.content.excel.services.ExcelTestFiles.newXlsFile;
+import static io.cloudslang.content.excel.services.ExcelTestFiles.newXlsxFile;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The xlsx files are streamed, the xls files are read with the user model, both must give the same results.
+ */
+public class GetCellServiceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void getCellStreamingAsUserModel() throws Exception {
+        final String xlsxFile = newXlsxFile(folder, true);
+        final String xlsFile = newXlsFile(folder);
+
+        for (String hasHeader : new String[]{"yes", "no"}) {
+            for (String rounding : new String[]{"true", "false"}) {
+                final Map<String, String> expected = getCell(xlsFile, WORKSHEET_NAME, hasHeader, "", "", rounding);
+                assertEquals(SUCCESS, expected.get(RETURN_CODE));
+                assertEquals(expected, getCell(xlsxFile, WORKSHEET_NAME, hasHeader, "", "", rounding));
+            }
+        }
+    }
+
+    @Test
+    public void getCellSelectedRowsAndColumns() throws Exception {
+        final String xlsxFile = newXlsxFile(folder, true);
+        final String xlsFile = newXlsFile(folder);
+
+        final Map<String, String> expected = getCell(xlsFile, WORKSHEET_NAME, "yes", "1:3,5", "0,2:4", "false");
+        assertEquals(SUCCESS, expected.get(RETURN_CODE));
+        assertEquals(expected, getCell(xlsxFile, WORKSHEET_NAME, "yes", "1:3,5", "0,2:4", "false"));
+    }
+
+    @Test
+    public void getCellWorksheetNameIgnoresCase() throws Exception {
+        final String xlsxFile = newXlsxFile(folder, true);
+        final String xlsFile = newXlsFile(folder);
+
+        final Map<String, String> expected = getCell(xlsFile, WORKSHEET_NAME.toLowerCase(), "yes", "", "", "false");
+        assertEquals(SUCCESS, expected.get(RETURN_CODE));
+        assertEquals(expected, getCell(xlsxFile, WORKSHEET_NAME.toLowerCase(), "yes", "", "", "false"));
+    }
+
+    @Test
+    public void getCellEvaluatesFormulasWithoutCachedResults() throws Exception {
+        final String xlsxFile = newXlsxFile(folder, false);
+        final String xlsFile = newXlsFile(folder);
+
+        final Map<String, String> expected = getCell(xlsFile, WORKSHEET_NAME, "yes", "", "4", "false");
+        assertEquals("3.0|pears||true|true|", expected.get(RETURN_RESULT));
+        assertEquals(expected, getCell(xlsxFile, WORKSHEET_NAME, "yes", "", "4", "false"));
+    }
+
+    private static Map<String, String> getCell(final String fileName, final String worksheetName, final String hasHeader,
+                                               final String rowIndex, final String columnIndex, final String rounding) {
+        return GetCellService.getCell(GetCellInputs.builder()
+                .commonInputs(ExcelCommonInputs.builder()
+                        .excelFileName(fileName)
+                        .worksheetName(worksheetName)
+                        .build())
+                .hasHeader(hasHeader)
+                .firstRowIndex("0")
+                .rowIndex(rowIndex)
+                .columnIndex(columnIndex)
+                .rowDelimiter("|")
+                .columnDelimiter(",")
+                .enablingRoundingFunction(rounding)
+                .build());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.excel.services;
+
+import io.cloudslang.content.excel.entities.ExcelCommonInputs;
+import io.cloudslang.content.excel.entities.GetRowIndexByConditionInputs;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Map;
+
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
+import static io.cloudslang.content.excel.services.ExcelTestFiles.WORKSHEET_NAME;
+import static io.cloudslang.content.excel.services.ExcelTestFiles.newXlsFile;
+import static io.cloudslang.content.excel.services.ExcelTestFiles.newXlsxFile;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The xlsx files are streamed, the xls files are read with the user model, both must give the same results.
+ */
+public class GetRowIndexByConditionServiceTest {
+
+    private static final String[][] CONDITIONS = {{"==", "1.5"}, {"!=", "3"}, {">", "2"}, {">=", "1.25"}, {"<", "3"}, {"<=", "0"},
+            {"==", "pear"}, {"!=", "apple"}, {">", "2020/06/01"}, {"<=", "2020/01/02"}, {"==", "50%"}};
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void getRowIndexStreamingAsUserModel() throws Exception {
+        final String xlsxFile = newXlsxFile(folder, true);
+        final String xlsFile = newXlsFile(folder);
+
+        for (int column = 0; column < 5; column++) {
+            for (String[] condition : CONDITIONS) {
+                final Map<String, String> expected = getRowIndex(xlsFile, WORKSHEET_NAME, column, condition[0], condition[1]);
+                assertEquals(SUCCESS, expected.get(RETURN_CODE));
+                assertEquals("column " + column + " " + condition[0] + " " + condition[1], expected,
+                        getRowIndex(xlsxFile, WORKSHEET_NAME, column, condition[0], condition[1]));
+            }
+        }
+    }
+
+    @Test
+    public void getRowIndexWorksheetNameIgnoresCase() throws Exception {
+        final String xlsxFile = newXlsxFile(folder, true);
+        final String xlsFile = newXlsFile(folder);
+
+        final Map<String, String> expected = getRowIndex(xlsFile, WORKSHEET_NAME.toUpperCase(), 1, ">", "1");
+        assertEquals(SUCCESS, expected.get(RETURN_CODE));
+        assertEquals(expected, getRowIndex(xlsxFile, WORKSHEET_NAME.toUpperCase(), 1, ">", "1"));
+    }
+
+    @Test
+    public void getRowIndexEvaluatesFormulasWithoutCachedResults() throws Exception {
+        final String xlsxFile = newXlsxFile(folder, false);
+        final String xlsFile = newXlsFile(folder);
+
+        final Map<String, String> expected = getRowIndex(xlsFile, WORKSHEET_NAME, 4, ">=", "3");
+        assertEquals(SUCCESS, expected.get(RETURN_CODE));
+        assertEquals(expected, getRowIndex(xlsxFile, WORKSHEET_NAME, 4, ">=", "3"));
+    }
+
+    private static Map<String, String> getRowIndex(final String fileName, final String worksheetName, final int column,
+                                                   final String operator, final String value) {
+        return GetRowIndexByConditionService.getRowIndexbyCondition(GetRowIndexByConditionInputs.builder()
+                .commonInputs(ExcelCommonInputs.builder()
+                        .excelFileName(fileName)
+                        .worksheetName(worksheetName)
+                        .build())
+                .hasHeader("yes")
+                .firstRowIndex("0")
+                .columnIndextoQuery(String.valueOf(column))
+                .operator(operator)
+                .value(value)
+                .build());
+    }
+}
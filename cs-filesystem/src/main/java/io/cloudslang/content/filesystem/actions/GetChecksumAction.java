@@ -0,0 +1,67 @@
+/*
+ * (c) Copyright 2020 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.filesystem.actions;
+
+import com.hp.oo.sdk.content.annotations.Action;
+import com.hp.oo.sdk.content.annotations.Output;
+import com.hp.oo.sdk.content.annotations.Param;
+import com.hp.oo.sdk.content.annotations.Response;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
+import io.cloudslang.content.constants.OutputNames;
+import io.cloudslang.content.constants.ResponseNames;
+import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.filesystem.constants.InputNames;
+import io.cloudslang.content.filesystem.entities.GetChecksumInputs;
+import io.cloudslang.content.filesystem.services.GetChecksumService;
+import io.cloudslang.content.utils.OutputUtilities;
+
+import java.util.Map;
+
+import static io.cloudslang.content.constants.OutputNames.*;
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.filesystem.constants.Constants.GET_CHECKSUM;
+import static io.cloudslang.content.filesystem.constants.Descriptions.GetChecksum.*;
+import static io.cloudslang.content.filesystem.constants.ResultsName.COUNT;
+
+public class GetChecksumAction {
+
+    @Action(name = GET_CHECKSUM,
+            outputs = {
+                    @Output(value = RETURN_RESULT, description = RETURN_RESULT_DESCRIPTION),
+                    @Output(value = RETURN_CODE, description = RETURN_CODE_DESCRIPTION),
+                    @Output(value = EXCEPTION, description = EXCEPTION_DESCRIPTION),
+                    @Output(value = COUNT, description = COUNT_DESCRIPTION)
+            },
+            responses = {
+                    @Response(text = ResponseNames.SUCCESS, field = OutputNames.RETURN_CODE, value = ReturnCodes.SUCCESS, matchType = MatchType.COMPARE_EQUAL),
+                    @Response(text = ResponseNames.FAILURE, field = RETURN_CODE, value = ReturnCodes.FAILURE, matchType = MatchType.COMPARE_EQUAL, isOnFail = true, isDefault = true)
+            })
+    public Map<String, String> execute(@Param(value = InputNames.SOURCE, description = SOURCE_DESCRIPTION, required = true) String source,
+                                       @Param(value = InputNames.ALGORITHMS, description = ALGORITHMS_DESCRIPTION) String algorithms,
+                                       @Param(value = InputNames.THREAD_COUNT, description = THREAD_COUNT_DESCRIPTION) String threadCount,
+                                       @Param(value = InputNames.CACHE_FILE, description = CACHE_FILE_DESCRIPTION) String cacheFile) {
+
+        try {
+            return GetChecksumService.execute(GetChecksumInputs.builder()
+                    .source(source)
+                    .algorithms(algorithms)
+                    .threadCount(threadCount)
+                    .cacheFile(cacheFile)
+                    .build());
+        } catch (Exception ex) {
+            return OutputUtilities.getFailureResultsMap(ex);
+        }
+    }
+}
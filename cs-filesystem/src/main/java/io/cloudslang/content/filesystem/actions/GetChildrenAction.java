@@ -33,6 +33,9 @@ import static io.cloudslang.content.constants.OutputNames.*;
 import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
 import static io.cloudslang.content.filesystem.constants.Constants.GET_CHILDREN;
 import static io.cloudslang.content.filesystem.constants.Descriptions.GetChildren.*;
+import static io.cloudslang.content.filesystem.constants.OutputNames.MODIFIED_DATES;
+import static io.cloudslang.content.filesystem.constants.OutputNames.SIZES;
+import static io.cloudslang.content.filesystem.constants.OutputNames.TYPES;
 import static io.cloudslang.content.filesystem.constants.ResultsName.COUNT;
 
 public class GetChildrenAction {
@@ -42,18 +45,34 @@ public class GetChildrenAction {
                     @Output(value = RETURN_RESULT, description = RETURN_RESULT_DESCRIPTION),
                     @Output(value = RETURN_CODE, description = RETURN_CODE_DESCRIPTION),
                     @Output(value = EXCEPTION, description = EXCEPTION_DESCRIPTION),
-                    @Output(value = COUNT, description = COUNT_DESCRIPTION)
+                    @Output(value = COUNT, description = COUNT_DESCRIPTION),
+                    @Output(value = SIZES, description = SIZES_DESCRIPTION),
+                    @Output(value = MODIFIED_DATES, description = MODIFIED_DATES_DESCRIPTION),
+                    @Output(value = TYPES, description = TYPES_DESCRIPTION)
             },
             responses = {
                     @Response(text = ResponseNames.SUCCESS, field = OutputNames.RETURN_CODE, value = ReturnCodes.SUCCESS, matchType = MatchType.COMPARE_EQUAL),
                     @Response(text = ResponseNames.FAILURE, field = RETURN_CODE, value = ReturnCodes.FAILURE, matchType = MatchType.COMPARE_EQUAL, isOnFail = true, isDefault = true)
             })
     public Map<String,String> execute(@Param(value = InputNames.SOURCE, description = SOURCE_DESCRIPTION, required = true) String source,
-                                      @Param(value = InputNames.DELIMITER, description = DELIMITER_DESCRIPTION, required = true) String delimiter){
+                                      @Param(value = InputNames.DELIMITER, description = DELIMITER_DESCRIPTION, required = true) String delimiter,
+                                      @Param(value = InputNames.FILTER, description = FILTER_DESCRIPTION) String filter,
+                                      @Param(value = InputNames.MAX_DEPTH, description = MAX_DEPTH_DESCRIPTION) String maxDepth,
+                                      @Param(value = InputNames.OFFSET, description = OFFSET_DESCRIPTION) String offset,
+                                      @Param(value = InputNames.LIMIT, description = LIMIT_DESCRIPTION) String limit,
+                                      @Param(value = InputNames.INCLUDE_ATTRIBUTES, description = INCLUDE_ATTRIBUTES_DESCRIPTION) String includeAttributes){
 
 
         try{
-            return GetChildrenService.execute(GetChildrenInputs.builder().source(source).delimiter(delimiter).build());
+            return GetChildrenService.execute(GetChildrenInputs.builder()
+                    .source(source)
+                    .delimiter(delimiter)
+                    .filter(filter)
+                    .maxDepth(maxDepth)
+                    .offset(offset)
+                    .limit(limit)
+                    .includeAttributes(includeAttributes)
+                    .build());
         }catch(Exception ex){
             return OutputUtilities.getFailureResultsMap(ex);
         }
@@ -47,12 +47,17 @@ public class GetSizeAction {
      *
      * @param source    The file to read. It must be an absolute path.
      * @param threshold The threshold to compare the file size to (in bytes).
+     * @param threadCount The number of threads used to read the directory tree, if the source is a directory.
+     * @param largestFilesCount The number of largest files to return.
      * @return a map with following entries:
      * size: The file's size in bytes.
      * return_result: The result of the comparison between the file's size and the threshold. Otherwise it will contain
      *                the exception message.
      * return_code: 0 if the operation succeeded, -1 otherwise.
      * exception: The exception's stack trace if the operation failed. Empty otherwise.
+     * fileCount: The number of files whose sizes were added up.
+     * directoryCount: The number of directories under the source.
+     * largestFiles: The largest files, from the largest to the smallest.
      * @result FAILURE         The operation failed.
      * @result LESS_THAN       The file's size is smaller than the threshold.
      * @result EQUAL_TO        The file's size is the same as the threshold.
@@ -64,7 +69,10 @@ public class GetSizeAction {
                     @Output(value = OutputNames.SIZE, description = SIZE_DESCRIPTION),
                     @Output(value = OutputNames.RETURN_RESULT, description = GET_SIZE_RETURN_RESULT_DESCRIPTION),
                     @Output(value = OutputNames.RETURN_CODE, description = RETURN_CODE_DESCRIPTION),
-                    @Output(value = OutputNames.EXCEPTION, description = EXCEPTION_DESCRIPTION)
+                    @Output(value = OutputNames.EXCEPTION, description = EXCEPTION_DESCRIPTION),
+                    @Output(value = OutputNames.FILE_COUNT, description = FILE_COUNT_DESCRIPTION),
+                    @Output(value = OutputNames.DIRECTORY_COUNT, description = DIRECTORY_COUNT_DESCRIPTION),
+                    @Output(value = OutputNames.LARGEST_FILES, description = LARGEST_FILES_DESCRIPTION)
             },
             responses = {
                     @Response(text = LESS_THAN, field = RETURN_CODE, value = SUCCESS, matchType = MatchType.COMPARE_LESS,
@@ -77,7 +85,9 @@ public class GetSizeAction {
                             matchType = MatchType.COMPARE_EQUAL, isOnFail = true, isDefault = true, description = FAILURE_DESCRIPTION)
             })
     public Map<String, String> execute(@Param(value = InputNames.SOURCE, required = true, description = SOURCE_DESCRIPTION) String source,
-                                       @Param(value = InputNames.THRESHOLD, required = true, description = THRESHOLD_DESCRIPTION) String threshold) {
+                                       @Param(value = InputNames.THRESHOLD, required = true, description = THRESHOLD_DESCRIPTION) String threshold,
+                                       @Param(value = InputNames.THREAD_COUNT, description = THREAD_COUNT_DESCRIPTION) String threadCount,
+                                       @Param(value = InputNames.LARGEST_FILES_COUNT, description = LARGEST_FILES_COUNT_DESCRIPTION) String largestFilesCount) {
 
         Map<String, String> result;
 
@@ -85,6 +95,8 @@ public class GetSizeAction {
             GetSizeInputs input = new GetSizeInputs.Builder()
                     .source(source)
                     .threshold(threshold)
+                    .threadCount(threadCount)
+                    .largestFilesCount(largestFilesCount)
                     .build();
 
             result = service.execute(input);
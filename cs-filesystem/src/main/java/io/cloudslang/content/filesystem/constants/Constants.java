@@ -40,4 +40,23 @@ public final class Constants {
     public static final String EQUALS_VALUE_RETURN_RESULT = "The file's checksum is equal to the compareTo input (%s)";
     public static final String NOT_EQUAL_VALUE_RETURN_RESULT = "The file's checksum is not equal to the compareTo input (%s)";
 
+    public static final String GET_CHECKSUM = "Get Checksum";
+    public static final String CRC32 = "CRC32";
+    public static final String CRC32C = "CRC32C";
+    public static final String DEFAULT_ALGORITHMS = "MD5";
+    public static final String DEFAULT_THREAD_COUNT = "4";
+    public static final String CHECKSUM_LINE = "%s (%s) = %s";
+    public static final String NEW_LINE = "\n";
+
+    public static final String DEFAULT_MAX_DEPTH = "1";
+    public static final String DEFAULT_OFFSET = "0";
+    public static final String DEFAULT_LARGEST_FILES_COUNT = "10";
+    public static final String GLOB_SYNTAX = "glob:";
+    public static final String REGEX_SYNTAX = "regex:";
+    public static final String TYPE_FILE = "file";
+    public static final String TYPE_DIRECTORY = "directory";
+    public static final String TYPE_LINK = "link";
+    public static final String TYPE_OTHER = "other";
+    public static final String LARGEST_FILE_LINE = "%d %s";
+
 }
@@ -35,12 +35,34 @@ public class Descriptions {
     public static class GetChildren {
 
         public static final String RETURN_CODE_DESCRIPTION = "0 for success and -1 for failure.";
-        public static final String RETURN_RESULT_DESCRIPTION = "The list of paths to each child of the provided directory.";
+        public static final String RETURN_RESULT_DESCRIPTION = "The list of paths to each child of the provided directory. " +
+                "The paths are resolved against the canonical path of the directory, so a child that is a link is returned " +
+                "with its own path and not with the canonical path of its target.";
         public static final String EXCEPTION_DESCRIPTION = "An error message in case there was an error while retrieving the children of the provided directory.";
 
-        public static final String COUNT_DESCRIPTION = "The total number of children of the provided directory.";
+        public static final String COUNT_DESCRIPTION = "The number of children returned.";
         public static final String SOURCE_DESCRIPTION = "The directory for which to get the children.";
         public static final String DELIMITER_DESCRIPTION = "A delimiter to put in between each child of the provided directory.";
+        public static final String FILTER_DESCRIPTION = "A pattern the names of the children must match. It is a glob pattern, " +
+                "or a regular expression if it starts with 'regex:'. If left empty, all the children are returned.\n" +
+                "Examples: *.log, *.{txt,csv}, regex:backup-[0-9]+\\.tar";
+        public static final String MAX_DEPTH_DESCRIPTION = "The number of directory levels to descend into. 1 returns only the " +
+                "children of the provided directory.\n" +
+                "Default value: 1";
+        public static final String OFFSET_DESCRIPTION = "The number of matching children to skip, in the order in which " +
+                "the file system returns them.\n" +
+                "Default value: 0";
+        public static final String LIMIT_DESCRIPTION = "The maximum number of children to return. The directory is not read " +
+                "further once the limit is reached. If left empty, all the children are returned.";
+        public static final String INCLUDE_ATTRIBUTES_DESCRIPTION = "If true, the size, last modified date and type of every " +
+                "child are returned in the sizes, modifiedDates and types outputs.\n" +
+                "Default value: false";
+        public static final String SIZES_DESCRIPTION = "The sizes in bytes of the children, in the order of returnResult, " +
+                "separated by the delimiter. Empty if includeAttributes is false.";
+        public static final String MODIFIED_DATES_DESCRIPTION = "The last modified dates of the children in the \"MM/dd/yyyy hh:mm:ss a\" format, " +
+                "in the order of returnResult, separated by the delimiter. Empty if includeAttributes is false.";
+        public static final String TYPES_DESCRIPTION = "The types of the children (file, directory, link or other), " +
+                "in the order of returnResult, separated by the delimiter. Empty if includeAttributes is false.";
     }
 
     public static class MD5Sum {
@@ -53,4 +75,24 @@ public class Descriptions {
         public static final String SOURCE_DESCRIPTION = "The file for which to create the checksum.";
         public static final String COMPARE_TO_DESCRIPTION = "A checksum to compare the file's checksum to.";
     }
+
+    public static class GetChecksum {
+
+        public static final String RETURN_CODE_DESCRIPTION = "0 for success and -1 for failure.";
+        public static final String RETURN_RESULT_DESCRIPTION = "The checksums of the files, one per line, in the " +
+                "\"<algorithm> (<path>) = <checksum>\" format, or an error message in case of failure.";
+        public static final String EXCEPTION_DESCRIPTION = "An error message in case there was an error while calculating the checksums.";
+        public static final String COUNT_DESCRIPTION = "The number of files for which the checksums were calculated.";
+        public static final String SOURCE_DESCRIPTION = "The file for which to calculate the checksums. If it is a directory, " +
+                "the checksums of all the files in the directory tree are calculated.";
+        public static final String ALGORITHMS_DESCRIPTION = "A comma delimited list of algorithms. All of them are calculated " +
+                "while the file is read once. Examples: MD5, SHA-1, SHA-256, CRC32, CRC32C (from Java 9).\n" +
+                "Default value: MD5";
+        public static final String THREAD_COUNT_DESCRIPTION = "The number of files of a directory tree whose checksums are " +
+                "calculated in parallel.\n" +
+                "Default value: 4";
+        public static final String CACHE_FILE_DESCRIPTION = "The absolute path of a file in which the checksums are kept. " +
+                "A file whose size and last modified date did not change since its checksum was kept is not read again. " +
+                "The cache file is created if it does not exist. If left empty, no checksum is kept.";
+    }
 }
@@ -28,6 +28,9 @@ public final class ExceptionMsgs {
     public static final String INVALID_VALUE_FOR_INPUT = "Invalid value '%s' for input '%s'.";
     public static final String WORKS_ONLY_FOR_FILES = "The source input must point to a file.";
     public static final String FILE_ALREADY_EXISTS = "File '%s' already exists.";
+    public static final String INVALID_FILTER = "The value '%s' of the filter input is not a valid glob or regex pattern.";
+    public static final String UNSUPPORTED_ALGORITHM = "The algorithm '%s' is not supported. The supported algorithms are " +
+            "the message digests of the Java runtime (MD5, SHA-1, SHA-256, SHA-512...), CRC32 and, from Java 9, CRC32C.";
 
     private ExceptionMsgs() {
     }
@@ -24,6 +24,15 @@ public final class InputNames {
     public static final String COMPARE_TO = "compareTo";
     public static final String NEW_NAME = "newName";
     public static final String OVERWRITE = "overwrite";
+    public static final String ALGORITHMS = "algorithms";
+    public static final String THREAD_COUNT = "threadCount";
+    public static final String CACHE_FILE = "cacheFile";
+    public static final String FILTER = "filter";
+    public static final String MAX_DEPTH = "maxDepth";
+    public static final String OFFSET = "offset";
+    public static final String LIMIT = "limit";
+    public static final String INCLUDE_ATTRIBUTES = "includeAttributes";
+    public static final String LARGEST_FILES_COUNT = "largestFilesCount";
 
     private InputNames() {
     }
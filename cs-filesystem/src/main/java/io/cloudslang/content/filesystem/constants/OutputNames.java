@@ -18,6 +18,12 @@ public final class OutputNames extends io.cloudslang.content.constants.OutputNam
 
     public static final String RENAMED_PATH = "renamedPath";
     public static final String SIZE = "size";
+    public static final String SIZES = "sizes";
+    public static final String MODIFIED_DATES = "modifiedDates";
+    public static final String TYPES = "types";
+    public static final String FILE_COUNT = "fileCount";
+    public static final String DIRECTORY_COUNT = "directoryCount";
+    public static final String LARGEST_FILES = "largestFiles";
 
 
     private OutputNames() {
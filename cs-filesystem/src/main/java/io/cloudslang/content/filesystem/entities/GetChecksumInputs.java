@@ -0,0 +1,122 @@
+/*
+ * (c) Copyright 2020 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.filesystem.entities;
+
+import io.cloudslang.content.filesystem.utils.ChecksumCalculator;
+import io.cloudslang.content.filesystem.utils.InputBuilderUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+
+import static io.cloudslang.content.filesystem.constants.Constants.DEFAULT_ALGORITHMS;
+import static io.cloudslang.content.filesystem.constants.Constants.DEFAULT_THREAD_COUNT;
+import static io.cloudslang.content.filesystem.constants.ExceptionMsgs.INVALID_VALUE_FOR_INPUT;
+import static io.cloudslang.content.filesystem.constants.InputNames.THREAD_COUNT;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+public class GetChecksumInputs {
+
+    private String source;
+    private List<String> algorithms;
+    private int threadCount;
+    private String cacheFile;
+
+    public GetChecksumInputs(String source, List<String> algorithms, int threadCount, String cacheFile) {
+        this.source = source;
+        this.algorithms = algorithms;
+        this.threadCount = threadCount;
+        this.cacheFile = cacheFile;
+    }
+
+    public static GetChecksumInputsBuilder builder() {return new GetChecksumInputsBuilder();}
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public List<String> getAlgorithms() {
+        return algorithms;
+    }
+
+    public void setAlgorithms(List<String> algorithms) {
+        this.algorithms = algorithms;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    public String getCacheFile() {
+        return cacheFile;
+    }
+
+    public void setCacheFile(String cacheFile) {
+        this.cacheFile = cacheFile;
+    }
+
+    public static class GetChecksumInputsBuilder {
+
+        private String source = EMPTY;
+        private String algorithms = EMPTY;
+        private String threadCount = EMPTY;
+        private String cacheFile = EMPTY;
+
+        GetChecksumInputsBuilder() {}
+
+        public GetChecksumInputsBuilder source(final String source) {
+            this.source = source;
+            return this;
+        }
+
+        public GetChecksumInputsBuilder algorithms(final String algorithms) {
+            this.algorithms = algorithms;
+            return this;
+        }
+
+        public GetChecksumInputsBuilder threadCount(final String threadCount) {
+            this.threadCount = threadCount;
+            return this;
+        }
+
+        public GetChecksumInputsBuilder cacheFile(final String cacheFile) {
+            this.cacheFile = cacheFile;
+            return this;
+        }
+
+        public GetChecksumInputs build() throws Exception {
+            final String threadCountValue = StringUtils.defaultIfBlank(threadCount, DEFAULT_THREAD_COUNT).trim();
+            final int threadCountNumber;
+            try {
+                threadCountNumber = Integer.parseInt(threadCountValue);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(String.format(INVALID_VALUE_FOR_INPUT, threadCountValue, THREAD_COUNT));
+            }
+            if (threadCountNumber < 1) {
+                throw new IllegalArgumentException(String.format(INVALID_VALUE_FOR_INPUT, threadCountValue, THREAD_COUNT));
+            }
+            return new GetChecksumInputs(InputBuilderUtils.buildSource(source),
+                    ChecksumCalculator.getAlgorithms(StringUtils.defaultIfBlank(algorithms, DEFAULT_ALGORITHMS)),
+                    threadCountNumber, StringUtils.trimToEmpty(cacheFile));
+        }
+    }
+}
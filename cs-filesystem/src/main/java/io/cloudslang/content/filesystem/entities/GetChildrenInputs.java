@@ -14,16 +14,42 @@
  */
 package io.cloudslang.content.filesystem.entities;
 
+import static io.cloudslang.content.filesystem.constants.Constants.DEFAULT_MAX_DEPTH;
+import static io.cloudslang.content.filesystem.constants.Constants.DEFAULT_OFFSET;
+import static io.cloudslang.content.filesystem.constants.InputNames.INCLUDE_ATTRIBUTES;
+import static io.cloudslang.content.filesystem.constants.InputNames.LIMIT;
+import static io.cloudslang.content.filesystem.constants.InputNames.MAX_DEPTH;
+import static io.cloudslang.content.filesystem.constants.InputNames.OFFSET;
+import static io.cloudslang.content.filesystem.utils.InputBuilderUtils.buildBoolean;
+import static io.cloudslang.content.filesystem.utils.InputBuilderUtils.buildInteger;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.StringUtils.isBlank;
 
 public class GetChildrenInputs {
 
+    //no limit on the number of children returned
+    public static final int NO_LIMIT = -1;
+
     private String source;
     private String delimiter;
+    private String filter;
+    private int maxDepth;
+    private int offset;
+    private int limit;
+    private boolean includeAttributes;
 
     public GetChildrenInputs(String source, String delimiter) {
+        this(source, delimiter, EMPTY, Integer.parseInt(DEFAULT_MAX_DEPTH), Integer.parseInt(DEFAULT_OFFSET), NO_LIMIT, false);
+    }
+
+    public GetChildrenInputs(String source, String delimiter, String filter, int maxDepth, int offset, int limit, boolean includeAttributes) {
         this.source = source;
         this.delimiter = delimiter;
+        this.filter = filter;
+        this.maxDepth = maxDepth;
+        this.offset = offset;
+        this.limit = limit;
+        this.includeAttributes = includeAttributes;
     }
 
     public static GetChildrenInputsBuilder builder() {return new GetChildrenInputsBuilder();}
@@ -44,10 +70,55 @@ public class GetChildrenInputs {
         this.delimiter = delimiter;
     }
 
+    public String getFilter() {
+        return filter;
+    }
+
+    public void setFilter(String filter) {
+        this.filter = filter;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    public boolean isIncludeAttributes() {
+        return includeAttributes;
+    }
+
+    public void setIncludeAttributes(boolean includeAttributes) {
+        this.includeAttributes = includeAttributes;
+    }
+
     public static class GetChildrenInputsBuilder {
 
         private String source = EMPTY;
         private String delimiter = EMPTY;
+        private String filter = EMPTY;
+        private String maxDepth = EMPTY;
+        private String offset = EMPTY;
+        private String limit = EMPTY;
+        private String includeAttributes = EMPTY;
 
         GetChildrenInputsBuilder(){}
 
@@ -61,8 +132,37 @@ public class GetChildrenInputs {
             return this;
         }
 
-        public GetChildrenInputs build() {
-            return new GetChildrenInputs(source, delimiter);
+        public GetChildrenInputsBuilder filter(final String filter) {
+            this.filter = filter;
+            return this;
+        }
+
+        public GetChildrenInputsBuilder maxDepth(final String maxDepth) {
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        public GetChildrenInputsBuilder offset(final String offset) {
+            this.offset = offset;
+            return this;
+        }
+
+        public GetChildrenInputsBuilder limit(final String limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        public GetChildrenInputsBuilder includeAttributes(final String includeAttributes) {
+            this.includeAttributes = includeAttributes;
+            return this;
+        }
+
+        public GetChildrenInputs build() throws Exception {
+            return new GetChildrenInputs(source, delimiter, filter == null ? EMPTY : filter,
+                    buildInteger(maxDepth, DEFAULT_MAX_DEPTH, 1, MAX_DEPTH),
+                    buildInteger(offset, DEFAULT_OFFSET, 0, OFFSET),
+                    isBlank(limit) ? NO_LIMIT : buildInteger(limit, EMPTY, 1, LIMIT),
+                    buildBoolean(includeAttributes, false, INCLUDE_ATTRIBUTES));
         }
     }
 
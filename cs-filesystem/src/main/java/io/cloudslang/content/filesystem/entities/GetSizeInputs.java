@@ -14,6 +14,11 @@
  */
 package io.cloudslang.content.filesystem.entities;
 
+import static io.cloudslang.content.filesystem.constants.Constants.DEFAULT_LARGEST_FILES_COUNT;
+import static io.cloudslang.content.filesystem.constants.Constants.DEFAULT_THREAD_COUNT;
+import static io.cloudslang.content.filesystem.constants.InputNames.LARGEST_FILES_COUNT;
+import static io.cloudslang.content.filesystem.constants.InputNames.THREAD_COUNT;
+import static io.cloudslang.content.filesystem.utils.InputBuilderUtils.buildInteger;
 import static io.cloudslang.content.filesystem.utils.InputBuilderUtils.buildSource;
 import static io.cloudslang.content.filesystem.utils.InputBuilderUtils.buildThreshold;
 
@@ -21,10 +26,14 @@ public class GetSizeInputs {
 
     private String source;
     private long threshold;
+    private int threadCount;
+    private int largestFilesCount;
 
-    private GetSizeInputs(String source, long threshold) {
+    private GetSizeInputs(String source, long threshold, int threadCount, int largestFilesCount) {
         this.source = source;
         this.threshold = threshold;
+        this.threadCount = threadCount;
+        this.largestFilesCount = largestFilesCount;
     }
 
     public GetSizeInputs() { }
@@ -37,9 +46,19 @@ public class GetSizeInputs {
         return threshold;
     }
 
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public int getLargestFilesCount() {
+        return largestFilesCount;
+    }
+
     public static class Builder {
         private String source;
         private String threshold;
+        private String threadCount;
+        private String largestFilesCount;
 
         public Builder source(String source) {
             this.source = source;
@@ -51,8 +70,20 @@ public class GetSizeInputs {
             return this;
         }
 
+        public Builder threadCount(String threadCount) {
+            this.threadCount = threadCount;
+            return this;
+        }
+
+        public Builder largestFilesCount(String largestFilesCount) {
+            this.largestFilesCount = largestFilesCount;
+            return this;
+        }
+
         public GetSizeInputs build() throws Exception {
-            return new GetSizeInputs(buildSource(source),buildThreshold(threshold));
+            return new GetSizeInputs(buildSource(source),buildThreshold(threshold),
+                    buildInteger(threadCount, DEFAULT_THREAD_COUNT, 1, THREAD_COUNT),
+                    buildInteger(largestFilesCount, DEFAULT_LARGEST_FILES_COUNT, 0, LARGEST_FILES_COUNT));
         }
     }
 }
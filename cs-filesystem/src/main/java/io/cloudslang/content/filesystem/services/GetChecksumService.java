@@ -0,0 +1,90 @@
+/*
+ * (c) Copyright 2020 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.filesystem.services;
+
+import io.cloudslang.content.filesystem.entities.GetChecksumInputs;
+import io.cloudslang.content.filesystem.utils.ChecksumCache;
+import io.cloudslang.content.filesystem.utils.ChecksumCalculator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
+import static io.cloudslang.content.filesystem.constants.Constants.CHECKSUM_LINE;
+import static io.cloudslang.content.filesystem.constants.Constants.NEW_LINE;
+import static io.cloudslang.content.filesystem.constants.Constants.RETURN_CODE_SUCCESS;
+import static io.cloudslang.content.filesystem.constants.ResultsName.COUNT;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+public class GetChecksumService {
+
+    public static Map<String, String> execute(GetChecksumInputs getChecksumInputs) throws Exception {
+        Map<String, String> result = new HashMap<>();
+
+        final File source = new File(getChecksumInputs.getSource());
+        final ChecksumCache cache = isEmpty(getChecksumInputs.getCacheFile()) ? null :
+                new ChecksumCache(new File(getChecksumInputs.getCacheFile()));
+        final List<File> files = source.isDirectory() ? getFiles(source, getChecksumInputs.getCacheFile()) :
+                Collections.singletonList(source);
+
+        final Map<File, Map<String, String>> checksums = ChecksumCalculator.checksumAll(files,
+                getChecksumInputs.getAlgorithms(), getChecksumInputs.getThreadCount(), cache);
+        if (cache != null) {
+            cache.save();
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (Map.Entry<File, Map<String, String>> fileChecksums : checksums.entrySet()) {
+            for (Map.Entry<String, String> checksum : fileChecksums.getValue().entrySet()) {
+                if (lines.length() > 0)
+                    lines.append(NEW_LINE);
+                lines.append(String.format(CHECKSUM_LINE, checksum.getKey(), fileChecksums.getKey().getAbsolutePath(), checksum.getValue()));
+            }
+        }
+        result.put(RETURN_CODE, RETURN_CODE_SUCCESS);
+        result.put(RETURN_RESULT, lines.toString());
+        result.put(COUNT, String.valueOf(files.size()));
+
+        return result;
+    }
+
+    private static List<File> getFiles(final File directory, final String cacheFile) throws IOException {
+        final List<File> files = new ArrayList<>();
+        final File cache = isEmpty(cacheFile) ? null : new File(cacheFile).getAbsoluteFile();
+        Files.walkFileTree(directory.toPath(), new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                //the cache file changes with every execution, its checksum is of no use
+                if (attributes.isRegularFile() && !file.toFile().getAbsoluteFile().equals(cache)) {
+                    files.add(file.toFile());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        Collections.sort(files);
+        return files;
+    }
+}
@@ -18,15 +18,38 @@ import io.cloudslang.content.filesystem.entities.GetChildrenInputs;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 
 import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
 import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
+import static io.cloudslang.content.filesystem.constants.Constants.DEFAULT_DATE_FORMAT;
+import static io.cloudslang.content.filesystem.constants.Constants.GLOB_SYNTAX;
+import static io.cloudslang.content.filesystem.constants.Constants.REGEX_SYNTAX;
 import static io.cloudslang.content.filesystem.constants.Constants.RETURN_CODE_SUCCESS;
-import static io.cloudslang.content.filesystem.constants.ExceptionMsgs.NO_CHILDREN;
+import static io.cloudslang.content.filesystem.constants.Constants.TYPE_DIRECTORY;
+import static io.cloudslang.content.filesystem.constants.Constants.TYPE_FILE;
+import static io.cloudslang.content.filesystem.constants.Constants.TYPE_LINK;
+import static io.cloudslang.content.filesystem.constants.Constants.TYPE_OTHER;
+import static io.cloudslang.content.filesystem.constants.ExceptionMsgs.INVALID_FILTER;
+import static io.cloudslang.content.filesystem.constants.OutputNames.MODIFIED_DATES;
+import static io.cloudslang.content.filesystem.constants.OutputNames.SIZES;
+import static io.cloudslang.content.filesystem.constants.OutputNames.TYPES;
 import static io.cloudslang.content.filesystem.constants.ResultsName.COUNT;
 import static io.cloudslang.content.filesystem.utils.Utils.validateIsDirectory;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 public class GetChildrenService {
 
@@ -37,19 +60,120 @@ public class GetChildrenService {
         File f = new File(path);
         validateIsDirectory(f,path);
 
-        File[] children;
-        children = f.listFiles();
+        //the source is canonical, so are the paths of its children, except for the links
+        final Path directory = f.getCanonicalFile().toPath();
+        final ChildrenVisitor visitor = new ChildrenVisitor(directory, getMatcher(getChildrenInputs.getFilter()), getChildrenInputs);
+        //the entries are read as they are visited, the directory is never listed at once
+        Files.walkFileTree(directory, EnumSet.noneOf(FileVisitOption.class), getChildrenInputs.getMaxDepth(), visitor);
 
-        StringBuilder paths = new StringBuilder();
-        for (File child : children) {
-            if (paths.length() > 0)
-                paths.append(getChildrenInputs.getDelimiter());
-            paths.append(child.getCanonicalPath());
-        }
         result.put(RETURN_CODE, RETURN_CODE_SUCCESS);
-        result.put(RETURN_RESULT, paths.toString());
-        result.put(COUNT, String.valueOf(children.length));
+        result.put(RETURN_RESULT, visitor.paths.toString());
+        result.put(COUNT, String.valueOf(visitor.count));
+        if (getChildrenInputs.isIncludeAttributes()) {
+            result.put(SIZES, visitor.sizes.toString());
+            result.put(MODIFIED_DATES, visitor.modifiedDates.toString());
+            result.put(TYPES, visitor.types.toString());
+        }
 
         return result;
     }
+
+    private static PathMatcher getMatcher(String filter) {
+        if (isEmpty(filter))
+            return null;
+        try {
+            return FileSystems.getDefault().getPathMatcher(filter.startsWith(REGEX_SYNTAX) || filter.startsWith(GLOB_SYNTAX) ?
+                    filter : GLOB_SYNTAX + filter);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format(INVALID_FILTER, filter), e);
+        }
+    }
+
+    private static class ChildrenVisitor extends SimpleFileVisitor<Path> {
+        private final Path directory;
+        private final PathMatcher matcher;
+        private final String delimiter;
+        private final int offset;
+        private final int limit;
+        private final boolean includeAttributes;
+        private final SimpleDateFormat dateFormat = new SimpleDateFormat(DEFAULT_DATE_FORMAT);
+
+        private final StringBuilder paths = new StringBuilder();
+        private final StringBuilder sizes = new StringBuilder();
+        private final StringBuilder modifiedDates = new StringBuilder();
+        private final StringBuilder types = new StringBuilder();
+        private int skipped = 0;
+        private int count = 0;
+
+        private ChildrenVisitor(Path directory, PathMatcher matcher, GetChildrenInputs getChildrenInputs) {
+            this.directory = directory;
+            this.matcher = matcher;
+            this.delimiter = getChildrenInputs.getDelimiter();
+            this.offset = getChildrenInputs.getOffset();
+            this.limit = getChildrenInputs.getLimit();
+            this.includeAttributes = getChildrenInputs.isIncludeAttributes();
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+            if (dir.equals(directory))
+                return FileVisitResult.CONTINUE;
+            return addChild(dir, attributes);
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+            return addChild(file, attributes);
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exception) throws IOException {
+            if (file.equals(directory))
+                throw exception;
+            //a directory that can't be read is still a child
+            BasicFileAttributes attributes = null;
+            if (includeAttributes) {
+                try {
+                    attributes = Files.readAttributes(file, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                } catch (IOException ignored) {
+                }
+            }
+            return addChild(file, attributes);
+        }
+
+        private FileVisitResult addChild(Path child, BasicFileAttributes attributes) {
+            if (matcher != null && !matcher.matches(child.getFileName()))
+                return FileVisitResult.CONTINUE;
+            if (skipped < offset) {
+                skipped++;
+                return FileVisitResult.CONTINUE;
+            }
+            if (count > 0) {
+                paths.append(delimiter);
+                if (includeAttributes) {
+                    sizes.append(delimiter);
+                    modifiedDates.append(delimiter);
+                    types.append(delimiter);
+                }
+            }
+            paths.append(child.toString());
+            if (includeAttributes && attributes != null) {
+                sizes.append(attributes.size());
+                modifiedDates.append(dateFormat.format(new Date(attributes.lastModifiedTime().toMillis())));
+                types.append(getType(attributes));
+            }
+            count++;
+            return limit != GetChildrenInputs.NO_LIMIT && count >= limit ? FileVisitResult.TERMINATE : FileVisitResult.CONTINUE;
+        }
+
+        private static String getType(BasicFileAttributes attributes) {
+            if (attributes.isSymbolicLink())
+                return TYPE_LINK;
+            if (attributes.isDirectory())
+                return TYPE_DIRECTORY;
+            if (attributes.isRegularFile())
+                return TYPE_FILE;
+            return TYPE_OTHER;
+        }
+    }
 }
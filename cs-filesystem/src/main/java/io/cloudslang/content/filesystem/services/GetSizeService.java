@@ -15,13 +15,19 @@
 package io.cloudslang.content.filesystem.services;
 
 import io.cloudslang.content.filesystem.entities.GetSizeInputs;
-import org.apache.commons.io.FileUtils;
+import io.cloudslang.content.filesystem.utils.DirectorySizeCalculator;
+import io.cloudslang.content.filesystem.utils.DirectorySizeCalculator.SizedFile;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
 
+import static io.cloudslang.content.filesystem.constants.Constants.LARGEST_FILE_LINE;
+import static io.cloudslang.content.filesystem.constants.Constants.NEW_LINE;
+import static io.cloudslang.content.filesystem.constants.OutputNames.DIRECTORY_COUNT;
+import static io.cloudslang.content.filesystem.constants.OutputNames.FILE_COUNT;
+import static io.cloudslang.content.filesystem.constants.OutputNames.LARGEST_FILES;
 import static io.cloudslang.content.filesystem.utils.Utils.createReturnResultGetSize;
 
 public class GetSizeService {
@@ -29,14 +35,34 @@ public class GetSizeService {
     public @NotNull Map<String, String> execute(@NotNull GetSizeInputs input) throws Exception {
         Map<String, String> results = new HashMap<>();
         long size;
+        long fileCount;
+        long directoryCount;
+        StringBuilder largestFiles = new StringBuilder();
         File f = new File(input.getSource());
-        if(!f.isDirectory())
+        if(!f.isDirectory()) {
             size = f.length();
-        else
-            size = FileUtils.sizeOfDirectoryAsBigInteger(f).longValue();
+            fileCount = 1;
+            directoryCount = 0;
+            if (input.getLargestFilesCount() > 0)
+                largestFiles.append(String.format(LARGEST_FILE_LINE, size, f.getPath()));
+        } else {
+            DirectorySizeCalculator directorySize = DirectorySizeCalculator.calculate(f.toPath(), input.getThreadCount(),
+                    input.getLargestFilesCount());
+            size = directorySize.getSize();
+            fileCount = directorySize.getFileCount();
+            directoryCount = directorySize.getDirectoryCount();
+            for (SizedFile file : directorySize.getLargestFiles()) {
+                if (largestFiles.length() > 0)
+                    largestFiles.append(NEW_LINE);
+                largestFiles.append(String.format(LARGEST_FILE_LINE, file.getSize(), file.getPath()));
+            }
+        }
         String returnResult = createReturnResultGetSize(size,input.getThreshold());
         results.put("returnResult", returnResult);
         results.put("size", String.valueOf(size));
+        results.put(FILE_COUNT, String.valueOf(fileCount));
+        results.put(DIRECTORY_COUNT, String.valueOf(directoryCount));
+        results.put(LARGEST_FILES, largestFiles.toString());
         return results;
     }
 }
@@ -15,13 +15,12 @@
 package io.cloudslang.content.filesystem.services;
 
 import io.cloudslang.content.filesystem.entities.MD5SumInputs;
+import io.cloudslang.content.filesystem.utils.ChecksumCalculator;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -40,32 +39,10 @@ public class MD5SumService {
         if(f.isDirectory())
             throw new IllegalArgumentException(WORKS_ONLY_FOR_FILES);
 
-        MessageDigest md5 = MessageDigest.getInstance(MD5);
-        FileInputStream fStream = null;
+        final String hash = ChecksumCalculator.checksum(f, Collections.singletonList(MD5)).get(MD5);
 
-        try {
-            fStream = new FileInputStream(md5SumInputs.getSource());
-
-            byte[] buf = new byte[1024];
-            int nRead = fStream.read(buf);
-            while (nRead > 0) {
-                md5.update(buf, 0, nRead);
-                nRead = fStream.read(buf);
-            }
-        } finally {
-            if (fStream != null) {
-                fStream.close();
-            }
-        }
-        byte[] digest = md5.digest();
-        StringBuffer hash = new StringBuffer();
-        for (byte b : digest) {
-            hash.append(Integer.toHexString((b & 0xFF) | 0x100).toLowerCase().substring(1, 3));
-        }
-
-
-        result.put(CHECKSUM, hash.toString());
-        if (hash.toString().equals(md5SumInputs.getCompareTo())){
+        result.put(CHECKSUM, hash);
+        if (hash.equals(md5SumInputs.getCompareTo())){
             result.put(RETURN_CODE, EQUALS_VALUE);
             result.put(RETURN_RESULT, String.format(EQUALS_VALUE_RETURN_RESULT,md5SumInputs.getCompareTo()));
         }
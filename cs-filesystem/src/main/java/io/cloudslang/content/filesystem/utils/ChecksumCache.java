@@ -0,0 +1,112 @@
+/*
+ * (c) Copyright 2020 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.filesystem.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * The checksums of files kept on disk between executions. A checksum is kept with the size and the last modified date
+ * the file had when it was read, and it is used only while the file still has the same size and last modified date.
+ * It can be shared by the threads calculating the checksums.
+ */
+public class ChecksumCache {
+    private static final String SEPARATOR = ":";
+
+    private final File cacheFile;
+    private final Properties entries = new Properties();
+    private volatile boolean modified = false;
+
+    /**
+     * @param cacheFile the file the checksums are read from, if it exists, and saved to
+     */
+    public ChecksumCache(@NotNull final File cacheFile) throws IOException {
+        this.cacheFile = cacheFile;
+        if (cacheFile.isFile()) {
+            try (InputStream input = Files.newInputStream(cacheFile.toPath())) {
+                entries.load(input);
+            }
+        }
+    }
+
+    /**
+     * @return the kept checksums of the file by algorithm, or null if one of them is missing or the file changed
+     */
+    @Nullable
+    public Map<String, String> get(@NotNull final File file, final long size, final long lastModified, @NotNull final List<String> algorithms) {
+        final Map<String, String> checksums = new LinkedHashMap<>();
+        final String prefix = size + SEPARATOR + lastModified + SEPARATOR;
+        for (String algorithm : algorithms) {
+            final String entry = entries.getProperty(getKey(file, algorithm));
+            if (entry == null || !entry.startsWith(prefix)) {
+                return null;
+            }
+            checksums.put(algorithm, entry.substring(prefix.length()));
+        }
+        return checksums;
+    }
+
+    public void put(@NotNull final File file, final long size, final long lastModified, @NotNull final Map<String, String> checksums) {
+        for (Map.Entry<String, String> checksum : checksums.entrySet()) {
+            entries.setProperty(getKey(file, checksum.getKey()), size + SEPARATOR + lastModified + SEPARATOR + checksum.getValue());
+        }
+        modified = true;
+    }
+
+    /**
+     * Writes the checksums to the cache file if new checksums were kept. The file is replaced at once,
+     * so a concurrent execution reads either the old or the new checksums.
+     */
+    public void save() throws IOException {
+        if (!modified) {
+            return;
+        }
+        final File directory = cacheFile.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.isDirectory()) {
+            Files.createDirectories(directory.toPath());
+        }
+        final File tempFile = File.createTempFile(cacheFile.getName(), ".tmp", directory);
+        try {
+            try (OutputStream output = Files.newOutputStream(tempFile.toPath())) {
+                entries.store(output, null);
+            }
+            try {
+                Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            modified = false;
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    @NotNull
+    private static String getKey(@NotNull final File file, @NotNull final String algorithm) {
+        return algorithm + SEPARATOR + file.getAbsolutePath();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * (c) Copyright 2020 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.filesystem.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Checksum;
+
+import static io.cloudslang.content.filesystem.constants.Constants.CRC32;
+import static io.cloudslang.content.filesystem.constants.Constants.CRC32C;
+import static io.cloudslang.content.filesystem.constants.ExceptionMsgs.UNSUPPORTED_ALGORITHM;
+
+/**
+ * Calculates the checksums of files. A file is read once, in large blocks, and every block updates all the algorithms.
+ * The algorithms are the message digests of the Java runtime, CRC32 and, when the runtime provides it, CRC32C.
+ */
+public class ChecksumCalculator {
+    //large reads keep the number of system calls low when big files are hashed
+    private static final int BUFFER_SIZE = 1024 * 1024;
+    //available from Java 9
+    private static final String CRC32C_CLASS = "java.util.zip.CRC32C";
+
+    /**
+     * @param algorithms a comma delimited list of algorithms
+     * @return the algorithms in upper case, without duplicates
+     * @throws IllegalArgumentException if an algorithm is not supported
+     */
+    @NotNull
+    public static List<String> getAlgorithms(@NotNull final String algorithms) {
+        final Set<String> algorithmSet = new LinkedHashSet<>();
+        for (String algorithm : algorithms.split(",")) {
+            if (!algorithm.trim().isEmpty()) {
+                algorithmSet.add(algorithm.trim().toUpperCase());
+            }
+        }
+        for (String algorithm : algorithmSet) {
+            createHasher(algorithm);
+        }
+        return new ArrayList<>(algorithmSet);
+    }
+
+    /**
+     * @return the checksums of the file as lower case hex strings, by algorithm
+     */
+    @NotNull
+    public static Map<String, String> checksum(@NotNull final File file, @NotNull final List<String> algorithms) throws IOException {
+        final List<Hasher> hashers = new ArrayList<>();
+        for (String algorithm : algorithms) {
+            hashers.add(createHasher(algorithm));
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                for (Hasher hasher : hashers) {
+                    hasher.update(buffer.array(), buffer.position());
+                }
+                buffer.clear();
+            }
+        }
+        final Map<String, String> checksums = new LinkedHashMap<>();
+        for (int i = 0; i < algorithms.size(); i++) {
+            checksums.put(algorithms.get(i), hashers.get(i).getValue());
+        }
+        return checksums;
+    }
+
+    /**
+     * Calculates the checksums of the files on at most threadCount threads.
+     *
+     * @param cache the checksums kept from previous calculations, or null
+     * @return the checksums of every file by algorithm, in the order of the files
+     */
+    @NotNull
+    public static Map<File, Map<String, String>> checksumAll(@NotNull final List<File> files, @NotNull final List<String> algorithms,
+                                                             final int threadCount, @Nullable final ChecksumCache cache) throws Exception {
+        final Map<File, Map<String, String>> checksums = new LinkedHashMap<>();
+        if (files.size() <= 1 || threadCount <= 1) {
+            for (File file : files) {
+                checksums.put(file, checksum(file, algorithms, cache));
+            }
+            return checksums;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, files.size()), new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger();
+
+            @Override
+            public Thread newThread(@NotNull final Runnable runnable) {
+                final Thread thread = new Thread(runnable, "checksum-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            final Map<File, Future<Map<String, String>>> futures = new LinkedHashMap<>();
+            for (final File file : files) {
+                futures.put(file, executor.submit(new Callable<Map<String, String>>() {
+                    @Override
+                    public Map<String, String> call() throws Exception {
+                        return checksum(file, algorithms, cache);
+                    }
+                }));
+            }
+            for (Map.Entry<File, Future<Map<String, String>>> future : futures.entrySet()) {
+                try {
+                    checksums.put(future.getKey(), future.getValue().get());
+                } catch (ExecutionException e) {
+                    //unwrap the root cause
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof Exception) {
+                        throw (Exception) cause;
+                    }
+                    throw e;
+                }
+            }
+            return checksums;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @NotNull
+    private static Map<String, String> checksum(@NotNull final File file, @NotNull final List<String> algorithms,
+                                                @Nullable final ChecksumCache cache) throws IOException {
+        if (cache == null) {
+            return checksum(file, algorithms);
+        }
+        //read before the file, a file changed while it is read is read again the next time
+        final long size = file.length();
+        final long lastModified = file.lastModified();
+        final Map<String, String> cachedChecksums = cache.get(file, size, lastModified, algorithms);
+        if (cachedChecksums != null) {
+            return cachedChecksums;
+        }
+        final Map<String, String> checksums = checksum(file, algorithms);
+        cache.put(file, size, lastModified, checksums);
+        return checksums;
+    }
+
+    @NotNull
+    private static Hasher createHasher(@NotNull final String algorithm) {
+        if (algorithm.equals(CRC32C)) {
+            try {
+                return new ChecksumHasher((Checksum) Class.forName(CRC32C_CLASS).getConstructor().newInstance());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException(String.format(UNSUPPORTED_ALGORITHM, algorithm), e);
+            }
+        }
+        if (algorithm.equals(CRC32)) {
+            return new ChecksumHasher(new java.util.zip.CRC32());
+        }
+        try {
+            return new MessageDigestHasher(MessageDigest.getInstance(algorithm));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(String.format(UNSUPPORTED_ALGORITHM, algorithm), e);
+        }
+    }
+
+    private interface Hasher {
+        void update(byte[] bytes, int length);
+
+        String getValue();
+    }
+
+    private static class MessageDigestHasher implements Hasher {
+        private final MessageDigest messageDigest;
+
+        private MessageDigestHasher(final MessageDigest messageDigest) {
+            this.messageDigest = messageDigest;
+        }
+
+        @Override
+        public void update(final byte[] bytes, final int length) {
+            messageDigest.update(bytes, 0, length);
+        }
+
+        @Override
+        public String getValue() {
+            final StringBuilder hash = new StringBuilder();
+            for (byte b : messageDigest.digest()) {
+                hash.append(Integer.toHexString((b & 0xFF) | 0x100).substring(1, 3));
+            }
+            return hash.toString();
+        }
+    }
+
+    private static class ChecksumHasher implements Hasher {
+        private final Checksum checksum;
+
+        private ChecksumHasher(final Checksum checksum) {
+            this.checksum = checksum;
+        }
+
+        @Override
+        public void update(final byte[] bytes, final int length) {
+            checksum.update(bytes, 0, length);
+        }
+
+        @Override
+        public String getValue() {
+            return String.format("%08x", checksum.getValue());
+        }
+    }
+}
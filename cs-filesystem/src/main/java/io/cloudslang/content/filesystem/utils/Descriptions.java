@@ -32,6 +32,15 @@ public class Descriptions {
         public static final String EQUAL_TO_DESCRIPTION = "The file's size is the same as the threshold.";
         public static final String GREATER_THAN_DESCRIPTION = "The file's size is the greater than the threshold.";
         public static final String FAILURE_DESCRIPTION = "The operation failed.";
+        public static final String THREAD_COUNT_DESCRIPTION = "The number of threads used to read the directory tree, " +
+                "if the source is a directory.\n" +
+                "Default value: 4";
+        public static final String LARGEST_FILES_COUNT_DESCRIPTION = "The number of largest files to return in the largestFiles output.\n" +
+                "Default value: 10";
+        public static final String FILE_COUNT_DESCRIPTION = "The number of files whose sizes were added up.";
+        public static final String DIRECTORY_COUNT_DESCRIPTION = "The number of directories under the source.";
+        public static final String LARGEST_FILES_DESCRIPTION = "The largest files, one per line, from the largest to the smallest, " +
+                "in the \"<size in bytes> <path>\" format.";
 
     }
 
@@ -0,0 +1,180 @@
+/*
+ * (c) Copyright 2020 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.filesystem.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Adds up the sizes of the files of a directory tree. Every directory is read by its own fork/join task, so the
+ * subdirectories are read in parallel. Links are not followed and the directories that can't be read count as empty.
+ */
+public class DirectorySizeCalculator {
+
+    private static final Comparator<SizedFile> BY_SIZE = new Comparator<SizedFile>() {
+        @Override
+        public int compare(SizedFile first, SizedFile second) {
+            return Long.compare(first.size, second.size);
+        }
+    };
+
+    private long size = 0;
+    private long fileCount = 0;
+    private long directoryCount = 0;
+    //the smallest of the largest files is at the head, so it is the one replaced by a larger file
+    private final PriorityQueue<SizedFile> largestFiles;
+    private final int largestFilesCount;
+
+    private DirectorySizeCalculator(int largestFilesCount) {
+        this.largestFilesCount = largestFilesCount;
+        this.largestFiles = new PriorityQueue<>(Math.max(1, largestFilesCount + 1), BY_SIZE);
+    }
+
+    /**
+     * @param directory         the root of the directory tree
+     * @param threadCount       the number of threads reading the directories
+     * @param largestFilesCount the number of largest files to keep
+     */
+    @NotNull
+    public static DirectorySizeCalculator calculate(@NotNull Path directory, int threadCount, int largestFilesCount) {
+        final ForkJoinPool pool = new ForkJoinPool(threadCount);
+        try {
+            return pool.invoke(new DirectoryTask(directory, largestFilesCount));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getFileCount() {
+        return fileCount;
+    }
+
+    public long getDirectoryCount() {
+        return directoryCount;
+    }
+
+    /**
+     * @return the largest files, from the largest to the smallest
+     */
+    @NotNull
+    public List<SizedFile> getLargestFiles() {
+        final List<SizedFile> files = new ArrayList<>(largestFiles);
+        Collections.sort(files, Collections.reverseOrder(BY_SIZE));
+        return files;
+    }
+
+    private void addFile(Path file, long fileSize) {
+        size += fileSize;
+        fileCount++;
+        addLargestFile(new SizedFile(file, fileSize));
+    }
+
+    private void addLargestFile(SizedFile file) {
+        if (largestFilesCount == 0)
+            return;
+        largestFiles.offer(file);
+        if (largestFiles.size() > largestFilesCount)
+            largestFiles.poll();
+    }
+
+    private void add(DirectorySizeCalculator subdirectory) {
+        size += subdirectory.size;
+        fileCount += subdirectory.fileCount;
+        directoryCount += subdirectory.directoryCount;
+        for (SizedFile file : subdirectory.largestFiles) {
+            addLargestFile(file);
+        }
+    }
+
+    public static class SizedFile {
+        private final Path path;
+        private final long size;
+
+        private SizedFile(Path path, long size) {
+            this.path = path;
+            this.size = size;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public long getSize() {
+            return size;
+        }
+    }
+
+    private static class DirectoryTask extends RecursiveTask<DirectorySizeCalculator> {
+        private static final long serialVersionUID = 1L;
+
+        private final Path directory;
+        private final int largestFilesCount;
+
+        private DirectoryTask(Path directory, int largestFilesCount) {
+            this.directory = directory;
+            this.largestFilesCount = largestFilesCount;
+        }
+
+        @Override
+        protected DirectorySizeCalculator compute() {
+            final DirectorySizeCalculator result = new DirectorySizeCalculator(largestFilesCount);
+            final List<DirectoryTask> subdirectories = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (Path entry : entries) {
+                    final BasicFileAttributes attributes;
+                    try {
+                        attributes = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                    } catch (IOException e) {
+                        continue;
+                    }
+                    if (attributes.isSymbolicLink())
+                        continue;
+                    if (attributes.isDirectory()) {
+                        result.directoryCount++;
+                        final DirectoryTask subdirectory = new DirectoryTask(entry, largestFilesCount);
+                        subdirectory.fork();
+                        subdirectories.add(subdirectory);
+                    } else {
+                        result.addFile(entry, attributes.size());
+                    }
+                }
+            } catch (IOException | DirectoryIteratorException ignored) {
+                //the directory, or the rest of it, can't be read
+            }
+            for (DirectoryTask subdirectory : subdirectories) {
+                result.add(subdirectory.join());
+            }
+            return result;
+        }
+    }
+}
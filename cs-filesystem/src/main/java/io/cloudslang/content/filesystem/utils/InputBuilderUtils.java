@@ -15,6 +15,7 @@
 package io.cloudslang.content.filesystem.utils;
 
 import io.cloudslang.content.filesystem.constants.ExceptionMsgs;
+import io.cloudslang.content.utils.BooleanUtilities;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
@@ -54,5 +55,30 @@ public final class InputBuilderUtils {
         }
         return thresholdLong;
     }
+
+    /**
+     * @param input        the value of the input, the default value is used if it is empty
+     * @param defaultValue the default value of the input
+     * @param minimum      the smallest valid value
+     * @param inputName    the name of the input, used in the error message
+     */
+    public static int buildInteger(String input, String defaultValue, int minimum, String inputName) throws Exception {
+        final String value = StringUtils.defaultIfBlank(input, defaultValue).trim();
+        try {
+            final int intValue = Integer.parseInt(value);
+            if (intValue >= minimum)
+                return intValue;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new Exception(String.format(ExceptionMsgs.INVALID_VALUE_FOR_INPUT, value, inputName));
+    }
+
+    public static boolean buildBoolean(String input, boolean defaultValue, String inputName) throws Exception {
+        if (StringUtils.isBlank(input))
+            return defaultValue;
+        if (!BooleanUtilities.isValid(input.trim()))
+            throw new Exception(String.format(ExceptionMsgs.INVALID_VALUE_FOR_INPUT, input, inputName));
+        return BooleanUtilities.toBoolean(input.trim());
+    }
 }
 
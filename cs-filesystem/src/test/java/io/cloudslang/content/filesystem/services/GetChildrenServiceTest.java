@@ -0,0 +1,190 @@
+/*
+ * (c) Copyright 2020 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.filesystem.services;
+
+import io.cloudslang.content.filesystem.entities.GetChildrenInputs;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
+import static io.cloudslang.content.filesystem.constants.OutputNames.SIZES;
+import static io.cloudslang.content.filesystem.constants.OutputNames.TYPES;
+import static io.cloudslang.content.filesystem.constants.ResultsName.COUNT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class GetChildrenServiceTest {
+
+    private static final String DELIMITER = ",";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File root;
+
+    @Before
+    public void setUp() throws IOException {
+        //root
+        //  a.txt (1 byte), b.log (2 bytes), c.txt (3 bytes)
+        //  sub
+        //    d.txt (4 bytes)
+        //    deep
+        //      e.txt (5 bytes)
+        root = folder.getRoot().getCanonicalFile();
+        newFile("a.txt", 1);
+        newFile("b.log", 2);
+        newFile("c.txt", 3);
+        newFile("sub/d.txt", 4);
+        newFile("sub/deep/e.txt", 5);
+    }
+
+    @Test
+    public void executeDirectChildren() throws Exception {
+        final Map<String, String> result = execute(GetChildrenInputs.builder());
+
+        assertEquals(paths("a.txt", "b.log", "c.txt", "sub"), split(result.get(RETURN_RESULT)));
+        assertEquals("4", result.get(COUNT));
+        assertNull(result.get(SIZES));
+    }
+
+    @Test
+    public void executeMaxDepth() throws Exception {
+        assertEquals(paths("a.txt", "b.log", "c.txt", "sub", "sub/d.txt", "sub/deep"),
+                split(execute(GetChildrenInputs.builder().maxDepth("2")).get(RETURN_RESULT)));
+        assertEquals(paths("a.txt", "b.log", "c.txt", "sub", "sub/d.txt", "sub/deep", "sub/deep/e.txt"),
+                split(execute(GetChildrenInputs.builder().maxDepth("10")).get(RETURN_RESULT)));
+    }
+
+    @Test
+    public void executeGlobFilter() throws Exception {
+        final Map<String, String> result = execute(GetChildrenInputs.builder().filter("*.txt").maxDepth("3"));
+
+        assertEquals(paths("a.txt", "c.txt", "sub/d.txt", "sub/deep/e.txt"), split(result.get(RETURN_RESULT)));
+        assertEquals("4", result.get(COUNT));
+    }
+
+    @Test
+    public void executeRegexFilter() throws Exception {
+        assertEquals(paths("b.log", "sub"), split(execute(GetChildrenInputs.builder().filter("regex:(b\\..*|s.b)")).get(RETURN_RESULT)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void executeInvalidFilter() throws Exception {
+        execute(GetChildrenInputs.builder().filter("regex:[a"));
+    }
+
+    @Test
+    public void executePages() throws Exception {
+        final List<String> all = new ArrayList<>();
+        for (int offset = 0; offset < 6; offset += 2) {
+            final Map<String, String> result = execute(GetChildrenInputs.builder()
+                    .maxDepth("3")
+                    .offset(String.valueOf(offset))
+                    .limit("2"));
+            assertEquals("2", result.get(COUNT));
+            all.addAll(Arrays.asList(result.get(RETURN_RESULT).split(DELIMITER)));
+        }
+        final Map<String, String> lastPage = execute(GetChildrenInputs.builder().maxDepth("3").offset("6").limit("2"));
+        assertEquals("1", lastPage.get(COUNT));
+        all.add(lastPage.get(RETURN_RESULT));
+
+        //the pages don't overlap and together hold every child
+        assertEquals(7, all.size());
+        assertEquals(paths("a.txt", "b.log", "c.txt", "sub", "sub/d.txt", "sub/deep", "sub/deep/e.txt"), new HashSet<>(all));
+        assertEquals("0", execute(GetChildrenInputs.builder().maxDepth("3").offset("7")).get(COUNT));
+    }
+
+    @Test
+    public void executeAttributes() throws Exception {
+        final Map<String, String> result = execute(GetChildrenInputs.builder().filter("*.*").includeAttributes("true"));
+
+        final String[] paths = result.get(RETURN_RESULT).split(DELIMITER);
+        final String[] sizes = result.get(SIZES).split(DELIMITER);
+        final String[] types = result.get(TYPES).split(DELIMITER);
+        assertEquals(3, paths.length);
+        for (int i = 0; i < paths.length; i++) {
+            assertEquals(String.valueOf(new File(paths[i]).length()), sizes[i]);
+            assertEquals("file", types[i]);
+        }
+    }
+
+    @Test
+    public void executeLinkReturnsLinkPath() throws Exception {
+        final File link = new File(root, "link");
+        try {
+            Files.createSymbolicLink(link.toPath(), new File(root, "sub").toPath());
+        } catch (UnsupportedOperationException | IOException e) {
+            return;
+        }
+
+        final Map<String, String> result = execute(GetChildrenInputs.builder().filter("link").includeAttributes("true"));
+
+        assertEquals(link.getPath(), result.get(RETURN_RESULT));
+        assertEquals("link", result.get(TYPES));
+    }
+
+    @Test(expected = Exception.class)
+    public void executeNotADirectory() throws Exception {
+        GetChildrenService.execute(GetChildrenInputs.builder()
+                .source(new File(root, "a.txt").getPath())
+                .delimiter(DELIMITER)
+                .build());
+    }
+
+    private Map<String, String> execute(GetChildrenInputs.GetChildrenInputsBuilder builder) throws Exception {
+        return GetChildrenService.execute(builder
+                .source(root.getPath())
+                .delimiter(DELIMITER)
+                .build());
+    }
+
+    private void newFile(String path, int size) throws IOException {
+        final File file = new File(root, path);
+        assertFalse(file.exists());
+        Files.createDirectories(file.getParentFile().toPath());
+        final byte[] content = new byte[size];
+        Arrays.fill(content, (byte) 'x');
+        Files.write(file.toPath(), content);
+    }
+
+    private HashSet<String> paths(String... paths) {
+        final HashSet<String> result = new HashSet<>();
+        for (String path : paths) {
+            result.add(new File(root, path).getPath());
+        }
+        return result;
+    }
+
+    private static HashSet<String> split(String paths) {
+        final HashSet<String> result = new HashSet<>();
+        Collections.addAll(result, paths.split(DELIMITER));
+        return result;
+    }
+}
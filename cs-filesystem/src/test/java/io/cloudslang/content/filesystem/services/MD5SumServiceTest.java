@@ -0,0 +1,70 @@
+/*
+ * (c) Copyright 2020 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.filesystem.services;
+
+import io.cloudslang.content.filesystem.entities.MD5SumInputs;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.filesystem.constants.Constants.EQUALS_VALUE;
+import static io.cloudslang.content.filesystem.constants.Constants.LESS;
+import static io.cloudslang.content.filesystem.constants.ResultsName.CHECKSUM;
+import static org.junit.Assert.assertEquals;
+
+public class MD5SumServiceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void executeEqualChecksum() throws Exception {
+        final Map<String, String> result = MD5SumService.execute(getInputs("900150983cd24fb0d6963f7d28e17f72"));
+
+        assertEquals("900150983cd24fb0d6963f7d28e17f72", result.get(CHECKSUM));
+        assertEquals(EQUALS_VALUE, result.get(RETURN_CODE));
+    }
+
+    @Test
+    public void executeDifferentChecksum() throws Exception {
+        final Map<String, String> result = MD5SumService.execute(getInputs("d41d8cd98f00b204e9800998ecf8427e"));
+
+        assertEquals("900150983cd24fb0d6963f7d28e17f72", result.get(CHECKSUM));
+        assertEquals(LESS, result.get(RETURN_CODE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void executeDirectory() throws Exception {
+        MD5SumService.execute(MD5SumInputs.builder()
+                .source(folder.getRoot().getAbsolutePath())
+                .build());
+    }
+
+    private MD5SumInputs getInputs(final String compareTo) throws Exception {
+        final File file = folder.newFile("abc.txt");
+        Files.write(file.toPath(), "abc".getBytes(StandardCharsets.US_ASCII));
+        return MD5SumInputs.builder()
+                .source(file.getAbsolutePath())
+                .compareTo(compareTo)
+                .build();
+    }
+}
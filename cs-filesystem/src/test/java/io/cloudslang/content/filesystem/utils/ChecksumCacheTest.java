@@ -0,0 +1,105 @@
+/*
+ * (c) Copyright 2020 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.filesystem.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ChecksumCacheTest {
+
+    private static final List<String> MD5 = Collections.singletonList("MD5");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void getKeptChecksumsAfterSave() throws IOException {
+        final File cacheFile = new File(folder.getRoot(), "cache/checksums.properties");
+        final File file = new File(folder.getRoot(), "data.txt");
+        final ChecksumCache cache = new ChecksumCache(cacheFile);
+        cache.put(file, 3, 1000, checksums("MD5", "abc", "CRC32", "def"));
+        cache.save();
+
+        final ChecksumCache loadedCache = new ChecksumCache(cacheFile);
+
+        assertEquals(checksums("MD5", "abc", "CRC32", "def"), loadedCache.get(file, 3, 1000, Arrays.asList("MD5", "CRC32")));
+        assertEquals(checksums("CRC32", "def"), loadedCache.get(file, 3, 1000, Collections.singletonList("CRC32")));
+    }
+
+    @Test
+    public void getChangedFile() throws IOException {
+        final File file = new File(folder.getRoot(), "data.txt");
+        final ChecksumCache cache = new ChecksumCache(new File(folder.getRoot(), "checksums.properties"));
+        cache.put(file, 3, 1000, checksums("MD5", "abc"));
+
+        assertNull(cache.get(file, 4, 1000, MD5));
+        assertNull(cache.get(file, 3, 1001, MD5));
+        assertNull(cache.get(file, 3, 1000, Arrays.asList("MD5", "SHA-1")));
+        assertNull(cache.get(new File(folder.getRoot(), "other.txt"), 3, 1000, MD5));
+    }
+
+    @Test
+    public void saveWithoutNewChecksums() throws IOException {
+        final File cacheFile = new File(folder.getRoot(), "checksums.properties");
+
+        new ChecksumCache(cacheFile).save();
+
+        assertFalse(cacheFile.exists());
+    }
+
+    @Test
+    public void checksumAllUsesKeptChecksumsUntilFileChanges() throws Exception {
+        final File file = folder.newFile("data.txt");
+        Files.write(file.toPath(), "abc".getBytes(StandardCharsets.US_ASCII));
+        assertTrue(file.setLastModified(1000000000000L));
+        final ChecksumCache cache = new ChecksumCache(new File(folder.getRoot(), "checksums.properties"));
+        //a kept checksum is returned without reading the file
+        cache.put(file, file.length(), file.lastModified(), checksums("MD5", "kept"));
+
+        assertEquals("kept", ChecksumCalculator.checksumAll(Collections.singletonList(file), MD5, 1, cache).get(file).get("MD5"));
+
+        Files.write(file.toPath(), "abcd".getBytes(StandardCharsets.US_ASCII));
+        assertTrue(file.setLastModified(1000000001000L));
+
+        assertEquals("e2fc714c4727ee9395f324cd2e7f331f",
+                ChecksumCalculator.checksumAll(Collections.singletonList(file), MD5, 1, cache).get(file).get("MD5"));
+        assertEquals("e2fc714c4727ee9395f324cd2e7f331f", cache.get(file, file.length(), file.lastModified(), MD5).get("MD5"));
+    }
+
+    private static Map<String, String> checksums(final String... algorithmsAndChecksums) {
+        final Map<String, String> checksums = new LinkedHashMap<>();
+        for (int i = 0; i < algorithmsAndChecksums.length; i += 2) {
+            checksums.put(algorithmsAndChecksums[i], algorithmsAndChecksums[i + 1]);
+        }
+        return checksums;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * (c) Copyright 2020 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.filesystem.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+public class ChecksumCalculatorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void checksumKnownVectors() throws IOException {
+        final File file = newFile("abc.txt", "abc".getBytes(StandardCharsets.US_ASCII));
+
+        final Map<String, String> checksums = ChecksumCalculator.checksum(file, Arrays.asList("MD5", "SHA-256", "CRC32"));
+
+        assertEquals(Arrays.asList("MD5", "SHA-256", "CRC32"), Arrays.asList(checksums.keySet().toArray()));
+        assertEquals("900150983cd24fb0d6963f7d28e17f72", checksums.get("MD5"));
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", checksums.get("SHA-256"));
+        assertEquals("352441c2", checksums.get("CRC32"));
+    }
+
+    @Test
+    public void checksumCrcCheckValues() throws IOException {
+        final File file = newFile("check.txt", "123456789".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals("cbf43926", ChecksumCalculator.checksum(file, Collections.singletonList("CRC32")).get("CRC32"));
+        assumeTrue(isCrc32cAvailable());
+        assertEquals("e3069283", ChecksumCalculator.checksum(file, Collections.singletonList("CRC32C")).get("CRC32C"));
+    }
+
+    @Test
+    public void checksumEmptyFile() throws IOException {
+        final File file = newFile("empty.txt", new byte[0]);
+
+        final Map<String, String> checksums = ChecksumCalculator.checksum(file, Arrays.asList("MD5", "CRC32"));
+
+        assertEquals("d41d8cd98f00b204e9800998ecf8427e", checksums.get("MD5"));
+        assertEquals("00000000", checksums.get("CRC32"));
+    }
+
+    @Test
+    public void checksumFileLargerThanBuffer() throws Exception {
+        final byte[] content = new byte[3 * 1024 * 1024 + 17];
+        new Random(7).nextBytes(content);
+        final File file = newFile("large.bin", content);
+
+        final Map<String, String> checksums = ChecksumCalculator.checksum(file, Arrays.asList("SHA-1", "MD5"));
+
+        assertEquals(toHex(MessageDigest.getInstance("SHA-1").digest(content)), checksums.get("SHA-1"));
+        assertEquals(toHex(MessageDigest.getInstance("MD5").digest(content)), checksums.get("MD5"));
+    }
+
+    @Test
+    public void getAlgorithmsUpperCaseWithoutDuplicates() {
+        assertEquals(Arrays.asList("MD5", "SHA-256", "CRC32"), ChecksumCalculator.getAlgorithms(" md5, sha-256,,MD5 ,crc32"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getAlgorithmsUnsupported() {
+        ChecksumCalculator.getAlgorithms("MD5,NOT-AN-ALGORITHM");
+    }
+
+    @Test
+    public void checksumAllInFileOrder() throws Exception {
+        final List<File> files = Arrays.asList(newFile("a.txt", "a".getBytes(StandardCharsets.US_ASCII)),
+                newFile("abc.txt", "abc".getBytes(StandardCharsets.US_ASCII)),
+                newFile("empty.txt", new byte[0]));
+
+        final Map<File, Map<String, String>> checksums = ChecksumCalculator.checksumAll(files, Collections.singletonList("MD5"), 4, null);
+
+        assertEquals(files, Arrays.asList(checksums.keySet().toArray()));
+        assertEquals("0cc175b9c0f1b6a831c399e269772661", checksums.get(files.get(0)).get("MD5"));
+        assertEquals("900150983cd24fb0d6963f7d28e17f72", checksums.get(files.get(1)).get("MD5"));
+        assertEquals("d41d8cd98f00b204e9800998ecf8427e", checksums.get(files.get(2)).get("MD5"));
+    }
+
+    private File newFile(final String name, final byte[] content) throws IOException {
+        final File file = folder.newFile(name);
+        Files.write(file.toPath(), content);
+        return file;
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static boolean isCrc32cAvailable() {
+        try {
+            Class.forName("java.util.zip.CRC32C");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * (c) Copyright 2020 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.filesystem.utils;
+
+import io.cloudslang.content.filesystem.utils.DirectorySizeCalculator.SizedFile;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DirectorySizeCalculatorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File root;
+
+    @Before
+    public void setUp() throws IOException {
+        //40 directories of 5 files each, the file sizes are 1 to 200 bytes
+        root = folder.getRoot();
+        for (int directory = 0; directory < 40; directory++) {
+            final File parent = new File(root, "dir" + directory + "/nested");
+            assertTrue(parent.mkdirs());
+            for (int file = 0; file < 5; file++) {
+                final int size = directory * 5 + file + 1;
+                Files.write(new File(parent, "file" + size).toPath(), new byte[size]);
+            }
+        }
+    }
+
+    @Test
+    public void calculateSize() {
+        final DirectorySizeCalculator calculator = DirectorySizeCalculator.calculate(root.toPath(), 4, 0);
+
+        assertEquals(200 * 201 / 2, calculator.getSize());
+        assertEquals(200, calculator.getFileCount());
+        assertEquals(80, calculator.getDirectoryCount());
+        assertTrue(calculator.getLargestFiles().isEmpty());
+    }
+
+    @Test
+    public void calculateSameSizeWithOneThread() {
+        final DirectorySizeCalculator parallel = DirectorySizeCalculator.calculate(root.toPath(), 8, 3);
+        final DirectorySizeCalculator sequential = DirectorySizeCalculator.calculate(root.toPath(), 1, 3);
+
+        assertEquals(sequential.getSize(), parallel.getSize());
+        assertEquals(sequential.getFileCount(), parallel.getFileCount());
+        assertEquals(sequential.getDirectoryCount(), parallel.getDirectoryCount());
+    }
+
+    @Test
+    public void calculateLargestFiles() {
+        final List<SizedFile> largestFiles = DirectorySizeCalculator.calculate(root.toPath(), 4, 3).getLargestFiles();
+
+        assertEquals(3, largestFiles.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200 - i, largestFiles.get(i).getSize());
+            assertEquals("file" + (200 - i), largestFiles.get(i).getPath().getFileName().toString());
+        }
+    }
+
+    @Test
+    public void calculateMoreLargestFilesThanFiles() {
+        assertEquals(200, DirectorySizeCalculator.calculate(root.toPath(), 2, 500).getLargestFiles().size());
+    }
+
+    @Test
+    public void calculateDoesNotFollowLinks() throws IOException {
+        try {
+            Files.createSymbolicLink(new File(root, "link").toPath(), new File(root, "dir0").toPath());
+        } catch (UnsupportedOperationException | IOException e) {
+            return;
+        }
+
+        final DirectorySizeCalculator calculator = DirectorySizeCalculator.calculate(root.toPath(), 4, 0);
+
+        assertEquals(200 * 201 / 2, calculator.getSize());
+        assertEquals(80, calculator.getDirectoryCount());
+    }
+
+    @Test
+    public void calculateEmptyDirectory() throws IOException {
+        final DirectorySizeCalculator calculator = DirectorySizeCalculator.calculate(folder.newFolder("empty").toPath(), 4, 3);
+
+        assertEquals(0, calculator.getSize());
+        assertEquals(0, calculator.getFileCount());
+        assertTrue(calculator.getLargestFiles().isEmpty());
+    }
+}
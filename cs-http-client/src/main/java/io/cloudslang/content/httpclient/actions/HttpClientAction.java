@@ -140,6 +140,8 @@ public class HttpClientAction {
      * @param destinationFile                    The absolute path of a file on disk where to save the entity returned by the response.
      *                                           'returnResult' will no longer be populated with the entity if this is specified.
      *                                           You should not use this for method=HEAD or OPTIONS. Example: C:\temp\destinationFile.txt
+     *                                           Text entities are written with 'responseCharacterSet', any other content type
+     *                                           is written byte for byte.
      * @param followRedirects                    Specifies whether the HTTP client automatically follows redirects.
      *                                           Redirects explicitly prohibited by the HTTP specification as requiring user intervention
      *                                           will not be followed (redirects on POST and PUT requests that are converted to GET requests).
@@ -249,6 +251,9 @@ public class HttpClientAction {
      * Multiple Choices, See Other, Use Proxy, Payment Required, Not Acceptable, Proxy Authentication Required,
      * Request Timeout, Switching Protocols, Non Authoritative Information, Reset Content, Partial Content,
      * Gateway Timeout, Http Version Not Supported, Gone, Length Required, Requested Range Not Satisfiable, Expectation Failed
+     * <br><b>bytesWritten</b> - The number of bytes written to 'destinationFile'. Empty if 'destinationFile' is not specified.
+     * <br><b>throughput</b> - The rate, in bytes per second, at which the response entity was written to 'destinationFile'.
+     * Empty if 'destinationFile' is not specified.
      * <p/>
      * <br><br><b>returnCode</b> - The returnCode of the operation: 0 for success, -1 for failure.
      */
@@ -260,6 +265,8 @@ public class HttpClientAction {
                     @Output(RESPONSE_HEADERS),
                     @Output(PROTOCOL_VERSION),
                     @Output(REASON_PHRASE),
+                    @Output(BYTES_WRITTEN),
+                    @Output(THROUGHPUT),
                     @Output(RETURN_CODE),
                     @Output(RETURN_RESULT)
             },
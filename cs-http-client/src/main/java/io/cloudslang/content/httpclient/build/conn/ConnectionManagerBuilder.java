@@ -35,6 +35,7 @@ import java.util.Map;
 public class ConnectionManagerBuilder {
     private GlobalSessionObject<Map<String, PoolingHttpClientConnectionManager>> connectionPoolHolder;
     private SSLConnectionSocketFactory sslsf;
+    private String sslsfKey;
     private String connectionManagerMapKey;
     private String defaultMaxPerRoute;
     private String totalMax;
@@ -49,6 +50,15 @@ public class ConnectionManagerBuilder {
         return this;
     }
 
+    /**
+     * @param sslsfKey the key of the SSL inputs and keystore versions the socket factory was built for,
+     *                 a connection manager built for another key is replaced
+     */
+    public ConnectionManagerBuilder setSslsfKey(String sslsfKey) {
+        this.sslsfKey = sslsfKey;
+        return this;
+    }
+
     public ConnectionManagerBuilder setTotalMax(String totalMax) {
         this.totalMax = totalMax;
         return this;
@@ -91,18 +101,29 @@ public class ConnectionManagerBuilder {
 
                         @Override
                         public void release() {
+                            for (PoolingHttpClientConnectionManager connManager : connectionManagerMapFinal.values()) {
+                                connManager.shutdown();
+                            }
+                            connectionManagerMapFinal.clear();
                         }
                     });
                     connectionManagerMap = connectionPoolHolder.get();
                 }
 
                 connManager = connectionManagerMap.get(connectionManagerMapKey);
+                if (connManager instanceof SessionConnectionManager && sslsfKey != null
+                        && !sslsfKey.equals(((SessionConnectionManager) connManager).getSocketFactoryKey())) {
+                    //a keystore was changed on disk, the new connections must use the new certificates.
+                    //other executions may still use the old manager, it only stops keeping connections
+                    ((SessionConnectionManager) connManager).retire();
+                    connManager = null;
+                }
                 if (connManager == null) {
                     Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
                             .register("http", PlainConnectionSocketFactory.getSocketFactory())
                             .register("https", sslsf)
                             .build();
-                    connManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+                    connManager = new SessionConnectionManager(socketFactoryRegistry, sslsfKey);
 
                     connectionManagerMap.put(connectionManagerMapKey, connManager);
                 }
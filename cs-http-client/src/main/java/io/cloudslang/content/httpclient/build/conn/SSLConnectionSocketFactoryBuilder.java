@@ -17,6 +17,7 @@
 
 package io.cloudslang.content.httpclient.build.conn;
 
+import io.cloudslang.content.utils.LruCache;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLContextBuilder;
@@ -27,16 +28,21 @@ import org.apache.http.conn.ssl.X509HostnameVerifier;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigInteger;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -60,7 +66,12 @@ public class SSLConnectionSocketFactoryBuilder {
     public static final String[] SUPPORTED_PROTOCOLS = new String[]{SSLv3, TLSv10, TLSv11, TLSv12};
     public static final String[] SUPPORTED_CYPHERS = new String[]{"TLS_DHE_RSA_WITH_AES_256_GCM_SHA384", "TLS_ECDHE_RSA_WITH_AES_GCM_SHA384", "TLS_ECDHE_RSA_WITH_AES_128_GCM_SHA256", "THS_DHE_RSA_WITH_AES_256_CBC_SHA256", "THS_DHE_RSA_WITH_AES_128_CBC_SHA256", "TLS_ECDHE_RSA_WITH_AES_256_CBC_SHA384", "TLS_ECDHE_RSA_WITH_AES_128_CBC_SHA256", "TLS_ECDHE_ECDSA_WITH_AES_128_CBC_SHA256",
             "TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256", "TLS_ECDHE_WITH_AES_256_CBC_SHA384", "TLS_ECDHE_WITH_AES_256_GCM_SHA384", "TLS_RSA_WITH_AES_256_GCM_SHA384", "TLS_RSA_WITH_AES_256_CBC_SHA256", "TLS_RSA_WITH_AES_128_CBC_SHA256"};
+    //the socket factories are reused by all the requests with the same SSL inputs, until a keystore file changes
+    private static final int MAX_CACHED_SOCKET_FACTORIES = 100;
+    private static final Map<String, SSLConnectionSocketFactory> SOCKET_FACTORY_CACHE =
+            Collections.synchronizedMap(new LruCache<String, SSLConnectionSocketFactory>(MAX_CACHED_SOCKET_FACTORIES));
     private static boolean checkArray = false;
+    private String socketFactoryKey;
     public String[] cypherArray;
     private String trustAllRootsStr = "false";
     private String keystore;
@@ -110,6 +121,24 @@ public class SSLConnectionSocketFactoryBuilder {
         }
         boolean trustAllRoots = Boolean.parseBoolean(trustAllRootsStr);
 
+        socketFactoryKey = buildCacheKey();
+        SSLConnectionSocketFactory sslsf = SOCKET_FACTORY_CACHE.get(socketFactoryKey);
+        if (sslsf == null) {
+            sslsf = buildSocketFactory(trustAllRoots);
+            SOCKET_FACTORY_CACHE.put(socketFactoryKey, sslsf);
+        }
+        return sslsf;
+    }
+
+    /**
+     * @return the key of the last built socket factory, the factories built with the same key are equivalent
+     * even when one of them was evicted from the cache
+     */
+    public String getSocketFactoryKey() {
+        return socketFactoryKey;
+    }
+
+    private SSLConnectionSocketFactory buildSocketFactory(boolean trustAllRoots) {
         SSLContextBuilder sslContextBuilder = SSLContexts.custom();
         String changeit = "changeit";
         String javaKeystore = System.getProperty("java.home") + "/lib/security/cacerts";
@@ -217,6 +246,41 @@ public class SSLConnectionSocketFactoryBuilder {
         return sslsf;
     }
 
+    /**
+     * The key is made of all the SSL inputs and of the size and last modified time of the keystore files,
+     * so a keystore that is replaced on disk is loaded again. It is hashed to keep the passwords out of the cache.
+     */
+    private String buildCacheKey() {
+        String javaKeystore = System.getProperty("java.home") + "/lib/security/cacerts";
+        StringBuilder keyBuilder = new StringBuilder()
+                .append(trustAllRootsStr).append('\n')
+                .append(keystore).append('\n')
+                .append(keystorePassword).append('\n')
+                .append(trustKeystore).append('\n')
+                .append(trustPassword).append('\n')
+                .append(x509HostnameVerifierInputValue).append('\n')
+                .append(inputTLS).append('\n')
+                .append(inputCyphers).append('\n')
+                .append(getFileVersion(keystore)).append('\n')
+                .append(getFileVersion(trustKeystore)).append('\n')
+                .append(getFileVersion(javaKeystore));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return new BigInteger(1, digest.digest(keyBuilder.toString().getBytes(StandardCharsets.UTF_8))).toString(16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    private static String getFileVersion(String keystoreLocation) {
+        //the keystores loaded over http are not checked for changes
+        if (StringUtils.isEmpty(keystoreLocation) || keystoreLocation.startsWith("http")) {
+            return StringUtils.EMPTY;
+        }
+        File keystoreFile = new File(StringUtils.removeStart(keystoreLocation, "file:"));
+        return keystoreFile.length() + ":" + keystoreFile.lastModified();
+    }
+
     protected void createKeystore(SSLContextBuilder sslContextBuilder, boolean useClientCert) {
         if (useClientCert) {
             KeyStore clientKeyStore;
@@ -0,0 +1,69 @@
+/*
+  * (c) Copyright 2022 Micro Focus
+  * All rights reserved. This program and the accompanying materials
+  * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+  *
+  * The Apache License is available at
+  * http://www.apache.org/licenses/LICENSE-2.0
+  *
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License.
+ */
+
+
+package io.cloudslang.content.httpclient.build.conn;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A connection manager kept in the connection pool session. It holds the key of the SSL inputs it was built for and
+ * the http clients that use it, so the clients are released together with the session.
+ */
+public class SessionConnectionManager extends PoolingHttpClientConnectionManager {
+    private final String socketFactoryKey;
+    //one client per connection reuse strategy
+    private final Map<Boolean, CloseableHttpClient> httpClients = new ConcurrentHashMap<>();
+    private volatile boolean retired = false;
+
+    public SessionConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry, String socketFactoryKey) {
+        super(socketFactoryRegistry);
+        this.socketFactoryKey = socketFactoryKey;
+    }
+
+    public String getSocketFactoryKey() {
+        return socketFactoryKey;
+    }
+
+    public CloseableHttpClient getHttpClient(boolean keepAlive, Function<Boolean, CloseableHttpClient> httpClientFactory) {
+        return httpClients.computeIfAbsent(keepAlive, httpClientFactory);
+    }
+
+    /**
+     * Stops keeping connections, the idle ones are closed now and the ones in use are closed when they are released.
+     * The manager is not shut down, so the requests that already use it complete.
+     */
+    public void retire() {
+        retired = true;
+        closeIdleConnections(0, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void releaseConnection(HttpClientConnection managedConn, Object state, long keepalive, TimeUnit tunit) {
+        super.releaseConnection(managedConn, state, keepalive, tunit);
+        if (retired) {
+            closeIdleConnections(0, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -22,7 +22,6 @@ import org.apache.http.client.CookieStore;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 
 import java.net.URI;
@@ -39,7 +38,6 @@ public class HttpComponents {
     private PoolingHttpClientConnectionManager connManager;
     private CookieStore cookieStore;
     private URI uri;
-    private HttpClientBuilder httpClientBuilder;
 
     public CloseableHttpClient getCloseableHttpClient() {
         return closeableHttpClient;
@@ -88,12 +86,4 @@ public class HttpComponents {
     public void setUri(URI uri) {
         this.uri = uri;
     }
-
-    public void setHttpClientBuilder(HttpClientBuilder httpClientBuilder) {
-        this.httpClientBuilder = httpClientBuilder;
-    }
-
-    public HttpClientBuilder getHttpClientBuilder() {
-        return httpClientBuilder;
-    }
 }
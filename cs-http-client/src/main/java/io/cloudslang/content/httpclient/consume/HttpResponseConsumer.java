@@ -21,6 +21,7 @@ package io.cloudslang.content.httpclient.consume;
 import io.cloudslang.content.httpclient.entities.HttpClientInputs;
 import io.cloudslang.content.httpclient.services.HttpClientService;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Consts;
 import org.apache.http.Header;
@@ -29,8 +30,17 @@ import org.apache.http.NameValuePair;
 import org.apache.http.message.BasicHeaderValueParser;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.Paths;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 
 /**
  * Created with IntelliJ IDEA.
@@ -38,6 +48,7 @@ import java.util.Map;
  * Date: 7/28/14
  */
 public class HttpResponseConsumer {
+    private static final int DOWNLOAD_BUFFER_SIZE = 64 * 1024;
     private HttpResponse httpResponse;
     private String responseCharacterSet;
     private String destinationFile;
@@ -89,18 +100,58 @@ public class HttpResponseConsumer {
             }
             result.put(HttpClientService.RETURN_RESULT, document);
         } else {
-            consumeToDestinationFile();
+            long startTime = System.nanoTime();
+            long bytesWritten;
+            Header contentType = httpResponse.getEntity().getContentType();
+            if (contentType != null && isTextContentType(contentType.getValue())) {
+                bytesWritten = consumeToDestinationFile();
+            } else {
+                bytesWritten = consumeBytesToDestinationFile();
+            }
+            long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+            result.put(HttpClientService.BYTES_WRITTEN, String.valueOf(bytesWritten));
+            result.put(HttpClientService.THROUGHPUT, String.valueOf(bytesWritten * TimeUnit.SECONDS.toNanos(1) / elapsedNanos));
+        }
+    }
+
+    /**
+     * The text is decoded and encoded again with the response character set, everything else is copied as it is.
+     */
+    protected boolean isTextContentType(String contentType) {
+        if (StringUtils.isEmpty(contentType)) {
+            return false;
+        }
+        String mimeType = StringUtils.substringBefore(contentType, ";").trim().toLowerCase(Locale.ENGLISH);
+        return mimeType.startsWith("text/") || mimeType.endsWith("+json") || mimeType.endsWith("+xml") ||
+                mimeType.equals("application/json") || mimeType.equals("application/xml") ||
+                mimeType.equals("application/javascript") || mimeType.equals("application/x-www-form-urlencoded");
+    }
+
+    private long consumeBytesToDestinationFile() throws IOException {
+        long bytesWritten = 0;
+        try (InputStream content = httpResponse.getEntity().getContent();
+             FileChannel fileChannel = FileChannel.open(Paths.get(destinationFile), CREATE, WRITE, TRUNCATE_EXISTING)) {
+            byte[] buffer = new byte[DOWNLOAD_BUFFER_SIZE];
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                byteBuffer.clear().limit(read);
+                while (byteBuffer.hasRemaining()) {
+                    bytesWritten += fileChannel.write(byteBuffer);
+                }
+            }
         }
+        return bytesWritten;
     }
 
-    private void consumeToDestinationFile() throws IOException {
+    private long consumeToDestinationFile() throws IOException {
         BufferedReader reader;
         BufferedWriter fileWriter = null;
-        FileOutputStream fos = null;
+        CountingOutputStream fos = null;
         try {
             try {
                 reader = new BufferedReader(new InputStreamReader(httpResponse.getEntity().getContent(), responseCharacterSet));
-                fos = new FileOutputStream(new File(destinationFile));
+                fos = new CountingOutputStream(new FileOutputStream(new File(destinationFile)));
                 fileWriter = new BufferedWriter(new OutputStreamWriter(fos, responseCharacterSet));
             } catch (UnsupportedEncodingException e) {
                 throw new IllegalArgumentException("Could not parse '" + HttpClientInputs.RESPONSE_CHARACTER_SET
@@ -112,6 +163,7 @@ public class HttpResponseConsumer {
                 fileWriter.write(buffer, 0, b);
             }
             fileWriter.flush();
+            return fos.getByteCount();
         } finally {
             if (fos != null) {
                 safeClose(fos);
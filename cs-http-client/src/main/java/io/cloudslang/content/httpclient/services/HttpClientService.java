@@ -28,6 +28,7 @@ import io.cloudslang.content.httpclient.build.auth.AuthTypes;
 import io.cloudslang.content.httpclient.build.auth.CredentialsProviderBuilder;
 import io.cloudslang.content.httpclient.build.conn.ConnectionManagerBuilder;
 import io.cloudslang.content.httpclient.build.conn.SSLConnectionSocketFactoryBuilder;
+import io.cloudslang.content.httpclient.build.conn.SessionConnectionManager;
 import io.cloudslang.content.httpclient.consume.FinalLocationConsumer;
 import io.cloudslang.content.httpclient.consume.HeadersConsumer;
 import io.cloudslang.content.httpclient.consume.HttpResponseConsumer;
@@ -77,6 +78,8 @@ public class HttpClientService {
     public static final String RESPONSE_HEADERS = "responseHeaders";
     public static final String PROTOCOL_VERSION = "protocolVersion";
     public static final String REASON_PHRASE = "reasonPhrase";
+    public static final String BYTES_WRITTEN = "bytesWritten";
+    public static final String THROUGHPUT = "throughput";
 
     private CookieStoreBuilder cookieStoreBuilder;
     private AuthSchemeProviderLookupBuilder authSchemeProviderLookupBuilder;
@@ -139,7 +142,13 @@ public class HttpClientService {
                             httpClientInputs.getKeepAlive(),
                             httpResponse);
                 }
-            }, Integer.parseInt(httpClientInputs.getExecutionTimeout()), TimeUnit.SECONDS);
+            }, Integer.parseInt(httpClientInputs.getExecutionTimeout()), TimeUnit.SECONDS, new Runnable() {
+                @Override
+                public void run() {
+                    //closes the connection, so the execution stops instead of waiting for the server
+                    httpComponents.getHttpRequestBase().abort();
+                }
+            });
         }
 
         return result[0];
@@ -206,8 +215,6 @@ public class HttpClientService {
                 .buildRequestConfig();
         httpRequestBase.setConfig(requestConfig);
 
-        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
-
         AuthTypes authTypes = new AuthTypes(httpClientInputs.getAuthType());
 
         CredentialsProvider credentialsProvider = credentialsProviderBuilder
@@ -221,7 +228,6 @@ public class HttpClientService {
                 .setProxyHost(httpClientInputs.getProxyHost())
                 .setProxyPort(httpClientInputs.getProxyPort())
                 .buildCredentialsProvider();
-        httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
 
         Lookup<AuthSchemeProvider> authSchemeLookup = authSchemeProviderLookupBuilder
                 .setAuthTypes(authTypes)
@@ -235,7 +241,6 @@ public class HttpClientService {
                 .setProxyUsername(httpClientInputs.getProxyUsername())
                 .setProxyPassword(httpClientInputs.getProxyPassword())
                 .buildAuthSchemeProviderLookup();
-        httpClientBuilder.setDefaultAuthSchemeRegistry(authSchemeLookup);
 
         httpRequestBase.setHeaders(theHeaders.toArray(new Header[theHeaders.size()]));
 
@@ -243,9 +248,6 @@ public class HttpClientService {
                 .setUseCookies(httpClientInputs.getUseCookies())
                 .setCookieStoreSessionObject(httpClientInputs.getCookieStoreSessionObject())
                 .buildCookieStore();
-        if (cookieStore != null) {
-            httpClientBuilder.setDefaultCookieStore(cookieStore);
-        }
 
         SSLConnectionSocketFactory sslConnectionSocketFactory = sslConnectionSocketFactoryBuilder
                 .setTrustAllRoots(httpClientInputs.getTrustAllRoots())
@@ -261,32 +263,27 @@ public class HttpClientService {
         String connectionKey = ConnectionManagerBuilder.buildConnectionManagerMapKey(httpClientInputs.getTrustAllRoots(),
                 httpClientInputs.getX509HostnameVerifier(),
                 httpClientInputs.getKeystore(),
-                httpClientInputs.getTrustKeystore());
+                httpClientInputs.getTrustKeystore(),
+                httpClientInputs.getTlsVersion(),
+                httpClientInputs.getAllowedCyphers());
         PoolingHttpClientConnectionManager connManager = poolingHttpClientConnectionManagerBuilder
                 .setConnectionManagerMapKey(connectionKey)
                 .setConnectionPoolHolder(httpClientInputs.getConnectionPoolSessionObject())
                 .setSslsf(sslConnectionSocketFactory)
+                .setSslsfKey(sslConnectionSocketFactoryBuilder.getSocketFactoryKey())
                 .setDefaultMaxPerRoute(httpClientInputs.getConnectionsMaxPerRoute())
                 .setTotalMax(httpClientInputs.getConnectionsMaxTotal())
                 .buildConnectionManager();
 
-        httpClientBuilder.setConnectionManager(connManager);
-
-        if (StringUtils.isEmpty(httpClientInputs.getKeepAlive()) || Boolean.parseBoolean(httpClientInputs.getKeepAlive())) {
-            httpClientBuilder.setConnectionReuseStrategy(DefaultConnectionReuseStrategy.INSTANCE);
-        } else {
-            httpClientBuilder.setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE);
-        }
-
-        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(0, false));
-
-        CloseableHttpClient closeableHttpClient = httpClientBuilder.build();
+        boolean keepAlive = StringUtils.isEmpty(httpClientInputs.getKeepAlive()) || Boolean.parseBoolean(httpClientInputs.getKeepAlive());
+        CloseableHttpClient closeableHttpClient = getHttpClient(connManager, keepAlive);
 
         HttpClientContext context = contextBuilder
                 .setAuthSchemeLookup(authSchemeLookup)
                 .setAuthTypes(authTypes)
                 .setCredentialsProvider(credentialsProvider)
                 .setUri(uri)
+                .setCookieStore(cookieStore)
                 .setPreemptiveAuth(httpClientInputs.getPreemptiveAuth()).build();
 
         HttpComponents result = new HttpComponents();
@@ -296,10 +293,34 @@ public class HttpClientService {
         result.setUri(uri);
         result.setConnManager(connManager);
         result.setCookieStore(cookieStore);
-        result.setHttpClientBuilder(httpClientBuilder);
         return result;
     }
 
+    /**
+     * Returns the client kept by the session connection manager, building it on the first request. The client holds no state
+     * specific to a request, the credentials, the authentication schemes and the cookies are given by the request context.
+     */
+    private CloseableHttpClient getHttpClient(PoolingHttpClientConnectionManager connManager, boolean keepAlive) {
+        if (connManager instanceof SessionConnectionManager) {
+            return ((SessionConnectionManager) connManager).getHttpClient(keepAlive,
+                    reuseConnections -> buildHttpClient(connManager, reuseConnections));
+        }
+        return buildHttpClient(connManager, keepAlive);
+    }
+
+    private CloseableHttpClient buildHttpClient(PoolingHttpClientConnectionManager connManager, boolean keepAlive) {
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
+        httpClientBuilder.setConnectionManager(connManager);
+        //the connection manager is kept in the session, it outlives the client
+        httpClientBuilder.setConnectionManagerShared(connManager != null);
+        if (keepAlive) {
+            httpClientBuilder.setConnectionReuseStrategy(DefaultConnectionReuseStrategy.INSTANCE);
+        } else {
+            httpClientBuilder.setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE);
+        }
+        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(0, false));
+        return httpClientBuilder.build();
+    }
 
     public CloseableHttpResponse execute(CloseableHttpClient closeableHttpClient,
                                          HttpRequestBase httpRequestBase,
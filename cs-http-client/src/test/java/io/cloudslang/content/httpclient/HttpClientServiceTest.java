@@ -19,6 +19,7 @@
 package io.cloudslang.content.httpclient;
 
 
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import com.hp.oo.sdk.content.plugin.SerializableSessionObject;
 import io.cloudslang.content.httpclient.components.HttpComponents;
 import io.cloudslang.content.httpclient.entities.HttpClientInputs;
@@ -35,6 +36,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
@@ -43,6 +45,8 @@ import java.net.URI;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.times;
 
 /**
@@ -50,6 +54,7 @@ import static org.mockito.Mockito.times;
  * Date: 10/16/2015
  */
 @RunWith(PowerMockRunner.class)
+@PowerMockIgnore("javax.net.ssl.*")
 @PrepareForTest({HttpClientService.class})
 public class HttpClientServiceTest {
 
@@ -121,4 +126,24 @@ public class HttpClientServiceTest {
         Mockito.verify(httpRequestBase, times(1)).releaseConnection();
         Mockito.verify(connManager, times(1)).closeExpiredConnections();
     }
+
+    @Test
+    public void buildHttpComponentsReusesHttpClient() {
+        HttpClientInputs inputs = new HttpClientInputs();
+        inputs.setUrl("https://localhost:8443/resource");
+        inputs.setMethod("GET");
+        inputs.setConnectionPoolSessionObject(new GlobalSessionObject());
+        inputs.setCookieStoreSessionObject(new SerializableSessionObject());
+
+        HttpComponents first = new HttpClientService().buildHttpComponents(inputs);
+        HttpComponents second = new HttpClientService().buildHttpComponents(inputs);
+        assertSame(first.getConnManager(), second.getConnManager());
+        assertSame(first.getCloseableHttpClient(), second.getCloseableHttpClient());
+        assertNotSame(first.getHttpClientContext(), second.getHttpClientContext());
+
+        inputs.setKeepAlive("false");
+        HttpComponents noKeepAlive = new HttpClientService().buildHttpComponents(inputs);
+        assertSame(first.getConnManager(), noKeepAlive.getConnManager());
+        assertNotSame(first.getCloseableHttpClient(), noKeepAlive.getCloseableHttpClient());
+    }
 }
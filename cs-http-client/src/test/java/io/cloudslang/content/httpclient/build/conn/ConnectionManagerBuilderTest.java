@@ -20,6 +20,10 @@ package io.cloudslang.content.httpclient.build.conn;
 
 import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import com.hp.oo.sdk.content.plugin.SessionResource;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.junit.Test;
@@ -27,8 +31,10 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.net.ServerSocket;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static junit.framework.Assert.*;
 
@@ -42,6 +48,8 @@ public class ConnectionManagerBuilderTest {
     @Mock
     private SSLConnectionSocketFactory sslConnectionSocketFactoryMock;
     @Mock
+    private SSLConnectionSocketFactory changedSslConnectionSocketFactoryMock;
+    @Mock
     private PoolingHttpClientConnectionManager connectionManagerMock;
 
     @Test
@@ -84,4 +92,75 @@ public class ConnectionManagerBuilderTest {
                 .buildConnectionManager();
         assertEquals(connectionManagerMock, connectionManager);
     }
+
+    @Test
+    public void buildConnectionManagerSocketFactoryChanged() {
+        GlobalSessionObject holder = new GlobalSessionObject();
+        PoolingHttpClientConnectionManager connectionManager = buildConnectionManager(holder, sslConnectionSocketFactoryMock, "v1");
+        //a socket factory built again for the same inputs, after it was evicted from the cache, keeps the connection manager
+        assertSame(connectionManager, buildConnectionManager(holder, changedSslConnectionSocketFactoryMock, "v1"));
+
+        PoolingHttpClientConnectionManager newConnectionManager = buildConnectionManager(holder, changedSslConnectionSocketFactoryMock, "v2");
+        assertNotSame(connectionManager, newConnectionManager);
+        assertSame(newConnectionManager, buildConnectionManager(holder, changedSslConnectionSocketFactoryMock, "v2"));
+    }
+
+    @Test
+    public void buildConnectionManagerSocketFactoryChangedKeepsConnectionsInUse() throws Exception {
+        try (ServerSocket server = new ServerSocket(0)) {
+            final HttpRoute route = new HttpRoute(new HttpHost("localhost", server.getLocalPort()));
+            GlobalSessionObject holder = new GlobalSessionObject();
+            PoolingHttpClientConnectionManager connectionManager = buildConnectionManager(holder, sslConnectionSocketFactoryMock, "v1");
+            HttpClientConnection idleConnection = leaseConnection(connectionManager, route);
+            HttpClientConnection connectionInUse = leaseConnection(connectionManager, route);
+            connectionManager.releaseConnection(idleConnection, null, 1, TimeUnit.MINUTES);
+            assertEquals(1, connectionManager.getTotalStats().getAvailable());
+
+            buildConnectionManager(holder, changedSslConnectionSocketFactoryMock, "v2");
+
+            //the idle connection is closed, the one in use still works and is closed once released
+            assertEquals(0, connectionManager.getTotalStats().getAvailable());
+            assertFalse(idleConnection.isOpen());
+            assertTrue(connectionInUse.isOpen());
+            assertNotNull(connectionManager.requestConnection(route, null));
+            connectionManager.releaseConnection(connectionInUse, null, 1, TimeUnit.MINUTES);
+            assertEquals(0, connectionManager.getTotalStats().getAvailable());
+            assertFalse(connectionInUse.isOpen());
+        }
+    }
+
+    @Test
+    public void releaseSessionShutsDownConnectionManagers() {
+        GlobalSessionObject holder = new GlobalSessionObject();
+        PoolingHttpClientConnectionManager connectionManager = buildConnectionManager(holder, sslConnectionSocketFactoryMock, "v1");
+        holder.getResource().release();
+        assertShutDown(connectionManager);
+    }
+
+    private static void assertShutDown(PoolingHttpClientConnectionManager connectionManager) {
+        try {
+            connectionManager.requestConnection(new HttpRoute(new HttpHost("localhost")), null);
+            fail("the connection manager was not shut down");
+        } catch (IllegalStateException e) {
+            assertEquals("Connection pool shut down", e.getMessage());
+        }
+    }
+
+    private static HttpClientConnection leaseConnection(PoolingHttpClientConnectionManager connectionManager, HttpRoute route)
+            throws Exception {
+        HttpClientConnection connection = connectionManager.requestConnection(route, null).get(10, TimeUnit.SECONDS);
+        connectionManager.connect(connection, route, 10000, HttpClientContext.create());
+        connectionManager.routeComplete(connection, route, HttpClientContext.create());
+        return connection;
+    }
+
+    private PoolingHttpClientConnectionManager buildConnectionManager(GlobalSessionObject holder, SSLConnectionSocketFactory sslsf,
+                                                                      String sslsfKey) {
+        return new ConnectionManagerBuilder()
+                .setConnectionManagerMapKey("key1", "key2")
+                .setSslsf(sslsf)
+                .setSslsfKey(sslsfKey)
+                .setConnectionPoolHolder(holder)
+                .buildConnectionManager();
+    }
 }
@@ -19,11 +19,14 @@
 package io.cloudslang.content.httpclient.build.conn;
 
 import org.apache.http.conn.ssl.*;
+import org.apache.commons.io.FileUtils;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
@@ -35,6 +38,8 @@ import java.security.KeyStore;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,6 +50,7 @@ import static org.powermock.api.mockito.PowerMockito.*;
  * Date: 8/20/14
  */
 @RunWith(PowerMockRunner.class)
+@PowerMockIgnore("javax.net.ssl.*")
 @PrepareForTest({SSLContexts.class, System.class, SSLConnectionSocketFactoryBuilder.class, KeyStore.class})
 public class SSLConnectionSocketFactoryBuilderTest {
 
@@ -54,6 +60,8 @@ public class SSLConnectionSocketFactoryBuilderTest {
     public static final String KEYSTORE = "C:/keystore";
     @Rule
     public ExpectedException exception = ExpectedException.none();
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
     @Mock
     URL urlMock;
     private SSLConnectionSocketFactoryBuilder builder;
@@ -209,4 +217,23 @@ public class SSLConnectionSocketFactoryBuilderTest {
         verify(keyStoreMock).load(inputStreamMock, PASSWORD.toCharArray());
         assertEquals(keystore, keyStoreMock);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void buildReusesSocketFactoryUntilTrustKeystoreChanges() throws Exception {
+        File trustKeystore = temporaryFolder.newFile("truststore.jks");
+        FileUtils.copyFile(new File(System.getProperty("java.home") + "/lib/security/cacerts"), trustKeystore);
+
+        SSLConnectionSocketFactory sslsf = buildWithTrustKeystore(trustKeystore);
+        assertSame(sslsf, buildWithTrustKeystore(trustKeystore));
+
+        trustKeystore.setLastModified(trustKeystore.lastModified() - 60000);
+        assertNotSame(sslsf, buildWithTrustKeystore(trustKeystore));
+    }
+
+    private SSLConnectionSocketFactory buildWithTrustKeystore(File trustKeystore) {
+        return new SSLConnectionSocketFactoryBuilder()
+                .setTrustKeystore(trustKeystore.getAbsolutePath())
+                .setTrustPassword("changeit")
+                .build();
+    }
+}
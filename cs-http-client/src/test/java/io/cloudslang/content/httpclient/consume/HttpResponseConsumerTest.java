@@ -25,7 +25,9 @@ import org.apache.http.HttpResponse;
 import org.apache.http.entity.BasicHttpEntity;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.powermock.core.classloader.annotations.PrepareForTest;
@@ -33,10 +35,15 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.Map;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.Assert.assertArrayEquals;
 import static junit.framework.Assert.assertNull;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.when;
@@ -64,6 +71,8 @@ public class HttpResponseConsumerTest {
     @Mock
     private InputStreamReader inputStreamReaderMock;
     private Map<String, String> result;
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     @Before
     public void setUp() {
@@ -124,6 +133,39 @@ public class HttpResponseConsumerTest {
         assertNull(result.get(RETURN_RESULT));
     }
 
+    @Test
+    public void consumeBinaryWithDestinationFile() throws Exception {
+        byte[] content = new byte[256 * 1024 + 3];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        BasicHttpEntity entity = new BasicHttpEntity();
+        entity.setContent(new ByteArrayInputStream(content));
+        entity.setContentType(new HeaderEntity("Content-Type", "application/octet-stream"));
+        when(httpResponseMock.getEntity()).thenReturn(entity);
+        File destinationFile = temporaryFolder.newFile("artifact.bin");
+
+        httpResponseConsumer
+                .setHttpResponse(httpResponseMock)
+                .setDestinationFile(destinationFile.getAbsolutePath())
+                .setResponseCharacterSet("UTF-8")
+                .consume(result);
+
+        assertArrayEquals(content, Files.readAllBytes(destinationFile.toPath()));
+        assertEquals(String.valueOf(content.length), result.get("bytesWritten"));
+        assertNotNull(result.get("throughput"));
+        assertNull(result.get(RETURN_RESULT));
+    }
+
+    @Test
+    public void isTextContentType() {
+        assertTrue(httpResponseConsumer.isTextContentType(CONTENT_TYPE));
+        assertTrue(httpResponseConsumer.isTextContentType("application/JSON; charset=UTF-8"));
+        assertTrue(httpResponseConsumer.isTextContentType("application/atom+xml"));
+        assertFalse(httpResponseConsumer.isTextContentType("application/zip"));
+        assertFalse(httpResponseConsumer.isTextContentType(""));
+    }
+
     private void setHttpResponseEntity(String contentType) {
         BasicHttpEntity entity = new BasicHttpEntity();
         entity.setContent(inputStreamMock);
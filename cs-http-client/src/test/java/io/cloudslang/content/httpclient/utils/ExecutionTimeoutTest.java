@@ -0,0 +1,144 @@
+/*
+  * (c) Copyright 2022 Micro Focus
+  * All rights reserved. This program and the accompanying materials
+  * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+  *
+  * The Apache License is available at
+  * http://www.apache.org/licenses/LICENSE-2.0
+  *
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License.
+ */
+
+
+
+
+package io.cloudslang.content.httpclient.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ExecutionTimeoutTest {
+
+    @Test
+    public void runWithTimeoutReturnsResult() throws Exception {
+        String result = ExecutionTimeout.runWithTimeout(new Callable<String>() {
+            @Override
+            public String call() {
+                return "result";
+            }
+        }, 5, TimeUnit.SECONDS);
+        assertEquals("result", result);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void runWithTimeoutUnwrapsException() throws Exception {
+        ExecutionTimeout.runWithTimeout(new Runnable() {
+            @Override
+            public void run() {
+                throw new IllegalArgumentException("invalid");
+            }
+        }, 5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void runWithTimeoutCancelsExecution() throws Exception {
+        //stands for the connection the request is blocked on
+        final CountDownLatch connection = new CountDownLatch(1);
+        final CountDownLatch finished = new CountDownLatch(1);
+        long timedOutExecutions = ExecutionTimeout.getTimedOutExecutions();
+        try {
+            ExecutionTimeout.runWithTimeout(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        connection.await();
+                    } catch (InterruptedException ignored) {
+                    }
+                    finished.countDown();
+                }
+            }, 100, TimeUnit.MILLISECONDS, new Runnable() {
+                @Override
+                public void run() {
+                    connection.countDown();
+                }
+            });
+            fail("The execution should have timed out");
+        } catch (TimeoutException e) {
+            assertEquals("The execution timed out after: 100 milliseconds", e.getMessage());
+        }
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(timedOutExecutions + 1, ExecutionTimeout.getTimedOutExecutions());
+        for (int i = 0; i < 50 && ExecutionTimeout.getActiveExecutions() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, ExecutionTimeout.getActiveExecutions());
+    }
+
+    @Test
+    public void runWithTimeoutDoesNotCountTheQueueWait() throws Exception {
+        //on Java 21 and later the executions don't share a pool and never wait in a queue
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch busy = new CountDownLatch(ExecutionTimeout.MAX_POOL_THREADS);
+        final List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < ExecutionTimeout.MAX_POOL_THREADS; i++) {
+            Thread caller = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        ExecutionTimeout.runWithTimeout(new Runnable() {
+                            @Override
+                            public void run() {
+                                busy.countDown();
+                                try {
+                                    release.await();
+                                } catch (InterruptedException ignored) {
+                                }
+                            }
+                        }, 30, TimeUnit.SECONDS);
+                    } catch (Exception ignored) {
+                    }
+                }
+            });
+            caller.start();
+            callers.add(caller);
+        }
+        try {
+            assertTrue(busy.await(10, TimeUnit.SECONDS));
+            new Timer(true).schedule(new TimerTask() {
+                @Override
+                public void run() {
+                    release.countDown();
+                }
+            }, 500);
+
+            String result = ExecutionTimeout.runWithTimeout(new Callable<String>() {
+                @Override
+                public String call() {
+                    return "result";
+                }
+            }, 200, TimeUnit.MILLISECONDS);
+            assertEquals("result", result);
+        } finally {
+            release.countDown();
+            for (Thread caller : callers) {
+                caller.join();
+            }
+        }
+    }
+}
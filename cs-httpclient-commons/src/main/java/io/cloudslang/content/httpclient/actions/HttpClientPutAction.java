@@ -56,6 +56,8 @@ public class HttpClientPutAction {
                     @Output(value = FINAL_LOCATION, description = FINAL_LOCATION_DESC),
                     @Output(value = REASON_PHRASE, description = REASON_PHRASE_DESC),
                     @Output(value = PROTOCOL_VERSION, description = PROTOCOL_VERSION_DESC),
+                    @Output(value = BYTES_WRITTEN, description = BYTES_WRITTEN_DESC),
+                    @Output(value = THROUGHPUT, description = THROUGHPUT_DESC),
                     @Output(value = EXCEPTION, description = EXCEPTION_DESC)
             },
             responses = {
@@ -137,7 +137,13 @@ public class HttpClientService {
                         throw new RuntimeException(e);
                     }
                 }
-            }, Integer.parseInt(httpClientInputs.getExecutionTimeout()), TimeUnit.SECONDS);
+            }, Integer.parseInt(httpClientInputs.getExecutionTimeout()), TimeUnit.SECONDS, new Runnable() {
+                @Override
+                public void run() {
+                    //closes the connection, so the execution stops instead of waiting for the server
+                    httpRequest.cancel();
+                }
+            });
 
 
         if (cookieStore != null) {
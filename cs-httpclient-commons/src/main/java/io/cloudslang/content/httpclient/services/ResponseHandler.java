@@ -15,6 +15,7 @@
 package io.cloudslang.content.httpclient.services;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.utils.URIUtils;
@@ -27,15 +28,24 @@ import org.apache.hc.core5.http.message.StatusLine;
 import java.io.*;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
 import static io.cloudslang.content.httpclient.utils.Constants.UTF_8;
 import static io.cloudslang.content.httpclient.utils.Outputs.HTTPClientOutputs.*;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 
 public class ResponseHandler {
+    private static final int DOWNLOAD_BUFFER_SIZE = 64 * 1024;
 
     public static void consume(Map<String, String> result, CloseableHttpResponse httpResponse, String responseCharacterSet, String destinationFile) throws IOException {
 
@@ -63,18 +73,57 @@ public class ResponseHandler {
             }
             result.put(RETURN_RESULT, document);
         } else {
-            consumeToDestinationFile(httpResponse, responseCharacterSet, destinationFile);
+            long startTime = System.nanoTime();
+            long bytesWritten;
+            if (isTextContentType(httpResponse.getEntity().getContentType())) {
+                bytesWritten = consumeToDestinationFile(httpResponse, responseCharacterSet, destinationFile);
+            } else {
+                bytesWritten = consumeBytesToDestinationFile(httpResponse, destinationFile);
+            }
+            long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+            result.put(BYTES_WRITTEN, String.valueOf(bytesWritten));
+            result.put(THROUGHPUT, String.valueOf(bytesWritten * TimeUnit.SECONDS.toNanos(1) / elapsedNanos));
+        }
+    }
+
+    /**
+     * The text is decoded and encoded again with the response character set, everything else is copied as it is.
+     */
+    protected static boolean isTextContentType(String contentType) {
+        if (StringUtils.isEmpty(contentType)) {
+            return false;
+        }
+        String mimeType = StringUtils.substringBefore(contentType, ";").trim().toLowerCase(Locale.ENGLISH);
+        return mimeType.startsWith("text/") || mimeType.endsWith("+json") || mimeType.endsWith("+xml") ||
+                mimeType.equals("application/json") || mimeType.equals("application/xml") ||
+                mimeType.equals("application/javascript") || mimeType.equals("application/x-www-form-urlencoded");
+    }
+
+    private static long consumeBytesToDestinationFile(CloseableHttpResponse httpResponse, String destinationFile) throws IOException {
+        long bytesWritten = 0;
+        try (InputStream content = httpResponse.getEntity().getContent();
+             FileChannel fileChannel = FileChannel.open(Paths.get(destinationFile), CREATE, WRITE, TRUNCATE_EXISTING)) {
+            byte[] buffer = new byte[DOWNLOAD_BUFFER_SIZE];
+            ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                byteBuffer.clear().limit(read);
+                while (byteBuffer.hasRemaining()) {
+                    bytesWritten += fileChannel.write(byteBuffer);
+                }
+            }
         }
+        return bytesWritten;
     }
 
-    private static void consumeToDestinationFile(CloseableHttpResponse httpResponse, String responseCharacterSet, String destinationFile) throws IOException {
+    private static long consumeToDestinationFile(CloseableHttpResponse httpResponse, String responseCharacterSet, String destinationFile) throws IOException {
         BufferedReader reader;
         BufferedWriter fileWriter = null;
-        FileOutputStream fos = null;
+        CountingOutputStream fos = null;
         try {
             try {
                 reader = new BufferedReader(new InputStreamReader(httpResponse.getEntity().getContent(), responseCharacterSet));
-                fos = new FileOutputStream(destinationFile);
+                fos = new CountingOutputStream(new FileOutputStream(destinationFile));
                 fileWriter = new BufferedWriter(new OutputStreamWriter(fos, responseCharacterSet));
             } catch (UnsupportedEncodingException e) {
                 throw new IllegalArgumentException("Could not parse '" + responseCharacterSet
@@ -86,6 +135,7 @@ public class ResponseHandler {
                 fileWriter.write(buffer, 0, b);
             }
             fileWriter.flush();
+            return fos.getByteCount();
         } finally {
             if (fos != null) {
                 safeClose(fos);
@@ -193,7 +193,8 @@ public class Descriptions {
                 "Default value: UTF-8 \n";
         public static final String DESTINATION_FILE_DESC = "The absolute path of a file on disk where to save the entity " +
                 "returned by the response. return_result will no longer be populated with the entity if this is specified. " +
-                "You should not use this for method=HEAD or OPTIONS. \n" +
+                "You should not use this for method=HEAD or OPTIONS. Text entities are written with the response " +
+                "character set, any other content type is written byte for byte. \n" +
                 "Example: C:\\temp\\destinationFile.txt \n";
         public static final String MULTIPART_BODIES_DESC = "This is a name=textValue list of pairs separated by \"&\". " +
                 "his will also consider the \"contentType\" and \"charset\" inputs. The request entity will be like:\n" +
@@ -244,6 +245,10 @@ public class Descriptions {
         public static final String FINAL_LOCATION_DESC = "The final location after redirects.";
         public static final String RESPONSE_HEADERS_DESC = "The list containing the headers of the response message, separated by newline.\n" +
                 "Format: This is conforming with HTTP standard for headers (RFC 2616).";
+        public static final String BYTES_WRITTEN_DESC = "The number of bytes written to the destinationFile. " +
+                "Empty if destinationFile is not specified.";
+        public static final String THROUGHPUT_DESC = "The rate, in bytes per second, at which the response entity was " +
+                "written to the destinationFile. Empty if destinationFile is not specified.";
         public static final String PROTOCOL_VERSION_DESC = "The HTTP protocol version.\n"+
                 "Examples: HTTP/1.1";
         public static final String REASON_PHRASE_DESC = "  reasonPhrase - The reason phrase from the origin HTTP response. This depends on the status code and are according to RFC 1945 and RFC 2048\n" +
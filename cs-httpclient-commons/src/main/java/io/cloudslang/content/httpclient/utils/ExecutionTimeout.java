@@ -15,27 +15,71 @@
 package io.cloudslang.content.httpclient.utils;
 
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Runs the executions with a timeout on an executor shared by all the requests.
+ * On Java 21 and later every execution gets a virtual thread, on older versions the executions share a bounded pool
+ * of daemon threads and wait in a queue when all the threads are busy.
+ * The timeout of an execution starts when it begins running, the time it waited in the queue doesn't count against it.
+ */
 public class ExecutionTimeout {
+    static final int MAX_POOL_THREADS = Math.max(64, 8 * Runtime.getRuntime().availableProcessors());
+    private static final long POOL_THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static final ExecutorService EXECUTOR = createExecutor();
+    private static final AtomicInteger ACTIVE_EXECUTIONS = new AtomicInteger();
+    private static final AtomicLong TIMED_OUT_EXECUTIONS = new AtomicLong();
 
     public static void runWithTimeout(final Runnable runnable, long timeout, TimeUnit timeUnit) throws Exception {
+        runWithTimeout(runnable, timeout, timeUnit, null);
+    }
+
+    /**
+     * @param onTimeout cancels the execution when it timed out, usually by aborting the request, so the thread
+     *                  running it is freed instead of staying blocked on the connection
+     */
+    public static void runWithTimeout(final Runnable runnable, long timeout, TimeUnit timeUnit, Runnable onTimeout) throws Exception {
         runWithTimeout(new Callable<Object>() {
             @Override
             public Object call() throws Exception {
                 runnable.run();
                 return null;
             }
-        }, timeout, timeUnit);
+        }, timeout, timeUnit, onTimeout);
     }
 
     public static <T> T runWithTimeout(Callable<T> callable, long timeout, TimeUnit timeUnit) throws Exception {
-        final ExecutorService executor = Executors.newSingleThreadExecutor();
-        final Future<T> future = executor.submit(callable);
-        executor.shutdown(); // This does not cancel the already-scheduled task.
+        return runWithTimeout(callable, timeout, timeUnit, null);
+    }
+
+    public static <T> T runWithTimeout(final Callable<T> callable, long timeout, TimeUnit timeUnit, Runnable onTimeout) throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final Future<T> future = EXECUTOR.submit(new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                started.countDown();
+                ACTIVE_EXECUTIONS.incrementAndGet();
+                try {
+                    return callable.call();
+                } finally {
+                    ACTIVE_EXECUTIONS.decrementAndGet();
+                }
+            }
+        });
         try {
+            started.await();
             return future.get(timeout, timeUnit);
         }
+        catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        }
         catch (TimeoutException e) {
+            TIMED_OUT_EXECUTIONS.incrementAndGet();
+            if (onTimeout != null) {
+                onTimeout.run();
+            }
             future.cancel(true);
             throw new TimeoutException("The execution timed out after: " + timeout + " " + timeUnit.toString().toLowerCase());
         }
@@ -51,4 +95,39 @@ public class ExecutionTimeout {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * @return the number of executions that are running now
+     */
+    public static int getActiveExecutions() {
+        return ACTIVE_EXECUTIONS.get();
+    }
+
+    /**
+     * @return the number of executions that timed out since the class was loaded
+     */
+    public static long getTimedOutExecutions() {
+        return TIMED_OUT_EXECUTIONS.get();
+    }
+
+    private static ExecutorService createExecutor() {
+        try {
+            //available from Java 21
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_POOL_THREADS, MAX_POOL_THREADS,
+                    POOL_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                private final AtomicInteger threadCount = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "http-execution-timeout-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+}
@@ -23,5 +23,7 @@ public class Outputs extends OutputNames {
         public static final String RESPONSE_HEADERS = "responseHeaders";
         public static final String PROTOCOL_VERSION = "protocolVersion";
         public static final String REASON_PHRASE = "reasonPhrase";
+        public static final String BYTES_WRITTEN = "bytesWritten";
+        public static final String THROUGHPUT = "throughput";
     }
 }
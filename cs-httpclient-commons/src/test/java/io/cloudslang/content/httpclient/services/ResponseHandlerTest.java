@@ -0,0 +1,114 @@
+/*
+  * (c) Copyright 2022 Micro Focus
+  * All rights reserved. This program and the accompanying materials
+  * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+  *
+  * The Apache License is available at
+  * http://www.apache.org/licenses/LICENSE-2.0
+  *
+  * Unless required by applicable law or agreed to in writing, software
+  * distributed under the License is distributed on an "AS IS" BASIS,
+  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  * See the License for the specific language governing permissions and
+  * limitations under the License.
+ */
+package io.cloudslang.content.httpclient.services;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static io.cloudslang.content.httpclient.utils.Outputs.HTTPClientOutputs.BYTES_WRITTEN;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ResponseHandlerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private HttpServer server;
+    private byte[] body;
+    private String contentType;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/download", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void consumeBinaryResponseToDestinationFile() throws Exception {
+        //more than one download buffer of bytes that are not valid in the response character set
+        body = new byte[150 * 1024];
+        new Random(42).nextBytes(body);
+        contentType = "application/octet-stream";
+        File destination = new File(folder.getRoot(), "download.bin");
+
+        Map<String, String> result = download("UTF-8", destination);
+
+        assertArrayEquals(body, Files.readAllBytes(destination.toPath()));
+        assertEquals(String.valueOf(body.length), result.get(BYTES_WRITTEN));
+    }
+
+    @Test
+    public void consumeBinaryResponseTruncatesExistingDestinationFile() throws Exception {
+        body = new byte[]{(byte) 0x89, 'P', 'N', 'G', 0, (byte) 0xff};
+        contentType = "image/png";
+        File destination = folder.newFile("image.png");
+        Files.write(destination.toPath(), new byte[1000]);
+
+        download(null, destination);
+
+        assertArrayEquals(body, Files.readAllBytes(destination.toPath()));
+    }
+
+    @Test
+    public void isTextContentType() {
+        assertTrue(ResponseHandler.isTextContentType("text/plain; charset=ISO-8859-1"));
+        assertTrue(ResponseHandler.isTextContentType("application/json"));
+        assertTrue(ResponseHandler.isTextContentType("application/vnd.api+json"));
+        assertFalse(ResponseHandler.isTextContentType("application/octet-stream"));
+        assertFalse(ResponseHandler.isTextContentType("image/png"));
+        assertFalse(ResponseHandler.isTextContentType(null));
+    }
+
+    private Map<String, String> download(String responseCharacterSet, File destination) throws Exception {
+        Map<String, String> result = new HashMap<>();
+        try (CloseableHttpClient httpClient = HttpClients.createDefault();
+             CloseableHttpResponse httpResponse = httpClient.execute(
+                     new HttpGet("http://localhost:" + server.getAddress().getPort() + "/download"))) {
+            ResponseHandler.consume(result, httpResponse, responseCharacterSet, destination.getAbsolutePath());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.json.actions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.hp.oo.sdk.content.annotations.Action;
+import com.hp.oo.sdk.content.annotations.Output;
+import com.hp.oo.sdk.content.annotations.Param;
+import com.hp.oo.sdk.content.annotations.Response;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
+import io.cloudslang.content.constants.OutputNames;
+import io.cloudslang.content.constants.ResponseNames;
+import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.json.services.JsonService;
+import io.cloudslang.content.json.utils.Constants;
+import io.cloudslang.content.utils.OutputUtilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static io.cloudslang.content.json.utils.JsonExceptionValues.INVALID_JSONPATHS;
+import static io.cloudslang.content.json.utils.JsonUtils.hammerIllegalArgumentExceptionWithMessage;
+
+public class JsonPathMultiQuery {
+
+    /**
+     * This operation takes a reference to JSON (in the form of a string) and runs several JSON Path queries on it,
+     * parsing the JSON only once. It returns the results as a JSON array.
+     *
+     * @param jsonObject The JSON in the form of a string.
+     * @param jsonPaths  The JSON Path queries to run, as a JSON array of strings.
+     *                   Example: ["$.store.book[0].title", "$.expensive"]
+     * @return A map which contains a JSON array with the result of every query, in the order of the queries.
+     */
+    @Action(name = "JSON Path Multi Query",
+            outputs = {
+                    @Output(OutputNames.RETURN_RESULT),
+                    @Output(OutputNames.RETURN_CODE),
+                    @Output(OutputNames.EXCEPTION)
+            },
+            responses = {
+                    @Response(text = ResponseNames.SUCCESS, field = OutputNames.RETURN_CODE, value = ReturnCodes.SUCCESS, matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.RESOLVED),
+                    @Response(text = ResponseNames.FAILURE, field = OutputNames.RETURN_CODE, value = ReturnCodes.FAILURE, matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.ERROR, isOnFail = true)
+            })
+    public Map<String, String> execute(
+            @Param(value = Constants.InputNames.JSON_OBJECT, required = true) String jsonObject,
+            @Param(value = Constants.InputNames.JSON_PATHS, required = true) String jsonPaths) {
+        try {
+            final List<JsonNode> results = JsonService.evaluateJsonPathQueries(jsonObject, getJsonPaths(jsonPaths));
+            final ArrayNode resultArray = JsonNodeFactory.instance.arrayNode();
+            for (final JsonNode result : results) {
+                resultArray.add(result == null ? NullNode.getInstance() : result);
+            }
+            return OutputUtilities.getSuccessResultsMap(resultArray.toString());
+        } catch (Exception exception) {
+            return OutputUtilities.getFailureResultsMap(exception);
+        }
+    }
+
+    private List<String> getJsonPaths(final String jsonPaths) {
+        final JsonNode jsonPathsNode;
+        try {
+            jsonPathsNode = new ObjectMapper().readTree(jsonPaths);
+        } catch (Exception e) {
+            throw hammerIllegalArgumentExceptionWithMessage(INVALID_JSONPATHS, e);
+        }
+        if (jsonPathsNode == null || !jsonPathsNode.isArray() || jsonPathsNode.size() == 0) {
+            throw new IllegalArgumentException(INVALID_JSONPATHS);
+        }
+        final List<String> paths = new ArrayList<>(jsonPathsNode.size());
+        for (final JsonNode jsonPath : jsonPathsNode) {
+            if (!jsonPath.isTextual()) {
+                throw new IllegalArgumentException(INVALID_JSONPATHS);
+            }
+            paths.add(jsonPath.asText());
+        }
+        return paths;
+    }
+}
@@ -52,12 +52,28 @@ public class JsonService {
 
     @NotNull
     public static JsonNode evaluateJsonPathQuery(@Nullable final String jsonObject, @Nullable final String jsonPath) {
-        final JsonContext jsonContext = JsonUtils.getValidJsonContext(jsonObject);
+        final JsonContext jsonContext = JsonUtils.getReadOnlyJsonContext(jsonObject);
         final JsonPath path = JsonUtils.getValidJsonPath(jsonPath);
         return jsonContext.read(path);
     }
 
 
+    /**
+     * Runs every query against the same parsed document.
+     *
+     * @return the results of the queries, in the order of the queries
+     */
+    @NotNull
+    public static List<JsonNode> evaluateJsonPathQueries(@Nullable final String jsonObject, @NotNull final List<String> jsonPaths) {
+        final JsonContext jsonContext = JsonUtils.getReadOnlyJsonContext(jsonObject);
+        final List<JsonNode> results = new ArrayList<>(jsonPaths.size());
+        for (final String jsonPath : jsonPaths) {
+            results.add(jsonContext.<JsonNode>read(JsonUtils.getValidJsonPath(jsonPath)));
+        }
+        return results;
+    }
+
+
     public String removeEmptyElementsJson(String json) throws RemoveEmptyElementException {
         String normalizedJson = json.trim();
 
@@ -38,6 +38,7 @@ public final class Constants {
         public static final String ARRAY2 = "array2";
         public static final String ACTION = "action";
         public static final String JSON_PATH = "jsonPath";
+        public static final String JSON_PATHS = "jsonPaths";
         public static final String NAME = "name";
         public static final String VALUE = "value";
         public static final String VALIDATE_VALUE = "validateValue";
@@ -97,5 +98,7 @@ public final class Constants {
         public static final String JSON_ARRAY_OP = "Array Iterator";
         public static final String INDEX = "index";
         public static final String LENGTH = "length";
+        public static final String PARSED_ARRAY = "parsedArray";
+        public static final String SOURCE_ARRAY = "sourceArray";
     }
 }
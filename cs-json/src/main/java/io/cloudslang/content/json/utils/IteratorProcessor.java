@@ -25,7 +25,6 @@ import static io.cloudslang.content.json.utils.Constants.InputNames.ARRAY;
 import static io.cloudslang.content.json.utils.ExceptionMsgs.*;
 
 public class IteratorProcessor {
-
     private int index;
     private JsonArray jsonElements;
 
@@ -50,13 +49,22 @@ public class IteratorProcessor {
 
         index = Integer.parseInt(String.valueOf(sessionMap.get(INDEX)));
 
-        try {
-            jsonElements = new Gson().fromJson(array, JsonArray.class);
-        } catch (Exception ex) {
-            throw new Exception(INVALID_JSON_ARRAY);
+        //the array is parsed on the first step only, the next steps read the elements from the session
+        //the whole array is compared, an array changed between the steps is parsed again
+        Object parsedArray = sessionMap.get(PARSED_ARRAY);
+        if (parsedArray instanceof JsonArray && array.equals(sessionMap.get(SOURCE_ARRAY))) {
+            jsonElements = (JsonArray) parsedArray;
+        } else {
+            try {
+                jsonElements = new Gson().fromJson(array, JsonArray.class);
+            } catch (Exception ex) {
+                throw new Exception(INVALID_JSON_ARRAY);
+            }
+            if (jsonElements == null || jsonElements.size() == 0)
+                throw new Exception(EMPTY_JSON_ARRAY);
+            sessionMap.put(PARSED_ARRAY, jsonElements);
+            sessionMap.put(SOURCE_ARRAY, array);
         }
-        if (jsonElements.size() == 0)
-            throw new Exception(EMPTY_JSON_ARRAY);
     }
 
     public boolean hasNext() {
@@ -24,6 +24,7 @@ public final class JsonExceptionValues extends ExceptionValues {
     public static final String INVALID_JSONOBJECT = "Invalid jsonObject provided! ";
     public static final String INVALID_JSONPATH = "Invalid jsonPath provided!";
     public static final String EMPTY_JSONPATH = "Empty jsonPath provided!";
+    public static final String INVALID_JSONPATHS = "Invalid jsonPaths provided! It must be a JSON array of JSON Path queries.";
     public static final String EMPTY_JSONOBJECT = "Empty jsonObject provided!";
     public static final String EMPTY_OBJECT = "Empty object provided!";
     public static final String NULL_KEY = "Null key provided!";
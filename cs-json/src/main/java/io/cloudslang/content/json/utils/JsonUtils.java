@@ -18,21 +18,28 @@
 package io.cloudslang.content.json.utils;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.internal.JsonContext;
-import com.jayway.jsonpath.spi.json.AbstractJsonProvider;
 import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
 import io.cloudslang.content.constants.OtherValues;
 import io.cloudslang.content.constants.OutputNames;
 import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.utils.LruCache;
 import io.cloudslang.content.utils.StringUtilities;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
 import java.util.Map;
 
 import static io.cloudslang.content.json.utils.ActionsEnum.insert;
@@ -44,6 +51,20 @@ import static io.cloudslang.content.json.utils.JsonExceptionValues.*;
  * Date 2/9/2015.
  */
 public class JsonUtils {
+    private static final int MAX_CACHED_JSON_PATHS = 1000;
+    private static final int MAX_CACHED_DOCUMENTS = 16;
+    //larger documents are parsed on every call, so the cache doesn't hold on to too much memory
+    private static final int MAX_CACHED_DOCUMENT_LENGTH = 4 * 1024 * 1024;
+    private static final String JSON_CONTEXT_DOCUMENT = "context:";
+    private static final String JSON_TREE_DOCUMENT = "tree:";
+    //the mappers and the configuration are thread safe once configured, all the calls share them
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Configuration JSON_NODE_CONFIGURATION = Configuration.defaultConfiguration()
+            .jsonProvider(new JacksonJsonNodeJsonProvider(new ObjectMapper().configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true)));
+    private static final Map<String, JsonPath> JSON_PATH_CACHE =
+            Collections.synchronizedMap(new LruCache<String, JsonPath>(MAX_CACHED_JSON_PATHS));
+    private static final Map<String, Object> DOCUMENT_CACHE =
+            Collections.synchronizedMap(new LruCache<String, Object>(MAX_CACHED_DOCUMENTS));
 
     public static Map<String, String> populateResult(Map<String, String> returnResult, String value, Exception exception) {
         returnResult.put(OutputNames.RETURN_RESULT, value);
@@ -113,22 +134,27 @@ public class JsonUtils {
 
 
     public static JsonPath getValidJsonPath(final String jsonPath) {
+        if (jsonPath != null) {
+            final JsonPath cachedJsonPath = JSON_PATH_CACHE.get(jsonPath);
+            if (cachedJsonPath != null) {
+                return cachedJsonPath;
+            }
+        }
+        final JsonPath compiledJsonPath;
         try {
-            return JsonPath.compile(jsonPath);
+            compiledJsonPath = JsonPath.compile(jsonPath);
         } catch (IllegalArgumentException iae) {
             throw hammerIllegalArgumentExceptionWithMessage(INVALID_JSONPATH, iae);
         }
+        JSON_PATH_CACHE.put(jsonPath, compiledJsonPath);
+        return compiledJsonPath;
     }
 
 
     @NotNull
     public static JsonContext getValidJsonContext(final String jsonObject) {
         try {
-            final ObjectMapper objectMapper = new ObjectMapper().configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
-            final AbstractJsonProvider provider = new JacksonJsonNodeJsonProvider(objectMapper);
-            final Configuration configuration = Configuration.defaultConfiguration()
-                    .jsonProvider(provider);
-            final JsonContext jsonContext = new JsonContext(configuration);
+            final JsonContext jsonContext = new JsonContext(JSON_NODE_CONFIGURATION);
             jsonContext.parse(jsonObject);
             return jsonContext;
         } catch (IllegalArgumentException iae) {
@@ -137,6 +163,61 @@ public class JsonUtils {
     }
 
 
+    /**
+     * Same as getValidJsonContext, but the document is shared with the other calls made for the same json,
+     * so it must not be changed through the returned context.
+     */
+    @NotNull
+    public static JsonContext getReadOnlyJsonContext(final String jsonObject) {
+        if (jsonObject == null || jsonObject.length() > MAX_CACHED_DOCUMENT_LENGTH) {
+            return getValidJsonContext(jsonObject);
+        }
+        final String documentKey = JSON_CONTEXT_DOCUMENT + getContentHash(jsonObject);
+        final Object document = DOCUMENT_CACHE.get(documentKey);
+        if (document != null) {
+            final JsonContext jsonContext = new JsonContext(JSON_NODE_CONFIGURATION);
+            jsonContext.parse(document);
+            return jsonContext;
+        }
+        final JsonContext jsonContext = getValidJsonContext(jsonObject);
+        DOCUMENT_CACHE.put(documentKey, jsonContext.json());
+        return jsonContext;
+    }
+
+
+    /**
+     * Parses the json with the default Jackson settings. The tree is shared with the other calls made for the same json,
+     * so it must not be changed.
+     */
+    @NotNull
+    public static JsonNode getReadOnlyJsonTree(@NotNull final String json) throws IOException {
+        if (json.length() > MAX_CACHED_DOCUMENT_LENGTH) {
+            return OBJECT_MAPPER.readTree(json);
+        }
+        final String documentKey = JSON_TREE_DOCUMENT + getContentHash(json);
+        final Object document = DOCUMENT_CACHE.get(documentKey);
+        if (document != null) {
+            return (JsonNode) document;
+        }
+        final JsonNode jsonTree = OBJECT_MAPPER.readTree(json);
+        if (jsonTree != null) {
+            DOCUMENT_CACHE.put(documentKey, jsonTree);
+        }
+        return jsonTree;
+    }
+
+
+    @NotNull
+    private static String getContentHash(@NotNull final String json) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return new BigInteger(1, digest.digest(json.getBytes(StandardCharsets.UTF_8))).toString(16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
     public static boolean parseBooleanWithDefault(String booleanValue, boolean defaultValue) {
         if (StringUtilities.isBlank(booleanValue)) {
             return defaultValue;
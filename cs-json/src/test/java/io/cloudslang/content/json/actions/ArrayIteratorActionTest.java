@@ -0,0 +1,107 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.json.actions;
+
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static junit.framework.Assert.assertEquals;
+
+public class ArrayIteratorActionTest {
+    private static final String RETURN_RESULT = "returnResult";
+    private static final String RESULT_STRING = "resultString";
+    private static final String HAS_MORE = "has more";
+    private static final String NO_MORE = "no more";
+
+    private final ArrayIteratorAction arrayIterator = new ArrayIteratorAction();
+
+    @Test
+    public void testIterateArray() {
+        GlobalSessionObject<Map<String, Object>> session = new GlobalSessionObject<>();
+        String array = "[ \"apple\", {\"name\": \"pencil\"}, [ 0, 3 ] ]";
+
+        assertStep(arrayIterator.execute(array, session), HAS_MORE, "\"apple\"");
+        assertStep(arrayIterator.execute(array, session), HAS_MORE, "{\"name\":\"pencil\"}");
+        assertStep(arrayIterator.execute(array, session), HAS_MORE, "[0,3]");
+        assertStep(arrayIterator.execute(array, session), NO_MORE, "");
+    }
+
+    @Test
+    public void testIterateChangedArray() {
+        GlobalSessionObject<Map<String, Object>> session = new GlobalSessionObject<>();
+
+        assertStep(arrayIterator.execute("[ 1, 2, 3 ]", session), HAS_MORE, "1");
+        assertStep(arrayIterator.execute("[ 4, 5, 6 ]", session), HAS_MORE, "5");
+        assertEquals("List under iteration was changed between successive iteration steps",
+                arrayIterator.execute("[ 4, 5, 6, 7 ]", session).get(RETURN_RESULT));
+    }
+
+    @Test
+    public void testIterateArrayChangedInTheMiddle() {
+        GlobalSessionObject<Map<String, Object>> session = new GlobalSessionObject<>();
+        StringBuilder arrayBuilder = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            arrayBuilder.append(i == 0 ? "" : ",").append(i % 10);
+        }
+        String array = arrayBuilder.append("]").toString();
+        //same length, only the element 5001 in the middle is changed from 1 to 7
+        int middle = 1 + 2 * 5001;
+        String changedArray = array.substring(0, middle) + "7" + array.substring(middle + 1);
+
+        assertStep(arrayIterator.execute(array, session), HAS_MORE, "0");
+        for (int i = 1; i < 5001; i++) {
+            arrayIterator.execute(array, session);
+        }
+        assertStep(arrayIterator.execute(changedArray, session), HAS_MORE, "7");
+    }
+
+    @Test
+    public void testIterateInvalidArray() {
+        assertEquals("Input value is not a valid JavaScript array",
+                arrayIterator.execute("{ \"a\": 1 }", new GlobalSessionObject<Map<String, Object>>()).get(RETURN_RESULT));
+    }
+
+    /**
+     * Every step reads the array parsed by the first step, walking large arrays takes linear time.
+     */
+    @Test(timeout = 60000)
+    public void testIterateLargeArrays() {
+        for (int size : new int[]{1000, 10000, 100000}) {
+            StringBuilder arrayBuilder = new StringBuilder("[");
+            for (int i = 0; i < size; i++) {
+                arrayBuilder.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append("}");
+            }
+            String array = arrayBuilder.append("]").toString();
+            GlobalSessionObject<Map<String, Object>> session = new GlobalSessionObject<>();
+
+            //every step gets an equal copy of the array, as a flow passes a new input value on every step
+            for (int i = 0; i < size; i++) {
+                Map<String, String> result = arrayIterator.execute(new String(array), session);
+                assertEquals(HAS_MORE, result.get(RETURN_RESULT));
+                assertEquals("{\"id\":" + i + "}", result.get(RESULT_STRING));
+            }
+            assertEquals(NO_MORE, arrayIterator.execute(new String(array), session).get(RETURN_RESULT));
+        }
+    }
+
+    private void assertStep(Map<String, String> result, String expectedReturnResult, String expectedResultString) {
+        assertEquals(expectedReturnResult, result.get(RETURN_RESULT));
+        assertEquals(expectedResultString, result.get(RESULT_STRING));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.json.actions;
+
+import io.cloudslang.content.constants.OutputNames;
+import io.cloudslang.content.constants.ReturnCodes;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static io.cloudslang.content.json.utils.JsonExceptionValues.INVALID_JSONOBJECT;
+import static io.cloudslang.content.json.utils.JsonExceptionValues.INVALID_JSONPATH;
+import static io.cloudslang.content.json.utils.JsonExceptionValues.INVALID_JSONPATHS;
+import static org.junit.Assert.assertEquals;
+
+public class JsonPathMultiQueryTest {
+    private static final String BOOKSTORE_JSON = "{\"store\":{\"book\":[{\"title\":\"Sayings of the Century\",\"price\":8.95}," +
+            "{\"title\":\"Sword of Honour\",\"price\":12.99},{\"title\":\"Moby Dick\",\"price\":8.99}]}," +
+            "\"expensive\":10}";
+
+    private final JsonPathMultiQuery jsonPathMultiQuery = new JsonPathMultiQuery();
+
+    @Test
+    public void executeValid() {
+        final Map<String, String> resultMap = jsonPathMultiQuery.execute(BOOKSTORE_JSON,
+                "[\"$.store.book[0].title\", \"$.expensive\", \"$..book[?(@.price > $['expensive'])].title\"]");
+        assertEquals(ReturnCodes.SUCCESS, resultMap.get(OutputNames.RETURN_CODE));
+        assertEquals("[\"Sayings of the Century\",10,[\"Sword of Honour\"]]", resultMap.get(OutputNames.RETURN_RESULT));
+    }
+
+    @Test
+    public void executeInvalidJsonPaths() {
+        assertEquals(INVALID_JSONPATHS, jsonPathMultiQuery.execute(BOOKSTORE_JSON, "$.expensive").get(OutputNames.RETURN_RESULT));
+        assertEquals(INVALID_JSONPATHS, jsonPathMultiQuery.execute(BOOKSTORE_JSON, "[]").get(OutputNames.RETURN_RESULT));
+        assertEquals(INVALID_JSONPATHS, jsonPathMultiQuery.execute(BOOKSTORE_JSON, "[1]").get(OutputNames.RETURN_RESULT));
+        assertEquals(INVALID_JSONPATHS, jsonPathMultiQuery.execute(BOOKSTORE_JSON, null).get(OutputNames.RETURN_RESULT));
+    }
+
+    @Test
+    public void executeInvalidJsonPath() {
+        final Map<String, String> resultMap = jsonPathMultiQuery.execute(BOOKSTORE_JSON, "[\"$.expensive\", \"\"]");
+        assertEquals(ReturnCodes.FAILURE, resultMap.get(OutputNames.RETURN_CODE));
+        assertEquals(INVALID_JSONPATH, resultMap.get(OutputNames.RETURN_RESULT));
+    }
+
+    @Test
+    public void executeInvalidJsonObject() {
+        final Map<String, String> resultMap = jsonPathMultiQuery.execute(null, "[\"$.expensive\"]");
+        assertEquals(ReturnCodes.FAILURE, resultMap.get(OutputNames.RETURN_CODE));
+        assertEquals(INVALID_JSONOBJECT, resultMap.get(OutputNames.RETURN_RESULT));
+    }
+}
@@ -21,13 +21,18 @@ import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.internal.filter.ValueNode;
 import io.cloudslang.content.json.actions.JsonPathQuery;
 import io.cloudslang.content.json.exceptions.RemoveEmptyElementException;
+import io.cloudslang.content.json.utils.JsonUtils;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * Created by nane on 2/9/2016.
@@ -241,4 +246,23 @@ public class JsonServiceTest {
                 "}", "$..book[?(@.price<10)]");
         assertEquals(jsonNode.toString(), "[{\"category\":\"reference\",\"author\":\"Nigel Rees\",\"title\":\"Sayings of the Century\",\"price\":8.95},{\"category\":\"fiction\",\"author\":\"Herman Melville\",\"title\":\"Moby Dick\",\"isbn\":\"0-553-21311-3\",\"price\":8.99}]");
     }
+
+    @Test
+    public void evaluateJsonPathQuerySharesParsedDocument() throws Exception {
+        final String json = "{'key1': {'key11': 'value11'}, 'key2': 'value2'}";
+        JsonNode jsonNode = JsonService.evaluateJsonPathQuery(json, "$.key1");
+        assertEquals("{\"key11\":\"value11\"}", jsonNode.toString());
+        assertSame(JsonUtils.getReadOnlyJsonContext(json).json(), JsonUtils.getReadOnlyJsonContext(new String(json)).json());
+        assertSame(JsonUtils.getValidJsonPath("$.key1"), JsonUtils.getValidJsonPath(new String("$.key1")));
+    }
+
+    @Test
+    public void evaluateJsonPathQueries() throws Exception {
+        List<JsonNode> jsonNodes = JsonService.evaluateJsonPathQueries("{'key1': 'value1', 'key2': [1, 2, 3]}",
+                Arrays.asList("$.key1", "$.key2[1]", "$.key2[*]"));
+        assertEquals(3, jsonNodes.size());
+        assertEquals("\"value1\"", jsonNodes.get(0).toString());
+        assertEquals("2", jsonNodes.get(1).toString());
+        assertEquals("[1,2,3]", jsonNodes.get(2).toString());
+    }
 }
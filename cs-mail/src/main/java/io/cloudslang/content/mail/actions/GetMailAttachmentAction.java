@@ -21,10 +21,12 @@ import com.hp.oo.sdk.content.annotations.Param;
 import com.hp.oo.sdk.content.annotations.Response;
 import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
 import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.constants.ReturnCodes;
 import io.cloudslang.content.mail.constants.OutputNames;
 import io.cloudslang.content.mail.entities.GetMailAttachmentInput;
+import io.cloudslang.content.mail.entities.MailStorePool;
 import io.cloudslang.content.mail.services.GetMailAttachmentService;
 import io.cloudslang.content.mail.constants.InputNames;
 import io.cloudslang.content.mail.utils.ResultUtils;
@@ -32,6 +34,8 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Map;
 
+import static io.cloudslang.content.mail.constants.Constants.MAIL_SESSIONS_DEFAULT_ID;
+
 public class GetMailAttachmentAction {
 
     /**
@@ -112,6 +116,14 @@ public class GetMailAttachmentAction {
      *                                   TLS_ECDHE_ECDSA_WITH_AES_256_CBC_SHA384, TLS_ECDHE_ECDSA_WITH_AES_256_GCM_SHA384,
      *                                   TLS_RSA_WITH_AES_256_GCM_SHA384, TLS_RSA_WITH_AES_256_CBC_SHA256,
      *                                   TLS_RSA_WITH_AES_128_CBC_SHA256.
+     * @param closeSession               If false, the connected store is kept in the global session after the operation,
+     *                                   so the next mail operation on the same mailbox, with the same credentials and
+     *                                   security settings, skips the connection and the login. An idle store is closed
+     *                                   after two minutes. Only IMAP stores are kept, closing a POP3 folder ends its
+     *                                   connection.
+     *                                   Valid values: true, false.
+     *                                   Default value: true.
+     * @param globalSessionObject        The session object that keeps the idle stores.
      * @return a map containing the output of the operations. Keys present in the map are:
      * <br><b>returnResult</b> - The text content of the attachment, if the attachment is in plain text format.
      * <br><b>temporaryFile</b> - The path to the temporary file where the attachment was saved.
@@ -165,7 +177,9 @@ public class GetMailAttachmentAction {
             @Param(value = InputNames.PROXY_PASSWORD) String proxyPassword,
             @Param(value = InputNames.TIMEOUT) String timeout,
             @Param(value = InputNames.TLS_VERSION) String tlsVersion,
-            @Param(value = InputNames.ENCRYPTION_ALGORITHM) String encryptionAlgorithm) {
+            @Param(value = InputNames.ENCRYPTION_ALGORITHM) String encryptionAlgorithm,
+            @Param(value = InputNames.CLOSE_SESSION) String closeSession,
+            @Param(value = MAIL_SESSIONS_DEFAULT_ID) GlobalSessionObject<MailStorePool> globalSessionObject) {
         GetMailAttachmentInput.Builder inputBuilder = new GetMailAttachmentInput.Builder()
                 .hostname(hostname)
                 .port(port)
@@ -194,20 +208,21 @@ public class GetMailAttachmentAction {
                 .proxyPassword(proxyPassword)
                 .timeout(timeout)
                 .tlsVersion(tlsVersion)
-                .allowedCiphers(encryptionAlgorithm);
+                .allowedCiphers(encryptionAlgorithm)
+                .closeSession(closeSession);
         if(StringUtils.isEmpty(tlsVersion))
             try {
-                return new GetMailAttachmentService().execute(inputBuilder.tlsVersion("TLSv1.2").build());
+                return new GetMailAttachmentService().execute(inputBuilder.tlsVersion("TLSv1.2").build(), globalSessionObject);
             } catch (Exception ex) {
                 try {
-                    return new GetMailAttachmentService().execute(inputBuilder.build());
+                    return new GetMailAttachmentService().execute(inputBuilder.build(), globalSessionObject);
                 } catch (Exception e){
                     return ResultUtils.fromException(ex);
                 }
             }
         else {
             try {
-                return new GetMailAttachmentService().execute(inputBuilder.build());
+                return new GetMailAttachmentService().execute(inputBuilder.build(), globalSessionObject);
             } catch (Exception e) {
                 return ResultUtils.fromException(e);
             }
@@ -21,10 +21,12 @@ import com.hp.oo.sdk.content.annotations.Param;
 import com.hp.oo.sdk.content.annotations.Response;
 import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
 import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.constants.ReturnCodes;
 import io.cloudslang.content.mail.constants.OutputNames;
 import io.cloudslang.content.mail.entities.GetMailMessageInput;
+import io.cloudslang.content.mail.entities.MailStorePool;
 import io.cloudslang.content.mail.services.GetMailMessageService;
 import io.cloudslang.content.mail.constants.InputNames;
 import io.cloudslang.content.mail.utils.ResultUtils;
@@ -32,6 +34,8 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Map;
 
+import static io.cloudslang.content.mail.constants.Constants.MAIL_SESSIONS_DEFAULT_ID;
+
 public class GetMailMessageAction {
     /**
      * This operation is used to get the contents of a mail message. Inline attachments are not supported by this
@@ -97,6 +101,14 @@ public class GetMailMessageAction {
      *                                   TLS_ECDHE_ECDSA_WITH_AES_256_CBC_SHA384, TLS_ECDHE_ECDSA_WITH_AES_256_GCM_SHA384,
      *                                   TLS_RSA_WITH_AES_256_GCM_SHA384, TLS_RSA_WITH_AES_256_CBC_SHA256,
      *                                   TLS_RSA_WITH_AES_128_CBC_SHA256.
+     * @param closeSession               If false, the connected store is kept in the global session after the operation,
+     *                                   so the next mail operation on the same mailbox, with the same credentials and
+     *                                   security settings, skips the connection and the login. An idle store is closed
+     *                                   after two minutes. Only IMAP stores are kept, closing a POP3 folder ends its
+     *                                   connection.
+     *                                   Valid values: true, false.
+     *                                   Default value: true.
+     * @param globalSessionObject        The session object that keeps the idle stores.
      * @return a map containing the output of the operation. Keys present in the map are:
      * <br><b>returnCode</b> - This is the primary output. It is 0 if the operation succeeded and -1 for failure.
      * <br><b>subject</b> - Subject of the email.
@@ -161,7 +173,9 @@ public class GetMailMessageAction {
             @Param(value = InputNames.MARK_MESSAGE_AS_READ) String markAsRead,
             @Param(value = InputNames.VERIFY_CERTIFICATE) String verifyCertificate,
             @Param(value = InputNames.TLS_VERSION) String tlsVersion,
-            @Param(value = InputNames.ENCRYPTION_ALGORITHM) String encryptionAlgorithm) {
+            @Param(value = InputNames.ENCRYPTION_ALGORITHM) String encryptionAlgorithm,
+            @Param(value = InputNames.CLOSE_SESSION) String closeSession,
+            @Param(value = MAIL_SESSIONS_DEFAULT_ID) GlobalSessionObject<MailStorePool> globalSessionObject) {
         GetMailMessageInput.Builder inputBuilder = new GetMailMessageInput.Builder()
                 .hostname(hostname)
                 .port(port)
@@ -192,20 +206,21 @@ public class GetMailMessageAction {
                 .proxyUsername(proxyUsername)
                 .proxyPassword(proxyPassword)
                 .tlsVersion(tlsVersion)
-                .allowedCiphers(encryptionAlgorithm);
+                .allowedCiphers(encryptionAlgorithm)
+                .closeSession(closeSession);
         if(StringUtils.isEmpty(tlsVersion))
             try {
-                return new GetMailMessageService().execute(inputBuilder.tlsVersion("TLSv1.2").build());
+                return new GetMailMessageService().execute(inputBuilder.tlsVersion("TLSv1.2").build(), globalSessionObject);
             } catch (Exception ex) {
                 try {
-                    return new GetMailMessageService().execute(inputBuilder.build());
+                    return new GetMailMessageService().execute(inputBuilder.build(), globalSessionObject);
                 } catch (Exception e){
                     return ResultUtils.fromException(ex);
                 }
             }
         else {
             try {
-                return new GetMailMessageService().execute(inputBuilder.build());
+                return new GetMailMessageService().execute(inputBuilder.build(), globalSessionObject);
             } catch (Exception e) {
                 return ResultUtils.fromException(e);
             }
@@ -21,10 +21,12 @@ import com.hp.oo.sdk.content.annotations.Param;
 import com.hp.oo.sdk.content.annotations.Response;
 import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
 import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import io.cloudslang.content.constants.OutputNames;
 import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.constants.ReturnCodes;
 import io.cloudslang.content.mail.entities.GetMailMessageCountInput;
+import io.cloudslang.content.mail.entities.MailStorePool;
 import io.cloudslang.content.mail.services.GetMailMessageCountService;
 import io.cloudslang.content.mail.constants.InputNames;
 import io.cloudslang.content.mail.utils.ResultUtils;
@@ -32,6 +34,8 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Map;
 
+import static io.cloudslang.content.mail.constants.Constants.MAIL_SESSIONS_DEFAULT_ID;
+
 public class GetMailMessageCountAction {
 
     /**
@@ -83,6 +87,14 @@ public class GetMailMessageCountAction {
      *                            TLS_ECDHE_ECDSA_WITH_AES_256_CBC_SHA384, TLS_ECDHE_ECDSA_WITH_AES_256_GCM_SHA384,
      *                            TLS_RSA_WITH_AES_256_GCM_SHA384, TLS_RSA_WITH_AES_256_CBC_SHA256,
      *                            TLS_RSA_WITH_AES_128_CBC_SHA256.
+     * @param closeSession        If false, the connected store is kept in the global session after the operation,
+     *                            so the next mail operation on the same mailbox, with the same credentials and
+     *                            security settings, skips the connection and the login. An idle store is closed
+     *                            after two minutes. Only IMAP stores are kept, closing a POP3 folder ends its
+     *                            connection.
+     *                            Valid values: true, false.
+     *                            Default value: true.
+     * @param globalSessionObject The session object that keeps the idle stores.
      * @return a map containing the output of the operations. Keys present in the map are:
      * <br><b>returnResult</b> - The text content of the attachment, if the attachment is in plain text format.
      * <br><b>exception</b> - the exception message if the operation goes to failure.
@@ -127,7 +139,9 @@ public class GetMailMessageCountAction {
             @Param(value = InputNames.PROXY_PASSWORD) String proxyPassword,
             @Param(value = InputNames.TIMEOUT) String timeout,
             @Param(value = InputNames.TLS_VERSION) String tlsVersion,
-            @Param(value = InputNames.ENCRYPTION_ALGORITHM) String encryptionAlgorithm) {
+            @Param(value = InputNames.ENCRYPTION_ALGORITHM) String encryptionAlgorithm,
+            @Param(value = InputNames.CLOSE_SESSION) String closeSession,
+            @Param(value = MAIL_SESSIONS_DEFAULT_ID) GlobalSessionObject<MailStorePool> globalSessionObject) {
         GetMailMessageCountInput.Builder inputBuilder = new GetMailMessageCountInput.Builder()
                 .hostname(hostname)
                 .username(username)
@@ -149,20 +163,21 @@ public class GetMailMessageCountAction {
                 .proxyPassword(proxyPassword)
                 .timeout(timeout)
                 .tlsVersion(tlsVersion)
-                .allowedCiphers(encryptionAlgorithm);
+                .allowedCiphers(encryptionAlgorithm)
+                .closeSession(closeSession);
         if(StringUtils.isEmpty(tlsVersion))
             try {
-                return new GetMailMessageCountService().execute(inputBuilder.tlsVersion("TLSv1.2").build());
+                return new GetMailMessageCountService().execute(inputBuilder.tlsVersion("TLSv1.2").build(), globalSessionObject);
             } catch (Exception ex) {
                 try {
-                    return new GetMailMessageCountService().execute(inputBuilder.build());
+                    return new GetMailMessageCountService().execute(inputBuilder.build(), globalSessionObject);
                 } catch (Exception e){
                     return ResultUtils.fromException(ex);
                 }
             }
         else {
             try {
-                return new GetMailMessageCountService().execute(inputBuilder.build());
+                return new GetMailMessageCountService().execute(inputBuilder.build(), globalSessionObject);
             } catch (Exception e) {
                 return ResultUtils.fromException(e);
             }
@@ -30,4 +30,7 @@ public final class Constants {
     public static final String MAIL_POP3 = "mail.pop3.";
     public static final String SMTP = "smtp";
     public static final String XOAUTH2 = "XOAUTH2";
+    public static final String MAIL_SESSIONS_DEFAULT_ID = "mailSessions:default-id";
+    public static final String DEFAULT_COLUMN_DELIMITER = "\t";
+    public static final String DEFAULT_ROW_DELIMITER = "\n";
 }
\ No newline at end of file
@@ -45,4 +45,6 @@ public final class ExceptionMsgs {
     public static final String TIMEOUT_MUST_BE_POSITIVE = "timeout value must be a positive number";
     public static final String INVALID_PORT_NUMBER = "Invalid port number";
     public static final String PORT_NOT_SPECIFIED = "The required 'port' input is not specified";
+    public static final String INVALID_MESSAGE_RANGE = "The endMessageNumber input must be greater than or equal " +
+            "to the startMessageNumber input.";
 }
@@ -67,4 +67,7 @@ public final class InputNames {
     public static final String DESTINATION = "destination";
     public static final String OVERWRITE = "overwrite";
     public static final String TLS_VERSION = "tlsVersion";
+    public static final String CLOSE_SESSION = "closeSession";
+    public static final String START_MESSAGE_NUMBER = "startMessageNumber";
+    public static final String END_MESSAGE_NUMBER = "endMessageNumber";
 }
@@ -21,4 +21,5 @@ public final class OutputNames {
     public static final String PLAIN_TEXT_BODY = "plainTextBody";
     public static final String ATTACHED_FILE_NAMES = "attachedFileNames";
     public static final String TEMPORARY_FILE = "temporaryFile";
+    public static final String MESSAGE_COUNT = "messageCount";
 }
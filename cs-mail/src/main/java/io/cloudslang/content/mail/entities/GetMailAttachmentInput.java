@@ -54,6 +54,7 @@ public class GetMailAttachmentInput implements GetMailInput, DecryptableMailInpu
     private String decryptionKeystorePassword;
     private List<String> tlsVersions;
     private List<String> allowedCiphers;
+    private boolean closeSession = true;
 
 
     private GetMailAttachmentInput() {
@@ -218,6 +219,11 @@ public class GetMailAttachmentInput implements GetMailInput, DecryptableMailInpu
     }
 
 
+    public boolean isCloseSession() {
+        return closeSession;
+    }
+
+
     public static class Builder {
 
         private String hostname;
@@ -248,6 +254,7 @@ public class GetMailAttachmentInput implements GetMailInput, DecryptableMailInpu
         private String decryptionKeystorePassword;
         private String tlsVersion;
         private String allowedCiphers;
+        private String closeSession;
 
 
         public Builder folder(String folder) {
@@ -418,6 +425,12 @@ public class GetMailAttachmentInput implements GetMailInput, DecryptableMailInpu
         }
 
 
+        public Builder closeSession(String closeSession) {
+            this.closeSession = closeSession;
+            return this;
+        }
+
+
         public GetMailAttachmentInput build() throws Exception {
             GetMailAttachmentInput input = new GetMailAttachmentInput();
 
@@ -495,6 +508,8 @@ public class GetMailAttachmentInput implements GetMailInput, DecryptableMailInpu
 
             input.allowedCiphers = buildAllowedCiphers(allowedCiphers);
 
+            input.closeSession = buildCloseSession(closeSession);
+
             return input;
         }
     }
@@ -28,4 +28,6 @@ public interface GetMailInput extends MailInput {
     String getKeystore();
 
     String getKeystorePassword();
+
+    boolean isCloseSession();
 }
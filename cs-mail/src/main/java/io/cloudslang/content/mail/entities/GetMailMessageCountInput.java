@@ -46,6 +46,7 @@ public class GetMailMessageCountInput implements GetMailInput {
     private String trustPassword;
     private List<String> tlsVersions;
     private List<String> allowedCiphers;
+    private boolean closeSession = true;
 
 
     private GetMailMessageCountInput() {
@@ -159,6 +160,11 @@ public class GetMailMessageCountInput implements GetMailInput {
     }
 
 
+    public boolean isCloseSession() {
+        return closeSession;
+    }
+
+
     public static class Builder {
 
         private String hostname;
@@ -182,6 +188,7 @@ public class GetMailMessageCountInput implements GetMailInput {
         private String trustPassword;
         private String tlsVersion;
         private String allowedCiphers;
+        private String closeSession;
 
 
         public Builder folder(String folder) {
@@ -310,6 +317,12 @@ public class GetMailMessageCountInput implements GetMailInput {
         }
 
 
+        public Builder closeSession(String closeSession) {
+            this.closeSession = closeSession;
+            return this;
+        }
+
+
         public GetMailMessageCountInput build() throws Exception {
             GetMailMessageCountInput input = new GetMailMessageCountInput();
 
@@ -361,6 +374,8 @@ public class GetMailMessageCountInput implements GetMailInput {
 
             input.allowedCiphers = buildAllowedCiphers(allowedCiphers);
 
+            input.closeSession = buildCloseSession(closeSession);
+
             return input;
         }
     }
@@ -57,6 +57,7 @@ public class GetMailMessageInput implements GetMailInput, DecryptableMailInput {
     private int timeout = -1;
     private List<String> tlsVersions;
     private List<String> allowedCiphers;
+    private boolean closeSession = true;
 
     private GetMailMessageInput() {
     }
@@ -224,6 +225,11 @@ public class GetMailMessageInput implements GetMailInput, DecryptableMailInput {
     }
 
 
+    public boolean isCloseSession() {
+        return closeSession;
+    }
+
+
     public static class Builder {
 
         private String hostname;
@@ -256,6 +262,7 @@ public class GetMailMessageInput implements GetMailInput, DecryptableMailInput {
         private String markMessageAsRead;
         private String tlsVersion;
         private String allowedCiphers;
+        private String closeSession;
 
 
         public Builder hostname(String hostname) {
@@ -438,6 +445,12 @@ public class GetMailMessageInput implements GetMailInput, DecryptableMailInput {
         }
 
 
+        public Builder closeSession(String closeSession) {
+            this.closeSession = closeSession;
+            return this;
+        }
+
+
         public GetMailMessageInput build() throws Exception {
             GetMailMessageInput input = new GetMailMessageInput();
 
@@ -535,6 +548,8 @@ public class GetMailMessageInput implements GetMailInput, DecryptableMailInput {
 
             input.allowedCiphers = buildAllowedCiphers(allowedCiphers);
 
+            input.closeSession = buildCloseSession(closeSession);
+
             return input;
         }
     }
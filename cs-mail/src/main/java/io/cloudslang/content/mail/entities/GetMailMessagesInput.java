@@ -0,0 +1,465 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.mail.entities;
+
+import io.cloudslang.content.mail.constants.ExceptionMsgs;
+import io.cloudslang.content.mail.constants.SecurityConstants;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.cloudslang.content.mail.constants.Constants.DEFAULT_COLUMN_DELIMITER;
+import static io.cloudslang.content.mail.constants.Constants.DEFAULT_ROW_DELIMITER;
+import static io.cloudslang.content.mail.utils.InputBuilderUtils.*;
+
+public class GetMailMessagesInput implements GetMailInput {
+
+    private String hostname;
+    private Short port;
+    private String protocol;
+    private String username;
+    private String password;
+    private String authToken;
+    private boolean trustAllRoots;
+    private boolean enableSSL;
+    private boolean enableTLS;
+    private String keystore;
+    private String keystorePassword;
+    private String proxyHost;
+    private Short proxyPort;
+    private String proxyUsername;
+    private String proxyPassword;
+    private int timeout = -1;
+    private String folder;
+    private String trustKeystore;
+    private String trustPassword;
+    private List<String> tlsVersions;
+    private List<String> allowedCiphers;
+    private boolean closeSession = true;
+    private int startMessageNumber = 1;
+    private int endMessageNumber = -1;
+    private String rowDelimiter;
+    private String columnDelimiter;
+
+
+    private GetMailMessagesInput() {
+    }
+
+
+    public String getHostname() {
+        return hostname;
+    }
+
+
+    public Short getPort() {
+        return port;
+    }
+
+
+    public String getProtocol() {
+        return this.isEnableTLS() && !this.getTlsVersions().isEmpty() && this.getAuthToken().isEmpty() ?
+                protocol + SecurityConstants.SECURE_SUFFIX :
+                protocol;
+    }
+
+
+    public String getUsername() {
+        return username;
+    }
+
+
+    public String getPassword() {
+        return password;
+    }
+
+
+    public String getAuthToken() {
+        return authToken;
+    }
+
+
+    public boolean isTrustAllRoots() {
+        return trustAllRoots;
+    }
+
+
+    public boolean isEnableSSL() {
+        return enableSSL;
+    }
+
+
+    public boolean isEnableTLS() {
+        return enableTLS;
+    }
+
+
+    public String getKeystore() {
+        return keystore;
+    }
+
+
+    public String getKeystorePassword() {
+        return keystorePassword;
+    }
+
+
+    public String getProxyHost() {
+        return proxyHost;
+    }
+
+
+    public Short getProxyPort() {
+        return proxyPort;
+    }
+
+
+    public String getProxyUsername() {
+        return proxyUsername;
+    }
+
+
+    public String getProxyPassword() {
+        return proxyPassword;
+    }
+
+
+    public int getTimeout() {
+        return timeout;
+    }
+
+
+    public String getFolder() {
+        return folder;
+    }
+
+
+    public String getTrustKeystore() {
+        return trustKeystore;
+    }
+
+
+    public String getTrustPassword() {
+        return trustPassword;
+    }
+
+
+    public List<String> getTlsVersions() {
+        return tlsVersions;
+    }
+
+
+    public List<String> getAllowedCiphers() {
+        return allowedCiphers;
+    }
+
+
+    public boolean isCloseSession() {
+        return closeSession;
+    }
+
+
+    public int getStartMessageNumber() {
+        return startMessageNumber;
+    }
+
+
+    /**
+     * @return the number of the last message to get, -1 for the last message of the folder
+     */
+    public int getEndMessageNumber() {
+        return endMessageNumber;
+    }
+
+
+    public String getRowDelimiter() {
+        return rowDelimiter;
+    }
+
+
+    public String getColumnDelimiter() {
+        return columnDelimiter;
+    }
+
+
+    public static class Builder {
+
+        private String hostname;
+        private String port;
+        private String protocol;
+        private String username;
+        private String password;
+        private String authToken;
+        private String trustAllRoots;
+        private String enableSSL;
+        private String enableTLS;
+        private String keystore;
+        private String keystorePassword;
+        private String proxyHost;
+        private String proxyPort;
+        private String proxyUsername;
+        private String proxyPassword;
+        private String timeout;
+        private String folder;
+        private String trustKeystore;
+        private String trustPassword;
+        private String tlsVersion;
+        private String allowedCiphers;
+        private String closeSession;
+        private String startMessageNumber;
+        private String endMessageNumber;
+        private String rowDelimiter;
+        private String columnDelimiter;
+
+
+        public Builder folder(String folder) {
+            this.folder = folder;
+            return this;
+        }
+
+
+        public Builder trustKeystore(String trustKeystore) {
+            this.trustKeystore = trustKeystore;
+            return this;
+        }
+
+
+        public Builder trustPassword(String trustPassword) {
+            this.trustPassword = trustPassword;
+            return this;
+        }
+
+
+        public Builder hostname(String hostname) {
+            this.hostname = hostname;
+            return this;
+        }
+
+
+        public Builder port(String port) {
+            this.port = port;
+            return this;
+        }
+
+
+        public Builder protocol(String protocol) {
+            this.protocol = protocol;
+            return this;
+        }
+
+
+        public Builder username(String username) {
+            this.username = username;
+            return this;
+        }
+
+
+        public Builder password(String password) {
+            this.password = password;
+            return this;
+        }
+
+
+        public Builder authToken(String authToken) {
+            this.authToken = authToken;
+            return this;
+        }
+
+
+        public Builder trustAllRoots(String trustAllRoots) {
+            this.trustAllRoots = trustAllRoots;
+            return this;
+        }
+
+
+        public Builder enableSSL(String enableSSL) {
+            this.enableSSL = enableSSL;
+            return this;
+        }
+
+
+        public Builder enableTLS(String enableTLS) {
+            this.enableTLS = enableTLS;
+            return this;
+        }
+
+
+        public Builder keystore(String keystore) {
+            this.keystore = keystore;
+            return this;
+        }
+
+
+        public Builder keystorePassword(String keystorePassword) {
+            this.keystorePassword = keystorePassword;
+            return this;
+        }
+
+
+        public Builder proxyHost(String proxyHost) {
+            this.proxyHost = proxyHost;
+            return this;
+        }
+
+
+        public Builder proxyPort(String proxyPort) {
+            this.proxyPort = proxyPort;
+            return this;
+        }
+
+
+        public Builder proxyUsername(String proxyUsername) {
+            this.proxyUsername = proxyUsername;
+            return this;
+        }
+
+
+        public Builder proxyPassword(String proxyPassword) {
+            this.proxyPassword = proxyPassword;
+            return this;
+        }
+
+
+        public Builder timeout(String timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+
+        public Builder tlsVersion(String tlsVersion) {
+            this.tlsVersion = tlsVersion;
+            return this;
+        }
+
+
+        public Builder allowedCiphers(String allowedCiphers) {
+            this.allowedCiphers = allowedCiphers;
+            return this;
+        }
+
+
+        public Builder closeSession(String closeSession) {
+            this.closeSession = closeSession;
+            return this;
+        }
+
+
+        public Builder startMessageNumber(String startMessageNumber) {
+            this.startMessageNumber = startMessageNumber;
+            return this;
+        }
+
+
+        public Builder endMessageNumber(String endMessageNumber) {
+            this.endMessageNumber = endMessageNumber;
+            return this;
+        }
+
+
+        public Builder rowDelimiter(String rowDelimiter) {
+            this.rowDelimiter = rowDelimiter;
+            return this;
+        }
+
+
+        public Builder columnDelimiter(String columnDelimiter) {
+            this.columnDelimiter = columnDelimiter;
+            return this;
+        }
+
+
+        public GetMailMessagesInput build() throws Exception {
+            GetMailMessagesInput input = new GetMailMessagesInput();
+
+            input.hostname = buildHostname(hostname);
+
+            input.port = buildPort(port, false);
+
+            Map<String, Object> portAndProtocol = buildPortAndProtocol(protocol, port);
+
+            if (portAndProtocol.containsKey("port")) {
+                input.port = (Short) portAndProtocol.get("port");
+            }
+
+            input.protocol = (String) portAndProtocol.get("protocol");
+
+            input.username = buildUsername(username, true);
+
+            input.password = buildPassword(password);
+
+            input.authToken = buildAuthToken(authToken);
+
+            input.trustAllRoots = buildTrustAllRoots(trustAllRoots);
+
+            input.enableTLS = buildEnableTLS(enableTLS);
+
+            input.enableSSL = buildEnableSSL(enableSSL);
+
+            input.keystore = buildKeystore(keystore);
+
+            input.keystorePassword = keystorePassword;
+
+            input.proxyHost = StringUtils.defaultString(proxyHost);
+
+            input.proxyPort = buildPort(proxyPort, false);
+
+            input.proxyUsername = StringUtils.defaultString(proxyUsername);
+
+            input.proxyPassword = StringUtils.defaultString(proxyPassword);
+
+            input.timeout = buildTimeout(timeout);
+
+            if (StringUtils.isEmpty(folder)) {
+                throw new Exception(ExceptionMsgs.FOLDER_NOT_SPECIFIED);
+            }
+            input.folder = folder.trim();
+
+            input.trustKeystore = StringUtils.defaultString(trustKeystore);
+
+            input.trustPassword = StringUtils.defaultString(trustPassword);
+
+            input.tlsVersions = buildTlsVersions(tlsVersion);
+
+            input.allowedCiphers = buildAllowedCiphers(allowedCiphers);
+
+            input.closeSession = buildCloseSession(closeSession);
+
+            if (!StringUtils.isEmpty(startMessageNumber)) {
+                input.startMessageNumber = Integer.parseInt(startMessageNumber.trim());
+                if (input.startMessageNumber < 1) {
+                    throw new Exception(ExceptionMsgs.MESSAGES_ARE_NUMBERED_STARTING_AT_1);
+                }
+            }
+
+            if (!StringUtils.isEmpty(endMessageNumber)) {
+                input.endMessageNumber = Integer.parseInt(endMessageNumber.trim());
+                if (input.endMessageNumber < input.startMessageNumber) {
+                    throw new Exception(ExceptionMsgs.INVALID_MESSAGE_RANGE);
+                }
+            }
+
+            input.rowDelimiter = StringUtils.isEmpty(rowDelimiter) ? DEFAULT_ROW_DELIMITER : rowDelimiter;
+
+            input.columnDelimiter = StringUtils.isEmpty(columnDelimiter) ? DEFAULT_COLUMN_DELIMITER : columnDelimiter;
+
+            if (input.rowDelimiter.equals(input.columnDelimiter)) {
+                throw new Exception(ExceptionMsgs.INVALID_DELIMITERS);
+            }
+
+            return input;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.mail.entities;
+
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import io.cloudslang.content.mail.constants.Constants;
+import io.cloudslang.content.utils.KeyedIdlePool;
+
+import javax.mail.Store;
+
+/**
+ * Keeps the connected IMAP stores that are not in use, so the next operation on the same mailbox, with the
+ * same credentials and security settings, skips the TLS handshake and the login. A store is checked before it is
+ * handed out, for IMAP this sends a NOOP.
+ * POP3 stores are not kept: closing a POP3 folder sends QUIT and ends the connection, so a kept store would have to
+ * connect and log in again anyway.
+ */
+public class MailStorePool extends KeyedIdlePool<Store> {
+    private static final String KEY_SEPARATOR = ";";
+
+    public MailStorePool() {
+        this(DEFAULT_IDLE_TIMEOUT, DEFAULT_MAX_IDLE_PER_KEY);
+    }
+
+    /**
+     * @param idleTimeout   milliseconds after which a store that was not used is closed
+     * @param maxIdlePerKey the maximum number of stores kept for the same key
+     */
+    public MailStorePool(long idleTimeout, int maxIdlePerKey) {
+        super(idleTimeout, maxIdlePerKey);
+    }
+
+    /**
+     * @return the pool kept by the session object, it is created on first use, or null if there is no session object
+     * or the stores of the input can't be kept
+     */
+    public static MailStorePool getPool(GlobalSessionObject<MailStorePool> sessionObject, GetMailInput input) {
+        if (sessionObject == null || !isPooled(input)) {
+            return null;
+        }
+        synchronized (sessionObject) {
+            MailStorePool storePool = sessionObject.get();
+            if (storePool == null) {
+                storePool = new MailStorePool();
+                sessionObject.setResource(new MailStoreSessionResource(storePool));
+            }
+            return storePool;
+        }
+    }
+
+    /**
+     * @return true if the stores of the input are kept, only IMAP stores stay connected once their folder is closed
+     */
+    public static boolean isPooled(GetMailInput input) {
+        return input.getProtocol() != null && input.getProtocol().toLowerCase().startsWith(Constants.IMAP);
+    }
+
+    /**
+     * The secrets are part of the key, so a store logged in with other credentials is never reused.
+     * Only their digest is kept.
+     *
+     * @return the key of the stores connected to the mailbox of the input
+     */
+    public static String getKey(GetMailInput input) {
+        return input.getProtocol() + "://" + input.getUsername() + "@" + String.valueOf(input.getHostname()).toLowerCase() +
+                ":" + input.getPort() +
+                KEY_SEPARATOR + "tls=" + input.isEnableTLS() +
+                KEY_SEPARATOR + "ssl=" + input.isEnableSSL() +
+                KEY_SEPARATOR + "trustAllRoots=" + input.isTrustAllRoots() +
+                KEY_SEPARATOR + input.getTlsVersions() +
+                KEY_SEPARATOR + input.getAllowedCiphers() +
+                KEY_SEPARATOR + input.getKeystore() +
+                KEY_SEPARATOR + input.getProxyHost() + ":" + input.getProxyPort() + ":" + input.getProxyUsername() +
+                KEY_SEPARATOR + input.getTimeout() +
+                KEY_SEPARATOR + digest(input.getPassword(), input.getAuthToken(), input.getKeystorePassword(),
+                input.getProxyPassword());
+    }
+
+    @Override
+    protected boolean isAlive(Store store) {
+        return store.isConnected();
+    }
+
+    @Override
+    protected void destroy(Store store) {
+        try {
+            store.close();
+        } catch (Exception ignore) {
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.mail.entities;
+
+import com.hp.oo.sdk.content.plugin.SessionResource;
+
+public class MailStoreSessionResource extends SessionResource<MailStorePool> {
+    private MailStorePool storePool;
+
+    public MailStoreSessionResource(MailStorePool storePool) {
+        this.storePool = storePool;
+    }
+
+    @Override
+    public MailStorePool get() {
+        return storePool;
+    }
+
+    @Override
+    public void release() {
+        if (storePool != null) {
+            storePool.close();
+        }
+        storePool = null;
+    }
+}
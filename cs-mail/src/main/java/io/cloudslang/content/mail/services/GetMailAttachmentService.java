@@ -15,6 +15,7 @@
 
 package io.cloudslang.content.mail.services;
 
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import com.sun.mail.util.ASCIIUtility;
 import io.cloudslang.content.constants.ReturnCodes;
 import io.cloudslang.content.mail.constants.MimeTypes;
@@ -22,6 +23,7 @@ import io.cloudslang.content.mail.constants.SecurityConstants;
 import io.cloudslang.content.mail.constants.ExceptionMsgs;
 import io.cloudslang.content.mail.constants.OutputNames;
 import io.cloudslang.content.mail.entities.GetMailAttachmentInput;
+import io.cloudslang.content.mail.entities.MailStorePool;
 import io.cloudslang.content.mail.sslconfig.SSLUtils;
 import io.cloudslang.content.mail.utils.SecurityUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -50,11 +52,28 @@ public class GetMailAttachmentService {
 
 
     public Map<String, String> execute(GetMailAttachmentInput getMailAttachmentInput) throws Exception {
+        return execute(getMailAttachmentInput, null);
+    }
+
+
+    /**
+     * @param sessionObject keeps the connected stores between the operations, a store is taken from it if there is
+     *                      one for the same mailbox and it is given back to it if closeSession is false, only IMAP
+     *                      stores are kept
+     */
+    public Map<String, String> execute(GetMailAttachmentInput getMailAttachmentInput,
+                                       GlobalSessionObject<MailStorePool> sessionObject) throws Exception {
         this.results = new HashMap<>();
         this.input = getMailAttachmentInput;
 
-        try (Store store = SSLUtils.createMessageStore(input);
-             Folder folder = store.getFolder(input.getFolder())) {
+        final MailStorePool storePool = MailStorePool.getPool(sessionObject, input);
+        final String storeKey = MailStorePool.getKey(input);
+        Store store = storePool == null ? null : storePool.borrow(storeKey);
+        if (store == null) {
+            store = SSLUtils.createMessageStore(input);
+        }
+        boolean keepStore = false;
+        try (Folder folder = store.getFolder(input.getFolder())) {
 
             if (!folder.exists()) {
                 throw new Exception(ExceptionMsgs.THE_SPECIFIED_FOLDER_DOES_NOT_EXIST_ON_THE_REMOTE_SERVER);
@@ -92,7 +111,14 @@ public class GetMailAttachmentService {
                 throw new UnsupportedEncodingException("The given encoding (" + input.getCharacterSet() + ") is invalid or not supported.");
             }
 
+            keepStore = storePool != null && !input.isCloseSession();
             return results;
+        } finally {
+            if (keepStore) {
+                storePool.release(storeKey, store);
+            } else {
+                store.close();
+            }
         }
     }
 
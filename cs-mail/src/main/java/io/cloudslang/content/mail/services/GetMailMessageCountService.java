@@ -15,10 +15,12 @@
 
 package io.cloudslang.content.mail.services;
 
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import io.cloudslang.content.constants.OutputNames;
 import io.cloudslang.content.constants.ReturnCodes;
 import io.cloudslang.content.mail.constants.ExceptionMsgs;
 import io.cloudslang.content.mail.entities.GetMailMessageCountInput;
+import io.cloudslang.content.mail.entities.MailStorePool;
 import io.cloudslang.content.mail.sslconfig.SSLUtils;
 
 import javax.mail.*;
@@ -32,10 +34,28 @@ public class GetMailMessageCountService {
     private Map<String, String> results = new HashMap<>();
 
     public Map<String, String> execute(GetMailMessageCountInput getMailMessageCountInput) throws Exception {
+        return execute(getMailMessageCountInput, null);
+    }
+
+
+    /**
+     * @param sessionObject keeps the connected stores between the operations, a store is taken from it if there is
+     *                      one for the same mailbox and it is given back to it if closeSession is false, only IMAP
+     *                      stores are kept
+     */
+    public Map<String, String> execute(GetMailMessageCountInput getMailMessageCountInput,
+                                       GlobalSessionObject<MailStorePool> sessionObject) throws Exception {
         this.results = new HashMap<>();
         this.input = getMailMessageCountInput;
 
-        try (Store store = SSLUtils.createMessageStore(input)) {
+        final MailStorePool storePool = MailStorePool.getPool(sessionObject, input);
+        final String storeKey = MailStorePool.getKey(input);
+        Store store = storePool == null ? null : storePool.borrow(storeKey);
+        if (store == null) {
+            store = SSLUtils.createMessageStore(input);
+        }
+        boolean keepStore = false;
+        try {
             Folder folder = store.getFolder(input.getFolder());
             if (!folder.exists()) {
                 throw new Exception(ExceptionMsgs.THE_SPECIFIED_FOLDER_DOES_NOT_EXIST_ON_THE_REMOTE_SERVER);
@@ -45,7 +65,15 @@ public class GetMailMessageCountService {
             results.put(OutputNames.RETURN_RESULT, String.valueOf(folder.getMessageCount()));
             results.put(OutputNames.RETURN_CODE, ReturnCodes.SUCCESS);
 
+            folder.close(false);
+            keepStore = storePool != null && !input.isCloseSession();
             return results;
+        } finally {
+            if (keepStore) {
+                storePool.release(storeKey, store);
+            } else {
+                store.close();
+            }
         }
     }
 }
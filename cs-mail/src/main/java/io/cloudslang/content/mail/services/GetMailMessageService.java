@@ -15,10 +15,12 @@
 
 package io.cloudslang.content.mail.services;
 
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import com.sun.mail.util.ASCIIUtility;
 import io.cloudslang.content.constants.ReturnCodes;
 import io.cloudslang.content.mail.constants.*;
 import io.cloudslang.content.mail.entities.GetMailMessageInput;
+import io.cloudslang.content.mail.entities.MailStorePool;
 import io.cloudslang.content.mail.entities.StringOutputStream;
 import io.cloudslang.content.mail.sslconfig.SSLUtils;
 import io.cloudslang.content.mail.utils.SecurityUtils;
@@ -44,14 +46,29 @@ import static io.cloudslang.content.mail.constants.Constants.*;
 public class GetMailMessageService {
 
     protected GetMailMessageInput input;
+    private MailStorePool storePool;
     private Store store;
     private RecipientId recId = null;
     private KeyStore ks = null;
 
     public Map<String, String> execute(GetMailMessageInput getMailMessageInput) throws Exception {
+        return execute(getMailMessageInput, null);
+    }
+
+
+    /**
+     * @param sessionObject keeps the connected stores between the operations, a store is taken from it if there is
+     *                      one for the same mailbox and it is given back to it if closeSession is false, only IMAP
+     *                      stores are kept
+     */
+    public Map<String, String> execute(GetMailMessageInput getMailMessageInput,
+                                       GlobalSessionObject<MailStorePool> sessionObject) throws Exception {
         Map<String, String> result = new HashMap<>();
+        boolean keepStore = false;
         try {
             this.input = getMailMessageInput;
+            this.storePool = MailStorePool.getPool(sessionObject, input);
+            this.store = null;
             Message message = getMessage();
 
             if (input.isEncryptedMessage()) {
@@ -131,12 +148,16 @@ public class GetMailMessageService {
                 }
             }
 
+            boolean folderClosed = false;
             try {
                 message.getFolder().close(true);
+                folderClosed = true;
             } catch (Throwable ignore) {
             }
 
             result.put(io.cloudslang.content.constants.OutputNames.RETURN_CODE, ReturnCodes.SUCCESS);
+            //the store is given back only without an open folder
+            keepStore = folderClosed && storePool != null && !input.isCloseSession();
         } catch (Exception e) {
             if (e.toString().contains(ExceptionMsgs.UNRECOGNIZED_SSL_MESSAGE)) {
                 throw new Exception(ExceptionMsgs.UNRECOGNIZED_SSL_MESSAGE_PLAINTEXT_CONNECTION);
@@ -145,7 +166,11 @@ public class GetMailMessageService {
             }
         } finally {
             if (store != null) {
-                store.close();
+                if (keepStore) {
+                    storePool.release(MailStorePool.getKey(input), store);
+                } else {
+                    store.close();
+                }
             }
         }
         return result;
@@ -153,7 +178,10 @@ public class GetMailMessageService {
 
 
     protected Message getMessage() throws Exception {
-        store = SSLUtils.createMessageStore(input);
+        store = storePool == null ? null : storePool.borrow(MailStorePool.getKey(input));
+        if (store == null) {
+            store = SSLUtils.createMessageStore(input);
+        }
         Folder folder = store.getFolder(input.getFolder());
         if (!folder.exists()) {
             throw new Exception(ExceptionMsgs.THE_SPECIFIED_FOLDER_DOES_NOT_EXIST_ON_THE_REMOTE_SERVER);
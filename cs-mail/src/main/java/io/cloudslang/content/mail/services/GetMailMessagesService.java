@@ -0,0 +1,168 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.mail.services;
+
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.mail.constants.ExceptionMsgs;
+import io.cloudslang.content.mail.constants.OutputNames;
+import io.cloudslang.content.mail.entities.GetMailMessagesInput;
+import io.cloudslang.content.mail.entities.MailStorePool;
+import io.cloudslang.content.mail.sslconfig.SSLUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.mail.*;
+import javax.mail.internet.InternetAddress;
+import java.text.SimpleDateFormat;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Gets the headers of a range of messages. The envelope, the flags and the content info of the whole range are
+ * prefetched with one FETCH command on IMAP, instead of one round trip for every header of every message.
+ * POP3 has no such command, the headers of each message are read with a TOP command and the flags are not kept.
+ */
+public class GetMailMessagesService {
+
+    private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ssXXX";
+    private static final String ADDRESS_SEPARATOR = ", ";
+    private static final String DELIMITER_REPLACEMENT = " ";
+
+    protected GetMailMessagesInput input;
+
+    private Map<String, String> results = new HashMap<>();
+
+    public Map<String, String> execute(GetMailMessagesInput getMailMessagesInput) throws Exception {
+        return execute(getMailMessagesInput, null);
+    }
+
+
+    /**
+     * @param sessionObject keeps the connected stores between the operations, a store is taken from it if there is
+     *                      one for the same mailbox and it is given back to it if closeSession is false, only IMAP
+     *                      stores are kept
+     */
+    public Map<String, String> execute(GetMailMessagesInput getMailMessagesInput,
+                                       GlobalSessionObject<MailStorePool> sessionObject) throws Exception {
+        this.results = new HashMap<>();
+        this.input = getMailMessagesInput;
+
+        final MailStorePool storePool = MailStorePool.getPool(sessionObject, input);
+        final String storeKey = MailStorePool.getKey(input);
+        Store store = storePool == null ? null : storePool.borrow(storeKey);
+        if (store == null) {
+            store = SSLUtils.createMessageStore(input);
+        }
+        boolean keepStore = false;
+        try {
+            Folder folder = store.getFolder(input.getFolder());
+            if (!folder.exists()) {
+                throw new Exception(ExceptionMsgs.THE_SPECIFIED_FOLDER_DOES_NOT_EXIST_ON_THE_REMOTE_SERVER);
+            }
+            folder.open(Folder.READ_ONLY);
+
+            final Message[] messages = getMessages(folder);
+
+            FetchProfile fetchProfile = new FetchProfile();
+            fetchProfile.add(FetchProfile.Item.ENVELOPE);
+            fetchProfile.add(FetchProfile.Item.FLAGS);
+            fetchProfile.add(FetchProfile.Item.CONTENT_INFO);
+            folder.fetch(messages, fetchProfile);
+
+            final SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT);
+            StringBuilder rows = new StringBuilder();
+            for (Message message : messages) {
+                if (rows.length() > 0) {
+                    rows.append(input.getRowDelimiter());
+                }
+                appendRow(rows, message, dateFormat);
+            }
+
+            results.put(io.cloudslang.content.constants.OutputNames.RETURN_RESULT, rows.toString());
+            results.put(OutputNames.MESSAGE_COUNT, String.valueOf(messages.length));
+            results.put(io.cloudslang.content.constants.OutputNames.RETURN_CODE, ReturnCodes.SUCCESS);
+
+            folder.close(false);
+            keepStore = storePool != null && !input.isCloseSession();
+            return results;
+        } finally {
+            if (keepStore) {
+                storePool.release(storeKey, store);
+            } else {
+                store.close();
+            }
+        }
+    }
+
+
+    protected Message[] getMessages(Folder folder) throws MessagingException {
+        final int messageCount = folder.getMessageCount();
+        if (messageCount == 0) {
+            return new Message[0];
+        }
+        if (input.getStartMessageNumber() > messageCount) {
+            throw new IndexOutOfBoundsException("startMessageNumber value was: " + input.getStartMessageNumber() +
+                    " there are only " + messageCount + ExceptionMsgs.COUNT_MESSAGES_IN_FOLDER_ERROR_MESSAGE);
+        }
+        final int end = input.getEndMessageNumber() < 0 ? messageCount : Math.min(input.getEndMessageNumber(), messageCount);
+        return folder.getMessages(input.getStartMessageNumber(), end);
+    }
+
+
+    /**
+     * Appends the message number, the senders, the subject, the sent date, the size and the seen flag of the message.
+     * The senders and the subject are free text, the delimiters found in them are replaced with a space so every row
+     * keeps its columns.
+     */
+    private void appendRow(StringBuilder rows, Message message, SimpleDateFormat dateFormat) throws MessagingException {
+        final String columnDelimiter = input.getColumnDelimiter();
+        rows.append(message.getMessageNumber())
+                .append(columnDelimiter).append(removeDelimiters(getAddresses(message.getFrom())))
+                .append(columnDelimiter).append(removeDelimiters(StringUtils.defaultString(message.getSubject())))
+                .append(columnDelimiter).append(message.getSentDate() == null ? StringUtils.EMPTY :
+                dateFormat.format(message.getSentDate()))
+                .append(columnDelimiter).append(message.getSize())
+                .append(columnDelimiter).append(message.isSet(Flags.Flag.SEEN));
+    }
+
+
+    private String removeDelimiters(String value) {
+        //the row delimiter first, it may contain the column delimiter
+        String result = StringUtils.isEmpty(input.getRowDelimiter()) ? value :
+                StringUtils.replace(value, input.getRowDelimiter(), DELIMITER_REPLACEMENT);
+        result = StringUtils.isEmpty(input.getColumnDelimiter()) ? result :
+                StringUtils.replace(result, input.getColumnDelimiter(), DELIMITER_REPLACEMENT);
+        //a subject may hold a line break even when the row delimiter is not one
+        return result.replace('\r', ' ').replace('\n', ' ');
+    }
+
+
+    private static String getAddresses(Address[] addresses) {
+        if (addresses == null) {
+            return StringUtils.EMPTY;
+        }
+        StringBuilder result = new StringBuilder();
+        for (Address address : addresses) {
+            if (result.length() > 0) {
+                result.append(ADDRESS_SEPARATOR);
+            }
+            result.append(address instanceof InternetAddress ? ((InternetAddress) address).toUnicodeString() :
+                    address.toString());
+        }
+        return result.toString();
+    }
+}
@@ -132,6 +132,11 @@ public final class InputBuilderUtils {
     }
 
 
+    public static boolean buildCloseSession(String closeSession) {
+        return StringUtils.isEmpty(closeSession) || Boolean.parseBoolean(closeSession);
+    }
+
+
     public static String buildKeystore(String keystore) {
         return defaultIfEmpty(keystore, SecurityConstants.DEFAULT_JAVA_KEYSTORE);
     }
@@ -0,0 +1,150 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.mail.entities;
+
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import io.cloudslang.content.mail.constants.Constants;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import javax.mail.Store;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(PowerMockRunner.class)
+public class MailStorePoolTest {
+
+    private static final String KEY = "imap://user@host:143";
+
+    @Mock
+    private Store storeMock;
+    @Mock
+    private Store otherStoreMock;
+
+
+    @Test
+    public void testBorrowWithoutIdleStore() {
+        MailStorePool storePool = new MailStorePool();
+
+        assertNull(storePool.borrow(KEY));
+    }
+
+
+    @Test
+    public void testBorrowReleasedStore() throws Exception {
+        doReturn(true).when(storeMock).isConnected();
+        MailStorePool storePool = new MailStorePool();
+
+        storePool.release(KEY, storeMock);
+
+        assertEquals(1, storePool.getIdleCount(KEY));
+        assertSame(storeMock, storePool.borrow(KEY));
+        assertEquals(0, storePool.getIdleCount(KEY));
+        verify(storeMock, never()).close();
+    }
+
+
+    @Test
+    public void testBorrowClosesDisconnectedStore() throws Exception {
+        doReturn(false).when(storeMock).isConnected();
+        MailStorePool storePool = new MailStorePool();
+        storePool.release(KEY, storeMock);
+
+        assertNull(storePool.borrow(KEY));
+        verify(storeMock).close();
+    }
+
+
+    @Test
+    public void testReleaseClosesStoreWhenPoolIsFull() throws Exception {
+        MailStorePool storePool = new MailStorePool(MailStorePool.DEFAULT_IDLE_TIMEOUT, 1);
+        storePool.release(KEY, storeMock);
+
+        storePool.release(KEY, otherStoreMock);
+
+        assertEquals(1, storePool.getIdleCount(KEY));
+        verify(otherStoreMock).close();
+        verify(storeMock, never()).close();
+    }
+
+
+    @Test
+    public void testExpiredStoreIsClosed() throws Exception {
+        MailStorePool storePool = new MailStorePool(-1, MailStorePool.DEFAULT_MAX_IDLE_PER_KEY);
+        storePool.release(KEY, storeMock);
+
+        assertNull(storePool.borrow(KEY));
+        verify(storeMock).close();
+    }
+
+
+    @Test
+    public void testCloseClosesIdleAndReleasedStores() throws Exception {
+        MailStorePool storePool = new MailStorePool();
+        storePool.release(KEY, storeMock);
+
+        storePool.close();
+        storePool.release(KEY, otherStoreMock);
+
+        assertEquals(0, storePool.getIdleCount(KEY));
+        verify(storeMock).close();
+        verify(otherStoreMock).close();
+    }
+
+
+    @Test
+    public void testKeyDependsOnPassword() throws Exception {
+        GetMailMessageCountInput.Builder inputBuilder = new GetMailMessageCountInput.Builder()
+                .hostname("host")
+                .port(Constants.IMAP_PORT)
+                .protocol(Constants.IMAP)
+                .username("username")
+                .password("password")
+                .folder("folder");
+
+        String key = MailStorePool.getKey(inputBuilder.build());
+
+        assertEquals(key, MailStorePool.getKey(inputBuilder.build()));
+        assertNotEquals(key, MailStorePool.getKey(inputBuilder.password("other").build()));
+    }
+
+
+    @Test
+    public void testGetPoolOnlyForImap() throws Exception {
+        GetMailMessageCountInput.Builder inputBuilder = new GetMailMessageCountInput.Builder()
+                .hostname("host")
+                .username("username")
+                .password("password")
+                .folder("folder");
+        GlobalSessionObject<MailStorePool> sessionObject = new GlobalSessionObject<>();
+
+        assertNull(MailStorePool.getPool(null, inputBuilder.protocol(Constants.IMAP).build()));
+        assertNull(MailStorePool.getPool(sessionObject, inputBuilder.protocol(Constants.POP3).build()));
+        MailStorePool storePool = MailStorePool.getPool(sessionObject, inputBuilder.protocol(Constants.IMAP4).build());
+        assertNotNull(storePool);
+        assertSame(storePool, MailStorePool.getPool(sessionObject, inputBuilder.protocol(Constants.IMAP).build()));
+    }
+}
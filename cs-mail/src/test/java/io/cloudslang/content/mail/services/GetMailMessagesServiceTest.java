@@ -0,0 +1,179 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.mail.services;
+
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import io.cloudslang.content.constants.OutputNames;
+import io.cloudslang.content.mail.constants.Constants;
+import io.cloudslang.content.mail.entities.GetMailInput;
+import io.cloudslang.content.mail.entities.GetMailMessagesInput;
+import io.cloudslang.content.mail.entities.MailStorePool;
+import io.cloudslang.content.mail.sslconfig.SSLUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import javax.mail.FetchProfile;
+import javax.mail.Flags;
+import javax.mail.Folder;
+import javax.mail.Message;
+import javax.mail.Store;
+import javax.mail.internet.InternetAddress;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({SSLUtils.class})
+public class GetMailMessagesServiceTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+    @Spy
+    private GetMailMessagesService serviceSpy = new GetMailMessagesService();
+    @Mock
+    private Folder folderMock;
+    @Mock
+    private Store storeMock;
+    @Mock
+    private Message firstMessageMock;
+    @Mock
+    private Message secondMessageMock;
+    private GetMailMessagesInput.Builder inputBuilder;
+
+    @Before
+    public void setUp() throws Exception {
+        inputBuilder = new GetMailMessagesInput.Builder();
+        inputBuilder.hostname("host");
+        inputBuilder.port(Constants.IMAP_PORT);
+        inputBuilder.protocol(Constants.IMAP);
+        inputBuilder.username("username");
+        inputBuilder.password("password");
+        inputBuilder.folder("folder");
+
+        doReturn(true).when(folderMock).exists();
+        doReturn(folderMock).when(storeMock).getFolder(Matchers.anyString());
+        doReturn(new Message[]{firstMessageMock, secondMessageMock}).when(folderMock).getMessages(2, 3);
+        addMessage(firstMessageMock, 2, "first", true);
+        addMessage(secondMessageMock, 3, "second", false);
+        PowerMockito.mockStatic(SSLUtils.class);
+        when(SSLUtils.createMessageStore(any(GetMailInput.class))).thenReturn(storeMock);
+    }
+
+    @Test
+    public void testExecute() throws Exception {
+        doReturn(3).when(folderMock).getMessageCount();
+        inputBuilder.startMessageNumber("2");
+
+        Map<String, String> results = serviceSpy.execute(inputBuilder.build());
+
+        assertEquals("2\tfirst@host\tfirst\t\t10\ttrue\n3\tsecond@host\tsecond\t\t10\tfalse",
+                results.get(OutputNames.RETURN_RESULT));
+        assertEquals("2", results.get(io.cloudslang.content.mail.constants.OutputNames.MESSAGE_COUNT));
+        verify(folderMock).open(Folder.READ_ONLY);
+        verify(folderMock).fetch(any(Message[].class), any(FetchProfile.class));
+        verify(folderMock).close(false);
+        verify(storeMock).close();
+    }
+
+    @Test
+    public void testExecuteEndMessageNumberAfterLastMessage() throws Exception {
+        doReturn(3).when(folderMock).getMessageCount();
+        inputBuilder.startMessageNumber("2");
+        inputBuilder.endMessageNumber("10");
+
+        Map<String, String> results = serviceSpy.execute(inputBuilder.build());
+
+        assertEquals("2", results.get(io.cloudslang.content.mail.constants.OutputNames.MESSAGE_COUNT));
+    }
+
+    @Test
+    public void testExecuteStartMessageNumberAfterLastMessage() throws Exception {
+        doReturn(1).when(folderMock).getMessageCount();
+        inputBuilder.startMessageNumber("2");
+
+        exception.expect(IndexOutOfBoundsException.class);
+        serviceSpy.execute(inputBuilder.build());
+    }
+
+    @Test
+    public void testExecuteKeepsStoreInSession() throws Exception {
+        doReturn(3).when(folderMock).getMessageCount();
+        doReturn(true).when(storeMock).isConnected();
+        inputBuilder.startMessageNumber("2");
+        inputBuilder.closeSession("false");
+        GlobalSessionObject<MailStorePool> sessionObject = new GlobalSessionObject<>();
+
+        serviceSpy.execute(inputBuilder.build(), sessionObject);
+        serviceSpy.execute(inputBuilder.build(), sessionObject);
+
+        PowerMockito.verifyStatic(times(1));
+        SSLUtils.createMessageStore(any(GetMailInput.class));
+        verify(storeMock, never()).close();
+        assertEquals(1, sessionObject.get().getIdleCount(MailStorePool.getKey(inputBuilder.build())));
+    }
+
+    @Test
+    public void testExecuteDoesNotKeepPop3Store() throws Exception {
+        doReturn(3).when(folderMock).getMessageCount();
+        doReturn(true).when(storeMock).isConnected();
+        inputBuilder.protocol(Constants.POP3);
+        inputBuilder.port(Constants.POP3_PORT);
+        inputBuilder.startMessageNumber("2");
+        inputBuilder.closeSession("false");
+        GlobalSessionObject<MailStorePool> sessionObject = new GlobalSessionObject<>();
+
+        serviceSpy.execute(inputBuilder.build(), sessionObject);
+
+        verify(storeMock).close();
+        assertNull(sessionObject.get());
+    }
+
+    @Test
+    public void testExecuteReplacesDelimitersInSubjectAndSenders() throws Exception {
+        doReturn(3).when(folderMock).getMessageCount();
+        doReturn("first\tsubject\r\nfolded;part").when(firstMessageMock).getSubject();
+        doReturn(new InternetAddress[]{new InternetAddress("first@host", "Last;First")}).when(firstMessageMock).getFrom();
+        inputBuilder.startMessageNumber("2");
+        inputBuilder.columnDelimiter(";");
+        inputBuilder.rowDelimiter("|");
+
+        Map<String, String> results = serviceSpy.execute(inputBuilder.build());
+
+        assertEquals("2;\"Last First\" <first@host>;first\tsubject  folded part;;10;true|3;second@host;second;;10;false",
+                results.get(OutputNames.RETURN_RESULT));
+    }
+
+    private void addMessage(Message messageMock, int messageNumber, String name, boolean seen) throws Exception {
+        doReturn(messageNumber).when(messageMock).getMessageNumber();
+        doReturn(name).when(messageMock).getSubject();
+        doReturn(new InternetAddress[]{new InternetAddress(name + "@host")}).when(messageMock).getFrom();
+        doReturn(10).when(messageMock).getSize();
+        doReturn(seen).when(messageMock).isSet(Flags.Flag.SEEN);
+    }
+}
@@ -215,4 +215,16 @@ public class InputBuilderUtilsTest {
         assertEquals(CipherSuites.TLS_DHE_RSA_WITH_AES_128_CBC_SHA256, result.get(0));
         assertEquals(unknownCipher, result.get(1));
     }
+
+
+    @Test
+    public void buildCloseSession_CloseSessionIsEmpty_True() {
+        assertTrue(InputBuilderUtils.buildCloseSession(StringUtils.EMPTY));
+    }
+
+
+    @Test
+    public void buildCloseSession_CloseSessionIsFalse_False() {
+        assertFalse(InputBuilderUtils.buildCloseSession("false"));
+    }
 }
\ No newline at end of file
@@ -50,6 +50,8 @@ public class RemoteCopyAction {
                     @Output(value = RETURN_RESULT, description = RETURN_RESULT_REMOTE_COPY_DESC),
                     @Output(value = RETURN_CODE, description = RETURN_CODE_DESC),
                     @Output(value = EXCEPTION, description = EXCEPTION_DESC),
+                    @Output(value = BYTES_COPIED, description = BYTES_COPIED_DESC),
+                    @Output(value = THROUGHPUT, description = THROUGHPUT_DESC),
             },
             responses = {
                     @Response(text = SUCCESS, field = RETURN_CODE, value = ReturnCodes.SUCCESS, matchType = COMPARE_EQUAL, responseType = RESOLVED, description = SUCCESS_DESC),
@@ -18,7 +18,9 @@ import com.hp.oo.sdk.content.annotations.Action;
 import com.hp.oo.sdk.content.annotations.Output;
 import com.hp.oo.sdk.content.annotations.Param;
 import com.hp.oo.sdk.content.annotations.Response;
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.rft.entities.FTPConnectionPool;
 import io.cloudslang.content.rft.entities.FTPInputs;
 import io.cloudslang.content.rft.services.FTPService;
 import io.cloudslang.content.rft.utils.FTPOperation;
@@ -64,7 +66,11 @@ public class Get {
                                        @Param(value = PASSWORD, description = PASSWORD_DESC) String password,
                                        @Param(value = TYPE, description = TYPE_DESC) String type,
                                        @Param(value = PASSIVE, description = PASSIVE_DESC) String passive,
-                                       @Param(value = CHARACTER_SET, description = CHARACTER_SET_DESC) String characterSet) {
+                                       @Param(value = CHARACTER_SET, description = CHARACTER_SET_DESC) String characterSet,
+                                       @Param(value = FTP_SESSIONS_DEFAULT_ID, description = GLOBAL_SESSION_DESC) GlobalSessionObject<FTPConnectionPool> globalSessionObject,
+                                       @Param(value = CLOSE_SESSION, description = CLOSE_SESSION_DESC) String closeSession,
+                                       @Param(value = BUFFER_SIZE, description = BUFFER_SIZE_DESC) String bufferSize,
+                                       @Param(value = DELIMITER, description = DELIMITER_DESC) String delimiter) {
 
         hostName = defaultIfEmpty(hostName, EMPTY);
         port = defaultIfEmpty(port, PORT_21);
@@ -76,9 +82,13 @@ public class Get {
         passive = defaultIfEmpty(passive, BOOLEAN_FALSE);
         passive = passive.toLowerCase();
         characterSet = defaultIfEmpty(characterSet, CHARACTER_SET_LATIN1);
+        closeSession = defaultIfEmpty(closeSession, BOOLEAN_TRUE).toLowerCase();
+        bufferSize = defaultIfEmpty(bufferSize, DEFAULT_FTP_BUFFER_SIZE);
+        delimiter = defaultIfEmpty(delimiter, EMPTY);
 
 
-        final List<String> exceptionMessages = verifyInputsFTP(hostName, port, localFile, remoteFile, user, password, type, passive, characterSet);
+        final List<String> exceptionMessages = verifyInputsFTP(hostName, port, localFile, remoteFile, user, password, type, passive, characterSet,
+                closeSession, bufferSize, delimiter);
 
         if (!exceptionMessages.isEmpty()) {
             Map<String, String> result = getFailureResultsMap(StringUtilities.join(exceptionMessages, NEW_LINE));
@@ -97,6 +107,9 @@ public class Get {
                 .type(type)
                 .passive(passive)
                 .characterSet(characterSet)
-                .build(), FTPOperation.GET);
+                .closeSession(closeSession)
+                .bufferSize(bufferSize)
+                .delimiter(delimiter)
+                .build(), FTPOperation.GET, globalSessionObject);
     }
 }
@@ -76,7 +76,10 @@ public class SFTPUploadFile {
                                        @Param(value = CHARACTER_SET, description = CHARACTER_SET_DESC) String characterSet,
                                        @Param(value = CLOSE_SESSION, description = CLOSE_SESSION_DESC) String closeSession,
                                        @Param(value = CONNECTION_TIMEOUT, description = CONNECTION_TIMEOUT_DESC) String connectionTimeout,
-                                       @Param(value = EXECUTION_TIMEOUT, description = EXECUTION_TIMEOUT_DESC) String executionTimeout) {
+                                       @Param(value = EXECUTION_TIMEOUT, description = EXECUTION_TIMEOUT_DESC) String executionTimeout,
+                                       @Param(value = PARALLEL_CHANNELS, description = PARALLEL_CHANNELS_DESC) String parallelChannels,
+                                       @Param(value = RESUME, description = RESUME_DESC) String resume,
+                                       @Param(value = VERIFY_CHECKSUM, description = VERIFY_CHECKSUM_DESC) String verifyChecksum) {
 
         host = defaultIfEmpty(host, EMPTY);
         port = defaultIfEmpty(port, String.valueOf(DEFAULT_PORT));
@@ -91,9 +94,13 @@ public class SFTPUploadFile {
         closeSession = defaultIfEmpty(closeSession, BOOLEAN_TRUE);
         connectionTimeout = defaultIfEmpty(connectionTimeout, DEFAULT_CONNECTION_TIMEOUT);
         executionTimeout = defaultIfEmpty(executionTimeout, DEFAULT_EXECUTION_TIMEOUT);
+        parallelChannels = defaultIfEmpty(parallelChannels, DEFAULT_PARALLEL_CHANNELS);
+        resume = defaultIfEmpty(resume, BOOLEAN_FALSE);
+        verifyChecksum = defaultIfEmpty(verifyChecksum, BOOLEAN_FALSE);
 
         final List<String> exceptionMessages = verifySFTPUploadFileInputs(host, port, username, password, proxyPort,
-                characterSet, closeSession, localPath, localFile, connectionTimeout, executionTimeout);
+                characterSet, closeSession, localPath, localFile, connectionTimeout, executionTimeout,
+                parallelChannels, resume, verifyChecksum);
 
         if (!exceptionMessages.isEmpty()) {
             return getFailureResultsMap(StringUtilities.join(exceptionMessages, NEW_LINE));
@@ -103,6 +110,9 @@ public class SFTPUploadFile {
                 .remotePath(remotePath)
                 .localPath(localPath)
                 .localFile(localFile)
+                .parallelChannels(parallelChannels)
+                .resume(resume)
+                .verifyChecksum(verifyChecksum)
                 .sftpCommonInputs(SFTPCommonInputs.builder()
                         .host(host)
                         .port(port)
@@ -0,0 +1,80 @@
+/*
+ * (c) Copyright 2021 Micro Focus
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.rft.entities;
+
+import io.cloudslang.content.utils.KeyedIdlePool;
+import org.apache.commons.net.ftp.FTPClient;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Keeps the logged in FTP connections that are not in use, so the next Get or Put on the same server, with the same
+ * credentials and connection mode, skips the connect and the login. A connection is checked with a NOOP before it is
+ * handed out.
+ */
+public class FTPConnectionPool extends KeyedIdlePool<FTPConnection> {
+
+    public FTPConnectionPool() {
+        this(DEFAULT_IDLE_TIMEOUT, DEFAULT_MAX_IDLE_PER_KEY);
+    }
+
+    /**
+     * @param idleTimeout   milliseconds after which a connection that was not used is closed
+     * @param maxIdlePerKey the maximum number of connections kept for the same key
+     */
+    public FTPConnectionPool(long idleTimeout, int maxIdlePerKey) {
+        super(idleTimeout, maxIdlePerKey);
+    }
+
+    /**
+     * The password is part of the key, so a connection logged in with other credentials is never reused.
+     * Only its digest is kept.
+     *
+     * @return the key of the connections to the given server
+     */
+    @NotNull
+    public static String getKey(String host, String port, String user, String password, boolean passive, String characterSet) {
+        return user + "@" + host.toLowerCase() + ":" + port + (passive ? ";passive" : ";active") + ";" + characterSet +
+                ";" + digest(password);
+    }
+
+    /**
+     * Gives back a connection that is still logged in, it is closed if it was disconnected or the pool is full or closed.
+     */
+    public void release(@NotNull FTPConnection connection) {
+        if (connection.getClient().isConnected()) {
+            release(connection.getKey(), connection);
+        } else {
+            destroy(connection);
+        }
+    }
+
+    @Override
+    protected boolean isAlive(@NotNull FTPConnection connection) {
+        final FTPClient ftp = connection.getClient();
+        try {
+            return ftp.isConnected() && ftp.sendNoOp();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected void destroy(@NotNull FTPConnection connection) {
+        try {
+            connection.getClient().disconnect();
+        } catch (Exception ignore) {
+        }
+    }
+}
@@ -16,6 +16,8 @@ package io.cloudslang.content.rft.entities;
 
 import org.jetbrains.annotations.NotNull;
 
+import static io.cloudslang.content.rft.utils.Constants.BOOLEAN_TRUE;
+import static io.cloudslang.content.rft.utils.Constants.DEFAULT_FTP_BUFFER_SIZE;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 public class FTPInputs {
@@ -29,10 +31,19 @@ public class FTPInputs {
     private final String type;
     private final String passive;
     private final String characterSet;
-
-    @java.beans.ConstructorProperties({"hostname", "port", "localFile", "remoteFile", "user", "password", "type", "passive", "characterSet"})
+    private final String closeSession;
+    private final String bufferSize;
+    private final String delimiter;
 
     public FTPInputs(String hostname, String port, String localFile, String remoteFile, String user, String password, String type, String passive, String characterSet) {
+        this(hostname, port, localFile, remoteFile, user, password, type, passive, characterSet, BOOLEAN_TRUE,
+                DEFAULT_FTP_BUFFER_SIZE, EMPTY);
+    }
+
+    @java.beans.ConstructorProperties({"hostname", "port", "localFile", "remoteFile", "user", "password", "type", "passive", "characterSet", "closeSession", "bufferSize", "delimiter"})
+
+    public FTPInputs(String hostname, String port, String localFile, String remoteFile, String user, String password, String type, String passive, String characterSet,
+                     String closeSession, String bufferSize, String delimiter) {
         this.hostname = hostname;
         this.port = port;
         this.localFile = localFile;
@@ -42,6 +53,9 @@ public class FTPInputs {
         this.type = type;
         this.passive = passive;
         this.characterSet = characterSet;
+        this.closeSession = closeSession;
+        this.bufferSize = bufferSize;
+        this.delimiter = delimiter;
     }
 
     @NotNull
@@ -94,6 +108,21 @@ public class FTPInputs {
         return characterSet;
     }
 
+    @NotNull
+    public String getCloseSession() {
+        return closeSession;
+    }
+
+    @NotNull
+    public String getBufferSize() {
+        return bufferSize;
+    }
+
+    @NotNull
+    public String getDelimiter() {
+        return delimiter;
+    }
+
     public static class FTPInputsBuilder {
         private String hostname = EMPTY;
         private String port = EMPTY;
@@ -104,6 +133,9 @@ public class FTPInputs {
         private String type = EMPTY;
         private String passive = EMPTY;
         private String characterSet = EMPTY;
+        private String closeSession = EMPTY;
+        private String bufferSize = EMPTY;
+        private String delimiter = EMPTY;
 
         FTPInputsBuilder() {
         }
@@ -162,8 +194,26 @@ public class FTPInputs {
             return this;
         }
 
+        @NotNull
+        public FTPInputs.FTPInputsBuilder closeSession(@NotNull final String closeSession) {
+            this.closeSession = closeSession;
+            return this;
+        }
+
+        @NotNull
+        public FTPInputs.FTPInputsBuilder bufferSize(@NotNull final String bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        @NotNull
+        public FTPInputs.FTPInputsBuilder delimiter(@NotNull final String delimiter) {
+            this.delimiter = delimiter;
+            return this;
+        }
+
         public FTPInputs build() {
-            return new FTPInputs(hostname, port, localFile, remoteFile, user, password, type, passive, characterSet);
+            return new FTPInputs(hostname, port, localFile, remoteFile, user, password, type, passive, characterSet, closeSession, bufferSize, delimiter);
         }
 
 
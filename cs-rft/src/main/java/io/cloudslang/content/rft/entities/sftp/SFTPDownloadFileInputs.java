@@ -17,6 +17,8 @@ package io.cloudslang.content.rft.entities.sftp;
 
 import org.jetbrains.annotations.NotNull;
 
+import static io.cloudslang.content.rft.utils.Constants.BOOLEAN_FALSE;
+import static io.cloudslang.content.rft.utils.Constants.DEFAULT_PARALLEL_CHANNELS;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 public class SFTPDownloadFileInputs implements IHasFTPOperation {
@@ -24,15 +26,26 @@ public class SFTPDownloadFileInputs implements IHasFTPOperation {
     private final String remoteFile;
     private final String remotePath;
     private final String localPath;
+    private final String parallelChannels;
+    private final String resume;
+    private final String verifyChecksum;
 
 
     @java.beans.ConstructorProperties({"sfptCommonInputs", "remoteFile", "remotePath", "localPath"})
 
     public SFTPDownloadFileInputs(SFTPCommonInputs sftpCommonInputs, String remoteFile, String remotePath, String localPath) {
+        this(sftpCommonInputs, remoteFile, remotePath, localPath, DEFAULT_PARALLEL_CHANNELS, BOOLEAN_FALSE, BOOLEAN_FALSE);
+    }
+
+    public SFTPDownloadFileInputs(SFTPCommonInputs sftpCommonInputs, String remoteFile, String remotePath, String localPath,
+                                  String parallelChannels, String resume, String verifyChecksum) {
         this.sftpCommonInputs = sftpCommonInputs;
         this.remoteFile = remoteFile;
         this.remotePath = remotePath;
         this.localPath = localPath;
+        this.parallelChannels = parallelChannels;
+        this.resume = resume;
+        this.verifyChecksum = verifyChecksum;
     }
 
     @NotNull
@@ -60,12 +73,30 @@ public class SFTPDownloadFileInputs implements IHasFTPOperation {
         return localPath;
     }
 
+    @NotNull
+    public String getParallelChannels() {
+        return parallelChannels;
+    }
+
+    @NotNull
+    public String getResume() {
+        return resume;
+    }
+
+    @NotNull
+    public String getVerifyChecksum() {
+        return verifyChecksum;
+    }
+
 
     public static class SFTPGetInputsBuilder {
         private SFTPCommonInputs sftpCommonInputs;
         private String remoteFile = EMPTY;
         private String remotePath = EMPTY;
         private String localPath = EMPTY;
+        private String parallelChannels = DEFAULT_PARALLEL_CHANNELS;
+        private String resume = BOOLEAN_FALSE;
+        private String verifyChecksum = BOOLEAN_FALSE;
 
         SFTPGetInputsBuilder() {
         }
@@ -94,8 +125,27 @@ public class SFTPDownloadFileInputs implements IHasFTPOperation {
             return this;
         }
 
+        @NotNull
+        public SFTPDownloadFileInputs.SFTPGetInputsBuilder parallelChannels(@NotNull final String parallelChannels) {
+            this.parallelChannels = parallelChannels;
+            return this;
+        }
+
+        @NotNull
+        public SFTPDownloadFileInputs.SFTPGetInputsBuilder resume(@NotNull final String resume) {
+            this.resume = resume;
+            return this;
+        }
+
+        @NotNull
+        public SFTPDownloadFileInputs.SFTPGetInputsBuilder verifyChecksum(@NotNull final String verifyChecksum) {
+            this.verifyChecksum = verifyChecksum;
+            return this;
+        }
+
         public SFTPDownloadFileInputs build() {
-            return new SFTPDownloadFileInputs(sftpCommonInputs, remoteFile, remotePath, localPath);
+            return new SFTPDownloadFileInputs(sftpCommonInputs, remoteFile, remotePath, localPath, parallelChannels,
+                    resume, verifyChecksum);
         }
 
     }
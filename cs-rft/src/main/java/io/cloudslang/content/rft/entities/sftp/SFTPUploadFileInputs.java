@@ -16,6 +16,8 @@ package io.cloudslang.content.rft.entities.sftp;
 
 import org.jetbrains.annotations.NotNull;
 
+import static io.cloudslang.content.rft.utils.Constants.BOOLEAN_FALSE;
+import static io.cloudslang.content.rft.utils.Constants.DEFAULT_PARALLEL_CHANNELS;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 public class SFTPUploadFileInputs implements IHasFTPOperation {
@@ -23,12 +25,23 @@ public class SFTPUploadFileInputs implements IHasFTPOperation {
     private final String remotePath;
     private final String localPath;
     private final String localFile;
+    private final String parallelChannels;
+    private final String resume;
+    private final String verifyChecksum;
 
     public SFTPUploadFileInputs(SFTPCommonInputs sftpCommonInputs, String remotePath, String localPath, String localFile) {
+        this(sftpCommonInputs, remotePath, localPath, localFile, DEFAULT_PARALLEL_CHANNELS, BOOLEAN_FALSE, BOOLEAN_FALSE);
+    }
+
+    public SFTPUploadFileInputs(SFTPCommonInputs sftpCommonInputs, String remotePath, String localPath, String localFile,
+                                String parallelChannels, String resume, String verifyChecksum) {
         this.sftpCommonInputs = sftpCommonInputs;
         this.remotePath = remotePath;
         this.localPath = localPath;
         this.localFile = localFile;
+        this.parallelChannels = parallelChannels;
+        this.resume = resume;
+        this.verifyChecksum = verifyChecksum;
     }
 
     @NotNull
@@ -56,11 +69,29 @@ public class SFTPUploadFileInputs implements IHasFTPOperation {
         return localFile;
     }
 
+    @NotNull
+    public String getParallelChannels() {
+        return parallelChannels;
+    }
+
+    @NotNull
+    public String getResume() {
+        return resume;
+    }
+
+    @NotNull
+    public String getVerifyChecksum() {
+        return verifyChecksum;
+    }
+
     public static class SFTPPutInputsBuilder {
         private SFTPCommonInputs sftpCommonInputs;
         private String remotePath = EMPTY;
         private String localPath = EMPTY;
         private String localFile = EMPTY;
+        private String parallelChannels = DEFAULT_PARALLEL_CHANNELS;
+        private String resume = BOOLEAN_FALSE;
+        private String verifyChecksum = BOOLEAN_FALSE;
 
         SFTPPutInputsBuilder() {
         }
@@ -89,8 +120,27 @@ public class SFTPUploadFileInputs implements IHasFTPOperation {
             return this;
         }
 
+        @NotNull
+        public SFTPUploadFileInputs.SFTPPutInputsBuilder parallelChannels(@NotNull final String parallelChannels) {
+            this.parallelChannels = parallelChannels;
+            return this;
+        }
+
+        @NotNull
+        public SFTPUploadFileInputs.SFTPPutInputsBuilder resume(@NotNull final String resume) {
+            this.resume = resume;
+            return this;
+        }
+
+        @NotNull
+        public SFTPUploadFileInputs.SFTPPutInputsBuilder verifyChecksum(@NotNull final String verifyChecksum) {
+            this.verifyChecksum = verifyChecksum;
+            return this;
+        }
+
         public SFTPUploadFileInputs build() {
-            return new SFTPUploadFileInputs(sftpCommonInputs, remotePath, localPath, localFile);
+            return new SFTPUploadFileInputs(sftpCommonInputs, remotePath, localPath, localFile, parallelChannels,
+                    resume, verifyChecksum);
         }
 
     }
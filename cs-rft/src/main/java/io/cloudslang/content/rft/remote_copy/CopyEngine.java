@@ -0,0 +1,159 @@
+/*
+ * (c) Copyright 2021 Micro Focus
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.rft.remote_copy;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Copies the content of the files moved by the copiers.
+ * The stream copies go through chunks taken from a shared pool, so a copy does not allocate its own buffer, and the
+ * size of the chunks can be tuned with the io.cloudslang.content.rft.copyChunkSize system property. Files smaller
+ * than a chunk get a buffer of their own size. Copies between two local files use FileChannel.transferTo, so the
+ * bytes are moved by the kernel. The bytes copied and the time spent are summed over all the copies.
+ */
+public class CopyEngine {
+
+    public static final String CHUNK_SIZE_PROPERTY = "io.cloudslang.content.rft.copyChunkSize";
+    public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+    private static final int MIN_CHUNK_SIZE = 8 * 1024;
+    private static final int MAX_POOLED_CHUNKS = 16;
+    private static final int CHUNK_SIZE = Math.max(MIN_CHUNK_SIZE, Integer.getInteger(CHUNK_SIZE_PROPERTY, DEFAULT_CHUNK_SIZE));
+
+    private static final BlockingQueue<byte[]> CHUNKS = new ArrayBlockingQueue<>(MAX_POOLED_CHUNKS);
+    private static final AtomicLong TOTAL_BYTES = new AtomicLong();
+    private static final AtomicLong TOTAL_NANOS = new AtomicLong();
+
+    private CopyEngine() {
+    }
+
+    /**
+     * Copies the input until its end. The streams are not closed.
+     *
+     * @return the number of bytes copied and the time the copy took
+     */
+    public static TransferStatistics copy(InputStream in, OutputStream out) throws IOException {
+        return copy(in, out, -1);
+    }
+
+    /**
+     * Copies length bytes of the input, or the input until its end if length is negative. The streams are not closed.
+     *
+     * @return the number of bytes copied and the time the copy took
+     * @throws EOFException if the input ends before length bytes were copied
+     */
+    public static TransferStatistics copy(InputStream in, OutputStream out, long length) throws IOException {
+        final long start = System.nanoTime();
+        final long copied;
+        if (length < 0 && in instanceof FileInputStream && out instanceof FileOutputStream) {
+            copied = transfer(((FileInputStream) in).getChannel(), ((FileOutputStream) out).getChannel());
+        } else {
+            copied = copyChunks(in, out, length);
+        }
+        out.flush();
+        return record(copied, start);
+    }
+
+    /**
+     * Copies the source file over the destination file.
+     *
+     * @return the number of bytes copied and the time the copy took
+     */
+    public static TransferStatistics copy(File source, File destination) throws IOException {
+        try (FileInputStream in = new FileInputStream(source);
+             FileOutputStream out = new FileOutputStream(destination)) {
+            return copy(in, out);
+        }
+    }
+
+    /**
+     * @return the number of bytes copied since the class was loaded
+     */
+    public static long getTotalBytes() {
+        return TOTAL_BYTES.get();
+    }
+
+    /**
+     * @return the time spent copying since the class was loaded, in milliseconds
+     */
+    public static long getTotalMillis() {
+        return TOTAL_NANOS.get() / 1000000L;
+    }
+
+    public static int getChunkSize() {
+        return CHUNK_SIZE;
+    }
+
+    private static long transfer(FileChannel source, FileChannel destination) throws IOException {
+        final long startPosition = source.position();
+        final long size = source.size();
+        long position = startPosition;
+        while (position < size) {
+            final long transferred = source.transferTo(position, size - position, destination);
+            if (transferred <= 0) {
+                //the file was truncated while it was copied
+                break;
+            }
+            position += transferred;
+        }
+        //transferTo does not move the source, keep the stream where a read would have left it
+        source.position(position);
+        return position - startPosition;
+    }
+
+    private static long copyChunks(InputStream in, OutputStream out, long length) throws IOException {
+        final boolean pooled = length < 0 || length >= CHUNK_SIZE;
+        byte[] buffer = pooled ? CHUNKS.poll() : new byte[(int) Math.max(length, 1)];
+        if (buffer == null) {
+            buffer = new byte[CHUNK_SIZE];
+        }
+        try {
+            long copied = 0;
+            while (length < 0 || copied < length) {
+                final int toRead = length < 0 ? buffer.length : (int) Math.min(buffer.length, length - copied);
+                final int read = in.read(buffer, 0, toRead);
+                if (read < 0) {
+                    if (length >= 0) {
+                        throw new EOFException("The stream ended after " + copied + " of " + length + " bytes.");
+                    }
+                    break;
+                }
+                out.write(buffer, 0, read);
+                copied += read;
+            }
+            return copied;
+        } finally {
+            if (pooled) {
+                CHUNKS.offer(buffer);
+            }
+        }
+    }
+
+    private static TransferStatistics record(long bytes, long start) {
+        final long elapsed = System.nanoTime() - start;
+        TOTAL_BYTES.addAndGet(bytes);
+        TOTAL_NANOS.addAndGet(elapsed);
+        return new TransferStatistics(bytes, elapsed);
+    }
+}
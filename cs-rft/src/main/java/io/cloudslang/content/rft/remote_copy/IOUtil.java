@@ -32,7 +32,6 @@ import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CoderResult;
 import java.nio.charset.CodingErrorAction;
-import org.apache.commons.io.IOUtils;
 
 public class IOUtil {
     public IOUtil() {
@@ -40,18 +39,7 @@ public class IOUtil {
 
     public static void copyAll(InputStream in, OutputStream out, boolean closeInput, boolean closeOutput) throws IOException {
         try {
-            if (in.available() > 2147483645) {
-                IOUtils.copyLarge(in, out);
-            } else {
-                byte[] buffer = in.available() > 1024 ? new byte[in.available()] : new byte[1024];
-
-                int read;
-                while((read = in.read(buffer)) >= 0) {
-                    out.write(buffer, 0, read);
-                }
-
-                out.flush();
-            }
+            CopyEngine.copy(in, out);
         } finally {
             if (closeInput) {
                 in.close();
@@ -41,7 +41,11 @@ public class LocalCopier extends SimpleCopier {
         if (overwrite != null && overwrite.equals("false") && (dest.exists())) {
             throw new Exception(destination + " exists, but overwrite is disabled");
         }
-        FSUtil.recursiveCopy(sourceFile.getFile(), dest);
+        if (sourceFile.getFile().isFile()) {
+            CopyEngine.copy(sourceFile.getFile(), dest);
+        } else {
+            FSUtil.recursiveCopy(sourceFile.getFile(), dest);
+        }
     }
 
     public void setCustomArgument(simpleArgument name, String value) {
@@ -48,9 +48,23 @@ public class ScpCopier extends SimpleCopier {
     }
 
     protected void getFile(String source, File getFile) throws Exception {
+        getFile(source, new SCPLocalOperationGet(source, host, port, username, password, privateKeyFile,
+                getFile, this, connectionTimeout * 1000));
+    }
+
+    @Override
+    protected boolean canGetStream() {
+        return true;
+    }
 
-        SCPLocalOperationGet scpOp = new SCPLocalOperationGet(source, host, port, username, password, privateKeyFile,
-                getFile, this, connectionTimeout * 1000);
+    //the destination side of scp sends the length of the file before its content, so putting a stream is not supported
+    @Override
+    protected void getFile(String source, OutputStream destination) throws Exception {
+        getFile(source, new SCPLocalOperationGet(source, host, port, username, password, privateKeyFile,
+                destination, this, connectionTimeout * 1000));
+    }
+
+    private void getFile(String source, SCPLocalOperationGet scpOp) throws Exception {
         SSHOperationResult raw = scpOp.exec();  //contains a call to bindOperation()
         if (raw.isTimedOut()) {
             throw new Exception("SCP Operation timed out");
@@ -122,7 +136,19 @@ class SCPLocalOperationGet extends SSHOperation<DefaultSSHSessionCreator, SCPLoc
 
     public SCPLocalOperationGet(String srcPath, String srcHost, int port, String srcUsername, String srcPassword,
                                 String srcPrivateKeyFile, File dest, ScpCopier exec, int timeout) {
-        this(new DefaultSSHSessionCreator(), new SCPLocalProcessor(srcPath, dest, exec, timeout));
+        this(new SCPLocalProcessor(srcPath, dest, exec, timeout), srcHost, port, srcUsername, srcPassword,
+                srcPrivateKeyFile, timeout);
+    }
+
+    public SCPLocalOperationGet(String srcPath, String srcHost, int port, String srcUsername, String srcPassword,
+                                String srcPrivateKeyFile, OutputStream dest, ScpCopier exec, int timeout) {
+        this(new SCPLocalProcessor(srcPath, dest, exec, timeout), srcHost, port, srcUsername, srcPassword,
+                srcPrivateKeyFile, timeout);
+    }
+
+    private SCPLocalOperationGet(SCPLocalProcessor channelProc, String srcHost, int port, String srcUsername,
+                                 String srcPassword, String srcPrivateKeyFile, int timeout) {
+        this(new DefaultSSHSessionCreator(), channelProc);
         Address address = new Address(srcHost, port);
         this.srcHost = address.getBareHost();
         this.port = address.getPort();
@@ -174,6 +200,8 @@ class SCPLocalProcessor extends SSHChannelProcessor {
     ScpCopier parent;
     private String srcPath;
     private File dest;
+    //when set, the content is written to this stream instead of the dest file, the stream is not closed
+    private OutputStream destStream;
 
     public SCPLocalProcessor(String srcPath, File dest, ScpCopier parent, int connectionTimeout) {
         this.srcPath = srcPath;
@@ -183,6 +211,13 @@ class SCPLocalProcessor extends SSHChannelProcessor {
         // small hack to handle the input name change from privateKey to privateKeyFile
     }
 
+    public SCPLocalProcessor(String srcPath, OutputStream destStream, ScpCopier parent, int connectionTimeout) {
+        this.srcPath = srcPath;
+        this.destStream = destStream;
+        this.parent = parent;
+        this.connectionTimeout = connectionTimeout;
+    }
+
     @SuppressWarnings("unchecked")
     //@Override
     public void createChannel(Session session, Map bindings) throws JSchException {
@@ -222,7 +257,7 @@ class SCPLocalProcessor extends SSHChannelProcessor {
 
     private SSHOperationResult copyFrom() {
 
-        FileOutputStream fos = null;
+        OutputStream fos = null;
         try {
 
             byte[] buf = new byte[1024];
@@ -269,24 +304,11 @@ class SCPLocalProcessor extends SSHChannelProcessor {
                 out.flush();
 
                 // read a content of lfile
-                fos = new FileOutputStream(destFile);
-                int foo;
-                while (true) {
-                    if (buf.length < filesize)
-                        foo = buf.length;
-                    else
-                        foo = (int) filesize;
-                    foo = in.read(buf, 0, foo);
-                    if (foo < 0) {
-                        // error
-                        break;
-                    }
-                    fos.write(buf, 0, foo);
-                    filesize -= foo;
-                    if (filesize == 0L)
-                        break;
+                fos = destStream != null ? destStream : new FileOutputStream(destFile);
+                CopyEngine.copy(in, fos, filesize);
+                if (destStream == null) {
+                    fos.close();
                 }
-                fos.close();
                 fos = null;
                 if (checkAck(in) != 0) {
                     return fail("No ack received");
@@ -299,7 +321,7 @@ class SCPLocalProcessor extends SSHChannelProcessor {
             }
 
             SSHOperationResult result = new SSHOperationResult();
-            result.setOutput(destFile.getAbsolutePath());
+            result.setOutput(destFile != null ? destFile.getAbsolutePath() : getSourceFile());
             result.setCodeInt(0);
             result.setException("");
             result.setError("");
@@ -308,7 +330,7 @@ class SCPLocalProcessor extends SSHChannelProcessor {
         } catch (Exception e) {
             System.out.println(e);
             try {
-                if (fos != null)
+                if (fos != null && destStream == null)
                     fos.close();
                 return fail(e.toString());
             } catch (Exception ee) {
@@ -442,23 +464,12 @@ class LocalSCPProcessor extends SSHChannelProcessor {
             }
 
             // send a content of lfile
-            FileInputStream fis = new FileInputStream(tmp);
-            byte[] buf = new byte[1024];
-            try {
-                while (true) {
-                    int len = fis.read(buf, 0, buf.length);
-                    if (len <= 0)
-                        break;
-                    out.write(buf, 0, len);
-                    out.flush();
-                }
-            } finally {
-                fis.close();
+            try (FileInputStream fis = new FileInputStream(tmp)) {
+                CopyEngine.copy(fis, out, filesize);
             }
 
             // send '\0'
-            buf[0] = 0;
-            out.write(buf, 0, 1);
+            out.write(0);
             out.flush();
 
             if (checkAck(in) != 0) {
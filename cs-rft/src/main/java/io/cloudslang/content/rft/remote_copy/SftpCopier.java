@@ -20,6 +20,8 @@ import com.opsware.pas.content.commons.util.StringUtils;
 import io.cloudslang.content.rft.remote_copy.sftp.SecureFtpAction;
 
 import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 import static io.cloudslang.content.rft.utils.Constants.CHARACTER_SET_UTF8;
 
@@ -92,6 +94,40 @@ public class SftpCopier extends SimpleCopier {
 
     }
 
+    @Override
+    protected boolean canGetStream() {
+        return true;
+    }
+
+    @Override
+    protected boolean canPutStream() {
+        return true;
+    }
+
+    @Override
+    protected void getFile(String source, OutputStream destination) throws Exception {
+        SecureFtpAction action = connect();
+        try {
+            action.get(source, destination, characterSetName);
+        } catch (Throwable t) {
+            throw new Exception("Unable to retrieve file over SFTP.", t);
+        } finally {
+            action.cleanup();
+        }
+    }
+
+    @Override
+    protected void putFile(InputStream source, String sourceFileName, String destination) throws Exception {
+        SecureFtpAction action = connect();
+        try {
+            action.put(source, sourceFileName, destination, characterSetName);
+        } catch (Throwable t) {
+            throw new Exception("Unable to copy file over SFTP.", t);
+        } finally {
+            action.cleanup();
+        }
+    }
+
     @Override
     public void setCredentials(String host, int port, String username, String password) throws UnsupportedOperationException {
         Address address = new Address(host, port);
@@ -15,6 +15,8 @@
 package io.cloudslang.content.rft.remote_copy;
 
 import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 public abstract class SimpleCopier implements ICopier {
 
@@ -22,6 +24,7 @@ public abstract class SimpleCopier implements ICopier {
     public int executionTimeout;
     public String protocol;
     public String version = "";
+    private TransferStatistics transferStatistics;
 
     public static int resolvePort(String host, int defaultPort) {
         if (host.contains(":")) {
@@ -51,11 +54,22 @@ public abstract class SimpleCopier implements ICopier {
         //if either the source or the destination protocols are local, useTemp is false, i.e. we do not use a temp file
         //boolean useTemp = CopierFactory.copiers.local.name().equals(destination.getImplementation().getProtocolName())?false:CopierFactory.copiers.local.name().equals(this.getProtocolName())?false:true;
 
+        final long start = System.nanoTime();
         if (!CopierFactory.copiers.local.name().equals(destination.getImplementation().getProtocolName())) {
+            final SimpleCopier destinationCopier = destination.getImplementation();
+            if (!CopierFactory.copiers.local.name().equals(this.getImplementation().getProtocolName())
+                    && canGetStream() && destinationCopier.canPutStream()) {
+                final String sourceFileName = getSimpleFileName(sourcePath);
+                transferStatistics = StreamPipe.copy(out -> getFile(sourcePath, out),
+                        in -> destinationCopier.putFile(in, sourceFileName, destPath));
+                return;
+            }
+            //the destination needs the length of the file before its content, so the file is copied to a temp file first
             IReader reader = null;
             try {
                 reader = getFile(sourcePath);
-                destination.getImplementation().putFile(reader, destPath);
+                destinationCopier.putFile(reader, destPath);
+                transferStatistics = new TransferStatistics(reader.getFile().length(), System.nanoTime() - start);
             } finally {
                 if (!CopierFactory.copiers.local.name().equals(this.getImplementation().getProtocolName())
                         && reader != null && reader.getFile() != null) {
@@ -67,9 +81,17 @@ public abstract class SimpleCopier implements ICopier {
                 throw new Exception("The specified file exists, and overwrite is disabled.");
             }
             getFile(sourcePath, new File(destPath));
+            transferStatistics = new TransferStatistics(new File(destPath).length(), System.nanoTime() - start);
         }
     }
 
+    /**
+     * @return the number of bytes copied by the last copyTo call and the time it took, null before the first copy
+     */
+    public TransferStatistics getTransferStatistics() {
+        return transferStatistics;
+    }
+
     public void setConnectionTimeout(int connectionTimeout) {
         this.connectionTimeout = connectionTimeout;
     }
@@ -84,6 +106,37 @@ public abstract class SimpleCopier implements ICopier {
 
     protected abstract void putFile(IReader sourceFile, String destination) throws Exception;
 
+    /**
+     * @return true if the copier can write the content of a source file to a stream, see getFile(String, OutputStream)
+     */
+    protected boolean canGetStream() {
+        return false;
+    }
+
+    /**
+     * @return true if the copier can store a file from a stream without knowing its length up front,
+     * see putFile(InputStream, String, String)
+     */
+    protected boolean canPutStream() {
+        return false;
+    }
+
+    /**
+     * Writes the content of the source file to the stream, without closing it.
+     */
+    protected void getFile(String source, OutputStream destination) throws Exception {
+        throw new UnsupportedOperationException(getProtocolName() + " does not support streaming the source file.");
+    }
+
+    /**
+     * Stores the content of the stream, read until its end, in the destination file.
+     *
+     * @param sourceFileName the name of the file to create when the destination is a directory
+     */
+    protected void putFile(InputStream source, String sourceFileName, String destination) throws Exception {
+        throw new UnsupportedOperationException(getProtocolName() + " does not support streaming the destination file.");
+    }
+
     protected String getSimpleFileName(String path) {
         //String name = (path.contains("/"))?path.substring(path.lastIndexOf("/")+1):path;
         //modified to handle both paths with / and paths with \
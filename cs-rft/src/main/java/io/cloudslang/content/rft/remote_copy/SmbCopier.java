@@ -43,21 +43,12 @@ public class SmbCopier extends SimpleCopier {
     private String password;
     private DiskShare share;
 
-    private static void inputStreamToOutputStream(InputStream in, OutputStream out)
-            throws IOException {
-        byte[] buf = new byte[1024000];
+    //copies the stream and closes the source, the destination belongs to the caller
+    private static void inputStreamToOutputStream(InputStream in, OutputStream out) throws IOException {
         try {
-            int byteData = buf.length;
-            while (true) {
-                byteData = in.read(buf, 0, byteData);
-                if (byteData == -1)
-                    break;
-                out.write(buf, 0, byteData);
-            }
-
+            CopyEngine.copy(in, out);
         } finally {
-            if (in != null) in.close();
-            if (out != null) out.close();
+            in.close();
         }
     }
 
@@ -72,6 +63,23 @@ public class SmbCopier extends SimpleCopier {
 
     @Override
     protected void getFile(String source, File destination) throws Exception {
+        try (OutputStream fileOutputStream = new FileOutputStream(destination)) {
+            getFile(source, fileOutputStream);
+        }
+    }
+
+    @Override
+    protected boolean canGetStream() {
+        return true;
+    }
+
+    @Override
+    protected boolean canPutStream() {
+        return true;
+    }
+
+    @Override
+    protected void getFile(String source, OutputStream destination) throws Exception {
         if (protocol.equalsIgnoreCase("smb3")) {
             String[] folders = getFormattedPathSMB2(source).split("\\\\");
             String sambaPath = folders[0];
@@ -100,8 +108,7 @@ public class SmbCopier extends SimpleCopier {
             }
             if (f == null) throw new RuntimeException("The specified file doesn't exist.");
             InputStream smbInputStream = f.getInputStream();
-            FileOutputStream fileOutputStream = new FileOutputStream(destination);
-            inputStreamToOutputStream(smbInputStream, fileOutputStream);
+            inputStreamToOutputStream(smbInputStream, destination);
             f.close();
             connection.close();
 
@@ -111,8 +118,7 @@ public class SmbCopier extends SimpleCopier {
                     username, password);
             SmbFile smbFile = new SmbFile(fileUrl, auth);
             SmbFileInputStream smbInputStream = new SmbFileInputStream(smbFile);
-            FileOutputStream fileOutputStream = new FileOutputStream(destination);
-            inputStreamToOutputStream(smbInputStream, fileOutputStream);
+            inputStreamToOutputStream(smbInputStream, destination);
             if (sourceFileName == null)
                 sourceFileName = getSimpleFileName(source);
         }
@@ -128,6 +134,13 @@ public class SmbCopier extends SimpleCopier {
 
     @Override
     protected void putFile(IReader sourceFile, String destination) throws Exception {
+        try (InputStream fis = new FileInputStream(sourceFile.getFile())) {
+            putFile(fis, sourceFile.getFileName(), destination);
+        }
+    }
+
+    @Override
+    protected void putFile(InputStream source, String sourceFileName, String destination) throws Exception {
         if (protocol.equalsIgnoreCase("smb3")) {
             String[] folders = destination.replaceAll("/", "\\\\").split("\\\\");
             String sambaPath = folders[0];
@@ -166,20 +179,9 @@ public class SmbCopier extends SimpleCopier {
             }
             if (f == null) throw new Exception("The file creation failed.");
 
-            InputStream fis = new FileInputStream(sourceFile.getFile());
             OutputStream smbOutputStream = f.getOutputStream();
-
-            if (!fileName.contains(".txt")) {
-                byte[] buf = new byte[1024000];
-                int i;
-                while ((i = fis.read(buf)) != -1) {
-                    smbOutputStream.write(buf, 0, i);
-                }
-                fis.close();
-                smbOutputStream.close();
-            } else {
-                inputStreamToOutputStream(fis, smbOutputStream);
-            }
+            CopyEngine.copy(source, smbOutputStream);
+            smbOutputStream.close();
             f.close();
             connection.close();
 
@@ -189,8 +191,11 @@ public class SmbCopier extends SimpleCopier {
                     username, password);
             SmbFile smbFile = new SmbFile(fileUrl, auth);
             SmbFileOutputStream smbOs = new SmbFileOutputStream(smbFile);
-            FileInputStream fis = new FileInputStream(sourceFile.getFile());
-            inputStreamToOutputStream(fis, smbOs);
+            try {
+                CopyEngine.copy(source, smbOs);
+            } finally {
+                smbOs.close();
+            }
         }
     }
 
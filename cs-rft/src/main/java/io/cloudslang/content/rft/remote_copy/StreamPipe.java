@@ -0,0 +1,242 @@
+/*
+ * (c) Copyright 2021 Micro Focus
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.rft.remote_copy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Copies the bytes written by a producer to a consumer through a bounded ring buffer, without a temporary file.
+ * The producer runs on its own thread and the consumer on the calling thread, so reading from the source and
+ * writing to the destination overlap. When the producer fails, the consumer gets an IOException instead of the
+ * end of the stream, so a partial file is never reported as copied.
+ */
+public class StreamPipe {
+
+    public static final int DEFAULT_BUFFER_SIZE = 4 * 1024 * 1024;
+
+    private final byte[] buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private int readPosition;
+    private int count;
+    private long bytesTransferred;
+    private boolean writerClosed;
+    private boolean readerClosed;
+    private Throwable producerFailure;
+
+    private final InputStream inputStream = new InputStream() {
+        @Override
+        public int read() throws IOException {
+            byte[] oneByte = new byte[1];
+            return read(oneByte, 0, 1) < 0 ? -1 : oneByte[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            return StreamPipe.this.read(bytes, offset, length);
+        }
+
+        @Override
+        public int available() {
+            lock.lock();
+            try {
+                return count;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            closeReader();
+        }
+    };
+
+    private final OutputStream outputStream = new OutputStream() {
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            StreamPipe.this.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() {
+            closeWriter(null);
+        }
+    };
+
+    public interface Producer {
+        /**
+         * Writes the whole content to the stream.
+         */
+        void writeTo(OutputStream out) throws Exception;
+    }
+
+    public interface Consumer {
+        /**
+         * Reads the content from the stream until its end.
+         */
+        void readFrom(InputStream in) throws Exception;
+    }
+
+    StreamPipe(int bufferSize) {
+        buffer = new byte[bufferSize];
+    }
+
+    public static TransferStatistics copy(Producer producer, Consumer consumer) throws Exception {
+        return copy(producer, consumer, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @return the number of bytes copied and the time the copy took
+     * @throws Exception the failure of the producer or of the consumer
+     */
+    public static TransferStatistics copy(final Producer producer, Consumer consumer, int bufferSize) throws Exception {
+        final StreamPipe pipe = new StreamPipe(bufferSize);
+        final long start = System.nanoTime();
+
+        FutureTask<Void> producerTask = new FutureTask<>(() -> {
+            try {
+                producer.writeTo(pipe.outputStream);
+                pipe.closeWriter(null);
+            } catch (Throwable t) {
+                pipe.closeWriter(t);
+                throw t;
+            }
+            return null;
+        });
+        Thread producerThread = new Thread(producerTask, "remote-copy-producer");
+        producerThread.setDaemon(true);
+        producerThread.start();
+
+        try {
+            consumer.readFrom(pipe.inputStream);
+        } finally {
+            // if the consumer failed, the producer stops on its next write
+            pipe.closeReader();
+        }
+
+        try {
+            producerTask.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new ExecutionException(cause);
+        }
+        return new TransferStatistics(pipe.getBytesTransferred(), System.nanoTime() - start);
+    }
+
+    private int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        lock.lock();
+        try {
+            while (count == 0) {
+                if (producerFailure != null) {
+                    throw new IOException("Reading the source failed: " + producerFailure.getMessage(), producerFailure);
+                }
+                if (writerClosed || readerClosed) {
+                    return -1;
+                }
+                notEmpty.await();
+            }
+            final int read = Math.min(length, Math.min(count, buffer.length - readPosition));
+            System.arraycopy(buffer, readPosition, bytes, offset, read);
+            readPosition = (readPosition + read) % buffer.length;
+            count -= read;
+            notFull.signal();
+            return read;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(byte[] bytes, int offset, int length) throws IOException {
+        lock.lock();
+        try {
+            while (length > 0) {
+                while (count == buffer.length && !readerClosed) {
+                    notFull.await();
+                }
+                if (readerClosed) {
+                    throw new IOException("The destination stopped reading.");
+                }
+                final int writePosition = (readPosition + count) % buffer.length;
+                final int written = Math.min(length, Math.min(buffer.length - count, buffer.length - writePosition));
+                System.arraycopy(bytes, offset, buffer, writePosition, written);
+                count += written;
+                bytesTransferred += written;
+                offset += written;
+                length -= written;
+                notEmpty.signal();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeWriter(Throwable failure) {
+        lock.lock();
+        try {
+            if (!writerClosed) {
+                writerClosed = true;
+                producerFailure = failure;
+            }
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeReader() {
+        lock.lock();
+        try {
+            readerClosed = true;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long getBytesTransferred() {
+        lock.lock();
+        try {
+            return bytesTransferred;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
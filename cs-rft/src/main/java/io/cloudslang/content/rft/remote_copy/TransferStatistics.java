@@ -0,0 +1,45 @@
+/*
+ * (c) Copyright 2021 Micro Focus
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.rft.remote_copy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The number of bytes copied by a remote copy and the time it took.
+ */
+public class TransferStatistics {
+    private final long bytes;
+    private final long elapsedNanos;
+
+    public TransferStatistics(long bytes, long elapsedNanos) {
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * @return the average number of bytes copied per second
+     */
+    public long getBytesPerSecond() {
+        return elapsedNanos > 0 ? (long) (bytes * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos) : bytes;
+    }
+}
@@ -16,6 +16,10 @@ package io.cloudslang.content.rft.remote_copy.sftp;
 
 import com.jcraft.jsch.ChannelSftp;
 import com.jcraft.jsch.Session;
+import com.jcraft.jsch.SftpException;
+
+import java.io.InputStream;
+import java.io.OutputStream;
 
 public class SecureFtpAction {
     private ChannelSftp channelSftpObj;
@@ -90,6 +94,46 @@ public class SecureFtpAction {
         }
     }
 
+    /**
+     * Writes the content of the remote file to the stream.
+     *
+     * @param strSourceFile    the remote file
+     * @param destination      the stream the content is written to, it is not closed
+     * @param fileNameEncoding the encoding of the file names
+     * @throws Exception
+     */
+    public void get(String strSourceFile, OutputStream destination, String fileNameEncoding) throws Exception {
+        channelSftpObj = connectionObj.getSecureChannel();
+        channelSftpObj.setFilenameEncoding(fileNameEncoding);
+        channelSftpObj.get(strSourceFile, destination);
+    }
+
+    /**
+     * Stores the content of the stream, read until its end, in the remote file.
+     *
+     * @param source           the content of the file
+     * @param fileName         the name of the file to create when the destination is a directory
+     * @param strDestination   the remote file or directory
+     * @param fileNameEncoding the encoding of the file names
+     * @throws Exception
+     */
+    public void put(InputStream source, String fileName, String strDestination, String fileNameEncoding) throws Exception {
+        channelSftpObj = connectionObj.getSecureChannel();
+        channelSftpObj.setFilenameEncoding(fileNameEncoding);
+        if (isDirectory(strDestination)) {
+            strDestination = strDestination.endsWith("/") ? strDestination + fileName : strDestination + "/" + fileName;
+        }
+        channelSftpObj.put(source, strDestination, ChannelSftp.OVERWRITE);
+    }
+
+    private boolean isDirectory(String path) {
+        try {
+            return channelSftpObj.stat(path).isDir();
+        } catch (SftpException e) {
+            return false;
+        }
+    }
+
     public void cleanup() {
         if (null != this.connectionObj) {
             if (cachedSession) {
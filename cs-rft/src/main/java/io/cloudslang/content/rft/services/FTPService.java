@@ -14,10 +14,14 @@
  */
 package io.cloudslang.content.rft.services;
 
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import io.cloudslang.content.constants.OutputNames;
 import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.rft.entities.FTPConnection;
+import io.cloudslang.content.rft.entities.FTPConnectionPool;
 import io.cloudslang.content.rft.entities.FTPException;
 import io.cloudslang.content.rft.entities.FTPInputs;
+import io.cloudslang.content.rft.entities.FTPSessionResource;
 import io.cloudslang.content.rft.utils.FTPOperation;
 import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPReply;
@@ -29,8 +33,12 @@ import java.net.UnknownHostException;
 import java.util.HashMap;
 import java.util.Map;
 
+import static io.cloudslang.content.rft.utils.Inputs.FTPInputs.LOCAL_FILE;
+import static io.cloudslang.content.rft.utils.Inputs.FTPInputs.REMOTE_FILE;
 import static io.cloudslang.content.rft.utils.Inputs.FTPInputs.TYPE;
 import static io.cloudslang.content.rft.utils.Constants.*;
+import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+import static org.apache.commons.lang3.StringUtils.splitByWholeSeparatorPreserveAllTokens;
 
 public class FTPService {
 
@@ -47,6 +55,13 @@ public class FTPService {
         return s == null || s.isEmpty();
     }
 
+    private static String[] splitFiles(String files, String delimiter) {
+        if (isNull(delimiter)) {
+            return new String[]{files};
+        }
+        return splitByWholeSeparatorPreserveAllTokens(files, delimiter);
+    }
+
     private static void close(FTPClient ftp) {
         if (ftp != null) {
             try {
@@ -83,15 +98,49 @@ public class FTPService {
     }
 
     public Map<String, String> ftpOperation(FTPInputs ftpInputs, FTPOperation ftpOperation) {
-        FTPClient ftp = null;
+        return ftpOperation(ftpInputs, ftpOperation, null);
+    }
+
+    /**
+     * @param sessionObject keeps the logged in connections between the operations, a connection is taken from it if
+     *                      there is one for the same server and it is given back to it if closeSession is false
+     */
+    public Map<String, String> ftpOperation(FTPInputs ftpInputs, FTPOperation ftpOperation,
+                                            GlobalSessionObject<FTPConnectionPool> sessionObject) {
+        FTPConnection connection = null;
+        FTPConnectionPool connectionPool = null;
+        boolean keepConnection = false;
         final Map<String, String> result = new HashMap<>();
 
         try {
-            ftp = connect(ftpInputs.getHostname(), Integer.parseInt(ftpInputs.getPort()), ftpInputs.getCharacterSet(), Boolean.parseBoolean(ftpInputs.getPassive()));
-
-            login(ftp, ftpInputs.getUser(), ftpInputs.getPassword());
+            final String[] remoteFiles = splitFiles(ftpInputs.getRemoteFile(), ftpInputs.getDelimiter());
+            final String[] localFiles = splitFiles(ftpInputs.getLocalFile(), ftpInputs.getDelimiter());
+            if (remoteFiles.length != localFiles.length) {
+                throw new FTPException(String.format(EXCEPTION_FILE_COUNT_MISMATCH, LOCAL_FILE, REMOTE_FILE));
+            }
+            final boolean passive = Boolean.parseBoolean(ftpInputs.getPassive());
+            final String key = FTPConnectionPool.getKey(ftpInputs.getHostname(), ftpInputs.getPort(), ftpInputs.getUser(),
+                    ftpInputs.getPassword(), passive, ftpInputs.getCharacterSet());
+            connectionPool = getConnectionPool(sessionObject);
+            if (connectionPool != null) {
+                connection = connectionPool.borrow(key);
+            }
+            if (connection != null) {
+                //the pool checked the connection with a NOOP
+                checkReply("noop", connection.getClient());
+            } else {
+                final FTPClient ftp = connect(ftpInputs.getHostname(), Integer.parseInt(ftpInputs.getPort()), ftpInputs.getCharacterSet(), passive);
+                connection = new FTPConnection(key, ftp);
+                login(ftp, ftpInputs.getUser(), ftpInputs.getPassword());
+            }
+            final FTPClient ftp = connection.getClient();
+            setBufferSize(ftp, ftpInputs.getBufferSize());
             setFileType(ftp, ftpInputs.getType());
-            performFTPOperation(ftp, ftpOperation, ftpInputs.getRemoteFile(), ftpInputs.getLocalFile());
+
+            for (int i = 0; i < remoteFiles.length; i++) {
+                performFTPOperation(ftp, ftpOperation, remoteFiles[i].trim(), localFiles[i].trim());
+            }
+            keepConnection = connectionPool != null && !Boolean.parseBoolean(defaultIfEmpty(ftpInputs.getCloseSession(), BOOLEAN_TRUE));
 
             result.put(OutputNames.RETURN_CODE, ReturnCodes.SUCCESS);
             result.put(OutputNames.RETURN_RESULT, SUCCESS_RESULT);
@@ -103,11 +152,39 @@ public class FTPService {
         } finally {
             result.put(FTP_REPLY_CODE, String.valueOf(getReplyCode()));
             result.put(FTP_SESSION_LOG, getSessionLog());
-            close(ftp);
+            if (connection != null) {
+                if (keepConnection) {
+                    connectionPool.release(connection);
+                } else {
+                    close(connection.getClient());
+                }
+            }
             return result;
         }
     }
 
+    private static FTPConnectionPool getConnectionPool(GlobalSessionObject<FTPConnectionPool> sessionObject) {
+        if (sessionObject == null) {
+            return null;
+        }
+        synchronized (sessionObject) {
+            FTPConnectionPool connectionPool = sessionObject.get();
+            if (connectionPool == null) {
+                connectionPool = new FTPConnectionPool();
+                sessionObject.setResource(new FTPSessionResource(connectionPool));
+            }
+            return connectionPool;
+        }
+    }
+
+    private static void setBufferSize(FTPClient ftp, String bufferSize) {
+        final int size = isNull(bufferSize) ? Integer.parseInt(DEFAULT_FTP_BUFFER_SIZE) : Integer.parseInt(bufferSize);
+        ftp.setBufferSize(size);
+        //the socket buffers of the data connections bound the throughput on links with a high latency
+        ftp.setSendDataSocketBufferSize(size);
+        ftp.setReceieveDataSocketBufferSize(size);
+    }
+
     private void performFTPOperation(FTPClient ftp, FTPOperation ftpOperation, String remoteFilePath, String localFilePath) throws IOException, FTPException {
         if (ftpOperation == FTPOperation.GET) {
             retrieveFile(ftp, remoteFilePath, localFilePath);
@@ -19,6 +19,7 @@ import io.cloudslang.content.rft.remote_copy.CopierFactory;
 import io.cloudslang.content.rft.remote_copy.CopierFactory.copiers;
 import io.cloudslang.content.rft.remote_copy.ICopier;
 import io.cloudslang.content.rft.remote_copy.RemoteCopyInputs;
+import io.cloudslang.content.rft.remote_copy.TransferStatistics;
 
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
@@ -77,6 +78,12 @@ public class RemoteCopyService {
             results.put(RETURN_RESULT, SUCCESS_RESULT);
             results.put(RETURN_CODE, SUCCESS_RETURN_CODE);
 
+            TransferStatistics statistics = src.getImplementation().getTransferStatistics();
+            if (statistics != null) {
+                results.put(BYTES_COPIED, String.valueOf(statistics.getBytes()));
+                results.put(THROUGHPUT, String.valueOf(statistics.getBytesPerSecond()));
+            }
+
         } catch (Exception e) {
             results.put(EXCEPTION, String.valueOf(e));
             results.put(RETURN_RESULT, (e.getMessage()));
@@ -0,0 +1,373 @@
+/*
+ * (c) Copyright 2021 Micro Focus
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.rft.services;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.Session;
+import com.jcraft.jsch.SftpATTRS;
+import com.jcraft.jsch.SftpException;
+import io.cloudslang.content.rft.remote_copy.CopyEngine;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.cloudslang.content.rft.utils.Constants.EXCEPTION_CHECKSUM_MISMATCH;
+import static io.cloudslang.content.rft.utils.Constants.SFTP;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Transfers a file over several SFTP channels opened on the same session, every channel moving its own range of the
+ * file, so a transfer is not limited by the window of a single channel.
+ * With resume, the bytes already at the destination are kept and only the rest of the file is transferred. When a
+ * transfer fails, the destination is truncated to the bytes received without gaps, so it can be resumed later.
+ */
+class SFTPChunkedTransfer {
+
+    //a file is not split in ranges smaller than this, the extra channels would cost more than they bring
+    static final long MIN_RANGE_SIZE = 8L * 1024 * 1024;
+    private static final String CHECKSUM_ALGORITHM = "SHA-256";
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final Session session;
+    private final ChannelSftp channel;
+    private final int parallelChannels;
+    private final boolean resume;
+    private final String characterSet;
+
+    SFTPChunkedTransfer(Session session, ChannelSftp channel, int parallelChannels, boolean resume, String characterSet) {
+        this.session = session;
+        this.channel = channel;
+        this.parallelChannels = parallelChannels;
+        this.resume = resume;
+        this.characterSet = characterSet;
+    }
+
+    void download(final String remoteFile, File localFile) throws Exception {
+        final long size = channel.stat(remoteFile).getSize();
+        final long start = resume && localFile.isFile() && localFile.length() <= size ? localFile.length() : 0;
+        final List<Range> ranges = split(start, size);
+
+        try (final FileChannel file = FileChannel.open(localFile.toPath(), CREATE, WRITE)) {
+            if (start == 0) {
+                file.truncate(0);
+            }
+            try {
+                transfer(ranges, (sftp, range) -> {
+                    try (InputStream in = sftp.get(remoteFile, null, range.start)) {
+                        CopyEngine.copy(in, new FileRangeOutputStream(file, range), range.end - range.start);
+                    }
+                });
+            } catch (Exception e) {
+                file.truncate(receivedWithoutGaps(start, ranges));
+                throw e;
+            }
+        }
+    }
+
+    void upload(final File localFile, final String remoteFile) throws Exception {
+        final long size = localFile.length();
+        final SftpATTRS remoteAttributes = stat(remoteFile);
+        final long start = resume && remoteAttributes != null && remoteAttributes.getSize() <= size ? remoteAttributes.getSize() : 0;
+        List<Range> ranges = split(start, size);
+
+        if (start == 0) {
+            //creates the remote file or truncates it
+            channel.put(remoteFile, null, ChannelSftp.OVERWRITE, 0).close();
+        }
+        if (ranges.size() > 1 && !setSize(remoteFile, size)) {
+            //the ranges can only be written at their offsets once the remote file has its final size
+            ranges = split(start, size, 1);
+        }
+
+        final boolean parallel = ranges.size() > 1;
+        try {
+            transfer(ranges, (sftp, range) -> {
+                //in resume mode the channel adds the size of the remote file to the offset. When the ranges are
+                //transferred in parallel the remote file already has its final size, otherwise it ends at range.start
+                final long offset = parallel ? range.start - size : 0;
+                try (FileInputStream in = new FileInputStream(localFile);
+                     OutputStream out = sftp.put(remoteFile, null, ChannelSftp.RESUME, offset)) {
+                    in.getChannel().position(range.start);
+                    CopyEngine.copy(in, out, range.end - range.start);
+                }
+                range.completed = true;
+            });
+        } catch (Exception e) {
+            if (parallel) {
+                //the writes of an unfinished range may not have reached the server, only the finished ranges are kept
+                setSize(remoteFile, completedWithoutGaps(start, ranges));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the local file and the remote file and compares their checksums.
+     *
+     * @throws Exception if the checksums are different
+     */
+    void verifyChecksum(String remoteFile, File localFile, String destination) throws Exception {
+        final byte[] localChecksum;
+        try (InputStream in = new FileInputStream(localFile)) {
+            localChecksum = checksum(in);
+        }
+        final byte[] remoteChecksum;
+        try (InputStream in = channel.get(remoteFile)) {
+            remoteChecksum = checksum(in);
+        }
+        if (!MessageDigest.isEqual(localChecksum, remoteChecksum)) {
+            throw new Exception(String.format(EXCEPTION_CHECKSUM_MISMATCH, destination));
+        }
+    }
+
+    List<Range> split(long start, long end) {
+        return split(start, end, parallelChannels);
+    }
+
+    static List<Range> split(long start, long end, int parallelChannels) {
+        final List<Range> ranges = new ArrayList<>();
+        final long length = end - start;
+        if (length <= 0) {
+            return ranges;
+        }
+        final int count = (int) Math.max(1, Math.min(parallelChannels, length / MIN_RANGE_SIZE));
+        final long rangeSize = length / count;
+        for (int i = 0; i < count; i++) {
+            final long rangeStart = start + i * rangeSize;
+            ranges.add(new Range(rangeStart, i == count - 1 ? end : rangeStart + rangeSize));
+        }
+        return ranges;
+    }
+
+    /**
+     * @return the position up to which the ranges were received without gaps
+     */
+    static long receivedWithoutGaps(long start, List<Range> ranges) {
+        long position = start;
+        for (Range range : ranges) {
+            position = range.position;
+            if (range.position < range.end) {
+                break;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * @return the position up to which the ranges were completed without gaps
+     */
+    static long completedWithoutGaps(long start, List<Range> ranges) {
+        long position = start;
+        for (Range range : ranges) {
+            if (!range.completed) {
+                break;
+            }
+            position = range.end;
+        }
+        return position;
+    }
+
+    private void transfer(List<Range> ranges, RangeTransfer rangeTransfer) throws Exception {
+        if (ranges.size() == 1) {
+            rangeTransfer.transfer(channel, ranges.get(0));
+            return;
+        }
+        if (ranges.isEmpty()) {
+            return;
+        }
+
+        final List<ChannelSftp> openedChannels = openChannels(ranges.size() - 1);
+        final List<ChannelSftp> channels = new ArrayList<>();
+        channels.add(channel);
+        channels.addAll(openedChannels);
+        //when the server refused some of the channels, the ones that were opened take the remaining ranges
+        final Queue<Range> pendingRanges = new ConcurrentLinkedQueue<>(ranges);
+        final AtomicBoolean failed = new AtomicBoolean();
+        final ExecutorService executor = Executors.newFixedThreadPool(channels.size(), runnable -> {
+            Thread thread = new Thread(runnable, "sftp-range-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            for (final ChannelSftp rangeChannel : channels) {
+                futures.add(executor.submit(() -> {
+                    Range range;
+                    while (!failed.get() && (range = pendingRanges.poll()) != null) {
+                        try {
+                            rangeTransfer.transfer(rangeChannel, range);
+                        } catch (Exception e) {
+                            failed.set(true);
+                            throw e;
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            Exception failure = null;
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                        //the other ranges can't complete the file, stop them
+                        for (ChannelSftp openedChannel : openedChannels) {
+                            openedChannel.disconnect();
+                        }
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            executor.shutdownNow();
+            for (ChannelSftp openedChannel : openedChannels) {
+                openedChannel.disconnect();
+            }
+        }
+    }
+
+    /**
+     * Opens up to the given number of channels, stopping at the first one the server refuses, e.g. because the
+     * session reached the MaxSessions limit of the server.
+     */
+    private List<ChannelSftp> openChannels(int count) {
+        final List<ChannelSftp> openedChannels = new ArrayList<>();
+        try {
+            while (openedChannels.size() < count) {
+                openedChannels.add(openChannel());
+            }
+        } catch (Exception e) {
+            //the transfer continues on the channels that were opened
+        }
+        return openedChannels;
+    }
+
+    private ChannelSftp openChannel() throws Exception {
+        final ChannelSftp sftp = (ChannelSftp) session.openChannel(SFTP);
+        try {
+            sftp.connect();
+            sftp.setFilenameEncoding(characterSet);
+        } catch (Exception e) {
+            sftp.disconnect();
+            throw e;
+        }
+        return sftp;
+    }
+
+    private SftpATTRS stat(String remoteFile) throws SftpException {
+        try {
+            return channel.stat(remoteFile);
+        } catch (SftpException e) {
+            if (e.id == ChannelSftp.SSH_FX_NO_SUCH_FILE) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private boolean setSize(String remoteFile, long size) {
+        try {
+            final SftpATTRS attributes = channel.stat(remoteFile);
+            attributes.setSIZE(size);
+            channel.setStat(remoteFile, attributes);
+            return channel.stat(remoteFile).getSize() == size;
+        } catch (SftpException e) {
+            return false;
+        }
+    }
+
+    private static byte[] checksum(InputStream in) throws IOException, NoSuchAlgorithmException {
+        final MessageDigest digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        CopyEngine.copy(in, new OutputStream() {
+            @Override
+            public void write(int b) {
+                digest.update((byte) b);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                digest.update(bytes, offset, length);
+            }
+        });
+        return digest.digest();
+    }
+
+    interface RangeTransfer {
+        void transfer(ChannelSftp sftp, Range range) throws Exception;
+    }
+
+    static class Range {
+        final long start;
+        final long end;
+        //the position up to which a download wrote the range
+        volatile long position;
+        //true when an upload of the range was acknowledged by the server
+        volatile boolean completed;
+
+        Range(long start, long end) {
+            this.start = start;
+            this.end = end;
+            this.position = start;
+        }
+    }
+
+    /**
+     * Writes a range of the local file, from its start position, with positional writes that don't move the file.
+     */
+    private static class FileRangeOutputStream extends OutputStream {
+        private final FileChannel file;
+        private final Range range;
+
+        FileRangeOutputStream(FileChannel file, Range range) {
+            this.file = file;
+            this.range = range;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+            while (buffer.hasRemaining()) {
+                range.position += file.write(buffer, range.position);
+            }
+        }
+    }
+}
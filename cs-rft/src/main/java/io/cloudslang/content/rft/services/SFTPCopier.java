@@ -106,9 +106,23 @@ public class SFTPCopier {
     }
 
     private void getFile(SFTPDownloadFileInputs sftpDownloadFileInputs) throws Exception {
-        if (new File(sftpDownloadFileInputs.getLocalPath() + File.separator + sftpDownloadFileInputs.getRemoteFile()).exists()) {
+        final File localFile = new File(sftpDownloadFileInputs.getLocalPath() + File.separator + sftpDownloadFileInputs.getRemoteFile());
+        final boolean resume = Boolean.parseBoolean(sftpDownloadFileInputs.getResume());
+        if (localFile.exists() && !resume) {
             throw new Exception(String.format(EXCEPTION_LOCAL_FILE_EXISTS, sftpDownloadFileInputs.getRemoteFile()));
 
+        } else if (isChunkedTransfer(sftpDownloadFileInputs.getParallelChannels(), resume)) {
+            final String remoteFile = getRemoteFilePath(sftpDownloadFileInputs.getRemotePath(), sftpDownloadFileInputs.getRemoteFile());
+            final SFTPChunkedTransfer transfer = getChunkedTransfer(sftpDownloadFileInputs.getSftpCommonInputs(),
+                    sftpDownloadFileInputs.getParallelChannels(), resume);
+            try {
+                transfer.download(remoteFile, localFile);
+            } catch (Throwable e) {
+                throw new Exception(EXCEPTION_UNABLE_TO_RETRIEVE, e);
+            }
+            if (Boolean.parseBoolean(sftpDownloadFileInputs.getVerifyChecksum())) {
+                transfer.verifyChecksum(remoteFile, localFile, localFile.getPath());
+            }
         } else {
             try {
                 channel.setFilenameEncoding(sftpDownloadFileInputs.getSftpCommonInputs().getCharacterSet());
@@ -122,6 +136,11 @@ public class SFTPCopier {
             } catch (Throwable e) {
                 throw new Exception(EXCEPTION_UNABLE_TO_RETRIEVE, e);
             }
+            if (Boolean.parseBoolean(sftpDownloadFileInputs.getVerifyChecksum())) {
+                getChunkedTransfer(sftpDownloadFileInputs.getSftpCommonInputs(), DEFAULT_PARALLEL_CHANNELS, false)
+                        .verifyChecksum(getRemoteFilePath(sftpDownloadFileInputs.getRemotePath(), sftpDownloadFileInputs.getRemoteFile()),
+                                localFile, localFile.getPath());
+            }
         }
     }
 
@@ -217,9 +236,23 @@ public class SFTPCopier {
     }
 
     private void putFile(SFTPUploadFileInputs sftpUploadFileInputs) throws Exception {
-        if (!(new File(sftpUploadFileInputs.getLocalPath() + File.separator + sftpUploadFileInputs.getLocalFile()).exists())) {
+        final File localFile = new File(sftpUploadFileInputs.getLocalPath() + File.separator + sftpUploadFileInputs.getLocalFile());
+        final boolean resume = Boolean.parseBoolean(sftpUploadFileInputs.getResume());
+        final String remoteFile = getRemoteFilePath(sftpUploadFileInputs.getRemotePath(), sftpUploadFileInputs.getLocalFile());
+        if (!localFile.exists()) {
             throw new Exception(String.format(EXCEPTION_INVALID_LOCAL_FILE, sftpUploadFileInputs.getLocalFile()));
 
+        } else if (isChunkedTransfer(sftpUploadFileInputs.getParallelChannels(), resume)) {
+            final SFTPChunkedTransfer transfer = getChunkedTransfer(sftpUploadFileInputs.getSftpCommonInputs(),
+                    sftpUploadFileInputs.getParallelChannels(), resume);
+            try {
+                transfer.upload(localFile, remoteFile);
+            } catch (Throwable e) {
+                throw new Exception(EXCEPTION_UNABLE_TO_STORE, e);
+            }
+            if (Boolean.parseBoolean(sftpUploadFileInputs.getVerifyChecksum())) {
+                transfer.verifyChecksum(remoteFile, localFile, remoteFile);
+            }
         } else {
             try {
                 channel.setFilenameEncoding(sftpUploadFileInputs.getSftpCommonInputs().getCharacterSet());
@@ -233,9 +266,28 @@ public class SFTPCopier {
             } catch (Throwable e) {
                 throw new Exception(EXCEPTION_UNABLE_TO_STORE, e);
             }
+            if (Boolean.parseBoolean(sftpUploadFileInputs.getVerifyChecksum())) {
+                getChunkedTransfer(sftpUploadFileInputs.getSftpCommonInputs(), DEFAULT_PARALLEL_CHANNELS, false)
+                        .verifyChecksum(remoteFile, localFile, remoteFile);
+            }
         }
     }
 
+    private boolean isChunkedTransfer(String parallelChannels, boolean resume) {
+        return resume || Integer.parseInt(parallelChannels) > 1;
+    }
+
+    private SFTPChunkedTransfer getChunkedTransfer(SFTPCommonInputs sftpCommonInputs, String parallelChannels, boolean resume) throws SftpException {
+        channel.setFilenameEncoding(sftpCommonInputs.getCharacterSet());
+        return new SFTPChunkedTransfer(session, channel, Integer.parseInt(parallelChannels), resume, sftpCommonInputs.getCharacterSet());
+    }
+
+    //the channels of a chunked transfer don't share a working directory, so they use the absolute path of the file
+    private static String getRemoteFilePath(String remotePath, String fileName) {
+        final String directory = BACKSLASH + remotePath;
+        return directory.endsWith(BACKSLASH) ? directory + fileName : directory + BACKSLASH + fileName;
+    }
+
     public boolean isConnected() {
         return session.isConnected();
     }
@@ -39,6 +39,7 @@ public class Constants {
     public static final String BACKSLASH = "/";
     public static final String NO_ACK_RECEIVED = "No ack received";
     public static final String SSH_SESSIONS_DEFAULT_ID = "sshSessions:default-id";
+    public static final String FTP_SESSIONS_DEFAULT_ID = "ftpSessions:default-id";
 
     // default values
     public static final int DEFAULT_PORT = 22;
@@ -61,6 +62,10 @@ public class Constants {
     public static final String CHARACTER_SET_UTF8 = "UTF-8";
     public static final String DEFAULT_CONNECTION_TIMEOUT = "60";
     public static final String DEFAULT_EXECUTION_TIMEOUT = "60";
+    public static final String DEFAULT_PARALLEL_CHANNELS = "1";
+    //the default MaxSessions of an OpenSSH server, it refuses more channels on the same session
+    public static final int MAX_PARALLEL_CHANNELS = 10;
+    public static final String DEFAULT_FTP_BUFFER_SIZE = "262144";
 
     public static final String NEW_LINE = "\n";
     public static final String LOCALHOST = "localhost";
@@ -69,6 +74,8 @@ public class Constants {
     public static final String FTP_SESSION_LOG = "ftpSessionLog";
     public static final String FILES = "files";
     public static final String FOLDERS = "folders";
+    public static final String BYTES_COPIED = "bytesCopied";
+    public static final String THROUGHPUT = "throughput";
 
     public static final String CHMOD = "chmod";
     public static final String CHGRP = "chgrp";
@@ -101,6 +108,10 @@ public class Constants {
     public static final String EXCEPTION_UNABLE_SAVE_SESSION = "The SSH Session could not be saved in the given sessionParam.";
     public static final String EXCEPTION_INVALID_NUMBER = "%s for %s input is not a valid number value.";
     public static final String EXCEPTION_INVALID_NEGATIVE_NUMBER = "%s for %s input should not be a negative number.";
+    public static final String EXCEPTION_INVALID_NOT_POSITIVE_NUMBER = "%s for %s input should be greater than 0.";
+    public static final String EXCEPTION_INVALID_NUMBER_RANGE = "%s for %s input should be between %s and %s.";
+    public static final String EXCEPTION_FILE_COUNT_MISMATCH = "The %s and %s inputs must contain the same number of files.";
+    public static final String EXCEPTION_CHECKSUM_MISMATCH = "The checksum of '%s' does not match the checksum of the source file.";
     public static final String EXCEPTION_INVALID_COPY_ACTION= "%s is not a valid value for the input copy_action, valid values for are: to, from.";
     public static final String EXCEPTION_EXECUTION_TIMED_OUT = "Operation timed out.";
     public static final String EXCEPTION_EXISTING_DIRECTORY = "Failed to create directory. Directory may already exist" +
@@ -25,6 +25,19 @@ public class Descriptions {
         public static final String PASSWORD_DESC = "The password for user.";
         public static final String CHARACTER_SET_DESC = "The name of the control encoding to use.\n" +
                 " Default is ISO-8859-1 (Latin-1).";
+        public static final String GLOBAL_SESSION_DESC = "The sessionObject that keeps the idle FTP connections, so " +
+                "they can be reused by the next FTP operations on the same server, with the same user and connection mode.";
+        public static final String CLOSE_SESSION_DESC = "Close the FTP connection at completion of operation. " +
+                "Default value is true. If false the connection is kept logged in, in the sessionObject, and it is " +
+                "reused by other FTP operations in the same flow. An idle connection is closed after 2 minutes.\n" +
+                "Valid values: true, false.";
+        public static final String BUFFER_SIZE_DESC = "The size in bytes of the buffers used for the file transfers, " +
+                "for both the copy and the data connection sockets. Larger buffers speed up the transfers on links " +
+                "with a high latency.\n" +
+                "Default value: 262144.";
+        public static final String DELIMITER_DESC = "If set, the localFile and remoteFile inputs are lists of files " +
+                "separated by this delimiter and all the files are transferred over the same connection. Both lists " +
+                "must have the same number of files, the n-th local file is transferred to or from the n-th remote file.";
 
         public static final String FAILURE_DESC = "There was an error during the execution.";
         public static final String SUCCESS_DESC = "The operation was successfully executed.";
@@ -56,6 +69,21 @@ public class Descriptions {
                 "Default value is true.  If false the SSH session can be reused by other SFTP commands in the same flow.\n  " +
                 "Valid values: true, false.";
 
+        public static final String PARALLEL_CHANNELS_DESC = "The number of SFTP channels, opened on the same SSH session, " +
+                "used to transfer the file. Files of at least 16 MB are split into ranges and every channel transfers " +
+                "its own range, which is faster on links with a high latency. If the server refuses some of the " +
+                "channels, the file is transferred on the channels that were opened. \n" +
+                "Valid values: 1-10, the default session limit of an OpenSSH server. \n" +
+                "Default value: 1.";
+        public static final String RESUME_DESC = "If true and a part of the file was already transferred to the " +
+                "destination, only the rest of the file is transferred. A transfer that fails keeps the bytes received " +
+                "so far, so it can be resumed.\n" +
+                "Valid values: true, false. Default value: false.";
+        public static final String VERIFY_CHECKSUM_DESC = "If true the SHA-256 checksums of the source and of the " +
+                "destination files are compared after the transfer and the operation fails if they are different. " +
+                "The remote file is read again to compute its checksum.\n" +
+                "Valid values: true, false. Default value: false.";
+
         public static final String RETURN_RESULT_DESC = "Remote file will be copied to local system.";
         public static final String RETURN_CODE_DESC = "0 if success, -1 otherwise.";
         public static final String EXCEPTION_DESC = "An error message in case there was an error while executing the operation.";
@@ -97,6 +125,8 @@ public class Descriptions {
                 "Default: UTF-8.";
         public static final String RETURN_RESULT_REMOTE_COPY_DESC = " This is the primary output and it contains the " +
                 "success message if the operation successfully completes, or an exception message otherwise.";
+        public static final String BYTES_COPIED_DESC = "The number of bytes copied from the source to the destination.";
+        public static final String THROUGHPUT_DESC = "The average transfer rate of the copy, in bytes per second.";
         public static final String REMOTE_COPY_ACTION_DESC = "This operation copies files between two remote machines " +
                 "using different protocols (local, SCP, SFTP, SMB3).";
 
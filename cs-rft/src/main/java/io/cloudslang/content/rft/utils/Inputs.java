@@ -47,6 +47,9 @@ public class Inputs extends InputNames {
         public static final String TYPE = "type";
         public static final String PASSIVE = "passive";
         public static final String CHARACTER_SET = "characterSet";
+        public static final String CLOSE_SESSION = "closeSession";
+        public static final String BUFFER_SIZE = "bufferSize";
+        public static final String DELIMITER = "delimiter";
     }
 
     public static final class SFTPInputs {
@@ -71,6 +74,11 @@ public class Inputs extends InputNames {
         //PUT ONLY
         public static final String LOCAL_FILE = "localFile";
 
+        //GET AND PUT
+        public static final String PARALLEL_CHANNELS = "parallelChannels";
+        public static final String RESUME = "resume";
+        public static final String VERIFY_CHECKSUM = "verifyChecksum";
+
         //GET CHILDREN ONLY
         public static final String DELIMITER = "delimiter";
         public static final String NEW_REMOTE_PATH = "newRemotePath";
@@ -70,6 +70,38 @@ public class InputsValidation {
         return exceptionMessages;
     }
 
+    public static List<String> verifyInputsFTP(
+            @Nullable final String hostName,
+            @Nullable final String port,
+            @Nullable final String localFile,
+            @Nullable final String remoteFile,
+            @Nullable final String user,
+            @Nullable final String password,
+            @Nullable final String type,
+            @Nullable final String passive,
+            @Nullable final String characterSet,
+            @Nullable final String closeSession,
+            @Nullable final String bufferSize,
+            @Nullable final String delimiter) {
+
+        final List<String> exceptionMessages = verifyInputsFTP(hostName, port, localFile, remoteFile, user, password,
+                type, passive, characterSet);
+
+        addVerifyBoolean(exceptionMessages, closeSession, CLOSE_SESSION);
+        final int exceptionCount = exceptionMessages.size();
+        addVerifyNumber(exceptionMessages, bufferSize, BUFFER_SIZE);
+        if (exceptionMessages.size() == exceptionCount && Integer.parseInt(bufferSize) == 0) {
+            exceptionMessages.add(String.format(EXCEPTION_INVALID_NOT_POSITIVE_NUMBER, bufferSize, BUFFER_SIZE));
+        }
+        if (!isEmpty(delimiter) && !isEmpty(localFile) && !isEmpty(remoteFile) &&
+                StringUtils.splitByWholeSeparatorPreserveAllTokens(localFile, delimiter).length !=
+                        StringUtils.splitByWholeSeparatorPreserveAllTokens(remoteFile, delimiter).length) {
+            exceptionMessages.add(String.format(EXCEPTION_FILE_COUNT_MISMATCH, LOCAL_FILE, REMOTE_FILE));
+        }
+
+        return exceptionMessages;
+    }
+
     public static List<String> verifyGetChildrenInputsSFTP(
             @Nullable final String host,
             @Nullable final String port,
@@ -112,6 +144,29 @@ public class InputsValidation {
         return exceptions;
     }
 
+    public static List<String> verifySFTPUploadFileInputs(
+            @Nullable final String host,
+            @Nullable final String port,
+            @Nullable final String username,
+            @Nullable final String password,
+            @Nullable final String proxyPort,
+            @Nullable final String characterSet,
+            @Nullable final String closeSession,
+            @Nullable final String localPath,
+            @Nullable final String localFile,
+            @Nullable final String connectionTimeout,
+            @Nullable final String executionTimeout,
+            @Nullable final String parallelChannels,
+            @Nullable final String resume,
+            @Nullable final String verifyChecksum) {
+
+        final List<String> exceptions = verifySFTPUploadFileInputs(host, port, username, password, proxyPort,
+                characterSet, closeSession, localPath, localFile, connectionTimeout, executionTimeout);
+        addVerifySFTPTransferInputs(exceptions, parallelChannels, resume, verifyChecksum);
+
+        return exceptions;
+    }
+
     public static List<String> verifySFTPDownloadFileInputs(
             @Nullable final String host,
             @Nullable final String port,
@@ -135,6 +190,43 @@ public class InputsValidation {
         return exceptions;
     }
 
+    public static List<String> verifySFTPDownloadFileInputs(
+            @Nullable final String host,
+            @Nullable final String port,
+            @Nullable final String username,
+            @Nullable final String password,
+            @Nullable final String proxyPort,
+            @Nullable final String characterSet,
+            @Nullable final String closeSession,
+            @Nullable final String remoteFile,
+            @Nullable final String remotePath,
+            @Nullable final String localPath,
+            @Nullable final String connectionTimeout,
+            @Nullable final String executionTimeout,
+            @Nullable final String parallelChannels,
+            @Nullable final String resume,
+            @Nullable final String verifyChecksum) {
+
+        final List<String> exceptions = verifySFTPDownloadFileInputs(host, port, username, password, proxyPort,
+                characterSet, closeSession, remoteFile, remotePath, localPath, connectionTimeout, executionTimeout);
+        addVerifySFTPTransferInputs(exceptions, parallelChannels, resume, verifyChecksum);
+
+        return exceptions;
+    }
+
+    private static void addVerifySFTPTransferInputs(@NotNull List<String> exceptions, @Nullable final String parallelChannels,
+                                                    @Nullable final String resume, @Nullable final String verifyChecksum) {
+        final int exceptionCount = exceptions.size();
+        addVerifyNumber(exceptions, parallelChannels, SFTPInputs.PARALLEL_CHANNELS);
+        if (exceptions.size() == exceptionCount && (Integer.parseInt(parallelChannels) == 0 ||
+                Integer.parseInt(parallelChannels) > MAX_PARALLEL_CHANNELS)) {
+            exceptions.add(String.format(EXCEPTION_INVALID_NUMBER_RANGE, parallelChannels, SFTPInputs.PARALLEL_CHANNELS,
+                    1, MAX_PARALLEL_CHANNELS));
+        }
+        addVerifyBoolean(exceptions, resume, SFTPInputs.RESUME);
+        addVerifyBoolean(exceptions, verifyChecksum, SFTPInputs.VERIFY_CHECKSUM);
+    }
+
     private static List<String> verifyCommonSFTPInputs(
             @Nullable final String host,
             @Nullable final String port,
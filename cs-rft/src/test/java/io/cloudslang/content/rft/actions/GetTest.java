@@ -16,11 +16,17 @@ package io.cloudslang.content.rft.actions;
 
 
 
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import io.cloudslang.content.rft.actions.ftp.Get;
+import io.cloudslang.content.rft.entities.FTPConnectionPool;
+import io.cloudslang.content.rft.entities.FTPInputs;
 import io.cloudslang.content.rft.services.FTPService;
+import io.cloudslang.content.rft.utils.FTPOperation;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockftpserver.fake.FakeFtpServer;
 import org.mockftpserver.fake.UserAccount;
 import org.mockftpserver.fake.filesystem.DirectoryEntry;
@@ -29,14 +35,22 @@ import org.mockftpserver.fake.filesystem.FileSystem;
 import org.mockftpserver.fake.filesystem.UnixFakeFileSystem;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Map;
 
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
 import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
 import static io.cloudslang.content.rft.utils.Constants.*;
+import static io.cloudslang.content.rft.utils.Inputs.FTPInputs.LOCAL_FILE;
+import static io.cloudslang.content.rft.utils.Inputs.FTPInputs.REMOTE_FILE;
 import static org.junit.Assert.*;
 
 
 public class GetTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     Get getOperation;
     FakeFtpServer fakeFtpServer;
     FTPService ftpService;
@@ -69,6 +83,10 @@ public class GetTest {
                 "password",
                 "ascii",
                 "",
+                "",
+                null,
+                "",
+                "",
                 "");
         assertEquals(result.get(RETURN_RESULT),SUCCESS_RESULT);
 
@@ -88,6 +106,10 @@ public class GetTest {
                 "password",
                 "ascii",
                 "",
+                "",
+                null,
+                "",
+                "",
                 "");
         assertEquals(result.get(RETURN_RESULT),String.format(EXCEPTION_UNKNOWN_HOST,"nohost"));
     }
@@ -103,6 +125,10 @@ public class GetTest {
                 "password",
                 "ascii",
                 "",
+                "",
+                null,
+                "",
+                "",
                 "");
         assertTrue(result.get(RETURN_RESULT).contains("Could not connect to "));
     }
@@ -119,6 +145,10 @@ public class GetTest {
                 "password",
                 "ascii",
                 "",
+                "",
+                null,
+                "",
+                "",
                 "");
         assertEquals(result.get(RETURN_RESULT),String.format(EXCEPTION_INVALID_REMOTE_FILE,invalidRemoteFile));
     }
@@ -133,6 +163,10 @@ public class GetTest {
                 "password",
                 "ascii",
                 "",
+                "",
+                null,
+                "",
+                "",
                 "");
         assertNotEquals(result.get(RETURN_RESULT),SUCCESS_RESULT);
 
@@ -148,11 +182,112 @@ public class GetTest {
                 "passwesdaasfa",
                 "ascii",
                 "",
+                "",
+                null,
+                "",
+                "",
                 "");
         assertNotEquals(result.get(RETURN_RESULT),SUCCESS_RESULT);
 
     }
 
+    @Test
+    public void executeBatchWithSuccess() throws Exception {
+        fakeFtpServer.getFileSystem().add(new FileEntry("/data/second.txt", "second file"));
+        File firstFile = new File(temporaryFolder.getRoot(), "first.txt");
+        File secondFile = new File(temporaryFolder.getRoot(), "second.txt");
+
+        Map<String, String> result = getOperation.execute("localhost",
+                String.valueOf(fakeFtpServer.getServerControlPort()),
+                firstFile.getCanonicalPath() + "," + secondFile.getCanonicalPath(),
+                "foobar.txt,second.txt",
+                "user",
+                "password",
+                "binary",
+                "",
+                "",
+                null,
+                "",
+                "65536",
+                ",");
+
+        assertEquals(SUCCESS_RESULT, result.get(RETURN_RESULT));
+        assertEquals("abdef 1234567890", new String(Files.readAllBytes(firstFile.toPath()), StandardCharsets.UTF_8));
+        assertEquals("second file", new String(Files.readAllBytes(secondFile.toPath()), StandardCharsets.UTF_8));
+        assertEquals(1, result.get(FTP_SESSION_LOG).split("> user ", -1).length - 1);
+    }
+
+    @Test
+    public void executeWithFileCountMismatch() throws Exception {
+        Map<String, String> result = getOperation.execute("localhost",
+                String.valueOf(fakeFtpServer.getServerControlPort()),
+                "first.txt,second.txt",
+                "foobar.txt",
+                "user",
+                "password",
+                "binary",
+                "",
+                "",
+                null,
+                "",
+                "",
+                ",");
+
+        assertEquals("-1", result.get(RETURN_CODE));
+        assertEquals("501", result.get(FTP_REPLY_CODE));
+    }
+
+    @Test
+    public void ftpOperationChecksFileCountBeforeConnecting() {
+        Map<String, String> result = ftpService.ftpOperation(FTPInputs.builder()
+                .hostname("localhost")
+                .port(String.valueOf(fakeFtpServer.getServerControlPort()))
+                .localFile("first.txt,second.txt")
+                .remoteFile("foobar.txt")
+                .user("user")
+                .password("password")
+                .type("binary")
+                .passive("false")
+                .characterSet(CHARACTER_SET_LATIN1)
+                .closeSession("true")
+                .bufferSize("65536")
+                .delimiter(",")
+                .build(), FTPOperation.GET, null);
+
+        assertEquals("-1", result.get(RETURN_CODE));
+        assertEquals(String.format(EXCEPTION_FILE_COUNT_MISMATCH, LOCAL_FILE, REMOTE_FILE), result.get(RETURN_RESULT));
+        assertEquals("", result.get(FTP_SESSION_LOG));
+    }
+
+    @Test
+    public void executeReusesPooledConnection() throws Exception {
+        GlobalSessionObject<FTPConnectionPool> sessionObject = new GlobalSessionObject<>();
+        String port = String.valueOf(fakeFtpServer.getServerControlPort());
+        File localFile = new File(temporaryFolder.getRoot(), "pooled.txt");
+
+        Map<String, String> result = getOperation.execute("localhost", port, localFile.getCanonicalPath(), "foobar.txt",
+                "user", "password", "binary", "", "", sessionObject, "false", "", "");
+        assertEquals(SUCCESS_RESULT, result.get(RETURN_RESULT));
+        assertTrue(result.get(FTP_SESSION_LOG).contains("> user user"));
+        String key = FTPConnectionPool.getKey("localhost", port, "user", "password", false, CHARACTER_SET_LATIN1);
+        assertEquals(1, sessionObject.get().getIdleCount(key));
+
+        result = getOperation.execute("localhost", port, localFile.getCanonicalPath(), "foobar.txt",
+                "user", "password", "binary", "", "", sessionObject, "true", "", "");
+        assertEquals(SUCCESS_RESULT, result.get(RETURN_RESULT));
+        assertTrue(result.get(FTP_SESSION_LOG).contains("> noop"));
+        assertFalse(result.get(FTP_SESSION_LOG).contains("> user"));
+        assertEquals(0, sessionObject.get().getIdleCount(key));
+
+        result = getOperation.execute("localhost", port, localFile.getCanonicalPath(), "foobar.txt",
+                "user", "password", "binary", "", "", sessionObject, "false", "", "");
+        assertTrue(result.get(FTP_SESSION_LOG).contains("> user user"));
+        assertEquals(1, sessionObject.get().getIdleCount(key));
+
+        sessionObject.getResource().release();
+        assertNull(sessionObject.get());
+    }
+
     @After
     public void teardown() throws Exception  {
         fakeFtpServer.stop();
@@ -77,6 +77,10 @@ public class PutTest {
                 "password",
                 "ascii",
                 "",
+                "",
+                null,
+                "",
+                "",
                 "");
 
         assertEquals(result.get(RETURN_RESULT), SUCCESS_RESULT);
@@ -96,12 +100,39 @@ public class PutTest {
                 "password",
                 "ascii",
                 "",
+                "",
+                null,
+                "",
+                "",
                 "");
 
         assertEquals(result.get(RETURN_RESULT), String.format(EXCEPTION_INVALID_LOCAL_FILE, "noFile.txt"));
         assertFalse(fileSystem.exists("/data/foobar.txt"));
     }
 
+    @Test
+    public void executeBatchWithSuccess() throws Exception {
+        File secondFile = temporaryFolder.newFile("secondfile.txt");
+
+        Map<String, String> result = putOperation.execute("localhost",
+                String.valueOf(fakeFtpServer.getServerControlPort()),
+                localFile.getCanonicalPath() + ";" + secondFile.getCanonicalPath(),
+                "first.txt;second.txt",
+                "user",
+                "password",
+                "binary",
+                "",
+                "",
+                null,
+                "",
+                "",
+                ";");
+
+        assertEquals(SUCCESS_RESULT, result.get(RETURN_RESULT));
+        assertTrue(fileSystem.exists("/data/first.txt"));
+        assertTrue(fileSystem.exists("/data/second.txt"));
+    }
+
 
 
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+/*
+ * (c) Copyright 2021 Micro Focus
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.rft.entities;
+
+import org.apache.commons.net.ftp.FTPClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockftpserver.fake.FakeFtpServer;
+import org.mockftpserver.fake.UserAccount;
+import org.mockftpserver.fake.filesystem.DirectoryEntry;
+import org.mockftpserver.fake.filesystem.FileSystem;
+import org.mockftpserver.fake.filesystem.UnixFakeFileSystem;
+
+import static org.junit.Assert.*;
+
+public class FTPConnectionPoolTest {
+    private static final String KEY = "key";
+
+    private FakeFtpServer fakeFtpServer;
+
+    @Before
+    public void setUp() {
+        FileSystem fileSystem = new UnixFakeFileSystem();
+        fileSystem.add(new DirectoryEntry("/data"));
+
+        fakeFtpServer = new FakeFtpServer();
+        fakeFtpServer.setFileSystem(fileSystem);
+        fakeFtpServer.setServerControlPort(0);
+        fakeFtpServer.addUserAccount(new UserAccount("user", "password", "/data"));
+        fakeFtpServer.start();
+    }
+
+    @Test
+    public void borrowReturnsReleasedConnection() throws Exception {
+        FTPConnectionPool pool = new FTPConnectionPool();
+        assertNull(pool.borrow(KEY));
+
+        FTPConnection connection = new FTPConnection(KEY, login());
+        pool.release(connection);
+        assertEquals(1, pool.getIdleCount(KEY));
+
+        assertSame(connection, pool.borrow(KEY));
+        assertEquals(200, connection.getClient().getReplyCode());
+        assertEquals(0, pool.getIdleCount(KEY));
+        assertNull(pool.borrow("otherKey"));
+        connection.getClient().disconnect();
+    }
+
+    @Test
+    public void borrowClosesIdleConnection() throws Exception {
+        FTPConnectionPool pool = new FTPConnectionPool(0, FTPConnectionPool.DEFAULT_MAX_IDLE_PER_KEY);
+        FTPConnection connection = new FTPConnection(KEY, login());
+        pool.release(connection);
+        Thread.sleep(5);
+
+        assertNull(pool.borrow(KEY));
+        assertFalse(connection.getClient().isConnected());
+    }
+
+    @Test
+    public void borrowSkipsDeadConnection() throws Exception {
+        FTPConnectionPool pool = new FTPConnectionPool();
+        FTPConnection connection = new FTPConnection(KEY, login());
+        pool.release(connection);
+        fakeFtpServer.stop();
+
+        assertNull(pool.borrow(KEY));
+        assertEquals(0, pool.getIdleCount(KEY));
+    }
+
+    @Test
+    public void releaseClosesConnectionsOverLimit() throws Exception {
+        FTPConnectionPool pool = new FTPConnectionPool(FTPConnectionPool.DEFAULT_IDLE_TIMEOUT, 1);
+        FTPConnection first = new FTPConnection(KEY, login());
+        FTPConnection second = new FTPConnection(KEY, login());
+        pool.release(first);
+        pool.release(second);
+
+        assertEquals(1, pool.getIdleCount(KEY));
+        assertTrue(first.getClient().isConnected());
+        assertFalse(second.getClient().isConnected());
+        pool.close();
+        assertFalse(first.getClient().isConnected());
+    }
+
+    @Test
+    public void releaseAfterCloseClosesConnection() throws Exception {
+        FTPConnectionPool pool = new FTPConnectionPool();
+        pool.close();
+        FTPConnection connection = new FTPConnection(KEY, login());
+        pool.release(connection);
+
+        assertEquals(0, pool.getIdleCount(KEY));
+        assertFalse(connection.getClient().isConnected());
+    }
+
+    @Test
+    public void getKeyDependsOnCredentialsAndMode() {
+        String key = FTPConnectionPool.getKey("host", "21", "user", "password", true, "UTF-8");
+
+        assertEquals(key, FTPConnectionPool.getKey("HOST", "21", "user", "password", true, "UTF-8"));
+        assertNotEquals(key, FTPConnectionPool.getKey("host", "21", "user", "other", true, "UTF-8"));
+        assertNotEquals(key, FTPConnectionPool.getKey("host", "21", "user", "password", false, "UTF-8"));
+        assertNotEquals(key, FTPConnectionPool.getKey("host", "2121", "user", "password", true, "UTF-8"));
+        assertFalse(key.contains("password"));
+    }
+
+    @After
+    public void tearDown() {
+        fakeFtpServer.stop();
+    }
+
+    private FTPClient login() throws Exception {
+        FTPClient ftp = new FTPClient();
+        ftp.connect("localhost", fakeFtpServer.getServerControlPort());
+        assertTrue(ftp.login("user", "password"));
+        return ftp;
+    }
+}
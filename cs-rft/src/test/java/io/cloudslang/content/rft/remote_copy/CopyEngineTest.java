@@ -0,0 +1,158 @@
+/*
+ * (c) Copyright 2021 Micro Focus
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.rft.remote_copy;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CopyEngineTest {
+
+    //the size of the throughput tests, set -Dcs.rft.benchmarkSize=1073741824 to copy 1 GB
+    private static final long BENCHMARK_SIZE = Long.getLong("cs.rft.benchmarkSize", 64L * 1024 * 1024);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void copyStreamUntilItsEnd() throws Exception {
+        final byte[] content = randomBytes(3 * CopyEngine.getChunkSize() + 5);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        TransferStatistics statistics = CopyEngine.copy(new ByteArrayInputStream(content), out);
+
+        assertArrayEquals(content, out.toByteArray());
+        assertEquals(content.length, statistics.getBytes());
+    }
+
+    @Test
+    public void copyOnlyTheGivenLength() throws Exception {
+        final byte[] content = randomBytes(1000);
+        final ByteArrayInputStream in = new ByteArrayInputStream(content);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        CopyEngine.copy(in, out, 600);
+
+        assertArrayEquals(Arrays.copyOf(content, 600), out.toByteArray());
+        assertEquals(400, in.available());
+    }
+
+    @Test(expected = EOFException.class)
+    public void copyFailsWhenTheStreamIsShorterThanTheLength() throws Exception {
+        CopyEngine.copy(new ByteArrayInputStream(new byte[10]), new ByteArrayOutputStream(), 11);
+    }
+
+    @Test
+    public void copyLocalFiles() throws Exception {
+        final byte[] content = randomBytes(CopyEngine.getChunkSize() + 123);
+        final File source = folder.newFile("source");
+        final File destination = new File(folder.getRoot(), "destination");
+        Files.write(source.toPath(), content);
+
+        TransferStatistics statistics = CopyEngine.copy(source, destination);
+
+        assertArrayEquals(content, Files.readAllBytes(destination.toPath()));
+        assertEquals(content.length, statistics.getBytes());
+    }
+
+    @Test
+    public void copyLocalFilesKeepsTheStreamPositions() throws Exception {
+        final File source = folder.newFile("source");
+        final File destination = folder.newFile("destination");
+        Files.write(source.toPath(), "0123456789".getBytes());
+
+        try (FileInputStream in = new FileInputStream(source);
+             FileOutputStream out = new FileOutputStream(destination)) {
+            assertEquals(2, in.skip(2));
+            CopyEngine.copy(in, out);
+            assertEquals(-1, in.read());
+        }
+        assertEquals("23456789", new String(Files.readAllBytes(destination.toPath())));
+    }
+
+    @Test
+    public void localFileThroughput() throws Exception {
+        final File source = createFile(BENCHMARK_SIZE);
+        final File destination = new File(folder.getRoot(), "destination");
+
+        TransferStatistics statistics = CopyEngine.copy(source, destination);
+
+        assertEquals(BENCHMARK_SIZE, destination.length());
+        assertStatistics(BENCHMARK_SIZE, statistics);
+    }
+
+    @Test
+    public void streamThroughput() throws Exception {
+        final File source = createFile(BENCHMARK_SIZE);
+        final OutputStream discard = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+
+        TransferStatistics statistics;
+        try (FileInputStream in = new FileInputStream(source)) {
+            statistics = CopyEngine.copy(in, discard, BENCHMARK_SIZE);
+        }
+
+        assertStatistics(BENCHMARK_SIZE, statistics);
+    }
+
+    private File createFile(long size) throws IOException {
+        final File file = folder.newFile();
+        final byte[] block = randomBytes(1024 * 1024);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            for (long written = 0; written < size; written += block.length) {
+                randomAccessFile.write(block, 0, (int) Math.min(block.length, size - written));
+            }
+        }
+        return file;
+    }
+
+    private static byte[] randomBytes(int size) {
+        final byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    static void assertStatistics(long bytes, TransferStatistics statistics) {
+        assertEquals(bytes, statistics.getBytes());
+        assertTrue(statistics.getElapsedMillis() >= 0);
+        assertTrue(statistics.getBytesPerSecond() > 0);
+        //the rate is computed from the nanoseconds, it is at least the bytes per elapsed whole millisecond
+        assertTrue(statistics.getBytesPerSecond() >= bytes * 1000 / (statistics.getElapsedMillis() + 1));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * (c) Copyright 2021 Micro Focus
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.rft.remote_copy;
+
+import org.apache.sshd.common.file.virtualfs.VirtualFileSystemFactory;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+import org.apache.sshd.server.scp.ScpCommandFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Copies files from and to an embedded SSH server and checks the transfer statistics of the SCP copier.
+ */
+public class ScpCopierTest {
+
+    private static final String USERNAME = "user";
+    private static final String PASSWORD = "password";
+    //the size of the copied file, set -Dcs.rft.benchmarkSize=1073741824 to copy 1 GB
+    private static final long BENCHMARK_SIZE = Long.getLong("cs.rft.benchmarkSize", 64L * 1024 * 1024);
+
+    @ClassRule
+    public static TemporaryFolder folder = new TemporaryFolder();
+
+    private static SshServer sshServer;
+    private static File remoteRoot;
+
+    @BeforeClass
+    public static void startServer() throws IOException {
+        remoteRoot = folder.newFolder("remote");
+        sshServer = SshServer.setUpDefaultServer();
+        sshServer.setHost("127.0.0.1");
+        sshServer.setPort(0);
+        sshServer.setKeyPairProvider(new SimpleGeneratorHostKeyProvider());
+        sshServer.setPasswordAuthenticator((username, password, session) ->
+                USERNAME.equals(username) && PASSWORD.equals(password));
+        sshServer.setFileSystemFactory(new VirtualFileSystemFactory(remoteRoot.toPath()));
+        sshServer.setCommandFactory(new ScpCommandFactory());
+        sshServer.start();
+    }
+
+    @AfterClass
+    public static void stopServer() throws IOException {
+        sshServer.stop(true);
+    }
+
+    @Test
+    public void copyFromRemoteToLocal() throws Exception {
+        createFile(new File(remoteRoot, "download.bin"), BENCHMARK_SIZE);
+        final File destination = new File(folder.getRoot(), "download.bin");
+
+        ScpCopier scpCopier = scpCopier();
+        scpCopier.copyTo(new LocalCopier(), "/download.bin", destination.getAbsolutePath());
+
+        assertEquals(BENCHMARK_SIZE, destination.length());
+        assertNotNull(scpCopier.getTransferStatistics());
+        CopyEngineTest.assertStatistics(BENCHMARK_SIZE, scpCopier.getTransferStatistics());
+    }
+
+    @Test
+    public void copyFromLocalToRemote() throws Exception {
+        final File source = createFile(new File(folder.getRoot(), "upload.bin"), BENCHMARK_SIZE);
+
+        LocalCopier localCopier = new LocalCopier();
+        localCopier.copyTo(scpCopier(), source.getAbsolutePath(), "/upload.bin");
+
+        assertEquals(BENCHMARK_SIZE, new File(remoteRoot, "upload.bin").length());
+        CopyEngineTest.assertStatistics(BENCHMARK_SIZE, localCopier.getTransferStatistics());
+    }
+
+    private static ScpCopier scpCopier() {
+        ScpCopier scpCopier = new ScpCopier();
+        scpCopier.setProtocol(CopierFactory.copiers.scp.name());
+        scpCopier.setCredentials("127.0.0.1", sshServer.getPort(), USERNAME, PASSWORD);
+        return scpCopier;
+    }
+
+    private static File createFile(File file, long size) throws IOException {
+        final byte[] block = new byte[1024 * 1024];
+        new Random(size).nextBytes(block);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+            for (long written = 0; written < size; written += block.length) {
+                randomAccessFile.write(block, 0, (int) Math.min(block.length, size - written));
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * (c) Copyright 2021 Micro Focus
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.rft.remote_copy;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class StreamPipeTest {
+
+    @Test
+    public void copyThroughABufferSmallerThanTheContent() throws Exception {
+        final byte[] content = new byte[1024 * 1024 + 17];
+        new Random(7).nextBytes(content);
+        final ByteArrayOutputStream destination = new ByteArrayOutputStream();
+
+        TransferStatistics statistics = StreamPipe.copy(out -> IOUtils.copy(new ByteArrayInputStream(content), out),
+                in -> IOUtils.copy(in, destination), 4096);
+
+        assertArrayEquals(content, destination.toByteArray());
+        assertEquals(content.length, statistics.getBytes());
+    }
+
+    @Test
+    public void producerFailureIsSeenByTheConsumer() throws Exception {
+        try {
+            StreamPipe.copy(out -> {
+                out.write(new byte[100]);
+                throw new IOException("connection reset");
+            }, in -> IOUtils.copy(in, new ByteArrayOutputStream()), 16);
+            fail("the copy should fail");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("connection reset"));
+        }
+    }
+
+    @Test
+    public void consumerFailureStopsTheProducer() throws Exception {
+        try {
+            StreamPipe.copy(out -> {
+                while (true) {
+                    out.write(new byte[100]);
+                }
+            }, in -> {
+                throw new IOException("disk full");
+            }, 16);
+            fail("the copy should fail");
+        } catch (IOException e) {
+            assertEquals("disk full", e.getMessage());
+        }
+    }
+}
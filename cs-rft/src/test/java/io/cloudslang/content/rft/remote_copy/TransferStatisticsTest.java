@@ -0,0 +1,41 @@
+/*
+ * (c) Copyright 2021 Micro Focus
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.rft.remote_copy;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class TransferStatisticsTest {
+
+    @Test
+    public void bytesPerSecondFromTheElapsedTime() {
+        TransferStatistics statistics = new TransferStatistics(2 * 1024 * 1024, TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertEquals(2 * 1024 * 1024, statistics.getBytes());
+        assertEquals(500, statistics.getElapsedMillis());
+        assertEquals(4 * 1024 * 1024, statistics.getBytesPerSecond());
+    }
+
+    @Test
+    public void bytesPerSecondWithoutElapsedTime() {
+        TransferStatistics statistics = new TransferStatistics(1000, 0);
+
+        assertEquals(0, statistics.getElapsedMillis());
+        assertEquals(1000, statistics.getBytesPerSecond());
+    }
+}
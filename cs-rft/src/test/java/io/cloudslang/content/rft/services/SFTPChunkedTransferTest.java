@@ -0,0 +1,244 @@
+/*
+ * (c) Copyright 2021 Micro Focus
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.rft.services;
+
+import com.jcraft.jsch.ChannelSftp;
+import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.Session;
+import org.apache.sshd.common.NamedFactory;
+import org.apache.sshd.common.file.virtualfs.VirtualFileSystemFactory;
+import org.apache.sshd.server.Command;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+import org.apache.sshd.server.subsystem.sftp.SftpSubsystemFactory;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.cloudslang.content.rft.services.SFTPChunkedTransfer.MIN_RANGE_SIZE;
+import static io.cloudslang.content.rft.utils.Constants.SFTP;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SFTPChunkedTransferTest {
+
+    private static final String USERNAME = "user";
+    private static final String PASSWORD = "password";
+    private static final String UTF_8 = "UTF-8";
+    private static final int FILE_SIZE = (int) (3 * MIN_RANGE_SIZE + 12345);
+
+    @ClassRule
+    public static TemporaryFolder serverFolder = new TemporaryFolder();
+
+    @Rule
+    public TemporaryFolder localFolder = new TemporaryFolder();
+
+    private static SshServer sshServer;
+    private static File remoteRoot;
+    private Session session;
+    private ChannelSftp channel;
+
+    @BeforeClass
+    public static void startServer() throws IOException {
+        remoteRoot = serverFolder.newFolder("remote");
+        sshServer = SshServer.setUpDefaultServer();
+        sshServer.setHost("127.0.0.1");
+        sshServer.setPort(0);
+        sshServer.setKeyPairProvider(new SimpleGeneratorHostKeyProvider());
+        sshServer.setPasswordAuthenticator((username, password, session) ->
+                USERNAME.equals(username) && PASSWORD.equals(password));
+        sshServer.setFileSystemFactory(new VirtualFileSystemFactory(remoteRoot.toPath()));
+        sshServer.setSubsystemFactories(Collections.singletonList(new SftpSubsystemFactory()));
+        sshServer.start();
+    }
+
+    @AfterClass
+    public static void stopServer() throws IOException {
+        sshServer.stop(true);
+    }
+
+    @Before
+    public void connect() throws Exception {
+        session = new JSch().getSession(USERNAME, "127.0.0.1", sshServer.getPort());
+        session.setPassword(PASSWORD);
+        session.setConfig("StrictHostKeyChecking", "no");
+        session.connect();
+        channel = (ChannelSftp) session.openChannel(SFTP);
+        channel.connect();
+    }
+
+    @After
+    public void disconnect() {
+        channel.disconnect();
+        session.disconnect();
+    }
+
+    @Test
+    public void splitInRangesOfAtLeastTheMinimumSize() {
+        assertEquals(0, SFTPChunkedTransfer.split(10, 10, 4).size());
+        assertEquals(1, SFTPChunkedTransfer.split(0, 2 * MIN_RANGE_SIZE - 1, 4).size());
+        assertEquals(2, SFTPChunkedTransfer.split(0, 2 * MIN_RANGE_SIZE, 4).size());
+
+        List<SFTPChunkedTransfer.Range> ranges = SFTPChunkedTransfer.split(5, 100 * MIN_RANGE_SIZE + 3, 4);
+        assertEquals(4, ranges.size());
+        assertEquals(5, ranges.get(0).start);
+        for (int i = 1; i < ranges.size(); i++) {
+            assertEquals(ranges.get(i - 1).end, ranges.get(i).start);
+        }
+        assertEquals(100 * MIN_RANGE_SIZE + 3, ranges.get(3).end);
+    }
+
+    @Test
+    public void receivedWithoutGapsStopsAtTheFirstUnfinishedRange() {
+        List<SFTPChunkedTransfer.Range> ranges = SFTPChunkedTransfer.split(0, 3 * MIN_RANGE_SIZE, 3);
+        ranges.get(0).position = ranges.get(0).end;
+        ranges.get(1).position = ranges.get(1).start + 10;
+        ranges.get(2).position = ranges.get(2).end;
+
+        assertEquals(MIN_RANGE_SIZE + 10, SFTPChunkedTransfer.receivedWithoutGaps(0, ranges));
+        assertEquals(7, SFTPChunkedTransfer.receivedWithoutGaps(7, Collections.emptyList()));
+
+        ranges.get(0).completed = true;
+        ranges.get(2).completed = true;
+        assertEquals(MIN_RANGE_SIZE, SFTPChunkedTransfer.completedWithoutGaps(0, ranges));
+    }
+
+    @Test
+    public void parallelDownload() throws Exception {
+        final byte[] content = createRemoteFile("download.bin");
+        final File localFile = new File(localFolder.getRoot(), "download.bin");
+
+        SFTPChunkedTransfer transfer = new SFTPChunkedTransfer(session, channel, 4, false, UTF_8);
+        transfer.download("/download.bin", localFile);
+        transfer.verifyChecksum("/download.bin", localFile, localFile.getPath());
+
+        assertArrayEquals(content, Files.readAllBytes(localFile.toPath()));
+    }
+
+    @Test
+    public void resumeDownload() throws Exception {
+        final byte[] content = createRemoteFile("resumed.bin");
+        final File localFile = new File(localFolder.getRoot(), "resumed.bin");
+        Files.write(localFile.toPath(), Arrays.copyOf(content, 1000));
+
+        new SFTPChunkedTransfer(session, channel, 3, true, UTF_8).download("/resumed.bin", localFile);
+
+        assertArrayEquals(content, Files.readAllBytes(localFile.toPath()));
+    }
+
+    @Test
+    public void parallelUpload() throws Exception {
+        final File localFile = createLocalFile("upload.bin");
+
+        SFTPChunkedTransfer transfer = new SFTPChunkedTransfer(session, channel, 4, false, UTF_8);
+        transfer.upload(localFile, "/upload.bin");
+        transfer.verifyChecksum("/upload.bin", localFile, "/upload.bin");
+
+        assertArrayEquals(Files.readAllBytes(localFile.toPath()), Files.readAllBytes(new File(remoteRoot, "upload.bin").toPath()));
+    }
+
+    @Test
+    public void resumeUpload() throws Exception {
+        final File localFile = createLocalFile("resumedUpload.bin");
+        final byte[] content = Files.readAllBytes(localFile.toPath());
+        Files.write(new File(remoteRoot, "resumedUpload.bin").toPath(), Arrays.copyOf(content, (int) MIN_RANGE_SIZE + 1));
+
+        new SFTPChunkedTransfer(session, channel, 2, true, UTF_8).upload(localFile, "/resumedUpload.bin");
+
+        assertArrayEquals(content, Files.readAllBytes(new File(remoteRoot, "resumedUpload.bin").toPath()));
+    }
+
+    @Test
+    public void parallelDownloadOnTheChannelsTheServerOpened() throws Exception {
+        final byte[] content = createRemoteFile("limited.bin");
+        final File localFile = new File(localFolder.getRoot(), "limited.bin");
+        //the server accepts a single extra channel, as a server whose MaxSessions is reached would
+        final AtomicInteger subsystems = new AtomicInteger();
+        final SftpSubsystemFactory sftpFactory = new SftpSubsystemFactory();
+        sshServer.setSubsystemFactories(Collections.singletonList(new NamedFactory<Command>() {
+            @Override
+            public String getName() {
+                return sftpFactory.getName();
+            }
+
+            @Override
+            public Command create() {
+                return subsystems.incrementAndGet() > 1 ? null : sftpFactory.create();
+            }
+        }));
+        try {
+            new SFTPChunkedTransfer(session, channel, 4, false, UTF_8).download("/limited.bin", localFile);
+        } finally {
+            sshServer.setSubsystemFactories(Collections.singletonList(sftpFactory));
+        }
+
+        assertEquals(2, subsystems.get());
+        assertArrayEquals(content, Files.readAllBytes(localFile.toPath()));
+    }
+
+    @Test
+    public void checksumMismatch() throws Exception {
+        createRemoteFile("changed.bin");
+        final File localFile = new File(localFolder.getRoot(), "changed.bin");
+        SFTPChunkedTransfer transfer = new SFTPChunkedTransfer(session, channel, 2, false, UTF_8);
+        transfer.download("/changed.bin", localFile);
+        try (RandomAccessFile file = new RandomAccessFile(localFile, "rw")) {
+            file.seek(FILE_SIZE / 2);
+            file.write(file.read() + 1);
+        }
+
+        try {
+            transfer.verifyChecksum("/changed.bin", localFile, localFile.getPath());
+            fail("the checksums should be different");
+        } catch (Exception e) {
+            assertTrue(e.getMessage().contains(localFile.getPath()));
+        }
+    }
+
+    private static byte[] createRemoteFile(String name) throws IOException {
+        final byte[] content = randomBytes();
+        Files.write(new File(remoteRoot, name).toPath(), content);
+        return content;
+    }
+
+    private File createLocalFile(String name) throws IOException {
+        final File file = localFolder.newFile(name);
+        Files.write(file.toPath(), randomBytes());
+        return file;
+    }
+
+    private static byte[] randomBytes() {
+        final byte[] content = new byte[FILE_SIZE];
+        new Random(FILE_SIZE).nextBytes(content);
+        return content;
+    }
+}
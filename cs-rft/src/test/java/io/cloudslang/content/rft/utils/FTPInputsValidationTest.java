@@ -55,5 +55,39 @@ public class FTPInputsValidationTest {
         assertEquals(numberOfExceptions,9);
     }
 
+    @Test
+    public void verifyValidFTPTransferInputs() {
+        List<String> exceptions = InputsValidation.verifyInputsFTP("someHost",
+                "21",
+                "first.txt,second.txt",
+                "remoteFirst.txt,remoteSecond.txt",
+                "user",
+                "password",
+                ASCII_FILE_TYPE,
+                "true",
+                CHARACTER_SET_LATIN1,
+                "false",
+                "1048576",
+                ",");
+        assertEquals(0, exceptions.size());
+    }
+
+    @Test
+    public void verifyInvalidFTPTransferInputs() {
+        List<String> exceptions = InputsValidation.verifyInputsFTP("someHost",
+                "21",
+                "first.txt,second.txt",
+                "remoteFirst.txt",
+                "user",
+                "password",
+                ASCII_FILE_TYPE,
+                "true",
+                CHARACTER_SET_LATIN1,
+                "no",
+                "0",
+                ",");
+        assertEquals(3, exceptions.size());
+    }
+
 
 }
\ No newline at end of file
@@ -58,4 +58,81 @@ public class SFTPInputsValidationTest {
         assertEquals(numberOfExceptions, 9);
     }
 
+    @Test
+    public void verifySFTPTransferInputs() {
+        List<String> exceptions = InputsValidation.verifySFTPDownloadFileInputs(
+                "someHost",
+                "22",
+                "username",
+                "password",
+                "8080",
+                "UTF-8",
+                "true",
+                "remote.txt",
+                "remotePath",
+                "localPath",
+                "60",
+                "60",
+                "4",
+                "true",
+                "false");
+        assertEquals(0, exceptions.size());
+
+        exceptions = InputsValidation.verifySFTPDownloadFileInputs(
+                "someHost",
+                "22",
+                "username",
+                "password",
+                "8080",
+                "UTF-8",
+                "true",
+                "remote.txt",
+                "remotePath",
+                "localPath",
+                "60",
+                "60",
+                "0",
+                "yes",
+                "no");
+        assertEquals(3, exceptions.size());
+    }
+
+    @Test
+    public void verifySFTPParallelChannelsLimit() {
+        List<String> exceptions = InputsValidation.verifySFTPUploadFileInputs(
+                "someHost",
+                "22",
+                "username",
+                "password",
+                "8080",
+                "UTF-8",
+                "true",
+                "localPath",
+                "local.txt",
+                "60",
+                "60",
+                "10",
+                "false",
+                "false");
+        assertEquals(0, exceptions.size());
+
+        exceptions = InputsValidation.verifySFTPUploadFileInputs(
+                "someHost",
+                "22",
+                "username",
+                "password",
+                "8080",
+                "UTF-8",
+                "true",
+                "localPath",
+                "local.txt",
+                "60",
+                "60",
+                "11",
+                "false",
+                "false");
+        assertEquals(1, exceptions.size());
+        assertEquals("11 for parallelChannels input should be between 1 and 10.", exceptions.get(0));
+    }
+
 }
@@ -0,0 +1,217 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package io.cloudslang.content.ssh.actions;
+
+import com.hp.oo.sdk.content.annotations.Action;
+import com.hp.oo.sdk.content.annotations.Output;
+import com.hp.oo.sdk.content.annotations.Param;
+import com.hp.oo.sdk.content.annotations.Response;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import io.cloudslang.content.constants.OutputNames;
+import io.cloudslang.content.constants.ResponseNames;
+import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.ssh.entities.SSHConnection;
+import io.cloudslang.content.ssh.entities.SSHShellInputs;
+import io.cloudslang.content.ssh.services.actions.ScoreSSHMultiHostCommand;
+import io.cloudslang.content.ssh.utils.Constants;
+import io.cloudslang.content.ssh.utils.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The operation executes the same Shell command(s) on several remote machines using the SSH protocol.
+ */
+public class SSHMultiHostCommandAction {
+
+    /**
+     * Executes the same Shell command(s) on several remote machines using the SSH protocol, on a bounded number of
+     * threads. Every host is handled like by the SSH Command operation, so the sessions cached for a host by previous
+     * steps of the flow are reused, and new sessions are cached unless closeSession is true.
+     *
+     * @param hosts                 The hostnames or the ip addresses of the remote machines, separated by hostDelimiter.
+     *                              A host can be given with its port, in a syntax like host:port or [ipv6]:port.
+     *                              The same host given more than once is used only once.
+     * @param hostDelimiter         The delimiter between the hosts. Default value: ,
+     * @param port                  The port number used for the hosts that are given without a port. Default value: 22
+     * @param username              The username of the account on the remote machines.
+     * @param password              The password of the user. If using a private key file this will be used as the passphrase for the file.
+     * @param privateKeyFile        The path to the private key file (OpenSSH type) on the machine where is the worker.
+     * @param privateKeyData        A string representing the private key (OpenSSH type) used for authenticating the user.
+     *                              The 'privateKeyData' and the 'privateKeyFile' inputs are mutually exclusive.
+     * @param knownHostsPolicy      The policy used for managing known_hosts file. Valid values: allow, strict, add. Default value: allow
+     * @param knownHostsPath        The path to the known hosts file.
+     * @param allowedCiphers        A comma separated list of ciphers that will be used in the client-server handshake
+     *                              mechanism when the connection is created.
+     *                              Default value: aes128-ctr,aes128-cbc,3des-ctr,3des-cbc,blowfish-cbc,aes192-ctr,aes192-cbc,aes256-ctr,aes256-cbc
+     * @param command               The command(s) to execute on every host.
+     * @param characterSet          The character encoding used for input stream encoding from the target machines.
+     *                              Valid values: SJIS, EUC-JP, UTF-8. Default value: UTF-8.
+     * @param pty                   Whether to use a pseudo-terminal (PTY) session. Valid values: false, true. Default value: false
+     * @param agentForwarding       Enables or disables the forwarding of the authentication agent connection.
+     *                              Agent forwarding should be enabled with caution.
+     * @param timeout               Time in milliseconds to wait for the command to complete on a host. If useShell is
+     *                              true, the 'exit' command is sent to the shell after this time.
+     *                              Default value is 90000 (90 seconds)
+     * @param connectTimeout        Time in milliseconds to wait for the connection to a host to be made. Default value: 10000
+     * @param globalSessionObject   the sessionObject that holds the connections if the close session is false.
+     * @param closeSession          If true it closes the SSH sessions at completion of this operation.
+     *                              If false the SSH sessions will be cached for future calls during the life of the flow.
+     *                              Valid values: false, true. Default value: false
+     * @param proxyHost             The proxy server used to access the remote machines.
+     * @param proxyPort             The proxy server port. Default value: 8080.
+     * @param proxyUsername         The user name used when connecting to the proxy.
+     * @param proxyPassword         The proxy server password associated with the proxyUsername input value.
+     * @param allowExpectCommands   Enables or disables the expect commands. Valid values: false, true. Default value: false
+     * @param useShell              Specifies whether to use shell mode to run the commands. Valid values: true, false.
+     *                              Default value: false.
+     * @param removeEscapeSequences Specifies whether to remove ANSI escape sequences from the outputs.
+     *                              Valid values: 'true', 'false'. Default: 'false'
+     * @param maxOutputSize         The maximum number of bytes of the standard output and of the standard error kept in
+     *                              memory for every host. Valid values: 0 for no limit, positive integers.
+     *                              Default value: 0
+     * @param concurrency           The maximum number of hosts the command runs on at the same time. Default value: 10
+     * @param overallTimeout        Time in milliseconds after which the hosts on which the command did not complete are
+     *                              reported as failed and disconnected. A host that is still connecting stops after
+     *                              connectTimeout. Valid values: 0 for no overall timeout, positive integers.
+     *                              Default value: 0
+     * @return - a map containing the output of the operation. Keys present in the map are:
+     * <br><b>returnResult</b> - A JSON array with the result of every host, in the order of the hosts input:
+     * host, returnCode, exitStatus, stdout, stderr and, for the hosts that failed, exception.
+     * <br><b>succeededHosts</b> - The hosts on which the command ran, separated by comma.
+     * <br><b>failedHosts</b> - The hosts on which the command could not run or did not complete, separated by comma.
+     * <br><b>returnCode</b> - the return code of the operation. 0 if the command ran on all the hosts, -1 otherwise.
+     * <br><b>exception</b> - the exception message if the operation could not start.
+     */
+    @Action(name = "SSH Multi Host Command",
+            outputs = {
+                    @Output(OutputNames.RETURN_CODE),
+                    @Output(OutputNames.RETURN_RESULT),
+                    @Output(OutputNames.EXCEPTION),
+                    @Output(Constants.SUCCEEDED_HOSTS),
+                    @Output(Constants.FAILED_HOSTS)
+            },
+            responses = {
+                    @Response(text = ResponseNames.SUCCESS, field = OutputNames.RETURN_CODE, value = ReturnCodes.SUCCESS, matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.RESOLVED),
+                    @Response(text = ResponseNames.FAILURE, field = OutputNames.RETURN_CODE, value = ReturnCodes.FAILURE, matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.ERROR, isOnFail = true)
+            }
+    )
+    public Map<String, String> runSshMultiHostCommand(
+            @Param(value = Constants.HOSTS, required = true) String hosts,
+            @Param(Constants.HOST_DELIMITER) String hostDelimiter,
+            @Param(Constants.InputNames.PORT) String port,
+            @Param(value = Constants.InputNames.USERNAME, required = true) String username,
+            @Param(value = Constants.InputNames.PASSWORD, encrypted = true) String password,
+            @Param(Constants.PRIVATE_KEY_FILE) String privateKeyFile,
+            @Param(value = Constants.PRIVATE_KEY_DATA, encrypted = true) String privateKeyData,
+            @Param(Constants.KNOWN_HOSTS_POLICY) String knownHostsPolicy,
+            @Param(Constants.KNOWN_HOSTS_PATH) String knownHostsPath,
+            @Param(Constants.ALLOWED_CIPHERS) String allowedCiphers,
+            @Param(value = Constants.COMMAND, required = true) String command,
+            @Param(Constants.InputNames.CHARACTER_SET) String characterSet,
+            @Param(value = Constants.PTY) String pty,
+            @Param(value = Constants.InputNames.AGENT_FORWARDING) String agentForwarding,
+            @Param(Constants.InputNames.TIMEOUT) String timeout,
+            @Param(Constants.CONNECT_TIMEOUT) String connectTimeout,
+            @Param(Constants.SSH_SESSIONS_DEFAULT_ID) GlobalSessionObject<Map<String, SSHConnection>> globalSessionObject,
+            @Param(Constants.CLOSE_SESSION) String closeSession,
+            @Param(Constants.PROXY_HOST) String proxyHost,
+            @Param(Constants.PROXY_PORT) String proxyPort,
+            @Param(Constants.PROXY_USERNAME) String proxyUsername,
+            @Param(value = Constants.PROXY_PASSWORD, encrypted = true) String proxyPassword,
+            @Param(Constants.ALLOW_EXPECT_COMMANDS) String allowExpectCommands,
+            @Param(Constants.USE_SHELL) String useShell,
+            @Param(Constants.InputNames.REMOVE_ESCAPE_SEQUENCES) String removeEscapeSequences,
+            @Param(Constants.MAX_OUTPUT_SIZE) String maxOutputSize,
+            @Param(Constants.CONCURRENCY) String concurrency,
+            @Param(Constants.OVERALL_TIMEOUT) String overallTimeout) {
+
+        try {
+            String delimiter = StringUtils.toNotEmptyString(hostDelimiter, Constants.DEFAULT_HOST_DELIMITER);
+            Map<String, SSHShellInputs> hostInputs = new LinkedHashMap<>();
+            for (String hostAndPort : hosts.split(Pattern.quote(delimiter))) {
+                hostAndPort = hostAndPort.trim();
+                if (hostAndPort.isEmpty() || hostInputs.containsKey(hostAndPort)) {
+                    continue;
+                }
+                String[] hostAndPortParts = splitHostAndPort(hostAndPort);
+                SSHShellInputs sshShellInputs = new SSHShellInputs();
+                sshShellInputs.setHost(hostAndPortParts[0]);
+                sshShellInputs.setPort(hostAndPortParts[1] != null ? hostAndPortParts[1] : port);
+                sshShellInputs.setUsername(username);
+                sshShellInputs.setPassword(password);
+                sshShellInputs.setPrivateKeyFile(privateKeyFile);
+                sshShellInputs.setPrivateKeyData(privateKeyData);
+                sshShellInputs.setCommand(command);
+                sshShellInputs.setCharacterSet(characterSet);
+                sshShellInputs.setPty(pty);
+                sshShellInputs.setAgentForwarding(agentForwarding);
+                sshShellInputs.setTimeout(timeout);
+                sshShellInputs.setConnectTimeout(connectTimeout);
+                sshShellInputs.setSshGlobalSessionObject(globalSessionObject);
+                sshShellInputs.setCloseSession(closeSession);
+                sshShellInputs.setKnownHostsPolicy(knownHostsPolicy);
+                sshShellInputs.setKnownHostsPath(knownHostsPath);
+                sshShellInputs.setAllowedCiphers(allowedCiphers);
+                sshShellInputs.setProxyHost(proxyHost);
+                sshShellInputs.setProxyPort(proxyPort);
+                sshShellInputs.setProxyUsername(proxyUsername);
+                sshShellInputs.setProxyPassword(proxyPassword);
+                sshShellInputs.setAllowExpectCommands(allowExpectCommands);
+                sshShellInputs.setUseShell(useShell);
+                sshShellInputs.setRemoveEscapeSequences(removeEscapeSequences);
+                sshShellInputs.setMaxOutputSize(maxOutputSize);
+                hostInputs.put(hostAndPort, sshShellInputs);
+            }
+            return new ScoreSSHMultiHostCommand().execute(hostInputs,
+                    StringUtils.toInt(concurrency, Constants.DEFAULT_CONCURRENCY),
+                    StringUtils.toInt(overallTimeout, Constants.DEFAULT_OVERALL_TIMEOUT));
+        } catch (Exception ex) {
+            Map<String, String> output = new HashMap<>();
+            output.put(OutputNames.RETURN_CODE, ReturnCodes.FAILURE);
+            output.put(OutputNames.EXCEPTION, ExceptionUtils.getStackTrace(ex));
+            output.put(OutputNames.RETURN_RESULT, ex.getMessage());
+            return output;
+        }
+    }
+
+    /**
+     * @return the host and the port, null if the port is not given
+     */
+    private static String[] splitHostAndPort(String hostAndPort) {
+        if (hostAndPort.startsWith("[")) {
+            int end = hostAndPort.indexOf(']');
+            if (end > 0) {
+                String port = hostAndPort.startsWith(":", end + 1) ? hostAndPort.substring(end + 2) : null;
+                return new String[]{hostAndPort.substring(1, end), port};
+            }
+        }
+        int separator = hostAndPort.indexOf(':');
+        // an ipv6 address without brackets has more than one colon and no port
+        if (separator > 0 && separator == hostAndPort.lastIndexOf(':')) {
+            return new String[]{hostAndPort.substring(0, separator), hostAndPort.substring(separator + 1)};
+        }
+        return new String[]{hostAndPort, null};
+    }
+}
@@ -66,7 +66,9 @@ public class SSHShellCommandAction {
      * @param pty                   Whether to use a pseudo-terminal (PTY) session. Valid values: false, true. Default value: false
      * @param agentForwarding       Enables or disables the forwarding of the authentication agent connection.
      *                              Agent forwarding should be enabled with caution.
-     * @param timeout               Time in milliseconds to wait for the command to complete. Default value is 90000 (90 seconds)
+     * @param timeout               Time in milliseconds to wait for the command to complete. If useShell is true, the 'exit'
+     *                              command is sent to the shell after this time, unless the shellPrompt showed first.
+     *                              Default value is 90000 (90 seconds)
      * @param connectTimeout        Time in milliseconds to wait for the connection to be made. Default value: 10000
      * @param allowedCiphers        A comma separated list of ciphers that will be used in the client-server handshake
      *                              mechanism when the connection is created. Check the notes section for security concerns
@@ -87,9 +89,25 @@ public class SSHShellCommandAction {
      *                              and standard_err outputs.
      *                              Valid values: 'true', 'false'
      *                              Default: 'false'
+     * @param shellPrompt           A regular expression that matches the prompt of the shell, used only if useShell is true.
+     *                              If set, the command is sent once the prompt shows and the operation returns as soon as
+     *                              the prompt shows again after every line of the command, instead of waiting for the
+     *                              <timeout> or for the shell to exit.
+     *                              Example: '[$#>] $'
+     *                              Default value: ''
+     * @param maxOutputSize         The maximum number of bytes of the standard output and of the standard error kept in
+     *                              memory. When the output is longer, its beginning and its end are returned, with a line
+     *                              that counts the bytes left out between them.
+     *                              Valid values: 0 for no limit, positive integers.
+     *                              Default value: 0
+     * @param outputFile            The path of a local file the whole standard output is written to, regardless of
+     *                              <maxOutputSize>.
+     *                              Default value: ''
      * @return - a map containing the output of the operation. Keys present in the map are:
      * <br><b>returnResult</b> - The primary output.
      * <br><b>STDOUT</b> - The standard output of the command(s).
+     * <br><b>stdoutBytes</b> - The number of bytes of the standard output, including the ones not returned.
+     * <br><b>stderrBytes</b> - The number of bytes of the standard error, including the ones not returned.
      * <br><b>visualized</b> - The output of the command in XML format.
      * <br><b>returnCode</b> - the return code of the operation. 0 if the operation goes to success, -1 if the operation goes to failure.
      * <br><b>exception</b> - the exception message if the operation goes to failure.
@@ -102,7 +120,9 @@ public class SSHShellCommandAction {
                     @Output(OutputNames.EXCEPTION),
                     @Output(Constants.STDOUT),
                     @Output(Constants.STDERR),
-                    @Output(Constants.EXIT_STATUS)
+                    @Output(Constants.EXIT_STATUS),
+                    @Output(Constants.STDOUT_BYTES),
+                    @Output(Constants.STDERR_BYTES)
             },
             responses = {
                     @Response(text = ResponseNames.SUCCESS, field = OutputNames.RETURN_CODE, value = ReturnCodes.SUCCESS, matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.RESOLVED),
@@ -134,7 +154,10 @@ public class SSHShellCommandAction {
             @Param(value = Constants.PROXY_PASSWORD, encrypted = true) String proxyPassword,
             @Param(Constants.ALLOW_EXPECT_COMMANDS) String allowExpectCommands,
             @Param(Constants.USE_SHELL) String useShell,
-            @Param(Constants.InputNames.REMOVE_ESCAPE_SEQUENCES) String removeEscapeSequences) {
+            @Param(Constants.InputNames.REMOVE_ESCAPE_SEQUENCES) String removeEscapeSequences,
+            @Param(Constants.SHELL_PROMPT) String shellPrompt,
+            @Param(Constants.MAX_OUTPUT_SIZE) String maxOutputSize,
+            @Param(Constants.OUTPUT_FILE) String outputFile) {
 
         SSHShellInputs sshShellInputs = new SSHShellInputs();
         try {
@@ -163,6 +186,9 @@ public class SSHShellCommandAction {
             sshShellInputs.setAllowExpectCommands(allowExpectCommands);
             sshShellInputs.setUseShell(useShell);
             sshShellInputs.setRemoveEscapeSequences(removeEscapeSequences);
+            sshShellInputs.setShellPrompt(shellPrompt);
+            sshShellInputs.setMaxOutputSize(maxOutputSize);
+            sshShellInputs.setOutputFile(outputFile);
             return new ScoreSSHShellCommand().execute(sshShellInputs);
         } catch (Exception ex) {
             Map<String, String> output = new HashMap<>();
@@ -26,6 +26,8 @@ public class CommandResult {
     private String standardOutput;
     private String standardError;
     private int exitCode;
+    private long standardOutputBytes;
+    private long standardErrorBytes;
 
     public CommandResult() {
     }
@@ -54,6 +56,28 @@ public class CommandResult {
         this.exitCode = exitCode;
     }
 
+    /**
+     * @return the number of bytes of the standard output, including the ones that were not kept in memory
+     */
+    public long getStandardOutputBytes() {
+        return standardOutputBytes;
+    }
+
+    public void setStandardOutputBytes(long standardOutputBytes) {
+        this.standardOutputBytes = standardOutputBytes;
+    }
+
+    /**
+     * @return the number of bytes of the standard error, including the ones that were not kept in memory
+     */
+    public long getStandardErrorBytes() {
+        return standardErrorBytes;
+    }
+
+    public void setStandardErrorBytes(long standardErrorBytes) {
+        this.standardErrorBytes = standardErrorBytes;
+    }
+
     @Override
     public String toString() {
         return "CommandResult{" +
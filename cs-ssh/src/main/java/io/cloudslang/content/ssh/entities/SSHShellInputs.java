@@ -57,6 +57,9 @@ public class SSHShellInputs {
     private int connectTimeout;
     private boolean useShell;
     private boolean removeEscapeSequences;
+    private String shellPrompt;
+    private int maxOutputSize;
+    private String outputFile;
 
     public String getHost() {
         return host;
@@ -284,4 +287,28 @@ public class SSHShellInputs {
                 removeEscapeSequences, String.valueOf(Constants.DEFAULT_REMOVE_ESCAPE_SEQUENCES));
         this.removeEscapeSequences = BooleanUtils.toBoolean(removeEscapeSequences, "true", "false");
     }
+
+    public String getShellPrompt() {
+        return shellPrompt;
+    }
+
+    public void setShellPrompt(String shellPrompt) {
+        this.shellPrompt = shellPrompt;
+    }
+
+    public int getMaxOutputSize() {
+        return maxOutputSize;
+    }
+
+    public void setMaxOutputSize(String maxOutputSize) {
+        this.maxOutputSize = StringUtils.toInt(maxOutputSize, Constants.DEFAULT_MAX_OUTPUT_SIZE);
+    }
+
+    public String getOutputFile() {
+        return outputFile;
+    }
+
+    public void setOutputFile(String outputFile) {
+        this.outputFile = outputFile;
+    }
 }
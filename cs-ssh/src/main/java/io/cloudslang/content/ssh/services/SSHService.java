@@ -39,12 +39,45 @@ public interface SSHService extends AutoCloseable {
      * @param characterSet      The character set for the command and for the output of the command.
      * @param usePseudoTerminal If true the result will be formatted like in a terminal.
      * @param connectTimeout    The channel connection timeout.
-     * @param commandTimeout    The command timeout.
+     * @param commandTimeout    The time in milliseconds after which the exit command is sent to the shell.
      * @param agentForwarding   Weathers the agent forwarding is enabled or not.
      * @return the command result.
      */
     CommandResult runShell(String command, String characterSet, boolean usePseudoTerminal, int connectTimeout, int commandTimeout, boolean agentForwarding);
 
+    /**
+     * Run a Shell command(s) using SSH protocol, using a direct shell.
+     * If a shell prompt is given, the command is sent after the first prompt and the result is returned as soon as
+     * the prompt shows again after every line of the command, instead of waiting for the shell to exit.
+     *
+     * @param command           The Shell command(s).
+     * @param characterSet      The character set for the command and for the output of the command.
+     * @param usePseudoTerminal If true the result will be formatted like in a terminal.
+     * @param connectTimeout    The channel connection timeout.
+     * @param commandTimeout    The time in milliseconds after which the exit command is sent to the shell.
+     * @param agentForwarding   Weathers the agent forwarding is enabled or not.
+     * @param shellPrompt       A regular expression that matches the prompt of the shell, may be empty.
+     * @return the command result.
+     */
+    CommandResult runShell(String command, String characterSet, boolean usePseudoTerminal, int connectTimeout, int commandTimeout, boolean agentForwarding, String shellPrompt);
+
+    /**
+     * Run a Shell command(s) using SSH protocol, using a direct shell, keeping a bounded part of the output in memory.
+     *
+     * @param command           The Shell command(s).
+     * @param characterSet      The character set for the command and for the output of the command.
+     * @param usePseudoTerminal If true the result will be formatted like in a terminal.
+     * @param connectTimeout    The channel connection timeout.
+     * @param commandTimeout    The time in milliseconds after which the exit command is sent to the shell.
+     * @param agentForwarding   Weathers the agent forwarding is enabled or not.
+     * @param shellPrompt       A regular expression that matches the prompt of the shell, may be empty.
+     * @param maxOutputSize     The maximum number of bytes of the output kept in memory, 0 for no limit.
+     *                          The beginning and the end of a longer output are kept.
+     * @param outputFile        The local file the whole output is written to, may be empty.
+     * @return the command result.
+     */
+    CommandResult runShell(String command, String characterSet, boolean usePseudoTerminal, int connectTimeout, int commandTimeout, boolean agentForwarding, String shellPrompt, int maxOutputSize, String outputFile);
+
     /**
      * Run a Shell command(s) using SSH protocol.
      *
@@ -58,6 +91,22 @@ public interface SSHService extends AutoCloseable {
      */
     CommandResult runShellCommand(String command, String characterSet, boolean usePseudoTerminal, int connectTimeout, int commandTimeout, boolean agentForwarding);
 
+    /**
+     * Run a Shell command(s) using SSH protocol, keeping a bounded part of the output in memory.
+     *
+     * @param command           The Shell command(s).
+     * @param characterSet      The character set for the command and for the output of the command.
+     * @param usePseudoTerminal If true the result will be formatted like in a terminal.
+     * @param connectTimeout    The channel connection timeout.
+     * @param commandTimeout    The command timeout.
+     * @param agentForwarding   Weathers the agent forwarding is enabled or not.
+     * @param maxOutputSize     The maximum number of bytes of the standard output and of the standard error kept in
+     *                          memory, 0 for no limit. The beginning and the end of a longer output are kept.
+     * @param outputFile        The local file the whole standard output is written to, may be empty.
+     * @return the command result.
+     */
+    CommandResult runShellCommand(String command, String characterSet, boolean usePseudoTerminal, int connectTimeout, int commandTimeout, boolean agentForwarding, int maxOutputSize, String outputFile);
+
     /**
      * Checks the SSH session.
      *
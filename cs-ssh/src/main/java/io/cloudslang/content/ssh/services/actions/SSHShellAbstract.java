@@ -70,8 +70,9 @@ public abstract class SSHShellAbstract {
 
     protected SSHService getFromCache(SSHShellInputs sshShellInputs, String sessionId) {
         if (sessionId != null) {
-            synchronized (sessionId) {
-                return CacheUtils.getFromCache(sshShellInputs.getSshGlobalSessionObject().getResource(), sessionId);
+            final GlobalSessionObject<Map<String, SSHConnection>> sessionParam = sshShellInputs.getSshGlobalSessionObject();
+            synchronized (sessionParam) {
+                return CacheUtils.getFromCache(sessionParam.getResource(), sessionId);
             }
         } else {
             return null;
@@ -0,0 +1,222 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package io.cloudslang.content.ssh.services.actions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.cloudslang.content.constants.OutputNames;
+import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.ssh.entities.SSHShellInputs;
+import io.cloudslang.content.ssh.services.SSHService;
+import io.cloudslang.content.ssh.utils.Constants;
+import io.cloudslang.content.utils.StringUtilities;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the same command on several hosts, on a bounded number of threads.
+ * Every host is handled like by the SSH Command operation, so the sessions cached for a host are reused.
+ */
+public class ScoreSSHMultiHostCommand extends SSHShellAbstract {
+
+    public static final String HOSTS_ARE_NOT_SPECIFIED_MESSAGE = "Hosts are not specified.";
+    public static final String OVERALL_TIMEOUT_MESSAGE = "The overall timeout was reached before the command completed on this host.";
+    private static final String HOST = "host";
+    private static final String STDOUT = "stdout";
+    private static final String STDERR = "stderr";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * @param hostInputs     the inputs of the command for every host, in the order of the hosts
+     * @param concurrency    the maximum number of hosts the command runs on at the same time
+     * @param overallTimeout the time in milliseconds after which the hosts that did not finish are reported as failed
+     *                       and disconnected, 0 for no overall timeout
+     * @return the results of all the hosts, as a JSON array, in the return result
+     */
+    public Map<String, String> execute(Map<String, SSHShellInputs> hostInputs, int concurrency, int overallTimeout) {
+        Map<String, String> returnResult = new HashMap<>();
+        // the provider is added once, so the hosts don't add and remove it concurrently,
+        // and it is removed by the last of this thread and the hosts that still run after the overall timeout
+        final boolean providerAdded = addSecurityProvider();
+        final AtomicInteger providerUsers = new AtomicInteger(1);
+        List<HostCommand> tasks = new ArrayList<>();
+        ExecutorService executor = null;
+
+        try {
+            if (hostInputs.isEmpty()) {
+                throw new RuntimeException(HOSTS_ARE_NOT_SPECIFIED_MESSAGE);
+            }
+            if (concurrency < 1) {
+                throw new RuntimeException("The " + Constants.CONCURRENCY + " input must be greater than 0.");
+            }
+            if (overallTimeout < 0) {
+                throw new RuntimeException("The " + Constants.OVERALL_TIMEOUT + " input must be 0 or greater.");
+            }
+
+            for (final SSHShellInputs sshShellInputs : hostInputs.values()) {
+                tasks.add(new HostCommand(sshShellInputs) {
+                    @Override
+                    public Map<String, String> call() {
+                        providerUsers.incrementAndGet();
+                        try {
+                            return super.call();
+                        } finally {
+                            releaseSecurityProvider(providerAdded, providerUsers);
+                        }
+                    }
+                });
+            }
+
+            executor = Executors.newFixedThreadPool(Math.min(concurrency, tasks.size()), new ThreadFactory() {
+                private final AtomicInteger threadCount = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "ssh-multi-host-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            List<Future<Map<String, String>>> futures = overallTimeout > 0 ?
+                    executor.invokeAll(tasks, overallTimeout, TimeUnit.MILLISECONDS) :
+                    executor.invokeAll(tasks);
+
+            populateResult(returnResult, new ArrayList<>(hostInputs.keySet()), futures);
+        } catch (Exception e) {
+            populateResult(returnResult, e);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+            // interrupting the threads doesn't stop the SSH commands, so the hosts that did not finish are disconnected
+            for (HostCommand task : tasks) {
+                task.stop();
+            }
+            releaseSecurityProvider(providerAdded, providerUsers);
+        }
+        return returnResult;
+    }
+
+    private void releaseSecurityProvider(boolean providerAdded, AtomicInteger providerUsers) {
+        if (providerUsers.decrementAndGet() == 0 && providerAdded) {
+            removeSecurityProvider();
+        }
+    }
+
+    private void populateResult(Map<String, String> returnResult, List<String> hosts, List<Future<Map<String, String>>> futures)
+            throws InterruptedException {
+        ArrayNode results = OBJECT_MAPPER.createArrayNode();
+        List<String> succeededHosts = new ArrayList<>();
+        List<String> failedHosts = new ArrayList<>();
+
+        for (int i = 0; i < hosts.size(); i++) {
+            Map<String, String> hostResult;
+            try {
+                hostResult = futures.get(i).get();
+            } catch (CancellationException e) {
+                hostResult = new HashMap<>();
+                hostResult.put(OutputNames.RETURN_CODE, ReturnCodes.FAILURE);
+                hostResult.put(OutputNames.EXCEPTION, OVERALL_TIMEOUT_MESSAGE);
+            } catch (ExecutionException e) {
+                hostResult = new HashMap<>();
+                populateResult(hostResult, e.getCause());
+            }
+
+            ObjectNode result = results.addObject();
+            result.put(HOST, hosts.get(i));
+            result.put(OutputNames.RETURN_CODE, hostResult.get(OutputNames.RETURN_CODE));
+            String exitStatus = hostResult.get(Constants.EXIT_STATUS);
+            if (exitStatus != null) {
+                result.put(Constants.EXIT_STATUS, Integer.parseInt(exitStatus));
+            }
+            result.put(STDOUT, hostResult.get(Constants.STDOUT));
+            result.put(STDERR, hostResult.get(Constants.STDERR));
+            if (hostResult.containsKey(OutputNames.EXCEPTION)) {
+                result.put(OutputNames.EXCEPTION, hostResult.get(OutputNames.EXCEPTION));
+            }
+
+            if (ReturnCodes.SUCCESS.equals(hostResult.get(OutputNames.RETURN_CODE))) {
+                succeededHosts.add(hosts.get(i));
+            } else {
+                failedHosts.add(hosts.get(i));
+            }
+        }
+
+        returnResult.put(OutputNames.RETURN_RESULT, results.toString());
+        returnResult.put(Constants.SUCCEEDED_HOSTS, StringUtilities.join(succeededHosts, Constants.DEFAULT_HOST_DELIMITER));
+        returnResult.put(Constants.FAILED_HOSTS, StringUtilities.join(failedHosts, Constants.DEFAULT_HOST_DELIMITER));
+        returnResult.put(OutputNames.RETURN_CODE, failedHosts.isEmpty() ? ReturnCodes.SUCCESS : ReturnCodes.FAILURE);
+    }
+
+    /**
+     * Runs the command on a host and disconnects the host when stopped before the command finished.
+     */
+    private static class HostCommand extends ScoreSSHShellCommand implements Callable<Map<String, String>> {
+
+        private final SSHShellInputs sshShellInputs;
+        private SSHService service;
+        private boolean finished;
+
+        HostCommand(SSHShellInputs sshShellInputs) {
+            this.sshShellInputs = sshShellInputs;
+        }
+
+        @Override
+        public Map<String, String> call() {
+            try {
+                return execute(sshShellInputs);
+            } finally {
+                synchronized (this) {
+                    finished = true;
+                    service = null;
+                }
+            }
+        }
+
+        @Override
+        protected synchronized void beforeCommand(SSHService service) {
+            if (finished) {
+                throw new RuntimeException(OVERALL_TIMEOUT_MESSAGE);
+            }
+            this.service = service;
+        }
+
+        synchronized void stop() {
+            if (!finished) {
+                finished = true;
+                if (service != null) {
+                    service.close();
+                }
+            }
+        }
+    }
+}
@@ -70,6 +70,7 @@ public class ScoreSSHShellCommand extends SSHShellAbstract {
                 service = new SSHServiceImpl(connection, identityKey, knownHostsFile, sshShellInputs.getConnectTimeout(), sshShellInputs.isAllowExpectCommands(), proxyHTTP, sshShellInputs.getAllowedCiphers());
             }
 
+            beforeCommand(service);
             runSSHCommand(sshShellInputs, returnResult, service, sessionId, saveSSHSession);
         } catch (Exception e) {
             if (service != null) {
@@ -89,6 +90,14 @@ public class ScoreSSHShellCommand extends SSHShellAbstract {
         return service;
     }
 
+    /**
+     * Called with the connected service, before the command is run on it.
+     *
+     * @param service the service the command runs on
+     */
+    protected void beforeCommand(SSHService service) {
+    }
+
     private void runSSHCommand(
             SSHShellInputs sshShellInputs,
             Map<String, String> returnResult,
@@ -110,7 +119,10 @@ public class ScoreSSHShellCommand extends SSHShellAbstract {
                     usePseudoTerminal,
                     sshShellInputs.getConnectTimeout(),
                     timeoutNumber,
-                    agentForwarding);
+                    agentForwarding,
+                    sshShellInputs.getShellPrompt(),
+                    sshShellInputs.getMaxOutputSize(),
+                    sshShellInputs.getOutputFile());
         } else {
             commandResult = service.runShellCommand(
                     sshShellInputs.getCommand(),
@@ -118,7 +130,9 @@ public class ScoreSSHShellCommand extends SSHShellAbstract {
                     usePseudoTerminal,
                     sshShellInputs.getConnectTimeout(),
                     timeoutNumber,
-                    agentForwarding);
+                    agentForwarding,
+                    sshShellInputs.getMaxOutputSize(),
+                    sshShellInputs.getOutputFile());
         }
 
         handleSessionClosure(sshShellInputs, service, sessionId, saveSSHSession);
@@ -163,6 +177,8 @@ public class ScoreSSHShellCommand extends SSHShellAbstract {
             returnResult.put(OutputNames.RETURN_CODE, ReturnCodes.FAILURE);
         }
         returnResult.put(Constants.EXIT_STATUS, String.valueOf(commandResult.getExitCode()));
+        returnResult.put(Constants.STDOUT_BYTES, String.valueOf(commandResult.getStandardOutputBytes()));
+        returnResult.put(Constants.STDERR_BYTES, String.valueOf(commandResult.getStandardErrorBytes()));
     }
 
 }
@@ -24,16 +24,26 @@ import io.cloudslang.content.ssh.entities.*;
 import io.cloudslang.content.ssh.exceptions.SSHException;
 import io.cloudslang.content.ssh.exceptions.TimeoutException;
 import io.cloudslang.content.ssh.services.SSHService;
+import io.cloudslang.content.ssh.utils.BoundedOutputStream;
 import io.cloudslang.content.ssh.utils.CacheUtils;
 import io.cloudslang.content.ssh.utils.IdentityKeyUtils;
 import io.cloudslang.content.utils.StringUtilities;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.TeeInputStream;
 
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * @author ioanvranauhp
@@ -42,13 +52,22 @@ import java.util.Map;
  */
 public class SSHServiceImpl implements SSHService {
     private static final String SHELL_CHANNEL = "shell";
-    private static final int POLLING_INTERVAL = 10;
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_PROMPT_LENGTH = 1024;
     private static final String EXEC_CHANNEL = "exec";
     private static final String KNOWN_HOSTS_ALLOW = "allow";
     private static final String KNOWN_HOSTS_STRICT = "strict";
     private static final String KNOWN_HOSTS_ADD = "add";
     private static final String ALLOWED_CIPHERS = "aes128-ctr,aes128-cbc,3des-ctr,3des-cbc,blowfish-cbc,aes192-ctr,aes192-cbc,aes256-ctr,aes256-cbc";
     public static final String EXIT_COMMAND = "exit";
+    private static final ScheduledExecutorService TIMEOUT_SCHEDULER = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ssh-shell-timeout");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
     private Session session;
     private Channel execChannel;
 
@@ -151,7 +170,34 @@ public class SSHServiceImpl implements SSHService {
             int connectTimeout,
             int commandTimeout,
             boolean agentForwarding) {
+        return runShell(command, characterSet, usePseudoTerminal, connectTimeout, commandTimeout, agentForwarding, null);
+    }
+
+    @Override
+    public CommandResult runShell(
+            final String command,
+            final String characterSet,
+            boolean usePseudoTerminal,
+            int connectTimeout,
+            int commandTimeout,
+            boolean agentForwarding,
+            String shellPrompt) {
+        return runShell(command, characterSet, usePseudoTerminal, connectTimeout, commandTimeout, agentForwarding, shellPrompt, 0, null);
+    }
+
+    @Override
+    public CommandResult runShell(
+            final String command,
+            final String characterSet,
+            boolean usePseudoTerminal,
+            int connectTimeout,
+            int commandTimeout,
+            boolean agentForwarding,
+            String shellPrompt,
+            int maxOutputSize,
+            String outputFile) {
 
+        BoundedOutputStream out = null;
         try {
             if (!isConnected()) {
                 session.connect(connectTimeout);
@@ -167,26 +213,49 @@ public class SSHServiceImpl implements SSHService {
             channelShell.connect(connectTimeout);
 
             final PrintWriter printWriter = new PrintWriter(new OutputStreamWriter(shellIn, characterSet));
+            // like before, the exit command is sent once the command timeout has passed, the shell then closes the channel
+            final ScheduledFuture<?> exit = TIMEOUT_SCHEDULER.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    sendCommand(printWriter, EXIT_COMMAND);
+                }
+            }, commandTimeout, TimeUnit.MILLISECONDS);
 
-            printWriter.println(command);
-            printWriter.flush();
-
+            out = new BoundedOutputStream(maxOutputSize, openOutputFile(outputFile));
             try {
-                Thread.sleep(commandTimeout);
-            } catch (InterruptedException ignored) {
+                if (StringUtilities.isEmpty(shellPrompt)) {
+                    sendCommand(printWriter, command);
+                    IOUtils.copy(shellOut, out);
+                } else {
+                    final Pattern prompt = Pattern.compile(shellPrompt, Pattern.MULTILINE);
+                    // the prompt is searched only in the end of the output, the whole output goes to the capture
+                    final Reader shellReader = new InputStreamReader(new TeeInputStream(shellOut, out), characterSet);
+                    final StringBuilder output = new StringBuilder();
+
+                    final int firstPromptEnd = readUntilPrompt(shellReader, output, prompt, 0, 1);
+                    if (firstPromptEnd >= 0) {
+                        sendCommand(printWriter, command);
+                        // every line of the command is followed by a prompt, the exit command is not waited for
+                        if (readUntilPrompt(shellReader, output, prompt, firstPromptEnd, command.split("\\r?\\n", -1).length) >= 0 &&
+                                exit.cancel(false)) {
+                            sendCommand(printWriter, EXIT_COMMAND);
+                        }
+                    }
+                    channelShell.disconnect();
+                }
+            } finally {
+                exit.cancel(false);
             }
 
-            printWriter.println(EXIT_COMMAND);
-            printWriter.flush();
-
-            final String result = IOUtils.toString(shellOut, characterSet);
-
             final CommandResult commandResult = new CommandResult();
-            commandResult.setStandardOutput(result);
+            commandResult.setStandardOutput(out.toString(characterSet));
+            commandResult.setStandardOutputBytes(out.getCount());
 
             return commandResult;
         } catch (JSchException | IOException e) {
             throw new RuntimeException(e);
+        } finally {
+            IOUtils.closeQuietly(out);
         }
     }
 
@@ -198,6 +267,20 @@ public class SSHServiceImpl implements SSHService {
             int connectTimeout,
             int commandTimeout,
             boolean agentForwarding) {
+        return runShellCommand(command, characterSet, usePseudoTerminal, connectTimeout, commandTimeout, agentForwarding, 0, null);
+    }
+
+    @Override
+    public CommandResult runShellCommand(
+            String command,
+            String characterSet,
+            boolean usePseudoTerminal,
+            int connectTimeout,
+            int commandTimeout,
+            boolean agentForwarding,
+            int maxOutputSize,
+            String outputFile) {
+        BoundedOutputStream out = null;
         try {
             if (!isConnected()) {
                 session.connect(connectTimeout);
@@ -207,33 +290,42 @@ public class SSHServiceImpl implements SSHService {
             channel.setCommand(command.getBytes(characterSet));
             channel.setPty(usePseudoTerminal);
             channel.setAgentForwarding(agentForwarding);
-            OutputStream out = new ByteArrayOutputStream();
+            out = new BoundedOutputStream(maxOutputSize, openOutputFile(outputFile));
             channel.setOutputStream(out);
-            OutputStream err = new ByteArrayOutputStream();
+            // the error stream is closed when the channel is closed, after the exit status was received
+            final CountDownLatch channelClosed = new CountDownLatch(1);
+            BoundedOutputStream err = new BoundedOutputStream(maxOutputSize) {
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    channelClosed.countDown();
+                }
+            };
             channel.setErrStream(err);
 
             // connect to the channel and run the command(s)
             channel.connect(connectTimeout);
 
             // wait for response
-            long currentTime = System.currentTimeMillis();
-            long timeLimit = currentTime + commandTimeout;
-            while (!channel.isClosed() && currentTime < timeLimit) {
+            if (!channel.isClosed()) {
                 try {
-                    Thread.sleep(POLLING_INTERVAL);
-                } catch (InterruptedException ignore) {
+                    channelClosed.await(commandTimeout, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
                 }
-                currentTime = System.currentTimeMillis();
             }
             boolean timedOut = !channel.isClosed();
 
             // save the response
             CommandResult result = new CommandResult();
-            result.setStandardOutput(((ByteArrayOutputStream) out).toString(characterSet));
+            result.setStandardOutput(out.toString(characterSet));
+            result.setStandardOutputBytes(out.getCount());
             if (usePseudoTerminal && channel.getExitStatus() != 0) {
-                result.setStandardError(((ByteArrayOutputStream) out).toString(characterSet));
+                result.setStandardError(out.toString(characterSet));
+                result.setStandardErrorBytes(out.getCount());
             } else {
-                result.setStandardError(((ByteArrayOutputStream) err).toString(characterSet));
+                result.setStandardError(err.toString(characterSet));
+                result.setStandardErrorBytes(err.getCount());
             }
 
             channel.disconnect();
@@ -245,8 +337,60 @@ public class SSHServiceImpl implements SSHService {
             }
 
             return result;
-        } catch (JSchException | UnsupportedEncodingException | TimeoutException e) {
+        } catch (JSchException | IOException | TimeoutException e) {
             throw new RuntimeException(e);
+        } finally {
+            IOUtils.closeQuietly(out);
+        }
+    }
+
+    private static void sendCommand(PrintWriter printWriter, String command) {
+        synchronized (printWriter) {
+            printWriter.println(command);
+            printWriter.flush();
+        }
+    }
+
+    private static OutputStream openOutputFile(String outputFile) throws IOException {
+        if (StringUtilities.isEmpty(outputFile)) {
+            return null;
+        }
+        return new BufferedOutputStream(new FileOutputStream(outputFile));
+    }
+
+    /**
+     * Reads the output of the shell until the prompt was found the given number of times after searchFrom.
+     *
+     * @return the end of the last prompt found or -1 if the output ended before that
+     */
+    private static int readUntilPrompt(Reader shellReader, StringBuilder output, Pattern prompt, int searchFrom, int promptCount) throws IOException {
+        final char[] buffer = new char[BUFFER_SIZE];
+        int promptsFound = 0;
+        while (true) {
+            final Matcher matcher = prompt.matcher(output);
+            matcher.useTransparentBounds(true);
+            matcher.useAnchoringBounds(false);
+            matcher.region(searchFrom, output.length());
+            while (matcher.find()) {
+                if (matcher.end() > matcher.start()) {
+                    searchFrom = matcher.end();
+                    if (++promptsFound == promptCount) {
+                        return searchFrom;
+                    }
+                }
+            }
+            // the output before the last prompt found is not searched again, only the character before it is kept
+            if (searchFrom > BUFFER_SIZE) {
+                output.delete(0, searchFrom - 1);
+                searchFrom = 1;
+            }
+            final int read = shellReader.read(buffer);
+            if (read < 0) {
+                return -1;
+            }
+            // a prompt can be split between two reads, only its possible beginning is searched again
+            searchFrom = Math.max(searchFrom, output.length() - MAX_PROMPT_LENGTH);
+            output.append(buffer, 0, read);
         }
     }
 
@@ -270,8 +414,10 @@ public class SSHServiceImpl implements SSHService {
             execChannel.disconnect();
             execChannel = null;
         }
-        session.disconnect();
-        session = null;
+        if (session != null) {
+            session.disconnect();
+            session = null;
+        }
     }
 
     @Override
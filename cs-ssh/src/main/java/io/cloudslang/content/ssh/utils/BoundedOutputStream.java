@@ -0,0 +1,202 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package io.cloudslang.content.ssh.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+
+/**
+ * Captures the output of a command in a bounded amount of memory.
+ * The first half of the allowed size keeps the beginning of the output and the second half keeps its end,
+ * the bytes in between are only counted. All the bytes can also be copied to another stream, usually a file.
+ * The beginning and the end are cut on character boundaries when the output is decoded.
+ */
+public class BoundedOutputStream extends OutputStream {
+    private static final String TRUNCATED_MESSAGE = "%n... %d bytes truncated ...%n";
+    // no supported character set encodes a character in more than 4 bytes
+    private static final int MAX_CHARACTER_BYTES = 4;
+
+    private final int headSize;
+    private final int tailSize;
+    private final OutputStream copy;
+    private final ByteArrayOutputStream head = new ByteArrayOutputStream();
+    // the tail is a ring buffer, allocated only when the head is full
+    private byte[] tail;
+    private int tailStart;
+    private int tailLength;
+    private long count;
+
+    /**
+     * @param maxSize the maximum number of bytes kept in memory, 0 or less to keep all of them
+     */
+    public BoundedOutputStream(int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * @param maxSize the maximum number of bytes kept in memory, 0 or less to keep all of them
+     * @param copy    the stream to write all the bytes to, may be null
+     */
+    public BoundedOutputStream(int maxSize, OutputStream copy) {
+        this.headSize = maxSize > 0 ? maxSize - maxSize / 2 : Integer.MAX_VALUE;
+        this.tailSize = maxSize > 0 ? maxSize / 2 : 0;
+        this.copy = copy;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+        if (copy != null) {
+            copy.write(bytes, offset, length);
+        }
+        count += length;
+        final int headLength = Math.min(length, headSize - head.size());
+        head.write(bytes, offset, headLength);
+        offset += headLength;
+        length -= headLength;
+        if (length > 0 && tailSize > 0) {
+            writeTail(bytes, offset, length);
+        }
+    }
+
+    private void writeTail(byte[] bytes, int offset, int length) {
+        if (tail == null) {
+            tail = new byte[tailSize];
+        }
+        if (length >= tailSize) {
+            System.arraycopy(bytes, offset + length - tailSize, tail, 0, tailSize);
+            tailStart = 0;
+            tailLength = tailSize;
+            return;
+        }
+        int position = (tailStart + tailLength) % tailSize;
+        final int firstLength = Math.min(length, tailSize - position);
+        System.arraycopy(bytes, offset, tail, position, firstLength);
+        System.arraycopy(bytes, offset + firstLength, tail, 0, length - firstLength);
+        final int overwritten = Math.max(0, tailLength + length - tailSize);
+        tailStart = (tailStart + overwritten) % tailSize;
+        tailLength = Math.min(tailSize, tailLength + length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (copy != null) {
+            copy.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (copy != null) {
+            copy.close();
+        }
+    }
+
+    /**
+     * @return the number of bytes written to the stream, including the ones that were not kept
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * @return true if some of the bytes written to the stream were not kept
+     */
+    public synchronized boolean isTruncated() {
+        return count > head.size() + tailLength;
+    }
+
+    /**
+     * @param charsetName the character set of the output
+     * @return the bytes kept, with a line counting the dropped bytes between the beginning and the end of the output
+     */
+    public synchronized String toString(String charsetName) throws UnsupportedEncodingException {
+        final Charset charset = getCharset(charsetName);
+        final byte[] headBytes = head.toByteArray();
+        final byte[] tailBytes = getTailBytes();
+        if (!isTruncated()) {
+            final byte[] allBytes = new byte[headBytes.length + tailBytes.length];
+            System.arraycopy(headBytes, 0, allBytes, 0, headBytes.length);
+            System.arraycopy(tailBytes, 0, allBytes, headBytes.length, tailBytes.length);
+            return new String(allBytes, charset);
+        }
+        // the bytes of a character split by the truncation are counted as truncated
+        final CharsetDecoder headDecoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final ByteBuffer headBuffer = ByteBuffer.wrap(headBytes);
+        final CharBuffer headChars = CharBuffer.allocate((int) Math.ceil(headBytes.length * headDecoder.maxCharsPerByte()) + 1);
+        // without the end of input the decoder leaves the bytes of an incomplete last character in the buffer
+        headDecoder.decode(headBuffer, headChars, false);
+        headChars.flip();
+        final int tailStartOffset = getFirstCharacterOffset(tailBytes, charset);
+        final long truncated = count - headBuffer.position() - (tailBytes.length - tailStartOffset);
+
+        return headChars.toString() + String.format(TRUNCATED_MESSAGE, truncated) +
+                new String(tailBytes, tailStartOffset, tailBytes.length - tailStartOffset, charset);
+    }
+
+    private byte[] getTailBytes() {
+        final byte[] tailBytes = new byte[tailLength];
+        if (tailLength > 0) {
+            final int firstLength = Math.min(tailLength, tailSize - tailStart);
+            System.arraycopy(tail, tailStart, tailBytes, 0, firstLength);
+            System.arraycopy(tail, 0, tailBytes, firstLength, tailLength - firstLength);
+        }
+        return tailBytes;
+    }
+
+    /**
+     * @return the number of bytes at the beginning that belong to a character whose first bytes were dropped
+     */
+    private static int getFirstCharacterOffset(byte[] bytes, Charset charset) {
+        for (int offset = 0; offset < MAX_CHARACTER_BYTES && offset <= bytes.length; offset++) {
+            final CharsetDecoder decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT);
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, bytes.length - offset);
+            // decoding stops at the first error or once a few characters were decoded
+            if (!decoder.decode(buffer, CharBuffer.allocate(2), true).isError() || buffer.position() > offset) {
+                return offset;
+            }
+        }
+        return 0;
+    }
+
+    private static Charset getCharset(String charsetName) throws UnsupportedEncodingException {
+        try {
+            return Charset.forName(charsetName);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            throw new UnsupportedEncodingException(charsetName);
+        }
+    }
+}
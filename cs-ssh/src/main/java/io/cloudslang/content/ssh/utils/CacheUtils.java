@@ -85,12 +85,15 @@ public class CacheUtils {
             sshConnection = new SSHConnection(session);
         }
         if (sessionParam != null) {
-            Map<String, SSHConnection> tempMap = sessionParam.get();
-            if (tempMap == null) {
-                tempMap = new HashMap<>();
+            // the sessions of several hosts can be saved at the same time by the multi host command
+            synchronized (sessionParam) {
+                Map<String, SSHConnection> tempMap = sessionParam.get();
+                if (tempMap == null) {
+                    tempMap = new HashMap<>();
+                }
+                tempMap.put(sessionId, sshConnection);
+                sessionParam.setResource(new SSHSessionResource(tempMap));
             }
-            tempMap.put(sessionId, sshConnection);
-            sessionParam.setResource(new SSHSessionResource(tempMap));
             return true;
         }
         return false;
@@ -105,11 +108,13 @@ public class CacheUtils {
      */
     public static void removeSshSession(GlobalSessionObject<Map<String, SSHConnection>> sessionParam, String sessionId) {
         if (sessionParam != null) {
-            SessionResource<Map<String, SSHConnection>> resource = sessionParam.getResource();
-            if (resource != null) {
-                Map<String, SSHConnection> tempMap = resource.get();
-                if (tempMap != null) {
-                    tempMap.remove(sessionId);
+            synchronized (sessionParam) {
+                SessionResource<Map<String, SSHConnection>> resource = sessionParam.getResource();
+                if (resource != null) {
+                    Map<String, SSHConnection> tempMap = resource.get();
+                    if (tempMap != null) {
+                        tempMap.remove(sessionId);
+                    }
                 }
             }
         }
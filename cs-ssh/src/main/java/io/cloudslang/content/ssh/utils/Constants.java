@@ -45,10 +45,21 @@ public class Constants {
     public static final String PROXY_PASSWORD = "proxyPassword";
     public static final String CONNECT_TIMEOUT = "connectTimeout";
     public static final String USE_SHELL = "useShell";
+    public static final String SHELL_PROMPT = "shellPrompt";
+    public static final String MAX_OUTPUT_SIZE = "maxOutputSize";
+    public static final String OUTPUT_FILE = "outputFile";
+    public static final String HOSTS = "hosts";
+    public static final String HOST_DELIMITER = "hostDelimiter";
+    public static final String CONCURRENCY = "concurrency";
+    public static final String OVERALL_TIMEOUT = "overallTimeout";
     // outputs
     public static final String STDOUT = "STDOUT";
     public static final String STDERR = "STDERR";
     public static final String EXIT_STATUS = "exitStatus";
+    public static final String STDOUT_BYTES = "stdoutBytes";
+    public static final String STDERR_BYTES = "stderrBytes";
+    public static final String SUCCEEDED_HOSTS = "succeededHosts";
+    public static final String FAILED_HOSTS = "failedHosts";
     // default values
     public static final int DEFAULT_PORT = 22;
     public static final int DEFAULT_PROXY_PORT = 8080;
@@ -64,6 +75,10 @@ public class Constants {
     public static final String DEFAULT_KNOWN_HOSTS_POLICY = "allow";
     public static final Path DEFAULT_KNOWN_HOSTS_PATH = Paths.get(System.getProperty("user.home"), ".ssh", "known_hosts");
     public static final boolean DEFAULT_REMOVE_ESCAPE_SEQUENCES = false;
+    public static final int DEFAULT_MAX_OUTPUT_SIZE = 0; //no limit
+    public static final String DEFAULT_HOST_DELIMITER = ",";
+    public static final int DEFAULT_CONCURRENCY = 10;
+    public static final int DEFAULT_OVERALL_TIMEOUT = 0; //no overall timeout
 
     // errors
     public static final String ARGS_IS_DEPRECATED = "This input is deprecated, use the command input to provide arguments.";
@@ -0,0 +1,258 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package io.cloudslang.content.ssh.actions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import io.cloudslang.content.constants.OutputNames;
+import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.ssh.entities.SSHConnection;
+import io.cloudslang.content.ssh.services.actions.ScoreSSHMultiHostCommand;
+import io.cloudslang.content.ssh.utils.Constants;
+import org.apache.sshd.server.Command;
+import org.apache.sshd.server.CommandFactory;
+import org.apache.sshd.server.Environment;
+import org.apache.sshd.server.ExitCallback;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.auth.password.PasswordAuthenticator;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+import org.apache.sshd.server.session.ServerSession;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.security.Provider;
+import java.security.Security;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SSHMultiHostCommandActionTest {
+
+    private static final String USERNAME = "user";
+    private static final String PASSWORD = "password";
+    private static SshServer sshServer;
+
+    @BeforeClass
+    public static void startServer() throws IOException {
+        sshServer = SshServer.setUpDefaultServer();
+        sshServer.setHost("127.0.0.1");
+        sshServer.setPort(0);
+        sshServer.setKeyPairProvider(new SimpleGeneratorHostKeyProvider());
+        sshServer.setPasswordAuthenticator(new PasswordAuthenticator() {
+            @Override
+            public boolean authenticate(String username, String password, ServerSession session) {
+                return USERNAME.equals(username) && PASSWORD.equals(password);
+            }
+        });
+        sshServer.setCommandFactory(new CommandFactory() {
+            @Override
+            public Command createCommand(String command) {
+                return new TestCommand(command);
+            }
+        });
+        sshServer.start();
+    }
+
+    @AfterClass
+    public static void stopServer() throws IOException {
+        sshServer.stop(true);
+    }
+
+    @Test
+    public void testCommandRunsOnAllHosts() throws IOException {
+        int port = sshServer.getPort();
+        String hosts = "127.0.0.1:" + port + ", localhost:" + port + ",127.0.0.1:" + port;
+
+        Map<String, String> result = runCommand(hosts, "echo hello", "true", "2", null);
+
+        assertEquals(ReturnCodes.SUCCESS, result.get(OutputNames.RETURN_CODE));
+        assertEquals("127.0.0.1:" + port + ",localhost:" + port, result.get(Constants.SUCCEEDED_HOSTS));
+        assertEquals("", result.get(Constants.FAILED_HOSTS));
+        JsonNode hostResults = new ObjectMapper().readTree(result.get(OutputNames.RETURN_RESULT));
+        assertEquals(2, hostResults.size());
+        assertEquals("127.0.0.1:" + port, hostResults.get(0).get("host").asText());
+        assertEquals("localhost:" + port, hostResults.get(1).get("host").asText());
+        for (JsonNode hostResult : hostResults) {
+            assertEquals(ReturnCodes.SUCCESS, hostResult.get(OutputNames.RETURN_CODE).asText());
+            assertEquals(0, hostResult.get(Constants.EXIT_STATUS).asInt());
+            assertEquals("echo hello\n", hostResult.get("stdout").asText());
+        }
+    }
+
+    @Test
+    public void testFailedHostsAreReported() throws IOException {
+        int port = sshServer.getPort();
+        String hosts = "127.0.0.1:" + port + ",127.0.0.1:1";
+
+        Map<String, String> result = runCommand(hosts, "exit 3", "true", null, null);
+
+        assertEquals(ReturnCodes.FAILURE, result.get(OutputNames.RETURN_CODE));
+        assertEquals("127.0.0.1:" + port, result.get(Constants.SUCCEEDED_HOSTS));
+        assertEquals("127.0.0.1:1", result.get(Constants.FAILED_HOSTS));
+        JsonNode hostResults = new ObjectMapper().readTree(result.get(OutputNames.RETURN_RESULT));
+        assertEquals(3, hostResults.get(0).get(Constants.EXIT_STATUS).asInt());
+        assertEquals("error\n", hostResults.get(0).get("stderr").asText());
+        assertEquals(ReturnCodes.FAILURE, hostResults.get(1).get(OutputNames.RETURN_CODE).asText());
+        assertTrue(hostResults.get(1).has(OutputNames.EXCEPTION));
+    }
+
+    @Test
+    public void testOverallTimeout() throws IOException {
+        int port = sshServer.getPort();
+        String hosts = "127.0.0.1:" + port + ",localhost:" + port;
+
+        long start = System.currentTimeMillis();
+        Map<String, String> result = runCommand(hosts, "sleep 10000", "true", null, "500");
+
+        assertTrue(System.currentTimeMillis() - start < 5000);
+        assertEquals(ReturnCodes.FAILURE, result.get(OutputNames.RETURN_CODE));
+        JsonNode hostResults = new ObjectMapper().readTree(result.get(OutputNames.RETURN_RESULT));
+        for (JsonNode hostResult : hostResults) {
+            assertEquals(ScoreSSHMultiHostCommand.OVERALL_TIMEOUT_MESSAGE, hostResult.get(OutputNames.EXCEPTION).asText());
+        }
+    }
+
+    @Test
+    public void testSecurityProviderIsRemovedAfterTheHostsFinish() throws Exception {
+        // the SSH server registers the provider, the operation adds it only when it is missing
+        Provider registeredProvider = Security.getProvider(BouncyCastleProvider.PROVIDER_NAME);
+        int registeredPosition = Arrays.asList(Security.getProviders()).indexOf(registeredProvider) + 1;
+        Security.removeProvider(BouncyCastleProvider.PROVIDER_NAME);
+
+        // the server accepts the connection but never answers, so the host connects until the connect timeout
+        try (ServerSocket silentServer = new ServerSocket(0, 1, InetAddress.getByName("127.0.0.1"))) {
+            Map<String, String> result = new SSHMultiHostCommandAction().runSshMultiHostCommand(
+                    "127.0.0.1:" + silentServer.getLocalPort(), null, null, USERNAME, PASSWORD, null, null, null, null,
+                    null, "echo hello", null, null, null, null, "2000", new GlobalSessionObject<Map<String, SSHConnection>>(),
+                    "true", null, null, null, null, null, null, null, null, null, "300");
+
+            assertEquals(ReturnCodes.FAILURE, result.get(OutputNames.RETURN_CODE));
+            assertNotNull(Security.getProvider(BouncyCastleProvider.PROVIDER_NAME));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (Security.getProvider(BouncyCastleProvider.PROVIDER_NAME) != null && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertNull(Security.getProvider(BouncyCastleProvider.PROVIDER_NAME));
+        } finally {
+            if (registeredProvider != null) {
+                Security.removeProvider(BouncyCastleProvider.PROVIDER_NAME);
+                Security.insertProviderAt(registeredProvider, registeredPosition);
+            }
+        }
+    }
+
+    @Test
+    public void testSessionsOfAllHostsAreCached() throws IOException {
+        int port = sshServer.getPort();
+        String hosts = "127.0.0.1:" + port + ",localhost:" + port;
+        GlobalSessionObject<Map<String, SSHConnection>> sessionObject = new GlobalSessionObject<>();
+
+        Map<String, String> result = new SSHMultiHostCommandAction().runSshMultiHostCommand(hosts, null, null, USERNAME,
+                PASSWORD, null, null, null, null, null, "echo cached", null, null, null, null, null, sessionObject,
+                "false", null, null, null, null, null, null, null, null, null, null);
+
+        assertEquals(ReturnCodes.SUCCESS, result.get(OutputNames.RETURN_CODE));
+        assertEquals(2, sessionObject.get().size());
+        for (SSHConnection connection : sessionObject.get().values()) {
+            connection.getSession().disconnect();
+        }
+    }
+
+    private Map<String, String> runCommand(String hosts, String command, String closeSession, String concurrency, String overallTimeout) {
+        return new SSHMultiHostCommandAction().runSshMultiHostCommand(hosts, null, null, USERNAME, PASSWORD, null,
+                null, null, null, null, command, null, null, null, null, null, new GlobalSessionObject<Map<String, SSHConnection>>(),
+                closeSession, null, null, null, null, null, null, null, null, concurrency, overallTimeout);
+    }
+
+    /**
+     * Prints the command, "exit N" exits with N and "sleep N" sleeps N milliseconds.
+     */
+    private static class TestCommand implements Command, Runnable {
+        private final String command;
+        private OutputStream out;
+        private OutputStream err;
+        private ExitCallback exitCallback;
+        private Thread thread;
+
+        TestCommand(String command) {
+            this.command = command;
+        }
+
+        @Override
+        public void setInputStream(InputStream in) {
+        }
+
+        @Override
+        public void setOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void setErrorStream(OutputStream err) {
+            this.err = err;
+        }
+
+        @Override
+        public void setExitCallback(ExitCallback exitCallback) {
+            this.exitCallback = exitCallback;
+        }
+
+        @Override
+        public void start(Environment env) {
+            thread = new Thread(this);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            int exitCode = 0;
+            try {
+                out.write((command + "\n").getBytes("UTF-8"));
+                out.flush();
+                if (command.startsWith("exit ")) {
+                    exitCode = Integer.parseInt(command.substring(5));
+                    err.write("error\n".getBytes("UTF-8"));
+                    err.flush();
+                } else if (command.startsWith("sleep ")) {
+                    Thread.sleep(Long.parseLong(command.substring(6)));
+                }
+            } catch (IOException | InterruptedException e) {
+                exitCode = 255;
+            }
+            exitCallback.onExit(exitCode);
+        }
+
+        @Override
+        public void destroy() {
+            thread.interrupt();
+        }
+    }
+}
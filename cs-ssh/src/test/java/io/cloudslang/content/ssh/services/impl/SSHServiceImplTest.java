@@ -34,17 +34,26 @@ import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
@@ -165,6 +174,128 @@ public class SSHServiceImplTest {
         return new SSHServiceImpl(sessionMock, channelExecMock);
     }
 
+    @Test(timeout = 10000)
+    public void testRunShellCommandReturnsWhenTheChannelIsClosed() throws Exception {
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        final AtomicReference<OutputStream> errStream = new AtomicReference<>();
+        when(channelExecMock.isClosed()).thenAnswer(new Answer<Boolean>() {
+            @Override
+            public Boolean answer(InvocationOnMock invocation) {
+                return closed.get();
+            }
+        });
+        Mockito.doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                errStream.set((OutputStream) invocation.getArguments()[0]);
+                return null;
+            }
+        }).when(channelExecMock).setErrStream(Mockito.any(OutputStream.class));
+        // the channel closes its streams after the exit status was received
+        Mockito.doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            Thread.sleep(100);
+                            closed.set(true);
+                            errStream.get().close();
+                        } catch (InterruptedException | IOException ignored) {
+                        }
+                    }
+                }).start();
+                return null;
+            }
+        }).when(channelExecMock).connect(CONNECT_TIMEOUT);
+        SSHService sshService = new SSHServiceImpl(sessionMock, channelExecMock);
+
+        long start = System.currentTimeMillis();
+        CommandResult commandResult = sshService.runShellCommand("ls", "UTF-8", false, CONNECT_TIMEOUT, 60000, AGENT_FORWARDING_FALSE);
+
+        assertTrue(System.currentTimeMillis() - start < 5000);
+        assertEquals(0, commandResult.getExitCode());
+        assertEquals("", commandResult.getStandardOutput());
+    }
+
+    @Test(timeout = 10000)
+    public void testRunShellSendsExitAfterTheCommandTimeout() throws Exception {
+        final PipedOutputStream shellOutput = new PipedOutputStream();
+        final PipedInputStream shellInput = new PipedInputStream(shellOutput);
+        final long start = System.currentTimeMillis();
+        final AtomicLong exitSent = new AtomicLong();
+        // the shell answers the command and closes the channel on exit
+        OutputStream shellCommands = new ByteArrayOutputStream() {
+            @Override
+            public void flush() throws IOException {
+                if (toString("UTF-8").equals("ls" + System.lineSeparator())) {
+                    shellOutput.write("file1\r\n".getBytes("UTF-8"));
+                } else if (toString("UTF-8").equals(SSHServiceImpl.EXIT_COMMAND + System.lineSeparator())) {
+                    exitSent.set(System.currentTimeMillis());
+                    shellOutput.close();
+                }
+                reset();
+            }
+        };
+        when(channelShellMock.getInputStream()).thenReturn(shellInput);
+        when(channelShellMock.getOutputStream()).thenReturn(shellCommands);
+        SSHService sshService = new SSHServiceImpl(sessionMock, channelExecMock);
+
+        CommandResult commandResult = sshService.runShell("ls", "UTF-8", true, CONNECT_TIMEOUT, 300, AGENT_FORWARDING_FALSE, "");
+
+        assertEquals("file1\r\n", commandResult.getStandardOutput());
+        assertTrue(exitSent.get() - start >= 300);
+    }
+
+    @Test(timeout = 10000)
+    public void testRunShellWithPrompt() throws Exception {
+        final PipedOutputStream shellOutput = new PipedOutputStream();
+        final PipedInputStream shellInput = new PipedInputStream(shellOutput);
+        shellOutput.write("Last login: today\r\nuser@host:~$ ".getBytes("UTF-8"));
+        // the shell answers the command, the stream stays open like for a real shell
+        OutputStream shellCommands = new ByteArrayOutputStream() {
+            @Override
+            public void flush() throws IOException {
+                if (toString("UTF-8").equals("ls" + System.lineSeparator())) {
+                    shellOutput.write("ls\r\nfile1\r\nuser@host:~$ ".getBytes("UTF-8"));
+                }
+                reset();
+            }
+        };
+        when(channelShellMock.getInputStream()).thenReturn(shellInput);
+        when(channelShellMock.getOutputStream()).thenReturn(shellCommands);
+        SSHService sshService = new SSHServiceImpl(sessionMock, channelExecMock);
+
+        CommandResult commandResult = sshService.runShell("ls", "UTF-8", true, CONNECT_TIMEOUT, 60000, AGENT_FORWARDING_FALSE, "[$#>] $");
+
+        assertEquals("Last login: today\r\nuser@host:~$ ls\r\nfile1\r\nuser@host:~$ ", commandResult.getStandardOutput());
+        verify(channelShellMock).disconnect();
+    }
+
+    @Test
+    public void testRunShellCommandBoundedOutput() throws Exception {
+        final byte[] output = new byte[1 << 20];
+        Mockito.doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws IOException {
+                OutputStream out = (OutputStream) invocation.getArguments()[0];
+                for (int i = 0; i < 100; i++) {
+                    out.write(output);
+                }
+                return null;
+            }
+        }).when(channelExecMock).setOutputStream(Mockito.any(OutputStream.class));
+        SSHService sshService = new SSHServiceImpl(sessionMock, channelExecMock);
+
+        CommandResult commandResult = sshService.runShellCommand("cat big.log", "UTF-8", false, CONNECT_TIMEOUT, COMMAND_TIMEOUT, AGENT_FORWARDING_FALSE, 1000, null);
+
+        assertEquals(100L << 20, commandResult.getStandardOutputBytes());
+        assertTrue(commandResult.getStandardOutput().length() < 1100);
+        assertTrue(commandResult.getStandardOutput().contains((100L << 20) - 1000 + " bytes truncated"));
+        assertEquals(0, commandResult.getStandardErrorBytes());
+    }
+
     @Test
     public void testRunShellCommand2() throws Exception {
         SSHService sshService = prepareRunShellCommandTest();
@@ -0,0 +1,118 @@
+/*
+ * (c) Copyright 2021 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+
+package io.cloudslang.content.ssh.utils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BoundedOutputStreamTest {
+
+    @Test
+    public void testOutputUnderTheLimit() throws IOException {
+        BoundedOutputStream out = new BoundedOutputStream(10);
+        out.write("12345".getBytes("UTF-8"));
+        out.write('6');
+
+        assertEquals("123456", out.toString("UTF-8"));
+        assertEquals(6, out.getCount());
+        assertFalse(out.isTruncated());
+    }
+
+    @Test
+    public void testOutputOverTheLimitKeepsTheBeginningAndTheEnd() throws IOException {
+        BoundedOutputStream out = new BoundedOutputStream(10);
+        for (int i = 0; i < 100; i++) {
+            out.write(String.valueOf(i % 10).getBytes("UTF-8"));
+        }
+
+        assertEquals(String.format("01234%n... 90 bytes truncated ...%n56789"), out.toString("UTF-8"));
+        assertEquals(100, out.getCount());
+        assertTrue(out.isTruncated());
+    }
+
+    @Test
+    public void testLargeWritesOverTheLimit() throws IOException {
+        BoundedOutputStream out = new BoundedOutputStream(6);
+        out.write("abcd".getBytes("UTF-8"));
+        out.write("efghijklmnop".getBytes("UTF-8"));
+        out.write("qr".getBytes("UTF-8"));
+
+        assertEquals(String.format("abc%n... 12 bytes truncated ...%npqr"), out.toString("UTF-8"));
+        assertEquals(18, out.getCount());
+    }
+
+    @Test
+    public void testNoLimitAndCopy() throws IOException {
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        BoundedOutputStream out = new BoundedOutputStream(0, copy);
+        byte[] bytes = new byte[1 << 20];
+        out.write(bytes);
+        out.write(bytes);
+
+        assertEquals(2 << 20, out.toString("UTF-8").length());
+        assertEquals(2 << 20, copy.size());
+        assertFalse(out.isTruncated());
+    }
+
+    @Test
+    public void testCopyGetsAllTheBytes() throws IOException {
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        BoundedOutputStream out = new BoundedOutputStream(4, copy);
+        out.write("line1\nline2\nline3\n".getBytes("UTF-8"));
+        out.close();
+
+        assertEquals("line1\nline2\nline3\n", copy.toString("UTF-8"));
+        assertEquals(String.format("li%n... 14 bytes truncated ...%n3\n"), out.toString("UTF-8"));
+    }
+
+    @Test
+    public void testTruncationKeepsWholeCharacters() throws IOException {
+        BoundedOutputStream out = new BoundedOutputStream(6);
+        out.write("\u00e9\u00e9\u00e9\u00e9\u00e9".getBytes("UTF-8"));
+
+        assertEquals(String.format("\u00e9%n... 6 bytes truncated ...%n\u00e9"), out.toString("UTF-8"));
+        assertEquals(10, out.getCount());
+    }
+
+    @Test
+    public void testTruncationDropsSplitFourByteCharacters() throws IOException {
+        BoundedOutputStream out = new BoundedOutputStream(10);
+        out.write("\ud83d\ude00\ud83d\ude00\ud83d\ude00".getBytes("UTF-8"));
+        assertEquals(String.format("\ud83d\ude00%n... 4 bytes truncated ...%n\ud83d\ude00"), out.toString("UTF-8"));
+
+        out = new BoundedOutputStream(6);
+        out.write("\ud83d\ude00\ud83d\ude00\ud83d\ude00".getBytes("UTF-8"));
+        assertEquals(String.format("%n... 12 bytes truncated ...%n"), out.toString("UTF-8"));
+    }
+
+    @Test
+    public void testCharacterSplitBetweenHeadAndTailWithoutTruncation() throws IOException {
+        BoundedOutputStream out = new BoundedOutputStream(6);
+        out.write("ab\u00e9cd".getBytes("UTF-8"));
+
+        assertEquals("ab\u00e9cd", out.toString("UTF-8"));
+        assertFalse(out.isTruncated());
+    }
+}
@@ -25,6 +25,10 @@ import io.cloudslang.content.xml.entities.inputs.ConvertXmlToJsonInputs;
 import io.cloudslang.content.xml.services.ConvertXmlToJsonService;
 import io.cloudslang.content.xml.utils.ValidateUtils;
 
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Map;
 
 import static io.cloudslang.content.constants.BooleanValues.TRUE;
@@ -37,6 +41,7 @@ import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
 import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
 import static io.cloudslang.content.xml.utils.Constants.Inputs.INCLUDE_ATTRIBUTES;
 import static io.cloudslang.content.xml.utils.Constants.Inputs.INCLUDE_ROOT;
+import static io.cloudslang.content.xml.utils.Constants.Inputs.OUTPUT_FILE;
 import static io.cloudslang.content.xml.utils.Constants.Inputs.PARSING_FEATURES;
 import static io.cloudslang.content.xml.utils.Constants.Inputs.PRETTY_PRINT;
 import static io.cloudslang.content.xml.utils.Constants.Inputs.TEXT_ELEMENTS_NAME;
@@ -45,6 +50,7 @@ import static io.cloudslang.content.xml.utils.Constants.Outputs.NAMESPACES_PREFI
 import static io.cloudslang.content.xml.utils.Constants.Outputs.NAMESPACES_URIS;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 /**
  * Created by ursan on 8/2/2016.
@@ -78,6 +84,14 @@ public class ConvertXmlToJson {
      *                           http://apache.org/xml/features/disallow-doctype-decl true
      *                           http://xml.org/sax/features/external-general-entities false
      *                           http://xml.org/sax/features/external-parameter-entities false
+     * @param outputFile         - The local file to write the resulted JSON to. The JSON is written while the XML is
+     *                           parsed, it is not returned in returnResult. If an output file is not specified the
+     *                           resulted JSON is returned as returnResult and the whole JSON is held in memory.
+     *                           When writing to a file the XML is read twice: once to find the names of the children
+     *                           of the root element and once to write them. A child of the root is written as soon
+     *                           as the children before it in the resulted JSON were written, so memory only grows
+     *                           with the children that wait for an earlier array or when textElementsName is also
+     *                           the name of a child of the root, in which case the whole JSON is held in memory.
      * @return The converted XML document as a JSON array or object
      */
 
@@ -99,7 +113,8 @@ public class ConvertXmlToJson {
             @Param(value = INCLUDE_ROOT) String includeRootElement,
             @Param(value = INCLUDE_ATTRIBUTES) String includeAttributes,
             @Param(value = PRETTY_PRINT) String prettyPrint,
-            @Param(value = PARSING_FEATURES) String parsingFeatures) {
+            @Param(value = PARSING_FEATURES) String parsingFeatures,
+            @Param(value = OUTPUT_FILE) String outputFile) {
 
         try {
             includeRootElement = defaultIfEmpty(includeRootElement, TRUE);
@@ -114,12 +129,19 @@ public class ConvertXmlToJson {
                     .withIncludeAttributes(Boolean.parseBoolean(includeAttributes))
                     .withPrettyPrint(Boolean.parseBoolean(prettyPrint))
                     .withParsingFeatures(parsingFeatures)
+                    .withOutputFile(outputFile)
                     .build();
 
             final ConvertXmlToJsonService converter = new ConvertXmlToJsonService();
-            final String json = converter.convertToJsonString(inputs);
-
-            final Map<String, String> result = getSuccessResultsMap(json);
+            final Map<String, String> result;
+            if (isEmpty(inputs.getOutputFile())) {
+                result = getSuccessResultsMap(converter.convertToJsonString(inputs));
+            } else {
+                try (Writer writer = Files.newBufferedWriter(Paths.get(inputs.getOutputFile()), StandardCharsets.UTF_8)) {
+                    converter.convertToJson(inputs, writer);
+                }
+                result = getSuccessResultsMap("Result was written in the output file: " + inputs.getOutputFile());
+            }
             result.put(NAMESPACES_PREFIXES, converter.getNamespacesPrefixes());
             result.put(NAMESPACES_URIS, converter.getNamespacesUris());
             return result;
@@ -32,6 +32,7 @@ public class ConvertXmlToJsonInputs {
     private boolean includeAttributes;
     private boolean prettyPrint;
     private String parsingFeatures;
+    private String outputFile;
 
     public ConvertXmlToJsonInputs(ConvertXmlToJsonInputsBuilder builder) {
         this.xml = builder.xml;
@@ -40,6 +41,7 @@ public class ConvertXmlToJsonInputs {
         this.includeAttributes = builder.includeAttributes;
         this.prettyPrint = builder.prettyPrint;
         this.parsingFeatures = builder.parsingFeatures;
+        this.outputFile = builder.outputFile;
     }
 
     public String getXml() {
@@ -66,6 +68,10 @@ public class ConvertXmlToJsonInputs {
         return parsingFeatures;
     }
 
+    public String getOutputFile() {
+        return outputFile;
+    }
+
     public static class ConvertXmlToJsonInputsBuilder {
         private String xml;
         private String textElementsName;
@@ -73,6 +79,7 @@ public class ConvertXmlToJsonInputs {
         private boolean includeAttributes;
         private boolean prettyPrint;
         private String parsingFeatures;
+        private String outputFile;
 
         public ConvertXmlToJsonInputs build() {
             return new ConvertXmlToJsonInputs(this);
@@ -107,5 +114,10 @@ public class ConvertXmlToJsonInputs {
             this.parsingFeatures = parsingFeatures;
             return this;
         }
+
+        public ConvertXmlToJsonInputsBuilder withOutputFile(final String outputFile) {
+            this.outputFile = defaultIfEmpty(outputFile, EMPTY_STRING);
+            return this;
+        }
     }
 }
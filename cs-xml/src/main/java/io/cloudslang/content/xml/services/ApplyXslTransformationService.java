@@ -17,26 +17,35 @@
 package io.cloudslang.content.xml.services;
 
 import io.cloudslang.content.utils.OutputUtilities;
+import io.cloudslang.content.utils.LruCache;
 import io.cloudslang.content.utils.StringUtilities;
 import io.cloudslang.content.xml.entities.inputs.ApplyXslTransformationInputs;
 import io.cloudslang.content.xml.utils.Constants;
 import io.cloudslang.content.xml.utils.XmlUtils;
+import org.w3c.dom.Document;
 
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.InputStream;
-import java.io.StringReader;
 import java.io.StringWriter;
+import java.net.HttpURLConnection;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Map;
 
 
@@ -45,6 +54,33 @@ import java.util.Map;
  */
 
 public class ApplyXslTransformationService {
+    private static final int MAX_CACHED_TEMPLATES = 100;
+    //compiled stylesheets are thread safe, they are shared by all the executions
+    private static final Map<String, Templates> TEMPLATES_CACHE = Collections.synchronizedMap(new LruCache<String, Templates>(MAX_CACHED_TEMPLATES));
+    //the remote stylesheets are checked for changes at most once per ttl, with a conditional request
+    private static final long REMOTE_TEMPLATES_TTL_MILLIS = 60000;
+    private static final Map<String, RemoteTemplates> REMOTE_TEMPLATES_CACHE =
+            Collections.synchronizedMap(new LruCache<String, RemoteTemplates>(MAX_CACHED_TEMPLATES));
+
+    private final boolean cacheTemplates;
+    private final long remoteTemplatesTtlMillis;
+
+    public ApplyXslTransformationService() {
+        this(true);
+    }
+
+    /**
+     * @param cacheTemplates false to compile the stylesheet on every execution instead of reusing the compiled one
+     */
+    public ApplyXslTransformationService(boolean cacheTemplates) {
+        this(cacheTemplates, REMOTE_TEMPLATES_TTL_MILLIS);
+    }
+
+    ApplyXslTransformationService(boolean cacheTemplates, long remoteTemplatesTtlMillis) {
+        this.cacheTemplates = cacheTemplates;
+        this.remoteTemplatesTtlMillis = remoteTemplatesTtlMillis;
+    }
+
     public final Map<String, String> execute(final ApplyXslTransformationInputs applyXslTransformationInputs)
             throws Exception {
         final Templates template = getTemplate(applyXslTransformationInputs);
@@ -80,30 +116,117 @@ public class ApplyXslTransformationService {
 
     /**
      * Reads the xml content from a file, URL or string.
+     * The content is parsed only once, the parsed document both validates it and is the source of the transformation.
      *
      * @param xmlDocument xml document as String, path or URL
      * @return the resulting xml after validation
      * @throws Exception in case something went wrong
      */
     private Source readSource(String xmlDocument, String features) throws Exception {
-        if (xmlDocument.startsWith(Constants.Inputs.HTTP_PREFIX_STRING) || xmlDocument.startsWith(Constants.Inputs.HTTPS_PREFIX_STRING)) {
-            URL xmlUrl = new URL(xmlDocument);
-            InputStream xmlStream = xmlUrl.openStream();
-            XmlUtils.parseXmlInputStream(xmlStream, features);
-            return new StreamSource(xmlStream);
-        } else {
-            if (new File(xmlDocument).exists()) {
-                XmlUtils.parseXmlFile(xmlDocument, features);
-                return new StreamSource(new FileInputStream(xmlDocument));
+        if (isUrl(xmlDocument)) {
+            try (InputStream xmlStream = new URL(xmlDocument).openStream()) {
+                return new DOMSource(XmlUtils.parseXmlInputStream(xmlStream, features), xmlDocument);
             }
-            XmlUtils.parseXmlString(xmlDocument, features);
-            return new StreamSource(new StringReader(xmlDocument));
+        }
+        final File xmlFile = new File(xmlDocument);
+        if (xmlFile.exists()) {
+            try (InputStream xmlStream = new FileInputStream(xmlFile)) {
+                return new DOMSource(XmlUtils.parseXmlInputStream(xmlStream, features), xmlFile.toURI().toString());
+            }
+        }
+        final Document document = XmlUtils.parseXmlInputStream(new ByteArrayInputStream(xmlDocument.getBytes()), features);
+        return new DOMSource(document);
+    }
+
+    Templates getTemplate(ApplyXslTransformationInputs applyXslTransformationInputs) throws Exception {
+        final String xslTemplate = applyXslTransformationInputs.getXslTemplate();
+        final String features = applyXslTransformationInputs.getParsingFeatures();
+        if (!cacheTemplates) {
+            return newTemplates(readSource(xslTemplate, features));
+        }
+        if (isUrl(xslTemplate)) {
+            return getRemoteTemplates(xslTemplate, features);
+        }
+        final String cacheKey = getTemplateCacheKey(xslTemplate, features);
 
+        Templates templates = TEMPLATES_CACHE.get(cacheKey);
+        if (templates == null) {
+            templates = newTemplates(readSource(xslTemplate, features));
+            TEMPLATES_CACHE.put(cacheKey, templates);
         }
+        return templates;
     }
 
-    private Templates getTemplate(ApplyXslTransformationInputs applyXslTransformationInputs) throws Exception {
-        final TransformerFactory factory = TransformerFactory.newInstance();
-        return factory.newTemplates(readSource(applyXslTransformationInputs.getXslTemplate(), applyXslTransformationInputs.getParsingFeatures()));
+    /**
+     * The remote stylesheets are identified by their URL. Once the ttl passed, the stylesheet is requested again with
+     * its ETag and last modification, it is downloaded and compiled again only when the server reports a change.
+     */
+    private Templates getRemoteTemplates(String url, String features) throws Exception {
+        final String cacheKey = url + ":" + (StringUtilities.isEmpty(features) ? "" : features);
+        final RemoteTemplates cached = REMOTE_TEMPLATES_CACHE.get(cacheKey);
+        final long now = System.currentTimeMillis();
+        if (cached != null && now - cached.validatedAt < remoteTemplatesTtlMillis) {
+            return cached.templates;
+        }
+
+        final URLConnection connection = new URL(url).openConnection();
+        if (cached != null && connection instanceof HttpURLConnection) {
+            if (cached.eTag != null) {
+                connection.setRequestProperty("If-None-Match", cached.eTag);
+            }
+            if (cached.lastModified > 0) {
+                connection.setIfModifiedSince(cached.lastModified);
+            }
+            if (((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                REMOTE_TEMPLATES_CACHE.put(cacheKey, new RemoteTemplates(cached.templates, cached.eTag, cached.lastModified, now));
+                return cached.templates;
+            }
+        }
+        final Templates templates;
+        try (InputStream xslStream = connection.getInputStream()) {
+            templates = newTemplates(new DOMSource(XmlUtils.parseXmlInputStream(xslStream, features), url));
+        }
+        REMOTE_TEMPLATES_CACHE.put(cacheKey, new RemoteTemplates(templates, connection.getHeaderField("ETag"),
+                connection.getLastModified(), now));
+        return templates;
+    }
+
+    /**
+     * The stylesheet files are identified by their path and last modification, so an edited file is compiled again,
+     * the stylesheets given as string are identified by the hash of their content.
+     */
+    private static String getTemplateCacheKey(String xslTemplate, String features) throws Exception {
+        final String parsingFeatures = StringUtilities.isEmpty(features) ? "" : features;
+        final File xslFile = new File(xslTemplate);
+        if (xslFile.exists()) {
+            return "file:" + xslFile.getAbsolutePath() + ":" + xslFile.length() + ":" + xslFile.lastModified() + ":" + parsingFeatures;
+        }
+        return "xsl:" + getContentHash(xslTemplate.getBytes(StandardCharsets.UTF_8)) + ":" + parsingFeatures;
+    }
+
+    private static Templates newTemplates(Source xslSource) throws Exception {
+        return TransformerFactory.newInstance().newTemplates(xslSource);
+    }
+
+    private static String getContentHash(byte[] content) throws Exception {
+        return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
+    private static boolean isUrl(String location) {
+        return location.startsWith(Constants.Inputs.HTTP_PREFIX_STRING) || location.startsWith(Constants.Inputs.HTTPS_PREFIX_STRING);
+    }
+
+    private static class RemoteTemplates {
+        private final Templates templates;
+        private final String eTag;
+        private final long lastModified;
+        private final long validatedAt;
+
+        private RemoteTemplates(Templates templates, String eTag, long lastModified, long validatedAt) {
+            this.templates = templates;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.validatedAt = validatedAt;
+        }
     }
 }
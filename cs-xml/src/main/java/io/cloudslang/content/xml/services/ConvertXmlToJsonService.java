@@ -16,29 +16,33 @@
 
 package io.cloudslang.content.xml.services;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import io.cloudslang.content.xml.entities.inputs.ConvertXmlToJsonInputs;
 import io.cloudslang.content.xml.utils.XmlUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.jdom2.Attribute;
-import org.jdom2.Element;
-import org.jdom2.JDOMException;
-import org.jdom2.Namespace;
-import org.jdom2.input.SAXBuilder;
-import org.jetbrains.annotations.NotNull;
+import org.xml.sax.Attributes;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
 import java.io.IOException;
 import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 
 import static io.cloudslang.content.xml.utils.Constants.Defaults;
 import static io.cloudslang.content.xml.utils.Constants.Defaults.PREFIX_DELIMITER;
@@ -48,8 +52,20 @@ import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
 /**
  * Created by ursan on 8/2/2016.
+ * <p>
+ * The document is read with a SAX parser and the JSON is written to a Writer, neither the XML nor the JSON tree
+ * is kept in memory. The elements with the same name are grouped in arrays written before the other children, so the
+ * children of an element can be written only when the element ends. Until then every child is held as compact JSON text.
+ * <p>
+ * When the JSON is returned as a string it is held in memory, so the memory used grows with the size of the JSON.
+ * When it is written to a writer, the names of the children of the root element are read first and every child of the
+ * root is written as soon as the children written before it are, so only the children of the root that wait for an
+ * earlier group of children are held in memory.
  */
 public class ConvertXmlToJsonService {
+    private static final Pattern TEXT_PATTERN = Pattern.compile(".*[a-zA-Z0-9].*");
+    private static final String PRETTY_PRINT_INDENT = "  ";
+
     private final StringBuilder namespacesPrefixes;
     private final StringBuilder namespacesUris;
 
@@ -58,183 +74,463 @@ public class ConvertXmlToJsonService {
         namespacesUris = new StringBuilder();
     }
 
-    public String convertToJsonString(final ConvertXmlToJsonInputs inputs) throws JDOMException, IOException, SAXException {
-        if (StringUtils.isBlank(inputs.getXml())) {
-            return EMPTY;
-        }
-        final InputSource inputSource = new InputSource(new StringReader(inputs.getXml()));
-        final SAXBuilder builder = new SAXBuilder();
-        XmlUtils.setFeatures(builder, inputs.getParsingFeatures());
-        final Element root = builder.build(inputSource).getRootElement();
-        final List<Element> xmlElements = Collections.singletonList(root);
-        if (root.getChildren().isEmpty() && !inputs.getIncludeAttributes()) {
-            return prettyPrint(addJsonObjectsAndPrimitives(new JsonObject(), xmlElements, inputs.getIncludeAttributes(), inputs.getTextElementsName()),
-                    inputs.getPrettyPrint());
-        }
-        final JsonObject jsonObjectValue = convertXmlElementsToJsonObject(xmlElements, inputs.getIncludeAttributes(), inputs.getTextElementsName());
-        final JsonObject jsonObject = getJsonObjectWithRootElement(root, jsonObjectValue, inputs.getIncludeRootElement());
-        return prettyPrint(jsonObject, inputs.getPrettyPrint());
+    public String convertToJsonString(final ConvertXmlToJsonInputs inputs) throws IOException, SAXException, ParserConfigurationException {
+        final StringWriter writer = new StringWriter();
+        convertToJson(inputs, writer, false);
+        return writer.toString();
     }
 
+    /**
+     * Writes the JSON to the writer while the XML is parsed, the writer is flushed but not closed.
+     * The children of the root element are written as soon as they can be, see the class description.
+     *
+     * @param inputs the xml and the conversion options
+     * @param writer the writer of the JSON, nothing is written if the xml is blank
+     */
+    public void convertToJson(final ConvertXmlToJsonInputs inputs, final Writer writer) throws IOException, SAXException, ParserConfigurationException {
+        convertToJson(inputs, writer, true);
+    }
 
-    private JsonObject getJsonObjectWithRootElement(final Element rootElement, final JsonObject jsonObject, final boolean addRootElement) {
-        if (addRootElement) {
-            final JsonObject rootJson = new JsonObject();
-            rootJson.add(rootElement.getName(), jsonObject);
-            return rootJson;
+    private void convertToJson(final ConvertXmlToJsonInputs inputs, final Writer writer, final boolean writeRootChildren)
+            throws IOException, SAXException, ParserConfigurationException {
+        if (StringUtils.isBlank(inputs.getXml())) {
+            return;
+        }
+        final JsonWriter jsonWriter = new JsonWriter(writer);
+        if (inputs.getPrettyPrint()) {
+            jsonWriter.setIndent(PRETTY_PRINT_INDENT);
         }
-        return jsonObject;
+        final ConvertXmlToJsonHandler handler = new ConvertXmlToJsonHandler(inputs, jsonWriter);
+        if (writeRootChildren) {
+            final RootChildrenHandler rootChildrenHandler = new RootChildrenHandler();
+            parse(inputs, rootChildrenHandler);
+            final List<String> names = rootChildrenHandler.names;
+            //a child named like the text property would be replaced by the text, at the position of the child
+            final boolean textReplacesProperty = names.contains(inputs.getTextElementsName())
+                    || (inputs.getIncludeAttributes() && StringUtils.startsWith(inputs.getTextElementsName(), JSON_ATTRIBUTE_PREFIX));
+            if (!names.isEmpty() && !textReplacesProperty) {
+                handler.setRootChildren(names);
+            }
+        }
+        parse(inputs, handler);
+        jsonWriter.flush();
     }
 
-    private String prettyPrint(final JsonObject rootJson, final boolean prettyPrint) {
-        if (prettyPrint) {
-            final Gson gson = new GsonBuilder().setPrettyPrinting()
-                    .disableHtmlEscaping()
-                    .create();
-            return gson.toJson(rootJson);
+    private static void parse(final ConvertXmlToJsonInputs inputs, final DefaultHandler handler)
+            throws IOException, SAXException, ParserConfigurationException {
+        final SAXParserFactory parserFactory = SAXParserFactory.newInstance();
+        parserFactory.setNamespaceAware(true);
+        final XMLReader reader = parserFactory.newSAXParser().getXMLReader();
+        XmlUtils.setFeatures(reader, inputs.getParsingFeatures());
+        reader.setContentHandler(handler);
+        try {
+            reader.parse(new InputSource(new StringReader(inputs.getXml())));
+        } catch (SAXParseException e) {
+            throw new SAXException("Error on line " + e.getLineNumber() + ": " + e.getMessage(), e);
         }
-        return rootJson.toString();
     }
 
-
-    private JsonObject addJsonObjectsAndPrimitives(final JsonObject jsonObject, final List<Element> elements, final boolean includeAttributes, final String textPropName) {
-        for (final Element element : elements) {
-            final JsonElement jsonElement = isPrimitiveElement(element) ?
-                    new JsonPrimitive(element.getValue()) : convertXmlElementsToJsonObject(Collections.singletonList(element), includeAttributes, textPropName);
-            jsonObject.add(getElementFullName(element), jsonElement);
-        }
-        return jsonObject;
+    private static String getFullName(final String localName, final String qName) {
+        final String prefix = qName.indexOf(PREFIX_DELIMITER) > 0 ? qName.substring(0, qName.indexOf(PREFIX_DELIMITER)) : EMPTY;
+        return prefix.isEmpty() ? localName : prefix + PREFIX_DELIMITER + localName;
     }
 
-    private JsonObject convertXmlElementsToJsonObject(final List<Element> xmlElements, final boolean includeAttributes, final String textPropName) {
-        JsonObject result = new JsonObject();
-        for (final Element xmlElement : xmlElements) {
-            result = addXmlElementToJsonObject(result, xmlElement, includeAttributes, textPropName);
+    private void addNamespaces(final List<String[]> namespaces) {
+        for (final String[] namespace : namespaces) {
+            if (namespacesUris.length() > 0) {
+                namespacesPrefixes.append(Defaults.DELIMITER);
+                namespacesUris.append(Defaults.DELIMITER);
+            }
+            namespacesPrefixes.append(namespace[0]);
+            namespacesUris.append(namespace[1]);
         }
-        return result;
     }
 
-    private JsonArray convertXmlElementsToJsonArray(final List<Element> xmlElements, final boolean includeAttributes, final String textPropName) {
-        final JsonArray result = new JsonArray();
-        for (final Element xmlElement : xmlElements) {
-            result.add(addXmlElementToJsonObject(new JsonObject(), xmlElement, includeAttributes, textPropName));
-        }
-        return result;
+    public String getNamespacesUris() {
+        return namespacesUris.toString();
     }
 
-    private JsonObject addXmlElementToJsonObject(JsonObject jsonObject, final Element xmlElement, final boolean includeAttributes, final String textPropName) {
-        addNamespaces(xmlElement.getAdditionalNamespaces());
-        if (includeAttributes) {
-            jsonObject = addAttributesToJsonObject(jsonObject, xmlElement.getAttributes());
-        }
-        List<Element> children = xmlElement.getChildren();
-        jsonObject = searchAndAddArrayElementsToJsonObject(jsonObject, children, includeAttributes, textPropName);
-        children = eliminateArrayElements(children);
-        jsonObject = addJsonObjectsAndPrimitives(jsonObject, children, includeAttributes, textPropName);
-        jsonObject = addTextProp(jsonObject, xmlElement.getText(), textPropName);
-        return jsonObject;
+    public String getNamespacesPrefixes() {
+        return namespacesPrefixes.toString();
     }
 
-    private JsonObject searchAndAddArrayElementsToJsonObject(final JsonObject jsonObject, final List<Element> elements, final boolean includeAttributes, final String textPropName) {
-        final List<String> arrayElementsNames = getListOfArrayElementNames(elements);
-        for (final String arrayName : arrayElementsNames) {
-            final List<Element> arrayElements = getElementsByName(arrayName, elements);
-            jsonObject.add(arrayName, convertXmlElementsToJsonArray(arrayElements, includeAttributes, textPropName));
+    /**
+     * Reads the names of the children of the root element, in the order of the document.
+     */
+    private static class RootChildrenHandler extends DefaultHandler {
+        private final List<String> names = new ArrayList<>();
+        private int depth;
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+            if (++depth == 2) {
+                names.add(getFullName(localName, qName));
+            }
         }
-        return jsonObject;
-    }
 
-    private List<Element> eliminateArrayElements(List<Element> elements) {
-        final List<String> arrayElementsNames = getListOfArrayElementNames(elements);
-        for (final String arrayName : arrayElementsNames) {
-            elements = eliminateElementsWithName(arrayName, elements);
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) {
+            depth--;
         }
-        return elements;
     }
 
-    private JsonObject addTextProp(final JsonObject jsonObject, final String text, final String textPropName) {
-        if (isNotEmpty(text) && text.matches(".*[a-zA-Z0-9].*")) {
-            jsonObject.addProperty(textPropName, text);
+    /**
+     * An element that is being read, or was read and is waiting for its parent to end.
+     */
+    private static class XmlElement {
+        private final String name;
+        private final String fullName;
+        private final List<String> attributes = new ArrayList<>();
+        //the namespaces declared by the element, followed by the ones of the children in the order they are written
+        private final List<String[]> namespaces = new ArrayList<>();
+        private final List<XmlElement> children = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+        private boolean primitive;
+        //the element as a JSON object, set when the element ends, after that its children are dropped
+        private String json;
+        //the position of a child of the root element in the document, when the children of the root are written one by one
+        private int index;
+
+        private XmlElement(final String name, final String fullName) {
+            this.name = name;
+            this.fullName = fullName;
+        }
+
+        private boolean isPrimitive() {
+            //if it doesn't have child and doesn't have attributes it's primitive.
+            return children.isEmpty() && attributes.isEmpty();
         }
-        return jsonObject;
     }
 
-    private void addNamespaces(final List<Namespace> namespaces) {
-        for (final Namespace namespace : namespaces) {
-            if (namespacesUris.length() > 0) {
-                namespacesPrefixes.append(Defaults.DELIMITER);
-                namespacesUris.append(Defaults.DELIMITER);
+    private class ConvertXmlToJsonHandler extends DefaultHandler {
+        private final boolean includeRootElement;
+        private final boolean includeAttributes;
+        private final boolean prettyPrint;
+        private final String textPropName;
+        private final JsonWriter jsonWriter;
+        private final Deque<XmlElement> openElements = new ArrayDeque<>();
+        private final List<String[]> declaredNamespaces = new ArrayList<>();
+        //set when the children of the root are written one by one, their names in the order of the document
+        private List<String> rootChildNames;
+        private final Map<String, Integer> rootChildNameCounts = new HashMap<>();
+        //the positions in the document of the children of the root, in the order they are written
+        private int[] rootChildrenOrder;
+        //the children of the root that ended, but wait for the ones written before them
+        private final Map<Integer, XmlElement> pendingRootChildren = new HashMap<>();
+        private int readRootChildren;
+        private int writtenRootChildren;
+
+        private ConvertXmlToJsonHandler(final ConvertXmlToJsonInputs inputs, final JsonWriter jsonWriter) {
+            this.includeRootElement = inputs.getIncludeRootElement();
+            this.includeAttributes = inputs.getIncludeAttributes();
+            this.prettyPrint = inputs.getPrettyPrint();
+            this.textPropName = inputs.getTextElementsName();
+            this.jsonWriter = jsonWriter;
+        }
+
+        /**
+         * The children with the same name are written in arrays, the arrays in the order of their first child,
+         * then the other children in the order of the document.
+         */
+        private void setRootChildren(final List<String> names) {
+            final Map<String, List<Integer>> positionsByName = new LinkedHashMap<>();
+            for (int index = 0; index < names.size(); index++) {
+                positionsByName.computeIfAbsent(names.get(index), name -> new ArrayList<>()).add(index);
+            }
+            rootChildrenOrder = new int[names.size()];
+            int position = 0;
+            for (final Map.Entry<String, List<Integer>> sameNameChildren : positionsByName.entrySet()) {
+                rootChildNameCounts.put(sameNameChildren.getKey(), sameNameChildren.getValue().size());
+                if (sameNameChildren.getValue().size() > 1) {
+                    for (final int index : sameNameChildren.getValue()) {
+                        rootChildrenOrder[position++] = index;
+                    }
+                }
+            }
+            for (int index = 0; index < names.size(); index++) {
+                if (rootChildNameCounts.get(names.get(index)) == 1) {
+                    rootChildrenOrder[position++] = index;
+                }
             }
-            namespacesPrefixes.append(namespace.getPrefix());
-            namespacesUris.append(namespace.getURI());
+            rootChildNames = names;
         }
-    }
 
-    private JsonObject addAttributesToJsonObject(final JsonObject jsonObject, final List<Attribute> attributes) {
-        for (final Attribute attribute : attributes) {
-            jsonObject.addProperty(JSON_ATTRIBUTE_PREFIX + attribute.getName(), attribute.getValue());
+        @Override
+        public void startPrefixMapping(final String prefix, final String uri) {
+            declaredNamespaces.add(new String[]{prefix, uri});
         }
-        return jsonObject;
-    }
 
-    @NotNull
-    private String getElementFullName(final Element element) {
-        final StringBuilder name = new StringBuilder(element.getNamespacePrefix());
-        if (!element.getNamespacePrefix().isEmpty())
-            name.append(PREFIX_DELIMITER);
-        name.append(element.getName());
-        return name.toString();
-    }
+        @Override
+        public void startElement(final String uri, final String localName, final String qName, final Attributes attributes)
+                throws SAXException {
+            final String prefix = qName.indexOf(PREFIX_DELIMITER) > 0 ? qName.substring(0, qName.indexOf(PREFIX_DELIMITER)) : EMPTY;
+            final XmlElement element = new XmlElement(localName, getFullName(localName, qName));
+            for (final String[] namespace : declaredNamespaces) {
+                //the namespace of the element itself is not an additional namespace
+                if (!namespace[0].equals(prefix) || !namespace[1].equals(uri)) {
+                    element.namespaces.add(namespace);
+                }
+            }
+            declaredNamespaces.clear();
+            for (int index = 0; index < attributes.getLength(); index++) {
+                element.attributes.add(attributes.getLocalName(index));
+                element.attributes.add(attributes.getValue(index));
+            }
+            if (rootChildNames != null && openElements.size() == 1) {
+                element.index = readRootChildren++;
+            } else if (!openElements.isEmpty()) {
+                openElements.peek().children.add(element);
+            } else if (rootChildNames != null) {
+                try {
+                    writeRootStart(element);
+                } catch (IOException e) {
+                    throw new SAXException(e);
+                }
+            }
+            openElements.push(element);
+        }
 
-    private List<String> getElementsFullName(final List<Element> elements) {
-        final List<String> names = new ArrayList<>();
-        for (final Element element : elements) {
-            names.add(getElementFullName(element));
+        @Override
+        public void characters(final char[] ch, final int start, final int length) {
+            openElements.peek().text.append(ch, start, length);
         }
-        return names;
-    }
 
+        @Override
+        public void ignorableWhitespace(final char[] ch, final int start, final int length) {
+            characters(ch, start, length);
+        }
 
-    private boolean isPrimitiveElement(final Element element) {
-        return element.getChildren().isEmpty() && element.getAttributes().isEmpty(); //if it doesn't have child and doesn't have attributes it's primitive.
-    }
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+            final XmlElement element = openElements.pop();
+            element.primitive = element.isPrimitive();
+            try {
+                if (openElements.isEmpty()) {
+                    if (rootChildNames != null) {
+                        writeRootEnd(element);
+                    } else {
+                        writeRootElement(element);
+                    }
+                } else if (!element.primitive) {
+                    getJsonObject(element);
+                    element.children.clear();
+                    element.attributes.clear();
+                    element.text.setLength(0);
+                    element.text.trimToSize();
+                }
+                if (rootChildNames != null && openElements.size() == 1) {
+                    writeRootChildren(element);
+                }
+            } catch (IOException e) {
+                throw new SAXException(e);
+            }
+        }
 
-    private List<String> getListOfArrayElementNames(final List<Element> elements) {
-        final List<String> names = new ArrayList<>();
-        final List<String> elementsStr = getElementsFullName(elements);
-        for (final String name : elementsStr) {
-            if (elementsStr.indexOf(name) != elementsStr.lastIndexOf(name) && !names.contains(name)) {
-                names.add(name);
+        private void writeRootElement(final XmlElement root) throws IOException {
+            if (root.children.isEmpty() && !includeAttributes) {
+                jsonWriter.beginObject();
+                jsonWriter.name(root.fullName);
+                if (root.primitive) {
+                    jsonWriter.value(root.text.toString());
+                } else {
+                    writeJsonObject(jsonWriter, root, false, prettyPrint);
+                    addNamespaces(root.namespaces);
+                }
+                jsonWriter.endObject();
+                return;
+            }
+            if (includeRootElement) {
+                jsonWriter.beginObject();
+                jsonWriter.name(root.name);
+            }
+            writeJsonObject(jsonWriter, root, includeAttributes, prettyPrint);
+            addNamespaces(root.namespaces);
+            if (includeRootElement) {
+                jsonWriter.endObject();
             }
         }
-        return names;
-    }
 
-    private List<Element> getElementsByName(final String arrayName, final List<Element> elementsToSearch) {
-        final List<Element> elements = new ArrayList<>();
-        for (Element element : elementsToSearch) {
-            if (getElementFullName(element).equals(arrayName)) {
-                elements.add(element);
+        private void writeRootStart(final XmlElement root) throws IOException {
+            if (includeRootElement) {
+                jsonWriter.beginObject();
+                jsonWriter.name(root.name);
+            }
+            jsonWriter.beginObject();
+            if (includeAttributes) {
+                for (int index = 0; index < root.attributes.size(); index += 2) {
+                    jsonWriter.name(JSON_ATTRIBUTE_PREFIX + root.attributes.get(index));
+                    writeJson(jsonWriter, new JsonPrimitive(root.attributes.get(index + 1)).toString(), prettyPrint);
+                }
             }
         }
-        return elements;
-    }
 
-    private List<Element> eliminateElementsWithName(final String arrayName, final List<Element> elements) {
-        final List<Element> newElements = new ArrayList<>();
-        for (final Element element : elements) {
-            if (!getElementFullName(element).equals(arrayName)) {
-                newElements.add(element);
+        /**
+         * Writes the child of the root that ended and the children that waited for it, in the order of rootChildrenOrder.
+         */
+        private void writeRootChildren(final XmlElement child) throws IOException {
+            final XmlElement root = openElements.peek();
+            pendingRootChildren.put(child.index, child);
+            while (writtenRootChildren < rootChildrenOrder.length
+                    && pendingRootChildren.containsKey(rootChildrenOrder[writtenRootChildren])) {
+                writeRootChild(root, pendingRootChildren.remove(rootChildrenOrder[writtenRootChildren]), writtenRootChildren);
+                writtenRootChildren++;
             }
         }
-        return newElements;
-    }
 
-    public String getNamespacesUris() {
-        return namespacesUris.toString();
-    }
+        private void writeRootChild(final XmlElement root, final XmlElement child, final int position) throws IOException {
+            if (rootChildNameCounts.get(child.fullName) > 1) {
+                final boolean firstItem = position == 0
+                        || !child.fullName.equals(rootChildNames.get(rootChildrenOrder[position - 1]));
+                final boolean lastItem = position == rootChildrenOrder.length - 1
+                        || !child.fullName.equals(rootChildNames.get(rootChildrenOrder[position + 1]));
+                if (firstItem) {
+                    jsonWriter.name(child.fullName);
+                    jsonWriter.beginArray();
+                }
+                writeJson(jsonWriter, getJsonObject(child), prettyPrint);
+                root.namespaces.addAll(child.namespaces);
+                if (lastItem) {
+                    jsonWriter.endArray();
+                }
+            } else {
+                jsonWriter.name(child.fullName);
+                if (child.primitive) {
+                    writeJson(jsonWriter, new JsonPrimitive(child.text.toString()).toString(), prettyPrint);
+                } else {
+                    writeJson(jsonWriter, getJsonObject(child), prettyPrint);
+                    root.namespaces.addAll(child.namespaces);
+                }
+            }
+        }
 
-    public String getNamespacesPrefixes() {
-        return namespacesPrefixes.toString();
+        private void writeRootEnd(final XmlElement root) throws IOException {
+            final String text = root.text.toString();
+            if (isNotEmpty(text) && TEXT_PATTERN.matcher(text).matches()) {
+                jsonWriter.name(textPropName);
+                writeJson(jsonWriter, new JsonPrimitive(text).toString(), prettyPrint);
+            }
+            jsonWriter.endObject();
+            addNamespaces(root.namespaces);
+            if (includeRootElement) {
+                jsonWriter.endObject();
+            }
+        }
+
+        /**
+         * Writes the attributes, the arrays of elements with the same name, the other children and the text of the element.
+         * A property written more than once keeps its first position and its last value.
+         *
+         * @param copyChildren true to write the children token by token, so they are formatted like the writer,
+         *                     false to write their compact JSON as it is
+         */
+        private void writeJsonObject(final JsonWriter writer, final XmlElement element, final boolean withAttributes,
+                                     final boolean copyChildren) throws IOException {
+            final Map<String, Object> properties = new LinkedHashMap<>();
+            if (withAttributes) {
+                for (int index = 0; index < element.attributes.size(); index += 2) {
+                    properties.put(JSON_ATTRIBUTE_PREFIX + element.attributes.get(index), new JsonPrimitive(element.attributes.get(index + 1)).toString());
+                }
+            }
+            final Map<String, List<XmlElement>> childrenByName = new LinkedHashMap<>();
+            for (final XmlElement child : element.children) {
+                List<XmlElement> sameNameChildren = childrenByName.get(child.fullName);
+                if (sameNameChildren == null) {
+                    sameNameChildren = new ArrayList<>();
+                    childrenByName.put(child.fullName, sameNameChildren);
+                }
+                sameNameChildren.add(child);
+            }
+            for (final Map.Entry<String, List<XmlElement>> sameNameChildren : childrenByName.entrySet()) {
+                if (sameNameChildren.getValue().size() > 1) {
+                    final List<String> items = new ArrayList<>();
+                    for (final XmlElement child : sameNameChildren.getValue()) {
+                        items.add(getJsonObject(child));
+                        element.namespaces.addAll(child.namespaces);
+                    }
+                    properties.put(sameNameChildren.getKey(), items);
+                }
+            }
+            for (final XmlElement child : element.children) {
+                if (childrenByName.get(child.fullName).size() == 1) {
+                    if (child.primitive) {
+                        properties.put(child.fullName, new JsonPrimitive(child.text.toString()).toString());
+                    } else {
+                        properties.put(child.fullName, getJsonObject(child));
+                        element.namespaces.addAll(child.namespaces);
+                    }
+                }
+            }
+            final String text = element.text.toString();
+            if (isNotEmpty(text) && TEXT_PATTERN.matcher(text).matches()) {
+                properties.put(textPropName, new JsonPrimitive(text).toString());
+            }
+
+            writer.beginObject();
+            for (final Map.Entry<String, Object> property : properties.entrySet()) {
+                writer.name(property.getKey());
+                if (property.getValue() instanceof List) {
+                    writer.beginArray();
+                    for (final Object item : (List) property.getValue()) {
+                        writeJson(writer, (String) item, copyChildren);
+                    }
+                    writer.endArray();
+                } else {
+                    writeJson(writer, (String) property.getValue(), copyChildren);
+                }
+            }
+            writer.endObject();
+        }
+
+        /**
+         * The primitive elements are written as strings, unless they are part of an array.
+         */
+        private String getJsonObject(final XmlElement element) throws IOException {
+            if (element.json == null) {
+                final StringWriter elementJson = new StringWriter();
+                writeJsonObject(new JsonWriter(elementJson), element, includeAttributes, false);
+                element.json = elementJson.toString();
+            }
+            return element.json;
+        }
+
+        private void writeJson(final JsonWriter writer, final String json, final boolean copy) throws IOException {
+            if (!copy) {
+                writer.jsonValue(json);
+                return;
+            }
+            final JsonReader reader = new JsonReader(new StringReader(json));
+            reader.setLenient(true);
+            int depth = 0;
+            do {
+                switch (reader.peek()) {
+                    case BEGIN_OBJECT:
+                        reader.beginObject();
+                        writer.beginObject();
+                        depth++;
+                        break;
+                    case END_OBJECT:
+                        reader.endObject();
+                        writer.endObject();
+                        depth--;
+                        break;
+                    case BEGIN_ARRAY:
+                        reader.beginArray();
+                        writer.beginArray();
+                        depth++;
+                        break;
+                    case END_ARRAY:
+                        reader.endArray();
+                        writer.endArray();
+                        depth--;
+                        break;
+                    case NAME:
+                        writer.name(reader.nextName());
+                        break;
+                    default:
+                        writer.value(reader.nextString());
+                        break;
+                }
+            } while (depth > 0);
+        }
     }
 }
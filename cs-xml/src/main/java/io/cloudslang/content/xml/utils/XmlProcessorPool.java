@@ -0,0 +1,174 @@
+/*
+ * (c) Copyright 2022 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.xml.utils;
+
+import io.cloudslang.content.utils.LruCache;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the parsers, XPath objects and transformers of every thread, so the factories are looked up once per thread
+ * instead of once per call. None of these objects is thread safe, each thread gets its own instances and an instance
+ * is reset every time it is handed out, so no state of a previous use is seen by the next one.
+ */
+public class XmlProcessorPool {
+    private static final int MAX_DOCUMENT_BUILDERS = 16;
+    private static final int MAX_XPATH_EXPRESSIONS = 256;
+    private static final int MAX_TRANSFORMERS = 8;
+    private static final ThreadLocal<XmlProcessors> PROCESSORS = new ThreadLocal<XmlProcessors>() {
+        @Override
+        protected XmlProcessors initialValue() {
+            return new XmlProcessors();
+        }
+    };
+
+    private XmlProcessorPool() {
+    }
+
+    /**
+     * @param secure true to enable the secure processing feature
+     * @return a namespace aware document builder that does not load external entities or DTDs and rejects DOCTYPE declarations
+     */
+    public static DocumentBuilder getSecureDocumentBuilder(boolean secure) throws ParserConfigurationException {
+        final Map<String, DocumentBuilder> builders = PROCESSORS.get().documentBuilders;
+        final String key = "secure:" + secure;
+        DocumentBuilder builder = builders.get(key);
+        if (builder == null) {
+            final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setXIncludeAware(false);
+            factory.setExpandEntityReferences(false);
+            factory.setNamespaceAware(true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, secure);
+            builder = factory.newDocumentBuilder();
+            builders.put(key, builder);
+        }
+        builder.reset();
+        return builder;
+    }
+
+    /**
+     * @param features       the parsing features, in the format of the parsingFeatures inputs
+     * @param namespaceAware true for a namespace aware document builder
+     * @return a document builder configured with the features
+     */
+    public static DocumentBuilder getDocumentBuilder(String features, boolean namespaceAware) throws ParserConfigurationException {
+        final Map<String, DocumentBuilder> builders = PROCESSORS.get().documentBuilders;
+        final String key = "namespaceAware:" + namespaceAware + ":" + features;
+        DocumentBuilder builder = builders.get(key);
+        if (builder == null) {
+            final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            XmlUtils.setFeatures(factory, features);
+            factory.setNamespaceAware(namespaceAware);
+            builder = factory.newDocumentBuilder();
+            builders.put(key, builder);
+        }
+        builder.reset();
+        return builder;
+    }
+
+    /**
+     * @return an XPath without namespace context, variable or function resolvers
+     */
+    public static XPath getXPath() {
+        final XmlProcessors processors = PROCESSORS.get();
+        processors.xPath.reset();
+        return processors.xPath;
+    }
+
+    /**
+     * The compiled expressions are cached by the expression and the namespace context.
+     *
+     * @param context    the namespace context of the expression
+     * @param xPathQuery the XPath expression
+     * @return the compiled expression
+     * @throws XPathExpressionException if the expression can't be compiled
+     */
+    public static XPathExpression getXPathExpression(NamespaceContext context, String xPathQuery) throws XPathExpressionException {
+        final XmlProcessors processors = PROCESSORS.get();
+        final Object key = Arrays.asList(xPathQuery, context);
+        XPathExpression expression = processors.xPathExpressions.get(key);
+        if (expression == null) {
+            final XPath xPath = getXPath();
+            xPath.setNamespaceContext(context);
+            expression = xPath.compile(xPathQuery);
+            processors.xPathExpressions.put(key, expression);
+        }
+        return expression;
+    }
+
+    /**
+     * The transformer must be given back with {@link #releaseTransformer(Transformer, String...)} once the
+     * transformation is done, so it doesn't keep the result of the transformation.
+     * The transformers are pooled by their output properties, the output properties of a transformer must not be changed.
+     *
+     * @param outputProperties the names and values of the output properties, one after the other
+     * @return an identity transformer with the output properties
+     */
+    public static Transformer getTransformer(String... outputProperties) throws TransformerConfigurationException {
+        final XmlProcessors processors = PROCESSORS.get();
+        //a nested transformation gets its own transformer
+        Transformer transformer = processors.transformers.remove(Arrays.asList(outputProperties));
+        if (transformer == null) {
+            transformer = processors.transformerFactory.newTransformer();
+        }
+        //some implementations drop the output properties on reset
+        for (int index = 0; index < outputProperties.length; index += 2) {
+            transformer.setOutputProperty(outputProperties[index], outputProperties[index + 1]);
+        }
+        return transformer;
+    }
+
+    /**
+     * @param outputProperties the output properties the transformer was taken with
+     */
+    public static void releaseTransformer(Transformer transformer, String... outputProperties) {
+        transformer.reset();
+        PROCESSORS.get().transformers.put(Arrays.asList(outputProperties), transformer);
+    }
+
+    public static XMLInputFactory getXMLInputFactory() {
+        return PROCESSORS.get().xmlInputFactory;
+    }
+
+    private static class XmlProcessors {
+        private final Map<String, DocumentBuilder> documentBuilders = new LruCache<>(MAX_DOCUMENT_BUILDERS);
+        private final Map<Object, XPathExpression> xPathExpressions = new LruCache<>(MAX_XPATH_EXPRESSIONS);
+        private final Map<List<String>, Transformer> transformers = new LruCache<>(MAX_TRANSFORMERS);
+        private final XPath xPath = XPathFactory.newInstance().newXPath();
+        private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+        private final XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+    }
+}
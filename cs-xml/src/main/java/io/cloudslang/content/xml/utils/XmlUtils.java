@@ -29,28 +29,24 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
-import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -70,6 +66,7 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
  */
 public class XmlUtils {
     private static final String OK_STATUS_CODE = "200";
+    private static final String[] NODE_OUTPUT_PROPERTIES = {OutputKeys.OMIT_XML_DECLARATION, Constants.YES, OutputKeys.INDENT, Constants.YES};
 
     private XmlUtils() {
     }
@@ -96,8 +93,7 @@ public class XmlUtils {
      */
     public static NamespaceContext getNamespaceContext(String xmlString, String xmlFilePath) throws Exception {
         InputStream inputXML = getStream(xmlString, xmlFilePath);
-        XMLInputFactory inputFactory = XMLInputFactory.newInstance();
-        XMLStreamReader reader = inputFactory.createXMLStreamReader(inputXML);
+        XMLStreamReader reader = XmlProcessorPool.getXMLInputFactory().createXMLStreamReader(inputXML);
         Map<String, String> namespaces = new HashMap<>();
         while (reader.hasNext()) {
             int evt = reader.next();
@@ -118,23 +114,11 @@ public class XmlUtils {
         return builder.parse(new InputSource(new StringReader(xmlDocument)));
     }
 
+    /**
+     * @return the document builder of the current thread, it must not be shared with other threads
+     */
     public static DocumentBuilder getDocumentBuilder(boolean secure) throws ParserConfigurationException {
-        String feature;
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-
-        feature = "http://xml.org/sax/features/external-general-entities";
-        factory.setFeature(feature, false);
-        feature = "http://xml.org/sax/features/external-parameter-entities";
-        factory.setFeature(feature, false);
-        feature = "http://apache.org/xml/features/nonvalidating/load-external-dtd";
-        factory.setFeature(feature, false);
-        feature = "http://apache.org/xml/features/disallow-doctype-decl";
-        factory.setFeature(feature, true);
-        factory.setXIncludeAware(false);
-        factory.setExpandEntityReferences(false);
-        factory.setNamespaceAware(true);
-        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, secure);
-        return factory.newDocumentBuilder();
+        return XmlProcessorPool.getSecureDocumentBuilder(secure);
     }
 
     /**
@@ -150,9 +134,10 @@ public class XmlUtils {
     public static Document createDocumentFromFile(String path, boolean secure) throws IOException, ParserConfigurationException, SAXException {
         DocumentBuilder builder = XmlUtils.getDocumentBuilder(secure);
         File initialFile = new File(path);
-        InputStream targetStream = new FileInputStream(initialFile);
-        InputSource is = new InputSource(targetStream);
-        return builder.parse(is);
+        try (InputStream targetStream = new FileInputStream(initialFile)) {
+            InputSource is = new InputSource(targetStream);
+            return builder.parse(is);
+        }
     }
 
     public static void parseXmlString(String xml, String features) throws Exception {
@@ -183,14 +168,8 @@ public class XmlUtils {
     }
 
     public static Document parseXmlInputStream(InputStream inputStream, String features) throws Exception {
-        Document xmlDocument;
-        DocumentBuilderFactory builderFactory = DocumentBuilderFactory.newInstance();
-        XmlUtils.setFeatures(builderFactory, features);
-
-        builderFactory.setNamespaceAware(true);
-        DocumentBuilder builder = builderFactory.newDocumentBuilder();
-        xmlDocument = builder.parse(inputStream);
-        return xmlDocument;
+        DocumentBuilder builder = XmlProcessorPool.getDocumentBuilder(features, true);
+        return builder.parse(inputStream);
     }
 
     /**
@@ -202,9 +181,7 @@ public class XmlUtils {
      * @throws XPathExpressionException if  xpath exception occurred
      */
     public static NodeList readNode(Document doc, String pathToNode, NamespaceContext ctx) throws XPathExpressionException {
-        XPath xPath = createXpath();
-        xPath.setNamespaceContext(ctx);
-        return (NodeList) xPath.evaluate(pathToNode, doc, XPathConstants.NODESET);
+        return (NodeList) XmlProcessorPool.getXPathExpression(ctx, pathToNode).evaluate(doc, XPathConstants.NODESET);
     }
 
     /**
@@ -230,15 +207,6 @@ public class XmlUtils {
         return node;
     }
 
-    /**
-     * Returns a new instance of XPath.
-     *
-     * @return XPath object
-     */
-    private static XPath createXpath() {
-        return XPathFactory.newInstance().newXPath();
-    }
-
     /**
      * Returns the InputStream representation of a file or string.
      *
@@ -265,9 +233,12 @@ public class XmlUtils {
         DOMSource domSource = new DOMSource(doc);
         StringWriter writer = new StringWriter();
         StreamResult streamResult = new StreamResult(writer);
-        TransformerFactory tf = TransformerFactory.newInstance();
-        Transformer transformer = tf.newTransformer();
-        transformer.transform(domSource, streamResult);
+        Transformer transformer = XmlProcessorPool.getTransformer();
+        try {
+            transformer.transform(domSource, streamResult);
+        } finally {
+            XmlProcessorPool.releaseTransformer(transformer);
+        }
         return writer;
     }
 
@@ -277,10 +248,11 @@ public class XmlUtils {
         return (NodeList) expr.evaluate(doc, XPathConstants.NODESET);
     }
 
+    /**
+     * @return the compiled expression, cached for the current thread, it must not be shared with other threads
+     */
     public static XPathExpression createXPathExpression(NamespaceContext context, String xPathQuery) throws XPathExpressionException {
-        XPath xpath = XPathFactory.newInstance().newXPath();
-        xpath.setNamespaceContext(context);
-        return xpath.compile(xPathQuery);
+        return XmlProcessorPool.getXPathExpression(context, xPathQuery);
     }
 
     public static void validateNodeList(NodeList nodeList) throws Exception {
@@ -292,10 +264,12 @@ public class XmlUtils {
     private static String transformElementNode(Node node) throws TransformerException {
         StringWriter stringWriter = new StringWriter();
 
-        Transformer transformer = TransformerFactory.newInstance().newTransformer();
-        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, Constants.YES);
-        transformer.setOutputProperty(OutputKeys.INDENT, Constants.YES);
-        transformer.transform(new DOMSource(node), new StreamResult(stringWriter));
+        Transformer transformer = XmlProcessorPool.getTransformer(NODE_OUTPUT_PROPERTIES);
+        try {
+            transformer.transform(new DOMSource(node), new StreamResult(stringWriter));
+        } finally {
+            XmlProcessorPool.releaseTransformer(transformer, NODE_OUTPUT_PROPERTIES);
+        }
 
         return stringWriter.toString().trim();
     }
@@ -375,6 +349,15 @@ public class XmlUtils {
         }
     }
 
+    public static void setFeatures(XMLReader reader, String features) throws SAXException {
+        if (!StringUtils.isEmpty(features)) {
+            Map<String, Boolean> featuresMap = parseFeatures(features);
+            for (String key : featuresMap.keySet()) {
+                reader.setFeature(key, featuresMap.get(key));
+            }
+        }
+    }
+
     private static Map<String, Boolean> parseFeatures(String features) {
         Map<String, Boolean> map = new HashMap<>();
         String[] featuresList = features.split("\\n");
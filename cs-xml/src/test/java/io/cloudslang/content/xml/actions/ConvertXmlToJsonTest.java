@@ -17,9 +17,14 @@
 package io.cloudslang.content.xml.actions;
 
 import io.cloudslang.content.constants.ReturnCodes;
+import org.apache.commons.io.FileUtils;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import static io.cloudslang.content.constants.BooleanValues.FALSE;
@@ -31,6 +36,7 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static io.cloudslang.content.xml.utils.Constants.Outputs.NAMESPACES_PREFIXES;
 import static io.cloudslang.content.xml.utils.Constants.Outputs.NAMESPACES_URIS;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Created by ursan on 8/4/2016.
@@ -142,6 +148,9 @@ public class ConvertXmlToJsonTest {
             "}";
     private ConvertXmlToJson convertXmlToJson;
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Before
     public void setUp() throws Exception {
         convertXmlToJson = new ConvertXmlToJson();
@@ -149,7 +158,7 @@ public class ConvertXmlToJsonTest {
 
     @Test
     public void testConvertXmlToJsonWithDefaultValues() {
-        Map<String, String> result = convertXmlToJson.execute(XML, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
+        Map<String, String> result = convertXmlToJson.execute(XML, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY);
 
         assertEquals(SUCCESS, result.get(RETURN_CODE));
         assertEquals(JSON, result.get(RETURN_RESULT));
@@ -160,7 +169,7 @@ public class ConvertXmlToJsonTest {
     @SuppressWarnings("Duplicates")
     @Test
     public void testConvertXmlToJsonWithDefaultValuesSpecified() {
-        Map<String, String> result = convertXmlToJson.execute(XML, "_text", TRUE, TRUE, TRUE, EMPTY);
+        Map<String, String> result = convertXmlToJson.execute(XML, "_text", TRUE, TRUE, TRUE, EMPTY, EMPTY);
 
         assertEquals(SUCCESS, result.get(RETURN_CODE));
         assertEquals(JSON, result.get(RETURN_RESULT));
@@ -171,7 +180,7 @@ public class ConvertXmlToJsonTest {
 
     @Test
     public void testConvertXmlToJsonWithInvalidBooleanValues() {
-        Map<String, String> result = convertXmlToJson.execute(XML, "_text", "abc", "abc", "abc", EMPTY);
+        Map<String, String> result = convertXmlToJson.execute(XML, "_text", "abc", "abc", "abc", EMPTY, EMPTY);
 
         assertEquals(ReturnCodes.FAILURE, result.get(RETURN_CODE));
         assertEquals("abc is not a valid value for Boolean", result.get(RETURN_RESULT));
@@ -181,7 +190,7 @@ public class ConvertXmlToJsonTest {
 
     @Test
     public void testConvertXmlToJsonWithNooRootNoPrettyPrintNoAttributes() {
-        Map<String, String> result = convertXmlToJson.execute(XML, "+text", FALSE, FALSE, FALSE, EMPTY);
+        Map<String, String> result = convertXmlToJson.execute(XML, "+text", FALSE, FALSE, FALSE, EMPTY, EMPTY);
 
         assertEquals(SUCCESS, result.get(RETURN_CODE));
         assertEquals(JSON_NO_PRETTY_NO_ROOT_NO_ATTRIBUTES, result.get(RETURN_RESULT));
@@ -191,7 +200,7 @@ public class ConvertXmlToJsonTest {
 
     @Test
     public void testConvertXmlToJsonWithInvalidXml() {
-        Map<String, String> result = convertXmlToJson.execute(XML + "abc", "+text", FALSE, FALSE, FALSE, EMPTY);
+        Map<String, String> result = convertXmlToJson.execute(XML + "abc", "+text", FALSE, FALSE, FALSE, EMPTY, EMPTY);
 
         assertEquals(ReturnCodes.FAILURE, result.get(RETURN_CODE));
         assertEquals("Error on line 12: Content is not allowed in trailing section.", result.get(RETURN_RESULT));
@@ -202,7 +211,7 @@ public class ConvertXmlToJsonTest {
     @SuppressWarnings("Duplicates")
     @Test
     public void testConvertXmlToJsonWithTextElements() {
-        Map<String, String> result = convertXmlToJson.execute(XML_WITH_TEXT, "_text", TRUE, TRUE, TRUE, EMPTY);
+        Map<String, String> result = convertXmlToJson.execute(XML_WITH_TEXT, "_text", TRUE, TRUE, TRUE, EMPTY, EMPTY);
 
         assertEquals(SUCCESS, result.get(RETURN_CODE));
         assertEquals(JSON_WITH_TEXT, result.get(RETURN_RESULT));
@@ -212,7 +221,7 @@ public class ConvertXmlToJsonTest {
 
     @Test
     public void testConvertXmlToJsonSimpleTag() {
-        final Map<String, String> result = convertXmlToJson.execute("<ip>1.2.3.4</ip>", EMPTY, TRUE, FALSE, FALSE, EMPTY);
+        final Map<String, String> result = convertXmlToJson.execute("<ip>1.2.3.4</ip>", EMPTY, TRUE, FALSE, FALSE, EMPTY, EMPTY);
 
         assertEquals(SUCCESS, result.get(RETURN_CODE));
         assertEquals("{\"ip\":\"1.2.3.4\"}", result.get(RETURN_RESULT));
@@ -220,4 +229,51 @@ public class ConvertXmlToJsonTest {
         assertEquals(EMPTY, result.get(NAMESPACES_PREFIXES));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testConvertXmlToJsonOutputFile() throws Exception {
+        final File outputFile = folder.newFile("result.json");
+        final Map<String, String> result = convertXmlToJson.execute(XML, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, outputFile.getAbsolutePath());
+
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+        assertEquals("Result was written in the output file: " + outputFile.getAbsolutePath(), result.get(RETURN_RESULT));
+        assertEquals(JSON, FileUtils.readFileToString(outputFile, StandardCharsets.UTF_8));
+        assertEquals("f,ui", result.get(NAMESPACES_PREFIXES));
+    }
+
+    @Test(timeout = 60000)
+    public void testConvertLargeXmlToJsonOutputFile() throws Exception {
+        final StringBuilder xml = new StringBuilder("<items>");
+        for (int i = 0; i < 200000; i++) {
+            xml.append("<item id=\"").append(i).append("\"><name>item").append(i).append("</name></item>");
+        }
+        xml.append("</items>");
+        final File outputFile = folder.newFile("large.json");
+        final Map<String, String> result = convertXmlToJson.execute(xml.toString(), EMPTY, TRUE, TRUE, FALSE, EMPTY, outputFile.getAbsolutePath());
+
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+        final String json = FileUtils.readFileToString(outputFile, StandardCharsets.UTF_8);
+        assertTrue(json.startsWith("{\"items\":{\"item\":[{\"@id\":\"0\",\"name\":\"item0\"},"));
+        assertTrue(json.endsWith("{\"@id\":\"199999\",\"name\":\"item199999\"}]}}"));
+    }
+
+    /**
+     * The children of the root are written to the file one by one, in the order of the JSON returned in returnResult.
+     */
+    @Test(timeout = 60000)
+    public void testConvertLargeXmlToJsonOutputFileAsReturnResult() throws Exception {
+        final StringBuilder xml = new StringBuilder("<catalog version=\"2\">");
+        for (int i = 0; i < 50000; i++) {
+            xml.append("<book id=\"").append(i).append("\"><title>book").append(i).append("</title></book>");
+            if (i % 1000 == 0) {
+                xml.append("<author>author").append(i).append("</author>");
+            }
+        }
+        xml.append("<summary><count>50000</count></summary></catalog>");
+        final File outputFile = folder.newFile("catalog.json");
+        final Map<String, String> result = convertXmlToJson.execute(xml.toString(), EMPTY, TRUE, TRUE, TRUE, EMPTY, outputFile.getAbsolutePath());
+
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+        assertEquals(convertXmlToJson.execute(xml.toString(), EMPTY, TRUE, TRUE, TRUE, EMPTY, EMPTY).get(RETURN_RESULT),
+                FileUtils.readFileToString(outputFile, StandardCharsets.UTF_8));
+    }
+}
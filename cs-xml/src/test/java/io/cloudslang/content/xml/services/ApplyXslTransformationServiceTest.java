@@ -0,0 +1,136 @@
+/*
+ * (c) Copyright 2022 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.xml.services;
+
+import com.sun.net.httpserver.HttpServer;
+import io.cloudslang.content.xml.entities.inputs.ApplyXslTransformationInputs;
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.xml.transform.Templates;
+import java.io.File;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
+import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class ApplyXslTransformationServiceTest {
+    private static final String XML = "<map><entry key=\"key1\" value=\"value1\"/><entry key=\"key2\" value=\"value2\"/></map>";
+    private static final String XSL = "<xsl:stylesheet xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\" version=\"1.0\">" +
+            "<xsl:output method=\"text\"/>" +
+            "<xsl:template match=\"entry\">%s<xsl:value-of select=\"@key\"/>=<xsl:value-of select=\"@value\"/>;</xsl:template>" +
+            "</xsl:stylesheet>";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void executeWithAndWithoutTemplatesCache() throws Exception {
+        ApplyXslTransformationInputs inputs = getInputs(XML, String.format(XSL, ""));
+
+        Map<String, String> cachedResult = new ApplyXslTransformationService().execute(inputs);
+        assertEquals(SUCCESS, cachedResult.get(RETURN_CODE));
+        assertEquals("key1=value1;key2=value2;", cachedResult.get(RETURN_RESULT));
+        assertEquals(cachedResult, new ApplyXslTransformationService().execute(inputs));
+        assertEquals(cachedResult, new ApplyXslTransformationService(false).execute(inputs));
+    }
+
+    @Test
+    public void executeRecompilesChangedStylesheetFile() throws Exception {
+        File xslFile = folder.newFile("template.xsl");
+        FileUtils.writeStringToFile(xslFile, String.format(XSL, ""), StandardCharsets.UTF_8);
+        ApplyXslTransformationInputs inputs = getInputs(XML, xslFile.getAbsolutePath());
+        assertEquals("key1=value1;key2=value2;", new ApplyXslTransformationService().execute(inputs).get(RETURN_RESULT));
+
+        FileUtils.writeStringToFile(xslFile, String.format(XSL, "entry "), StandardCharsets.UTF_8);
+        assertTrue(xslFile.setLastModified(xslFile.lastModified() - 10000));
+        assertEquals("entry key1=value1;entry key2=value2;", new ApplyXslTransformationService().execute(inputs).get(RETURN_RESULT));
+    }
+
+    @Test
+    public void executeRevalidatesRemoteStylesheet() throws Exception {
+        final AtomicReference<String> xsl = new AtomicReference<>(String.format(XSL, ""));
+        final AtomicInteger requests = new AtomicInteger();
+        final AtomicInteger downloads = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/template.xsl", exchange -> {
+            requests.incrementAndGet();
+            String eTag = "\"" + xsl.get().hashCode() + "\"";
+            exchange.getResponseHeaders().set("ETag", eTag);
+            if (eTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+            } else {
+                downloads.incrementAndGet();
+                byte[] body = xsl.get().getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream responseBody = exchange.getResponseBody()) {
+                    responseBody.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        try {
+            ApplyXslTransformationInputs inputs = getInputs(XML, "http://localhost:" + server.getAddress().getPort() + "/template.xsl");
+            assertEquals("key1=value1;key2=value2;", new ApplyXslTransformationService(true, 60000).execute(inputs).get(RETURN_RESULT));
+            assertEquals("key1=value1;key2=value2;", new ApplyXslTransformationService(true, 60000).execute(inputs).get(RETURN_RESULT));
+            assertEquals(1, requests.get());
+
+            //the ttl passed, the unchanged stylesheet is not downloaded again
+            assertEquals("key1=value1;key2=value2;", new ApplyXslTransformationService(true, 0).execute(inputs).get(RETURN_RESULT));
+            assertEquals(2, requests.get());
+            assertEquals(1, downloads.get());
+
+            xsl.set(String.format(XSL, "entry "));
+            assertEquals("entry key1=value1;entry key2=value2;", new ApplyXslTransformationService(true, 0).execute(inputs).get(RETURN_RESULT));
+            assertEquals(2, downloads.get());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void executeReusesCompiledTemplates() throws Exception {
+        ApplyXslTransformationInputs inputs = getInputs(XML, String.format(XSL, "cached "));
+        Templates templates = new ApplyXslTransformationService().getTemplate(inputs);
+
+        assertSame(templates, new ApplyXslTransformationService().getTemplate(inputs));
+        assertNotSame(templates, new ApplyXslTransformationService(false).getTemplate(inputs));
+        assertNotSame(templates, new ApplyXslTransformationService().getTemplate(getInputs(XML, String.format(XSL, "other "))));
+    }
+
+    private ApplyXslTransformationInputs getInputs(String xmlDocument, String xslTemplate) {
+        return new ApplyXslTransformationInputs.ApplyXslTransformationInputsBuilder()
+                .withXmlDocument(xmlDocument)
+                .withXslTemplate(xslTemplate)
+                .withOutputFile("")
+                .withParsingFeatures("")
+                .build();
+    }
+}
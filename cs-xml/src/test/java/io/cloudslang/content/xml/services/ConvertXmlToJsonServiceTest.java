@@ -0,0 +1,82 @@
+/*
+ * (c) Copyright 2022 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.xml.services;
+
+import io.cloudslang.content.xml.entities.inputs.ConvertXmlToJsonInputs;
+import org.junit.Test;
+import org.xml.sax.SAXException;
+
+import java.io.StringWriter;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.fail;
+
+public class ConvertXmlToJsonServiceTest {
+    private static final String[] DOCUMENTS = {
+            "<root/>",
+            "<root a=\"1\">text</root>",
+            "<root><a>1</a></root>",
+            "<root a=\"1\"><b>1</b><c x=\"2\">2</c><b>3</b><d/><c>4</c><e><f>5</f><f>6</f></e> tail </root>",
+            "<f:root xmlns:f=\"http://f\" xmlns:ui=\"http://ui\"><ui:a>1</ui:a><f:b xmlns:x=\"http://x\"><x:c>2</x:c></f:b>" +
+                    "<ui:a>3</ui:a></f:root>",
+            "<root><text>child</text>text</root>",
+            "<root><a>1</a>\n  <b>2</b>\n  <a>3</a>\n</root>"
+    };
+
+    @Test
+    public void convertToWriterAsToString() throws Exception {
+        for (String document : DOCUMENTS) {
+            for (int options = 0; options < 8; options++) {
+                ConvertXmlToJsonInputs inputs = getInputs(document, (options & 1) != 0, (options & 2) != 0, (options & 4) != 0);
+                ConvertXmlToJsonService stringConverter = new ConvertXmlToJsonService();
+                ConvertXmlToJsonService writerConverter = new ConvertXmlToJsonService();
+                StringWriter writer = new StringWriter();
+                writerConverter.convertToJson(inputs, writer);
+
+                String message = document + " with options " + options;
+                assertEquals(message, stringConverter.convertToJsonString(inputs), writer.toString());
+                assertEquals(message, stringConverter.getNamespacesPrefixes(), writerConverter.getNamespacesPrefixes());
+                assertEquals(message, stringConverter.getNamespacesUris(), writerConverter.getNamespacesUris());
+            }
+        }
+    }
+
+    /**
+     * The names of the children of the root are read before the JSON is written, so nothing is written for an invalid document.
+     */
+    @Test
+    public void convertInvalidDocumentWritesNothing() throws Exception {
+        StringWriter writer = new StringWriter();
+        try {
+            new ConvertXmlToJsonService().convertToJson(getInputs("<items><item>1</item><item>2</item><item>", true, true, false), writer);
+            fail("the document is not valid");
+        } catch (SAXException e) {
+            assertEquals("", writer.toString());
+        }
+    }
+
+    private ConvertXmlToJsonInputs getInputs(String xml, boolean includeRootElement, boolean includeAttributes, boolean prettyPrint) {
+        return new ConvertXmlToJsonInputs.ConvertXmlToJsonInputsBuilder()
+                .withXml(xml)
+                .withTextElementsName("text")
+                .withIncludeRootElement(includeRootElement)
+                .withIncludeAttributes(includeAttributes)
+                .withPrettyPrint(prettyPrint)
+                .withParsingFeatures("")
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * (c) Copyright 2022 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.xml.utils;
+
+import io.cloudslang.content.xml.entities.SimpleNamespaceContext;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class XmlProcessorPoolTest {
+    private static final String XML = "<a:root xmlns:a=\"urn:a\"><a:item>1</a:item><a:item>2</a:item></a:root>";
+
+    @Test
+    public void getDocumentBuilderReusedByThread() throws Exception {
+        DocumentBuilder builder = XmlProcessorPool.getDocumentBuilder("", true);
+        try {
+            builder.parse(new InputSource(new StringReader("<root>")));
+            fail();
+        } catch (Exception expected) {
+        }
+        assertSame(builder, XmlProcessorPool.getDocumentBuilder("", true));
+        assertEquals("root", XmlProcessorPool.getDocumentBuilder("", true).parse(new InputSource(new StringReader(XML)))
+                .getDocumentElement().getLocalName());
+        assertNotSame(builder, XmlProcessorPool.getDocumentBuilder("", false));
+        assertNotSame(builder, XmlProcessorPool.getSecureDocumentBuilder(true));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            DocumentBuilder otherThreadBuilder = executor.submit(new Callable<DocumentBuilder>() {
+                @Override
+                public DocumentBuilder call() throws Exception {
+                    return XmlProcessorPool.getDocumentBuilder("", true);
+                }
+            }).get();
+            assertNotSame(builder, otherThreadBuilder);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void getXPathExpressionCachedByQueryAndNamespaceContext() throws Exception {
+        Document document = XmlProcessorPool.getDocumentBuilder("", true).parse(new InputSource(new StringReader(XML)));
+        XPathExpression expression = XmlProcessorPool.getXPathExpression(
+                new SimpleNamespaceContext(Collections.singletonMap("a", "urn:a")), "count(/a:root/a:item)");
+
+        assertEquals("2", expression.evaluate(document, XPathConstants.STRING));
+        assertSame(expression, XmlProcessorPool.getXPathExpression(
+                new SimpleNamespaceContext(Collections.singletonMap("a", "urn:a")), "count(/a:root/a:item)"));
+        XPathExpression otherContextExpression = XmlProcessorPool.getXPathExpression(
+                new SimpleNamespaceContext(Collections.singletonMap("a", "urn:b")), "count(/a:root/a:item)");
+        assertNotSame(expression, otherContextExpression);
+        assertEquals("0", otherContextExpression.evaluate(document, XPathConstants.STRING));
+        assertNull(XmlProcessorPool.getXPath().getNamespaceContext());
+    }
+
+    @Test
+    public void getTransformerPooledByOutputProperties() throws Exception {
+        Transformer transformer = XmlProcessorPool.getTransformer(OutputKeys.INDENT, Constants.YES);
+        assertEquals(Constants.YES, transformer.getOutputProperty(OutputKeys.INDENT));
+        assertNotSame(transformer, XmlProcessorPool.getTransformer(OutputKeys.INDENT, Constants.YES));
+        XmlProcessorPool.releaseTransformer(transformer, OutputKeys.INDENT, Constants.YES);
+
+        assertSame(transformer, XmlProcessorPool.getTransformer(OutputKeys.INDENT, Constants.YES));
+        assertEquals(Constants.YES, transformer.getOutputProperty(OutputKeys.INDENT));
+        XmlProcessorPool.releaseTransformer(transformer, OutputKeys.INDENT, Constants.YES);
+        Transformer defaultTransformer = XmlProcessorPool.getTransformer();
+        assertNotSame(transformer, defaultTransformer);
+        assertEquals("no", defaultTransformer.getOutputProperty(OutputKeys.INDENT));
+        XmlProcessorPool.releaseTransformer(defaultTransformer);
+    }
+}